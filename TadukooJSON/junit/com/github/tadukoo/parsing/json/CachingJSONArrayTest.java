@@ -0,0 +1,82 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingJSONArrayTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	@Test
+	public void testCopyOf(){
+		CachingJSONArray<Object> array = CachingJSONArray.copyOf(List.of(1, new JSONArrayList<>(List.of(2))));
+		assertTrue(array.get(1) instanceof CachingJSONArray);
+		assertSame(array, ((CachingJSONArray<?>) array.get(1)).getParent());
+		assertEquals("[1,[2]]", converter.convertToJSON(array));
+	}
+	
+	@Test
+	public void testMutationsInvalidate(){
+		CachingJSONArray<Object> array = new CachingJSONArray<>(List.of(1, 2, 3));
+		assertEquals("[1,2,3]", converter.convertToJSON(array));
+		assertTrue(array.isCached());
+		
+		array.add(4);
+		assertFalse(array.isCached());
+		assertEquals("[1,2,3,4]", converter.convertToJSON(array));
+		
+		array.set(0, 0);
+		assertEquals("[0,2,3,4]", converter.convertToJSON(array));
+		
+		array.remove(1);
+		assertEquals("[0,3,4]", converter.convertToJSON(array));
+		
+		Iterator<Object> iterator = array.iterator();
+		iterator.next();
+		iterator.remove();
+		assertEquals("[3,4]", converter.convertToJSON(array));
+		
+		array.clear();
+		assertEquals("[]", converter.convertToJSON(array));
+	}
+	
+	@Test
+	public void testChildChangeInvalidates(){
+		CachingJSONArray<Object> array = new CachingJSONArray<>();
+		CachingJSONClass child = new CachingJSONClass();
+		array.add(child);
+		assertSame(array, child.getParent());
+		assertEquals("[{}]", converter.convertToJSON(array));
+		child.setItem("a", "b");
+		assertFalse(array.isCached());
+		assertEquals("[{\"a\":\"b\"}]", converter.convertToJSON(array));
+		
+		array.remove(child);
+		assertNull(child.getParent());
+	}
+	
+	@Test
+	public void testConvertToJSONBytes(){
+		CachingJSONArray<Object> array = new CachingJSONArray<>();
+		CachingJSONClass child = new CachingJSONClass();
+		array.add(child);
+		array.add("caf\u00e9");
+		byte[] bytes = array.convertToJSONBytes(converter);
+		assertEquals("[{},\"caf\u00e9\"]", new String(bytes, StandardCharsets.UTF_8));
+		assertSame(bytes, array.convertToJSONBytes(converter));
+		
+		array.add(1);
+		byte[] changed = array.convertToJSONBytes(converter);
+		assertNotSame(bytes, changed);
+		assertSame(changed, array.convertToJSONBytes(converter));
+		
+		child.setItem("a", "b");
+		assertNotSame(changed, array.convertToJSONBytes(converter));
+		assertEquals("[{\"a\":\"b\"},\"caf\u00e9\",1]",
+				new String(array.convertToJSONBytes(converter), StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingJSONClassTest{
+	private final JSONConverter converter = new JSONConverter();
+	private CachingJSONClass root;
+	private CachingJSONClass config;
+	private CachingJSONClass catalog;
+	
+	@BeforeEach
+	public void setup(){
+		root = CachingJSONClass.copyOf((JSONClass) converter.parseJSON(
+				"{\"config\": {\"debug\": false}, \"catalog\": {\"items\": [{\"id\": 1}, {\"id\": 2}]}}"));
+		config = (CachingJSONClass) root.getItem("config");
+		catalog = (CachingJSONClass) root.getItem("catalog");
+	}
+	
+	@Test
+	public void testCopyOf(){
+		assertSame(root, config.getParent());
+		assertSame(root, catalog.getParent());
+		assertTrue(catalog.getItem("items") instanceof CachingJSONArray);
+		assertNull(root.getParent());
+		assertEquals("{\"config\":{\"debug\":false},\"catalog\":{\"items\":[{\"id\":1.0},{\"id\":2.0}]}}",
+				converter.convertToJSON(root));
+	}
+	
+	@Test
+	public void testCached(){
+		assertFalse(root.isCached());
+		String JSON = converter.convertToJSON(root);
+		assertTrue(root.isCached());
+		assertTrue(config.isCached());
+		assertTrue(catalog.isCached());
+		assertSame(JSON, converter.convertToJSON(root));
+	}
+	
+	@Test
+	public void testSetItemInvalidatesPath(){
+		converter.convertToJSON(root);
+		config.setItem("debug", true);
+		assertFalse(config.isCached());
+		assertFalse(root.isCached());
+		assertTrue(catalog.isCached());
+		assertEquals("{\"config\":{\"debug\":true},\"catalog\":{\"items\":[{\"id\":1.0},{\"id\":2.0}]}}",
+				converter.convertToJSON(root));
+	}
+	
+	@Test
+	public void testDeepChangeInvalidatesPath(){
+		converter.convertToJSON(root);
+		CachingJSONArray<?> items = (CachingJSONArray<?>) catalog.getItem("items");
+		((CachingJSONClass) items.get(1)).setItem("id", 3);
+		assertFalse(items.isCached());
+		assertFalse(catalog.isCached());
+		assertFalse(root.isCached());
+		assertTrue(config.isCached());
+		assertTrue(((CachingJSONClass) items.get(0)).isCached());
+		assertEquals("{\"config\":{\"debug\":false},\"catalog\":{\"items\":[{\"id\":1.0},{\"id\":3}]}}",
+				converter.convertToJSON(root));
+	}
+	
+	@Test
+	public void testRemoveItemDetaches(){
+		converter.convertToJSON(root);
+		root.removeItem("config");
+		assertNull(config.getParent());
+		assertEquals("{\"catalog\":{\"items\":[{\"id\":1.0},{\"id\":2.0}]}}", converter.convertToJSON(root));
+		config.setItem("debug", true);
+		assertTrue(root.isCached());
+	}
+	
+	@Test
+	public void testReplaceItemDetaches(){
+		CachingJSONClass newConfig = new CachingJSONClass();
+		root.setItem("config", newConfig);
+		assertNull(config.getParent());
+		assertSame(root, newConfig.getParent());
+	}
+	
+	@Test
+	public void testConvertToJSONBytes(){
+		byte[] bytes = root.convertToJSONBytes(converter);
+		assertEquals(converter.convertToJSON(root), new String(bytes, StandardCharsets.UTF_8));
+		assertSame(bytes, root.convertToJSONBytes(converter));
+		assertArrayEquals(bytes, converter.convertToJSONBytes(root));
+		config.setItem("debug", true);
+		assertNotSame(bytes, root.convertToJSONBytes(converter));
+	}
+}
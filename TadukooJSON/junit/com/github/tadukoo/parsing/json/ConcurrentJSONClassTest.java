@@ -0,0 +1,192 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentJSONClassTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	@Test
+	public void testItems(){
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		clazz.setItem("a", 1);
+		clazz.setItem("b", null);
+		assertTrue(clazz.hasKey("b"));
+		assertFalse(clazz.hasItem("b"));
+		assertNull(clazz.getItem("b"));
+		assertTrue(clazz.hasItem("a"));
+		assertEquals(1, clazz.getItem("a"));
+		assertEquals(2, clazz.getKeys().size());
+		assertTrue(clazz.getMap().containsKey("b"));
+		assertNull(clazz.getMap().get("b"));
+		
+		clazz.removeItem("a");
+		assertFalse(clazz.hasKey("a"));
+		assertThrows(UnsupportedOperationException.class, () -> clazz.getKeys().remove("b"));
+	}
+	
+	@Test
+	public void testCopyOf(){
+		JSONClass original = (JSONClass) converter.parseJSON("{\"a\": {\"b\": [1, {\"c\": true}]}}");
+		ConcurrentJSONClass clazz = ConcurrentJSONClass.copyOf(original);
+		assertTrue(clazz.getItem("a") instanceof ConcurrentJSONClass);
+		assertTrue(clazz.getItemAt(List.of("a", "b")) instanceof FrozenJSONArray);
+		assertEquals("{\"a\":{\"b\":[1.0,{\"c\":true}]}}", converter.convertToJSON(clazz));
+		
+		// Changes to the original don't affect the copy
+		((JSONClass) original.getItem("a")).setItem("d", 1);
+		assertFalse(((JSONClass) clazz.getItem("a")).hasKey("d"));
+	}
+	
+	@Test
+	public void testSetItemCopiesClasses(){
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		SimpleOrderedJSONClass child = new SimpleOrderedJSONClass();
+		child.setItem("x", 1);
+		clazz.setItem("child", child);
+		assertTrue(clazz.getItem("child") instanceof ConcurrentJSONClass);
+		child.setItem("x", 2);
+		assertEquals(1, clazz.getItemAt(List.of("child", "x")));
+		
+		// A class from the same document is copied too
+		clazz.setItem("child2", clazz.getItem("child"));
+		assertNotSame(clazz.getItem("child"), clazz.getItem("child2"));
+		assertEquals(1, clazz.getItemAt(List.of("child2", "x")));
+	}
+	
+	@Test
+	public void testCompute(){
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		assertEquals(1, clazz.compute("count", current -> current == null?1:(int) current + 1));
+		assertEquals(2, clazz.compute("count", current -> (int) current + 1));
+		assertNull(clazz.compute("count", current -> null));
+		assertTrue(clazz.hasKey("count"));
+	}
+	
+	@Test
+	public void testComputeAt(){
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		clazz.computeAt(List.of("a", "b", "c"), current -> 5);
+		assertEquals(5, clazz.getItemAt(List.of("a", "b", "c")));
+		clazz.computeAt("/a/b/c", current -> (int) current * 2);
+		assertEquals(10, clazz.getItemAt(List.of("a", "b", "c")));
+		assertNull(clazz.getItemAt(List.of("a", "x", "y")));
+		
+		clazz.setItem("n", 1);
+		assertThrows(IllegalStateException.class, () -> clazz.computeAt(List.of("n", "x"), current -> 1));
+		assertThrows(IllegalArgumentException.class, () -> clazz.computeAt(List.of(), current -> 1));
+	}
+	
+	@Test
+	public void testSnapshotInsideWrite(){
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		assertThrows(IllegalStateException.class, () -> clazz.compute("a", current -> clazz.snapshot()));
+	}
+	
+	@Test
+	public void testConcurrentComputeAt() throws Exception{
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<?>> futures = new ArrayList<>();
+			for(int t = 0; t < 4; t++){
+				futures.add(executor.submit(() -> {
+					for(int i = 0; i < 1000; i++){
+						clazz.computeAt(List.of("stats", "count"), current -> current == null?1:(int) current + 1);
+					}
+				}));
+			}
+			for(Future<?> future: futures){
+				future.get(30, TimeUnit.SECONDS);
+			}
+		}finally{
+			executor.shutdownNow();
+		}
+		assertEquals(4000, clazz.getItemAt(List.of("stats", "count")));
+	}
+	
+	@Test
+	public void testSnapshotIsConsistent() throws Exception{
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		clazz.setItem("first", 0);
+		clazz.setItem("second", 0);
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread writer = new Thread(() -> {
+			// Always writes first before second, so a snapshot should never have second ahead of first
+			for(int i = 1; running.get(); i++){
+				clazz.setItem("second", i - 1);
+				clazz.setItem("first", i);
+			}
+		});
+		writer.start();
+		try{
+			for(int i = 0; i < 500; i++){
+				FrozenJSONClass snapshot = clazz.snapshot();
+				int first = (int) snapshot.getItem("first");
+				int second = (int) snapshot.getItem("second");
+				assertTrue(first - second == 1 || first - second == 0, first + " " + second);
+			}
+		}finally{
+			running.set(false);
+			writer.join();
+		}
+	}
+	
+	@Test
+	public void testWriters() throws Exception{
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		clazz.setItem("a", "b");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONByteWriter writer = new JSONByteWriter(out)){
+			writer.write(clazz);
+		}
+		assertEquals("{\"a\":\"b\"}", out.toString(StandardCharsets.UTF_8));
+		
+		ByteArrayOutputStream binaryOut = new ByteArrayOutputStream();
+		try(JSONBinaryWriter writer = new JSONBinaryWriter(binaryOut)){
+			writer.write(clazz);
+		}
+		try(JSONBinaryReader reader = new JSONBinaryReader(binaryOut.toByteArray())){
+			assertEquals("{\"a\":\"b\"}", converter.convertToJSON(reader.read()));
+		}
+	}
+	
+	@Test
+	public void testSnapshotThroughJSONClass(){
+		JSONClass clazz = new ConcurrentJSONClass();
+		clazz.setItem("a", "b");
+		JSONClass snapshot = clazz.snapshot();
+		assertTrue(snapshot instanceof FrozenJSONClass);
+		clazz.setItem("a", "c");
+		assertEquals("b", snapshot.getItem("a"));
+	}
+	
+	@Test
+	public void testReadersUseSnapshot(){
+		ConcurrentJSONClass clazz = new ConcurrentJSONClass();
+		clazz.setItem("a", 1.0);
+		JSONClass inner = new SimpleOrderedJSONClass();
+		inner.setItem("c", true);
+		clazz.setItem("b", inner);
+		SimpleOrderedJSONClass ordered = new SimpleOrderedJSONClass();
+		ordered.setItem("b", inner);
+		ordered.setItem("a", 1.0);
+		assertTrue(JSONDiff.valuesEqual(clazz, ordered));
+		assertTrue(JSONDiff.diff(ordered, clazz).isEmpty());
+		
+		JSONColumnTable table = JSONColumnTable.builder().addRecord(clazz).build();
+		assertEquals(1.0, table.getRecord(0).getItem("a"));
+		assertTrue(JSONDocumentCache.estimateRetainedSize(clazz) > 0);
+	}
+}
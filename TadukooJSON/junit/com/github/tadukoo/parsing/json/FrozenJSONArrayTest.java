@@ -0,0 +1,55 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrozenJSONArrayTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	@Test
+	public void testFreeze(){
+		JSONArrayList<Object> array = new JSONArrayList<>(List.of(1, new JSONArrayList<>(List.of(2))));
+		FrozenJSONArray<Object> frozen = array.freeze();
+		assertTrue(frozen.get(1) instanceof FrozenJSONArray);
+		assertEquals("[1,[2]]", converter.convertToJSON(frozen));
+		
+		array.set(0, 5);
+		assertEquals(1, frozen.get(0));
+		assertSame(frozen, frozen.freeze());
+		assertSame(frozen, FrozenJSONArray.of(frozen));
+	}
+	
+	@Test
+	public void testReadOnly(){
+		FrozenJSONArray<Object> frozen = FrozenJSONArray.empty().append(1);
+		assertThrows(UnsupportedOperationException.class, () -> frozen.add(2));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, 2));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.remove(0));
+		assertThrows(UnsupportedOperationException.class, frozen::clear);
+	}
+	
+	@Test
+	public void testWithAndAppend(){
+		FrozenJSONArray<Object> frozen = FrozenJSONArray.empty();
+		for(int i = 0; i < 100; i++){
+			frozen = frozen.append(i);
+		}
+		FrozenJSONArray<Object> updated = frozen.with(50, "x").append("y");
+		assertEquals(100, frozen.size());
+		assertEquals(101, updated.size());
+		assertEquals(50, frozen.get(50));
+		assertEquals("x", updated.get(50));
+		assertEquals("y", updated.get(100));
+		assertSame(updated, updated.with(50, "x"));
+		
+		assertTrue(updated.append(new SimpleOrderedJSONClass()).get(101) instanceof FrozenJSONClass);
+	}
+	
+	@Test
+	public void testEquals(){
+		assertEquals(List.of(1, 2), FrozenJSONArray.empty().append(1).append(2));
+	}
+}
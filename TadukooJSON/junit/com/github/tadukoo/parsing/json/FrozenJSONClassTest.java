@@ -0,0 +1,93 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrozenJSONClassTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	@Test
+	public void testFreeze(){
+		JSONClass clazz = (JSONClass) converter.parseJSON("{\"b\": 1, \"a\": {\"c\": [1, {\"d\": null}]}}");
+		FrozenJSONClass frozen = clazz.freeze();
+		assertEquals(List.of("b", "a"), frozen.getKeyOrder());
+		assertTrue(frozen.getItem("a") instanceof FrozenJSONClass);
+		Object array = ((JSONClass) frozen.getItem("a")).getItem("c");
+		assertTrue(array instanceof FrozenJSONArray);
+		assertTrue(((List<?>) array).get(1) instanceof FrozenJSONClass);
+		assertEquals("{\"b\":1.0,\"a\":{\"c\":[1.0,{\"d\":null}]}}", converter.convertToJSON(frozen));
+		
+		// The snapshot doesn't see later changes to the original
+		clazz.setItem("b", 2);
+		assertEquals(1.0, frozen.getItem("b"));
+		
+		assertSame(frozen, frozen.freeze());
+		assertSame(frozen, FrozenJSONClass.of(frozen));
+	}
+	
+	@Test
+	public void testEmpty(){
+		FrozenJSONClass frozen = FrozenJSONClass.empty().with("a", 1).without("a");
+		assertEquals(0, frozen.getKeys().size());
+		assertTrue(frozen.getKeyOrder().isEmpty());
+		assertEquals("{}", converter.convertToJSON(FrozenJSONClass.empty()));
+	}
+	
+	@Test
+	public void testReadOnly(){
+		FrozenJSONClass frozen = FrozenJSONClass.empty().with("a", 1);
+		assertThrows(UnsupportedOperationException.class, () -> frozen.setItem("a", 2));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.removeItem("a"));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getMap().put("a", 2));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getKeys().remove("a"));
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getKeyOrder().add("b"));
+	}
+	
+	@Test
+	public void testWith(){
+		FrozenJSONClass frozen = ((JSONClass) converter.parseJSON("{\"a\": {\"x\": 1}, \"b\": {\"y\": 2}}")).freeze();
+		FrozenJSONClass updated = frozen.with("a", 5).with("c", 3);
+		assertEquals("{\"a\":{\"x\":1.0},\"b\":{\"y\":2.0}}", converter.convertToJSON(frozen));
+		assertEquals("{\"a\":5,\"b\":{\"y\":2.0},\"c\":3}", converter.convertToJSON(updated));
+		
+		// Untouched subtrees are shared
+		assertSame(frozen.getItem("b"), updated.getItem("b"));
+		assertSame(updated, updated.with("a", 5));
+		
+		// Values are frozen when added
+		SimpleOrderedJSONClass child = new SimpleOrderedJSONClass();
+		child.setItem("z", 1);
+		assertTrue(updated.with("d", child).getItem("d") instanceof FrozenJSONClass);
+	}
+	
+	@Test
+	public void testWithout(){
+		FrozenJSONClass frozen = FrozenJSONClass.empty().with("a", 1).with("b", 2).with("c", 3);
+		FrozenJSONClass updated = frozen.without("b");
+		assertEquals(List.of("a", "c"), updated.getKeyOrder());
+		assertFalse(updated.hasKey("b"));
+		assertTrue(frozen.hasKey("b"));
+		assertSame(updated, updated.without("b"));
+	}
+	
+	@Test
+	public void testItems(){
+		FrozenJSONClass frozen = FrozenJSONClass.empty().with("a", 1).with("b", null);
+		assertTrue(frozen.hasKey("b"));
+		assertFalse(frozen.hasItem("b"));
+		assertTrue(frozen.hasItem("a"));
+		assertNull(frozen.getItem("c"));
+		assertEquals(2, frozen.getKeys().size());
+		assertTrue(frozen.getKeys().contains("b"));
+		
+		Map<String, Object> map = frozen.getMap();
+		assertEquals(2, map.size());
+		assertEquals(1, map.get("a"));
+		assertTrue(map.containsKey("b"));
+		assertEquals(List.of("a", "b"), List.copyOf(map.keySet()));
+	}
+}
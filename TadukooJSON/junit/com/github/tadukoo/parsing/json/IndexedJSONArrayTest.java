@@ -0,0 +1,166 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedJSONArrayTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	private static JSONClass record(Object id, String name){
+		SimpleOrderedJSONClass record = new SimpleOrderedJSONClass();
+		record.setItem("id", id);
+		record.setItem("name", name);
+		return record;
+	}
+	
+	@Test
+	public void testFindBy(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>();
+		array.addIndex("id");
+		JSONClass a = record(1, "a"), b = record(2, "b");
+		array.add(a);
+		array.add(b);
+		assertSame(a, array.findBy("id", 1));
+		assertSame(b, array.findBy("id", 2.0));
+		assertNull(array.findBy("id", 3));
+	}
+	
+	@Test
+	public void testFindByLargeLongs(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>();
+		array.addIndex("id");
+		JSONClass a = record(9007199254740992L, "a"), b = record(9007199254740993L, "b");
+		array.add(a);
+		array.add(b);
+		assertSame(a, array.findBy("id", 9007199254740992L));
+		assertSame(b, array.findBy("id", 9007199254740993L));
+		assertEquals(List.of(b), array.findAllBy("id", 9007199254740993L));
+		assertSame(a, array.findBy("id", 9007199254740992.0));
+		assertSame(a, array.findBy("id", (float) 9007199254740992L));
+	}
+	
+	@Test
+	public void testFindByFractionsAndNegativeZero(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>();
+		array.addIndex("id");
+		JSONClass a = record(2.5, "a"), b = record(-0.0, "b");
+		array.add(a);
+		array.add(b);
+		assertSame(a, array.findBy("id", 2.5f));
+		assertSame(b, array.findBy("id", 0));
+		assertNull(array.findBy("id", 2));
+	}
+	
+	@Test
+	public void testIndexParsedArray(){
+		@SuppressWarnings("unchecked")
+		JSONArray<Object> parsed = (JSONArray<Object>) converter.parseJSON(
+				"[{\"id\": 1, \"name\": \"x\"}, {\"id\": 2, \"name\": \"y\"}, 5, {\"name\": \"z\"}]");
+		IndexedJSONArray<Object> array = new IndexedJSONArray<>(parsed, "id", "name");
+		assertEquals(Set.of("id", "name"), array.getIndexedKeys());
+		assertEquals("y", ((JSONClass) array.findBy("id", 2)).getItem("name"));
+		assertEquals(4, array.size());
+		assertNotNull(array.findBy("name", "z"));
+		assertEquals("[{\"id\":1.0,\"name\":\"x\"},{\"id\":2.0,\"name\":\"y\"},5.0,{\"name\":\"z\"}]",
+				converter.convertToJSON(array));
+	}
+	
+	@Test
+	public void testDuplicates(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>();
+		array.addIndex("name");
+		JSONClass a = record(1, "same"), b = record(2, "same"), c = record(3, "other");
+		array.addAll(List.of(a, b, c));
+		assertEquals(List.of(a, b), array.findAllBy("name", "same"));
+		assertSame(a, array.findBy("name", "same"));
+		array.remove(a);
+		assertEquals(List.of(b), array.findAllBy("name", "same"));
+		assertSame(b, array.findBy("name", "same"));
+		assertEquals(List.of(), array.findAllBy("name", "missing"));
+	}
+	
+	@Test
+	public void testEqualButDistinctItems(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>();
+		array.addIndex("id");
+		JSONClass a = record(1, "a"), b = record(1, "a");
+		array.add(a);
+		array.add(b);
+		array.remove(1);
+		assertEquals(1, array.findAllBy("id", 1).size());
+		assertSame(a, array.findBy("id", 1));
+	}
+	
+	@Test
+	public void testSetAndRemove(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>(List.of(record(1, "a"), record(2, "b")), "id");
+		JSONClass replaced = array.set(0, record(3, "c"));
+		assertEquals("a", replaced.getItem("name"));
+		assertNull(array.findBy("id", 1));
+		assertEquals("c", array.findBy("id", 3).getItem("name"));
+		array.remove(1);
+		assertNull(array.findBy("id", 2));
+		assertEquals(1, array.size());
+	}
+	
+	@Test
+	public void testIteratorAndBulkRemoval(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>(
+				List.of(record(1, "a"), record(2, "b"), record(3, "c"), record(4, "d")), "id");
+		Iterator<JSONClass> iterator = array.iterator();
+		iterator.next();
+		iterator.remove();
+		assertNull(array.findBy("id", 1));
+		array.removeIf(item -> item.getItem("id").equals(3));
+		assertNull(array.findBy("id", 3));
+		array.subList(0, 1).clear();
+		assertNull(array.findBy("id", 2));
+		assertNotNull(array.findBy("id", 4));
+		array.clear();
+		assertNull(array.findBy("id", 4));
+		assertTrue(array.isEmpty());
+	}
+	
+	@Test
+	public void testNullValues(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>(List.of(record(null, "a")), "id");
+		assertEquals("a", array.findBy("id", null).getItem("name"));
+	}
+	
+	@Test
+	public void testRebuildIndexes(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>(List.of(record(1, "a")), "id");
+		array.get(0).setItem("id", 7);
+		assertNotNull(array.findBy("id", 1));
+		array.rebuildIndexes();
+		assertNull(array.findBy("id", 1));
+		assertNotNull(array.findBy("id", 7));
+	}
+	
+	@Test
+	public void testRemoveIndex(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>(List.of(record(1, "a")), "id");
+		array.removeIndex("id");
+		try{
+			array.findBy("id", 1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Key isn't indexed: id", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testManyItems(){
+		IndexedJSONArray<JSONClass> array = new IndexedJSONArray<>();
+		array.addIndex("id");
+		for(int i = 0; i < 10000; i++){
+			array.add(record(i, "n" + i));
+		}
+		assertEquals("n9876", array.findBy("id", 9876).getItem("name"));
+	}
+}
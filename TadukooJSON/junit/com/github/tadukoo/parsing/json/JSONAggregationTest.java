@@ -0,0 +1,175 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONAggregationTest{
+	private final Path directory = Path.of("target/JSONAggregationTest");
+	private final JSONConverter converter = new JSONConverter();
+	private final String[] regions = {"north", "south", "east"};
+	private final JSONAggregation byRegion = JSONAggregation.builder()
+			.groupBy("region")
+			.count("count")
+			.sum("total", "order.amount")
+			.min("cheapest", "order.amount")
+			.max("priciest", "order.amount")
+			.build();
+	
+	private Path writeFile(String name, String json) throws IOException{
+		Files.createDirectories(directory);
+		Path file = directory.resolve(name);
+		Files.writeString(file, json);
+		return file;
+	}
+	
+	private String record(int i){
+		return "{\"id\": " + i + ", \"tags\": [\"a\", {\"region\": \"nowhere\"}], \"region\": \"" +
+				regions[i % regions.length] + "\", \"note\": \"a \\\"quoted\\\" [note], {with} brackets\", " +
+				"\"order\": {\"items\": [1, 2], \"amount\": " + (i % 100) + "}}";
+	}
+	
+	private String expectedByRegion(int numRecords){
+		StringBuilder expected = new StringBuilder("[");
+		for(String region: new String[]{"east", "north", "south"}){
+			int regionIndex = List.of(regions).indexOf(region);
+			long count = 0;
+			double total = 0, min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+			for(int i = regionIndex; i < numRecords; i += regions.length){
+				count++;
+				total += i % 100;
+				min = Math.min(min, i % 100);
+				max = Math.max(max, i % 100);
+			}
+			if(expected.length() > 1){
+				expected.append(",");
+			}
+			expected.append("{\"region\":\"").append(region).append("\",\"count\":").append(count)
+					.append(",\"total\":").append(total).append(",\"cheapest\":").append(min)
+					.append(",\"priciest\":").append(max).append("}");
+		}
+		return expected.append("]").toString();
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAggregateRecords(){
+		JSONArray<Object> records = (JSONArray<Object>) converter.parseJSON("[" + record(0) + ", " + record(1) +
+				", " + record(3) + ", " + record(4) + ", " + record(6) + ", 5, {\"region\": \"north\"}]");
+		assertEquals("[{\"region\":null,\"count\":1,\"total\":0.0,\"cheapest\":null,\"priciest\":null}," +
+				"{\"region\":\"north\",\"count\":4,\"total\":9.0,\"cheapest\":0.0,\"priciest\":6.0}," +
+				"{\"region\":\"south\",\"count\":2,\"total\":5.0,\"cheapest\":1.0,\"priciest\":4.0}]",
+				converter.convertToJSON(byRegion.aggregate(records)));
+	}
+	
+	@Test
+	public void testAggregateArrayFile() throws IOException{
+		int numRecords = 30000;
+		StringBuilder json = new StringBuilder("[\n");
+		for(int i = 0; i < numRecords; i++){
+			json.append(i == 0?"  ":",\n  ").append(record(i));
+		}
+		Path file = writeFile("records.json", json.append("\n]\n").toString());
+		assertTrue(Files.size(file) > 3 * JSONAggregation.minChunkSize);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			assertEquals(expectedByRegion(numRecords),
+					converter.convertToJSON(byRegion.aggregateArrayFile(file, executor, 4)));
+		}finally{
+			executor.shutdown();
+		}
+		assertEquals(expectedByRegion(numRecords), converter.convertToJSON(byRegion.aggregateArrayFile(file)));
+	}
+	
+	@Test
+	public void testAggregateNDJSONFile() throws IOException{
+		int numRecords = 30000;
+		StringBuilder json = new StringBuilder();
+		for(int i = 0; i < numRecords; i++){
+			json.append(record(i)).append("\n");
+		}
+		Path file = writeFile("records.ndjson", json.toString());
+		assertEquals(expectedByRegion(numRecords),
+				converter.convertToJSON(byRegion.aggregateNDJSONFile(file, Runnable::run, 8)));
+	}
+	
+	@Test
+	public void testNoGroupBy() throws IOException{
+		JSONAggregation totals = JSONAggregation.builder().count("count").sum("total", "amount").build();
+		Path file = writeFile("totals.ndjson", "{\"amount\": 1.5}\n{\"amount\": \"x\"}\n{\"amount\": 2}\n");
+		assertEquals("[{\"count\":3,\"total\":3.5}]", converter.convertToJSON(totals.aggregateNDJSONFile(file)));
+		
+		Path empty = writeFile("empty.json", " [ ] ");
+		assertEquals("[{\"count\":0,\"total\":0.0}]", converter.convertToJSON(totals.aggregateArrayFile(empty)));
+	}
+	
+	@Test
+	public void testMultipleGroupBy() throws IOException{
+		JSONAggregation aggregation = JSONAggregation.builder().groupBy("a").groupBy("b.c").count("n").build();
+		Path file = writeFile("multiple.json", "[{\"a\": 2, \"b\": {\"c\": true}}, " +
+				"{\"a\": 1, \"b\": {\"c\": false}}, {\"a\": 2, \"b\": {\"c\": true}}, {\"a\": 2}]");
+		assertEquals("[{\"a\":1.0,\"b.c\":false,\"n\":1},{\"a\":2.0,\"b.c\":null,\"n\":1}," +
+				"{\"a\":2.0,\"b.c\":true,\"n\":2}]", converter.convertToJSON(aggregation.aggregateArrayFile(file)));
+	}
+	
+	@Test
+	public void testNotAnArray() throws IOException{
+		Path file = writeFile("class.json", "{\"a\": 1}");
+		try{
+			byRegion.aggregateArrayFile(file);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON input isn't an array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testArrayEndedPrematurely() throws IOException{
+		Path file = writeFile("premature.json", "[{\"a\": 1}, {\"a\": ");
+		try{
+			byRegion.aggregateArrayFile(file);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON input ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testInvalidPath(){
+		try{
+			JSONAggregation.builder().sum("total", "items[*].price");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Invalid aggregation key path: items[*].price", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testDuplicateName(){
+		try{
+			JSONAggregation.builder().count("n").sum("n", "a");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Duplicate aggregation result name: n", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBadParallelism() throws IOException{
+		Path file = writeFile("parallelism.json", "[]");
+		try{
+			byRegion.aggregateArrayFile(file, Runnable::run, 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Parallelism must be positive: 0", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONArrayIndexTest{
+	private final Path directory = Path.of("target/JSONArrayIndexTest");
+	private final JSONConverter converter = new JSONConverter();
+	
+	private Path writeFile(String name, String json) throws IOException{
+		Files.createDirectories(directory);
+		Path file = directory.resolve(name);
+		Files.writeString(file, json, StandardCharsets.UTF_8);
+		return file;
+	}
+	
+	@Test
+	public void testBuildAndGet() throws IOException{
+		Path file = writeFile("items.json",
+				"[ {\"a\": 1, \"s\": \"x,]}\\\"{\"},\n  [1, [2]] ,{\"nested\": {\"b\": [{}]}}\n]\n");
+		JSONArrayIndex index = JSONArrayIndex.build(file);
+		assertEquals(3, index.size());
+		assertEquals(2, index.getOffset(0));
+		assertEquals("{\"a\":1.0,\"s\":\"x,]}\\\"{\"}", converter.convertToJSON(index.get(0)));
+		assertEquals("[1.0,[2.0]]", converter.convertToJSON(index.get(1)));
+		assertEquals("{\"nested\":{\"b\":[{}]}}", converter.convertToJSON(index.get(2)));
+	}
+	
+	@Test
+	public void testOpenExistingIndex() throws IOException{
+		Path file = writeFile("reopen.json", "[{\"id\": 1}, {\"id\": 2}]");
+		JSONArrayIndex.build(file);
+		assertTrue(Files.exists(JSONArrayIndex.getDefaultIndexFile(file)));
+		JSONArrayIndex index = JSONArrayIndex.open(file);
+		assertEquals(2, index.size());
+		assertEquals(2.0, ((JSONClass) index.get(1)).getItem("id"));
+	}
+	
+	@Test
+	public void testCustomIndexFile() throws IOException{
+		Path file = writeFile("custom.json", "[[]]");
+		Path indexFile = directory.resolve("custom.offsets");
+		JSONArrayIndex.build(file, indexFile);
+		assertEquals(1, JSONArrayIndex.open(file, indexFile).size());
+	}
+	
+	@Test
+	public void testMultiByteCharacters() throws IOException{
+		Path file = writeFile("utf8.json", "[{\"name\": \"café 中\"}, {\"name\": \"😀\"}]");
+		JSONArrayIndex index = JSONArrayIndex.build(file);
+		assertEquals("café 中", ((JSONClass) index.get(0)).getItem("name"));
+		assertEquals("😀", ((JSONClass) index.get(1)).getItem("name"));
+	}
+	
+	@Test
+	public void testEmptyArray() throws IOException{
+		Path file = writeFile("empty.json", " [ ] ");
+		assertEquals(0, JSONArrayIndex.build(file).size());
+	}
+	
+	@Test
+	public void testOutOfBounds() throws IOException{
+		JSONArrayIndex index = JSONArrayIndex.build(writeFile("bounds.json", "[{}]"));
+		assertThrows(IndexOutOfBoundsException.class, () -> index.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> index.get(-1));
+	}
+	
+	@Test
+	public void testItemNotClassOrArray() throws IOException{
+		JSONArrayIndex index = JSONArrayIndex.build(writeFile("simple.json", "[{}, 5]"));
+		try{
+			index.get(1);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON array item isn't a JSON class or array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNotAnArray() throws IOException{
+		Path file = writeFile("class.json", "{\"a\": []}");
+		try{
+			JSONArrayIndex.build(file);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON input isn't an array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testUnfinishedArray() throws IOException{
+		Path file = writeFile("unfinished.json", "[{}, [");
+		try{
+			JSONArrayIndex.build(file);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON input ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testOutOfDateIndex() throws IOException{
+		Path file = writeFile("changed.json", "[{}, {}]");
+		JSONArrayIndex.build(file);
+		writeFile("changed.json", "[{}, {}, {}]");
+		try{
+			JSONArrayIndex.open(file);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON array index is out of date with its JSON file", e.getMessage());
+		}
+	}
+}
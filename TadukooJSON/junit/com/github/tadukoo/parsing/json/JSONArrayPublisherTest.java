@@ -0,0 +1,206 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONArrayPublisherTest{
+	private static final Executor direct = Runnable::run;
+	private final JSONConverter converter = new JSONConverter();
+	
+	private static class CollectingSubscriber implements Flow.Subscriber<JSONObject>{
+		private final List<JSONObject> items = new ArrayList<>();
+		private final CompletableFuture<List<JSONObject>> result = new CompletableFuture<>();
+		private final long initialRequest;
+		private Flow.Subscription subscription;
+		
+		private CollectingSubscriber(long initialRequest){
+			this.initialRequest = initialRequest;
+		}
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription){
+			this.subscription = subscription;
+			if(initialRequest > 0){
+				subscription.request(initialRequest);
+			}
+		}
+		
+		@Override
+		public void onNext(JSONObject item){
+			items.add(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable){
+			result.completeExceptionally(throwable);
+		}
+		
+		@Override
+		public void onComplete(){
+			result.complete(items);
+		}
+	}
+	
+	private static String arrayOf(int count){
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < count; i++){
+			json.append(i == 0?"":",").append("{\"id\": ").append(i).append(", \"tags\": [\"a\", \"b\"]}");
+		}
+		return json.append("]").toString();
+	}
+	
+	@Test
+	public void testFromReader() throws Exception{
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		JSONArrayPublisher.fromReader(new StringReader(arrayOf(2000))).subscribe(subscriber);
+		List<JSONObject> items = subscriber.result.get(30, TimeUnit.SECONDS);
+		assertEquals(2000, items.size());
+		assertEquals(1999.0, ((JSONClass) items.get(1999)).getItem("id"));
+		assertEquals("{\"id\":0.0,\"tags\":[\"a\",\"b\"]}", converter.convertToJSON(items.get(0)));
+	}
+	
+	@Test
+	public void testFromFile() throws Exception{
+		Path file = Path.of("target/JSONArrayPublisherTest/array.json");
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, arrayOf(10), StandardCharsets.UTF_8);
+		JSONArrayPublisher publisher = JSONArrayPublisher.fromFile(file);
+		
+		// Files can be subscribed to more than once
+		for(int i = 0; i < 2; i++){
+			CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+			publisher.subscribe(subscriber);
+			assertEquals(10, subscriber.result.get(30, TimeUnit.SECONDS).size());
+		}
+	}
+	
+	@Test
+	public void testFromChannel() throws Exception{
+		byte[] bytes = "[{\"name\": \"café\"}, [1, 2]]".getBytes(StandardCharsets.UTF_8);
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		JSONArrayPublisher.fromChannel(Channels.newChannel(new ByteArrayInputStream(bytes)), direct)
+				.subscribe(subscriber);
+		List<JSONObject> items = subscriber.result.get(30, TimeUnit.SECONDS);
+		assertEquals("café", ((JSONClass) items.get(0)).getItem("name"));
+		assertEquals(List.of(1.0, 2.0), items.get(1));
+	}
+	
+	@Test
+	public void testBackpressure(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(2);
+		JSONArrayPublisher.fromReader(new StringReader(arrayOf(5)), direct).subscribe(subscriber);
+		assertEquals(2, subscriber.items.size());
+		assertFalse(subscriber.result.isDone());
+		
+		subscriber.subscription.request(2);
+		assertEquals(4, subscriber.items.size());
+		assertFalse(subscriber.result.isDone());
+		
+		subscriber.subscription.request(10);
+		assertEquals(5, subscriber.items.size());
+		assertTrue(subscriber.result.isDone());
+	}
+	
+	@Test
+	public void testCompletesWithoutExtraDemand(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(3);
+		JSONArrayPublisher.fromReader(new StringReader(arrayOf(3)), direct).subscribe(subscriber);
+		assertEquals(3, subscriber.items.size());
+		assertTrue(subscriber.result.isDone());
+	}
+	
+	@Test
+	public void testEmptyArray(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(1);
+		JSONArrayPublisher.fromReader(new StringReader(" [ ] "), direct).subscribe(subscriber);
+		assertTrue(subscriber.result.isDone());
+		assertTrue(subscriber.items.isEmpty());
+	}
+	
+	@Test
+	public void testCancel(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(1);
+		JSONArrayPublisher.fromReader(new StringReader(arrayOf(5)), direct).subscribe(subscriber);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(10);
+		assertEquals(1, subscriber.items.size());
+		assertFalse(subscriber.result.isDone());
+	}
+	
+	private static Throwable getError(CollectingSubscriber subscriber){
+		assertTrue(subscriber.result.isCompletedExceptionally());
+		return subscriber.result.handle((items, error) -> error).join();
+	}
+	
+	@Test
+	public void testNotAnArray(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(1);
+		JSONArrayPublisher.fromReader(new StringReader("{\"a\": 1}"), direct).subscribe(subscriber);
+		assertEquals("JSON input isn't an array", getError(subscriber).getMessage());
+		
+		CollectingSubscriber subscriber2 = new CollectingSubscriber(1);
+		JSONArrayPublisher.fromReader(new StringReader(""), direct).subscribe(subscriber2);
+		assertEquals("JSON input isn't an array", getError(subscriber2).getMessage());
+	}
+	
+	@Test
+	public void testTrailingContent(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(5);
+		JSONArrayPublisher.fromReader(new StringReader("[{}] {\"x\": 1}"), direct).subscribe(subscriber);
+		assertEquals("Unexpected content after the end of the JSON array", getError(subscriber).getMessage());
+		
+		CollectingSubscriber subscriber2 = new CollectingSubscriber(5);
+		JSONArrayPublisher.fromReader(new StringReader("[{}][{}]"), direct).subscribe(subscriber2);
+		assertEquals("Unexpected content after the end of the JSON array", getError(subscriber2).getMessage());
+		
+		CollectingSubscriber subscriber3 = new CollectingSubscriber(5);
+		JSONArrayPublisher.fromReader(new StringReader("[{}]  \n"), direct).subscribe(subscriber3);
+		assertEquals(1, subscriber3.result.getNow(null).size());
+	}
+	
+	@Test
+	public void testNotAJSONObjectItem(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(5);
+		JSONArrayPublisher.fromReader(new StringReader("[{}, 5]"), direct).subscribe(subscriber);
+		assertEquals(1, subscriber.items.size());
+		assertEquals("JSON array item isn't a JSON class or array", getError(subscriber).getMessage());
+	}
+	
+	@Test
+	public void testBadJSON(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(5);
+		JSONArrayPublisher.fromReader(new StringReader("[{}, {"), direct).subscribe(subscriber);
+		assertEquals("JSON input ended prematurely", getError(subscriber).getMessage());
+	}
+	
+	@Test
+	public void testBadRequest(){
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		JSONArrayPublisher.fromReader(new StringReader(arrayOf(5)), direct).subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertTrue(getError(subscriber) instanceof IllegalArgumentException);
+	}
+	
+	@Test
+	public void testReaderOnlyOnce(){
+		JSONArrayPublisher publisher = JSONArrayPublisher.fromReader(new StringReader(arrayOf(1)), direct);
+		publisher.subscribe(new CollectingSubscriber(1));
+		CollectingSubscriber subscriber = new CollectingSubscriber(1);
+		publisher.subscribe(subscriber);
+		assertEquals("JSON Array Publisher can only be subscribed to once", getError(subscriber).getMessage());
+	}
+}
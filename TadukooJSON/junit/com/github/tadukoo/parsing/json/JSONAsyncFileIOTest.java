@@ -0,0 +1,154 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONAsyncFileIOTest{
+	private final Path directory = Path.of("target/JSONAsyncFileIOTest");
+	private final JSONConverter converter = new JSONConverter();
+	
+	private JSONClass bigClass(){
+		JSONClass clazz = new SimpleOrderedJSONClass();
+		JSONArray<Object> items = new JSONArrayList<>();
+		for(int i = 0; i < 10000; i++){
+			JSONClass item = new SimpleOrderedJSONClass();
+			item.setItem("id", (double) i);
+			item.setItem("name", "Item Ünïcödé " + i);
+			items.add(item);
+		}
+		clazz.setItem("items", items);
+		return clazz;
+	}
+	
+	@Test
+	public void testRoundTripSameThread() throws Exception{
+		Path file = directory.resolve("same.json");
+		JSONClass clazz = new SimpleOrderedJSONClass();
+		clazz.setItem("a", "b");
+		clazz.setItem("c", new JSONArrayList<>(List.of(1.0, true)));
+		converter.saveJSONFileAsync(file, clazz, Runnable::run).get();
+		assertEquals(converter.convertToJSON(clazz), Files.readString(file));
+		JSONObject parsed = converter.parseJSONFromFileAsync(file, Runnable::run).get();
+		assertEquals(converter.convertToJSON(clazz), converter.convertToJSON(parsed));
+	}
+	
+	@Test
+	public void testRoundTripLargeFile() throws Exception{
+		Path file = directory.resolve("large.json");
+		JSONClass clazz = bigClass();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			converter.saveJSONFileAsync(file, clazz, executor).get();
+			assertTrue(Files.size(file) > JSONAsyncFileIO.chunkSize * 3L);
+			assertEquals(converter.convertToJSON(clazz), Files.readString(file));
+			JSONObject parsed = converter.parseJSONFromFileAsync(file, executor).get();
+			assertEquals(converter.convertToJSON(clazz), converter.convertToJSON(parsed));
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testSaveLargeFileSingleThread() throws Exception{
+		Path file = directory.resolve("single.json");
+		JSONClass clazz = bigClass();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try{
+			converter.saveJSONFileAsync(file, clazz, executor).get();
+			assertEquals(converter.convertToJSON(clazz), Files.readString(file));
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testRoundTripCommonPool() throws Exception{
+		Path file = directory.resolve("nested/common.json");
+		JSONClass clazz = bigClass();
+		converter.saveJSONFileAsync(file, clazz).get();
+		JSONObject parsed = converter.parseJSONFromFileAsync(file).get();
+		assertEquals(converter.convertToJSON(clazz), converter.convertToJSON(parsed));
+	}
+	
+	@Test
+	public void testSaveTruncatesOldFile() throws Exception{
+		Path file = directory.resolve("truncate.json");
+		Files.createDirectories(directory);
+		Files.writeString(file, "[" + "1, ".repeat(1000) + "1]");
+		converter.saveJSONFileAsync(file, new JSONArrayList<>(List.of(2.0)), Runnable::run).get();
+		assertEquals("[2.0]", Files.readString(file));
+	}
+	
+	@Test
+	public void testParseMissingFile(){
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> converter.parseJSONFromFileAsync(directory.resolve("missing.json"), Runnable::run).get());
+		assertTrue(e.getCause() instanceof NoSuchFileException);
+	}
+	
+	@Test
+	public void testParseNotAJSONObject() throws IOException{
+		Files.createDirectories(directory);
+		Path file = directory.resolve("string.json");
+		Files.writeString(file, "\"just a string\"");
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> converter.parseJSONFromFileAsync(file, Runnable::run).get());
+		assertTrue(e.getCause() instanceof IllegalStateException);
+		assertEquals("JSON file doesn't hold a single JSON class or array", e.getCause().getMessage());
+	}
+	
+	@Test
+	public void testParseTwoJSONObjects() throws IOException{
+		Files.createDirectories(directory);
+		Path file = directory.resolve("two.json");
+		Files.writeString(file, "{} []");
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> converter.parseJSONFromFileAsync(file, Runnable::run).get());
+		assertEquals("JSON file doesn't hold a single JSON class or array", e.getCause().getMessage());
+	}
+	
+	@Test
+	public void testSaveDeeplyNestedObject() throws Exception{
+		// Classes and arrays are walked without recursion, so deep nesting doesn't overflow the stack
+		Path file = directory.resolve("nested.json");
+		JSONArray<Object> nested = new JSONArrayList<>();
+		for(int i = 0; i < 1_000_000; i++){
+			JSONArray<Object> outer = new JSONArrayList<>();
+			outer.add(nested);
+			nested = outer;
+		}
+		converter.saveJSONFileAsync(file, nested, Runnable::run).get(60, TimeUnit.SECONDS);
+		assertEquals("[".repeat(1_000_001) + "]".repeat(1_000_001), Files.readString(file));
+	}
+	
+	@Test
+	public void testSaveObjectThrowingError(){
+		JSONArray<Object> obj = new JSONArrayList<>();
+		obj.add((JSONObject) converter -> {
+			throw new StackOverflowError();
+		});
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> converter.saveJSONFileAsync(directory.resolve("error.json"), obj, Runnable::run)
+						.get(60, TimeUnit.SECONDS));
+		assertTrue(e.getCause() instanceof StackOverflowError);
+	}
+	
+	@Test
+	public void testSaveUnconvertibleObject(){
+		Path file = directory.resolve("unconvertible.json");
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> converter.saveJSONFileAsync(file, new Object(), Runnable::run).get());
+		assertTrue(e.getCause() instanceof IllegalArgumentException);
+	}
+}
@@ -0,0 +1,183 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONBinaryReaderTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	private byte[] write(Object ... values) throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONBinaryWriter writer = new JSONBinaryWriter(out)){
+			for(Object value: values){
+				writer.write(value);
+			}
+		}
+		return out.toByteArray();
+	}
+	
+	@Test
+	public void testSimpleValues() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(write(null, true, false, 5, -7L, (short) 3, 1.5f, -2.25,
+				42.0, "stré😀"));
+		assertNull(reader.read());
+		assertEquals(true, reader.read());
+		assertEquals(false, reader.read());
+		assertEquals(5, reader.read());
+		assertEquals(-7L, reader.read());
+		assertEquals((short) 3, reader.read());
+		assertEquals(1.5f, reader.read());
+		assertEquals(-2.25, reader.read());
+		assertEquals(42.0, reader.read());
+		assertEquals("stré😀", reader.read());
+		assertFalse(reader.hasNext());
+	}
+	
+	@Test
+	public void testRoundTripTree() throws IOException{
+		String JSON = """
+				{"name": "Derp", "nested": {"list": [1, 2.5, "three", null, {"deep": true}], "empty": {}},
+				 "array": [[], [false]], "escaped": "quote\\" \\\\ \\n"}""";
+		JSONObject parsed = converter.parseJSON(JSON);
+		
+		JSONBinaryReader reader = new JSONBinaryReader(write(parsed));
+		Object read = reader.read();
+		assertTrue(read instanceof SimpleOrderedJSONClass);
+		assertEquals(converter.convertToJSON(parsed), converter.convertToJSON(read));
+	}
+	
+	@Test
+	public void testMultipleValuesShareDictionary() throws IOException{
+		JSONClass first = (JSONClass) converter.parseJSON("{\"id\": 1, \"name\": \"a\"}");
+		JSONClass second = (JSONClass) converter.parseJSON("{\"name\": \"b\", \"id\": 2}");
+		JSONBinaryReader reader = new JSONBinaryReader(new ByteArrayInputStream(write(first, second)));
+		assertTrue(reader.hasNext());
+		assertEquals("{\"id\":1.0,\"name\":\"a\"}", converter.convertToJSON(reader.read()));
+		assertTrue(reader.hasNext());
+		assertEquals("{\"name\":\"b\",\"id\":2.0}", converter.convertToJSON(reader.read()));
+		assertFalse(reader.hasNext());
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testLargeValuesFromStream() throws IOException{
+		String big = "y".repeat(50000);
+		JSONArrayList<Object> array = new JSONArrayList<>();
+		for(int i = 0; i < 5000; i++){
+			array.add(i % 2 == 0?big.substring(0, i):i);
+		}
+		array.add(big);
+		JSONBinaryReader reader = new JSONBinaryReader(new ByteArrayInputStream(write(array)));
+		List<Object> read = ((JSONArray<Object>) reader.read()).getItems();
+		assertEquals(array, read);
+	}
+	
+	@Test
+	public void testNotBinaryJSON(){
+		try{
+			new JSONBinaryReader("{}".getBytes());
+			fail();
+		}catch(IllegalArgumentException | IOException e){
+			assertEquals("Stream is not binary JSON", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testWrongVersion(){
+		try{
+			new JSONBinaryReader(new byte[]{'T', 'J', 'B', 9});
+			fail();
+		}catch(IllegalArgumentException | IOException e){
+			assertEquals("Unsupported binary JSON version: 9", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testUnknownTag() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(new byte[]{'T', 'J', 'B', 1, 0x7F});
+		try{
+			reader.read();
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unknown binary JSON tag: 127", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testUnknownKeyIndex() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(new byte[]{'T', 'J', 'B', 1, JSONBinaryFormat.classTag, 1, 4});
+		try{
+			reader.read();
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unknown key index in binary JSON: 2", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testEndedPrematurely() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(
+				new byte[]{'T', 'J', 'B', 1, JSONBinaryFormat.stringTag, 5, 'a'});
+		try{
+			reader.read();
+			fail();
+		}catch(EOFException e){
+			assertEquals("Binary JSON ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testHugeArraySizeEndedPrematurely() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(new byte[]{'T', 'J', 'B', 1, JSONBinaryFormat.arrayTag,
+				(byte) 0xF7, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, JSONBinaryFormat.nullTag});
+		try{
+			reader.read();
+			fail();
+		}catch(EOFException e){
+			assertEquals("Binary JSON ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testHugeStringLengthFromStream() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(new ByteArrayInputStream(new byte[]{'T', 'J', 'B', 1,
+				JSONBinaryFormat.stringTag, (byte) 0xF7, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'}));
+		try{
+			reader.read();
+			fail();
+		}catch(EOFException e){
+			assertEquals("Binary JSON ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testHugeKeyLengthFromStream() throws IOException{
+		JSONBinaryReader reader = new JSONBinaryReader(new ByteArrayInputStream(new byte[]{'T', 'J', 'B', 1,
+				JSONBinaryFormat.classTag, 1, (byte) 0xE1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'}));
+		try{
+			reader.read();
+			fail();
+		}catch(EOFException e){
+			assertEquals("Binary JSON ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testLongStringFromStream() throws IOException{
+		String str = "é-long string-".repeat(5000);
+		JSONClass clazz = new SimpleOrderedJSONClass();
+		clazz.setItem(str, str);
+		byte[] bytes = converter.convertToBinaryJSON(clazz);
+		try(JSONBinaryReader reader = new JSONBinaryReader(new ByteArrayInputStream(bytes))){
+			JSONClass read = (JSONClass) reader.read();
+			assertEquals(str, read.getItem(str));
+		}
+	}
+}
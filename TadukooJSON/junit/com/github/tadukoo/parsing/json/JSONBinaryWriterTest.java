@@ -0,0 +1,117 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONBinaryWriterTest{
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+	private final JSONBinaryWriter writer = new JSONBinaryWriter(out);
+	
+	private byte[] written() throws IOException{
+		writer.flush();
+		byte[] bytes = out.toByteArray();
+		// Skip over the header
+		return Arrays.copyOfRange(bytes, 4, bytes.length);
+	}
+	
+	@Test
+	public void testHeader() throws IOException{
+		writer.flush();
+		assertArrayEquals(new byte[]{'T', 'J', 'B', 1}, out.toByteArray());
+	}
+	
+	@Test
+	public void testSimpleValues() throws IOException{
+		writer.write(null);
+		writer.write(false);
+		writer.write(true);
+		assertArrayEquals(new byte[]{JSONBinaryFormat.nullTag, JSONBinaryFormat.falseTag, JSONBinaryFormat.trueTag},
+				written());
+	}
+	
+	@Test
+	public void testIntegers() throws IOException{
+		writer.write(1);
+		writer.write(-1);
+		writer.write(300L);
+		writer.write((short) -2);
+		assertArrayEquals(new byte[]{JSONBinaryFormat.intTag, 2, JSONBinaryFormat.intTag, 1,
+				JSONBinaryFormat.longTag, (byte) 0xD8, 0x04, JSONBinaryFormat.shortTag, 3}, written());
+	}
+	
+	@Test
+	public void testWholeDouble() throws IOException{
+		writer.write(5.0);
+		assertArrayEquals(new byte[]{JSONBinaryFormat.wholeDoubleTag, 10}, written());
+	}
+	
+	@Test
+	public void testFractionalDouble() throws IOException{
+		writer.write(0.5);
+		byte[] bytes = written();
+		assertEquals(9, bytes.length);
+		assertEquals(JSONBinaryFormat.doubleTag, bytes[0]);
+	}
+	
+	@Test
+	public void testNegativeZeroDouble() throws IOException{
+		writer.write(-0.0);
+		assertEquals(JSONBinaryFormat.doubleTag, written()[0]);
+	}
+	
+	@Test
+	public void testFloat() throws IOException{
+		writer.write(1.0f);
+		assertArrayEquals(new byte[]{JSONBinaryFormat.floatTag, 0x3F, (byte) 0x80, 0, 0}, written());
+	}
+	
+	@Test
+	public void testString() throws IOException{
+		writer.write("hé");
+		assertArrayEquals(new byte[]{JSONBinaryFormat.stringTag, 3, 'h', (byte) 0xC3, (byte) 0xA9}, written());
+	}
+	
+	@Test
+	public void testKeyDictionary() throws IOException{
+		JSONClass first = new SimpleOrderedJSONClass();
+		first.setItem("id", true);
+		JSONClass second = new SimpleOrderedJSONClass();
+		second.setItem("id", false);
+		writer.write(new JSONArrayList<>(java.util.List.of(first, second)));
+		assertArrayEquals(new byte[]{JSONBinaryFormat.arrayTag, 2,
+				JSONBinaryFormat.classTag, 1, 5, 'i', 'd', JSONBinaryFormat.trueTag,
+				JSONBinaryFormat.classTag, 1, 0, JSONBinaryFormat.falseTag}, written());
+	}
+	
+	@Test
+	public void testLongString() throws IOException{
+		String str = "x".repeat(20000);
+		writer.write(str);
+		byte[] bytes = written();
+		assertEquals(1 + 3 + 20000, bytes.length);
+	}
+	
+	@Test
+	public void testUTF8Length(){
+		assertEquals(3, JSONBinaryWriter.utf8Length("abc"));
+		assertEquals(2, JSONBinaryWriter.utf8Length("é"));
+		assertEquals(3, JSONBinaryWriter.utf8Length("€"));
+		assertEquals(4, JSONBinaryWriter.utf8Length("😀"));
+		assertEquals(1, JSONBinaryWriter.utf8Length("\uD83D"));
+	}
+	
+	@Test
+	public void testUnknownType(){
+		try{
+			writer.write(new Object());
+			fail();
+		}catch(IllegalArgumentException | IOException e){
+			assertEquals("Unknown how to convert object into binary JSON type: java.lang.Object", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONByteWriterTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	private String write(Object value) throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONByteWriter writer = new JSONByteWriter(out)){
+			writer.write(value);
+		}
+		return out.toString(StandardCharsets.UTF_8);
+	}
+	
+	private void assertSameAsConverter(Object value) throws IOException{
+		assertEquals(converter.convertToJSON(value), write(value));
+	}
+	
+	@Test
+	public void testSimpleValues() throws IOException{
+		assertEquals("null", write(null));
+		assertEquals("true", write(true));
+		assertEquals("false", write(false));
+		assertEquals("\"test\"", write("test"));
+	}
+	
+	@Test
+	public void testWholeNumbers() throws IOException{
+		assertSameAsConverter(0);
+		assertSameAsConverter(-5);
+		assertSameAsConverter((short) 12);
+		assertSameAsConverter(Integer.MAX_VALUE);
+		assertSameAsConverter(Long.MAX_VALUE);
+		assertSameAsConverter(Long.MIN_VALUE);
+	}
+	
+	@Test
+	public void testFloatingNumbers() throws IOException{
+		assertSameAsConverter(0.0);
+		assertSameAsConverter(-0.0);
+		assertSameAsConverter(5.0);
+		assertSameAsConverter(-123456.0);
+		assertSameAsConverter(9999999.0);
+		assertSameAsConverter(1.0E7);
+		assertSameAsConverter(2.5);
+		assertSameAsConverter(1.0E-5);
+		assertSameAsConverter(3.0f);
+		assertSameAsConverter(-0.0f);
+		assertSameAsConverter(1.25f);
+		assertSameAsConverter(1.0E10f);
+	}
+	
+	@Test
+	public void testEscapes() throws IOException{
+		assertSameAsConverter("\"");
+		assertSameAsConverter("a\\b");
+		assertSameAsConverter("line\nbreak\ttab\rreturn\bback\fform");
+		assertSameAsConverter("control\u0001char");
+	}
+	
+	@Test
+	public void testEscapesAtEveryPosition() throws IOException{
+		// Make sure the escape is found whether it's in the 8-byte words or the bytes after them
+		for(int i = 0; i < 20; i++){
+			String str = "a".repeat(i) + "\"" + "b".repeat(20 - i);
+			assertSameAsConverter(str);
+			assertSameAsConverter(str.replace('"', '\u001f'));
+		}
+	}
+	
+	@Test
+	public void testNonASCII() throws IOException{
+		assertSameAsConverter("café € 😀");
+		assertSameAsConverter("café \"quoted\" 😀");
+		assertEquals("\"éééééééé\"", write("é".repeat(8)));
+	}
+	
+	@Test
+	public void testLongStrings() throws IOException{
+		String longStr = "x".repeat(20000);
+		assertSameAsConverter(longStr);
+		assertSameAsConverter(longStr + "\"" + longStr);
+	}
+	
+	@Test
+	public void testClassesAndArrays() throws IOException{
+		assertSameAsConverter(converter.parseJSON("{\"a\": [1, true, null, \"x\"], \"b\": {\"c\": 2.5}, \"d\": []}"));
+		assertSameAsConverter(converter.parseJSON("[{}, [], [[\"\\\"\"]]]"));
+	}
+	
+	@Test
+	public void testKeyCache() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONByteWriter writer = new JSONByteWriter(out)){
+			writer.write(converter.parseJSON("{\"a\": 1, \"b\\\"\": 2}"));
+			assertEquals(2, writer.getCachedKeyCount());
+			writer.write(converter.parseJSON("{\"b\\\"\": 3, \"a\": 4}"));
+			assertEquals(2, writer.getCachedKeyCount());
+		}
+		assertEquals("{\"a\":1.0,\"b\\\"\":2.0}{\"b\\\"\":3.0,\"a\":4.0}", out.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testManyValuesFlushBuffer() throws IOException{
+		JSONObject obj = converter.parseJSON("{\"key\": \"value\", \"number\": 12345}");
+		String JSON = converter.convertToJSON(obj);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONByteWriter writer = new JSONByteWriter(out)){
+			for(int i = 0; i < 1000; i++){
+				writer.write(obj);
+			}
+		}
+		assertEquals(JSON.repeat(1000), out.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testNeedsEscaping(){
+		byte[] bytes = "abcdefghijklmnop\\".getBytes(StandardCharsets.UTF_8);
+		assertFalse(JSONByteWriter.needsEscaping(bytes, 0, 16));
+		assertTrue(JSONByteWriter.needsEscaping(bytes, 0, 17));
+		assertTrue(JSONByteWriter.needsEscaping(bytes, 9, 17));
+		assertFalse(JSONByteWriter.needsEscaping("é€".getBytes(StandardCharsets.UTF_8), 0, 5));
+	}
+	
+	@Test
+	public void testUnknownType(){
+		try{
+			write(new Object());
+			fail();
+		}catch(IllegalArgumentException | IOException e){
+			assertEquals("Unknown how to convert object into JSON stringtype: java.lang.Object", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.github.tadukoo.parsing.json;
+
+import com.github.tadukoo.util.pojo.MappedPojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONClassFactoryTest{
+	
+	public static class PublicClass extends AbstractJSONClass{
+		
+		public PublicClass(MappedPojo pojo){
+			super(pojo);
+		}
+	}
+	
+	private static class PrivateClass extends AbstractJSONClass{
+		
+		private PrivateClass(MappedPojo pojo){
+			super(pojo);
+		}
+	}
+	
+	public static class ThrowingClass extends AbstractJSONClass{
+		
+		public ThrowingClass(MappedPojo pojo){
+			throw new IllegalArgumentException("Bad pojo");
+		}
+	}
+	
+	public static class NoPojoConstructorClass extends AbstractJSONClass{ }
+	
+	public abstract static class AbstractClass extends AbstractJSONClass{
+		
+		public AbstractClass(MappedPojo pojo){
+			super(pojo);
+		}
+	}
+	
+	@Test
+	public void testGetPojoFactoryPublic()
+			throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		JSONClass pojo = new SimpleOrderedJSONClass();
+		pojo.setItem("Derp", 5);
+		PublicClass created = JSONClassFactory.getPojoFactory(PublicClass.class).apply(pojo);
+		assertEquals(5, created.getItem("Derp"));
+	}
+	
+	@Test
+	public void testGetPojoFactoryPrivate() throws NoSuchMethodException, InstantiationException{
+		try{
+			JSONClassFactory.getPojoFactory(PrivateClass.class);
+			fail();
+		}catch(IllegalAccessException e){
+			assertTrue(e.getMessage().endsWith("cannot access private " + PrivateClass.class.getName() + "(" +
+					MappedPojo.class.getName() + ")"));
+		}
+	}
+	
+	@Test
+	public void testGetPojoFactoryCached()
+			throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		Function<MappedPojo, PublicClass> factory = JSONClassFactory.getPojoFactory(PublicClass.class);
+		assertSame(factory, JSONClassFactory.getPojoFactory(PublicClass.class));
+	}
+	
+	@Test
+	public void testGetPojoFactoryThrowingConstructor()
+			throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		Function<MappedPojo, ThrowingClass> factory = JSONClassFactory.getPojoFactory(ThrowingClass.class);
+		try{
+			factory.apply(new SimpleOrderedJSONClass());
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Bad pojo", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetPojoFactoryNoConstructor() throws InstantiationException, IllegalAccessException{
+		try{
+			JSONClassFactory.getPojoFactory(NoPojoConstructorClass.class);
+			fail();
+		}catch(NoSuchMethodException e){
+			assertEquals(NoPojoConstructorClass.class.getName() + ".<init>(" + MappedPojo.class.getName() + ")",
+					e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetPojoFactoryAbstract() throws NoSuchMethodException, IllegalAccessException{
+		try{
+			JSONClassFactory.getPojoFactory(AbstractClass.class);
+			fail();
+		}catch(InstantiationException e){
+			assertEquals(AbstractClass.class.getName(), e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetSupplier() throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		Supplier<NoPojoConstructorClass> supplier = JSONClassFactory.getSupplier(NoPojoConstructorClass.class);
+		assertNotSame(supplier.get(), supplier.get());
+		assertSame(supplier, JSONClassFactory.getSupplier(NoPojoConstructorClass.class));
+	}
+	
+	@Test
+	public void testGetSupplierNoConstructor() throws InstantiationException, IllegalAccessException{
+		try{
+			JSONClassFactory.getSupplier(PublicClass.class);
+			fail();
+		}catch(NoSuchMethodException e){
+			assertEquals(PublicClass.class.getName() + ".<init>()", e.getMessage());
+		}
+	}
+}
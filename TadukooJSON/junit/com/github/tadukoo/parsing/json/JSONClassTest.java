@@ -33,6 +33,11 @@ public class JSONClassTest{
 		assertTrue(clazz.getMap().isEmpty());
 	}
 	
+	@Test
+	public void testSnapshotIsSelf(){
+		assertSame(clazz, clazz.snapshot());
+	}
+	
 	@Test
 	public void testPojoConstructor(){
 		clazz = new AbstractJSONClass(new AbstractMappedPojo(){
@@ -187,6 +192,36 @@ public class JSONClassTest{
 		assertEquals(42, testClass2.getItem("Plop"));
 	}
 	
+	@Test
+	public void testGetJSONArrayItemNoConstructor()
+			throws InvocationTargetException, InstantiationException, IllegalAccessException{
+		clazz.setItem("Table", new JSONArrayList<>());
+		
+		try{
+			clazz.getJSONArrayItem("Table", JSONClassFactoryTest.NoPojoConstructorClass.class);
+			fail();
+		}catch(NoSuchMethodException e){
+			assertEquals(JSONClassFactoryTest.NoPojoConstructorClass.class.getName() + ".<init>(" +
+					MappedPojo.class.getName() + ")", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetJSONArrayItemThrowingConstructor()
+			throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		JSONArray<MappedPojo> table = new JSONArrayList<>();
+		table.add(new SimpleOrderedJSONClass());
+		clazz.setItem("Table", table);
+		
+		try{
+			clazz.getJSONArrayItem("Table", JSONClassFactoryTest.ThrowingClass.class);
+			fail();
+		}catch(InvocationTargetException e){
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+			assertEquals("Bad pojo", e.getCause().getMessage());
+		}
+	}
+	
 	@Test
 	public void testGetJSONArrayItemNoThrowPass(){
 		JSONArray<MappedPojo> brokenTable = new JSONArrayList<>();
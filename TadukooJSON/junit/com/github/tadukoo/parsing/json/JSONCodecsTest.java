@@ -0,0 +1,105 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONCodecsTest{
+	
+	public static class NoCodecClass extends AbstractJSONClass{ }
+	
+	@Test
+	public void testGetCodecName(){
+		assertEquals("com.github.tadukoo.parsing.json.SimpleOrderedJSONClass_JSONCodec",
+				JSONCodecs.getCodecName(SimpleOrderedJSONClass.class));
+	}
+	
+	@Test
+	public void testGetCodecNameNested(){
+		assertEquals("com.github.tadukoo.parsing.json.JSONCodecsTest_NoCodecClass_JSONCodec",
+				JSONCodecs.getCodecName(NoCodecClass.class));
+	}
+	
+	@Test
+	public void testGetCodecMissing(){
+		assertNull(JSONCodecs.getCodec(NoCodecClass.class));
+	}
+	
+	@Test
+	public void testConvertWithoutCodec(){
+		NoCodecClass clazz = new NoCodecClass();
+		clazz.setItem("a", 1);
+		assertEquals("{\"a\":1}", new JSONConverter().convertToJSON(clazz));
+	}
+	
+	@Test
+	public void testDefaultByteWrite() throws IOException{
+		JSONCodec<NoCodecClass> codec = new JSONCodec<>(){
+			@Override
+			public Class<NoCodecClass> getType(){
+				return NoCodecClass.class;
+			}
+			
+			@Override
+			public void writeJSON(NoCodecClass value, StringBuilder JSONStringBuilder, JSONConverter converter){
+				JSONStringBuilder.append("{\"é\":").append(converter.convertToJSON(value.getItem("a"))).append('}');
+			}
+			
+			@Override
+			public void setItem(NoCodecClass target, String key, Object value){
+				target.setItem(key, value);
+			}
+		};
+		NoCodecClass clazz = new NoCodecClass();
+		clazz.setItem("a", 1);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONByteWriter writer = new JSONByteWriter(out)){
+			codec.writeJSON(clazz, writer);
+		}
+		assertEquals("{\"é\":1}", out.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testWholeNumberConversions(){
+		assertEquals(5, JSONCodec.toInt(5.0, "a"));
+		assertEquals(-3, JSONCodec.toShort(-3.0, "a"));
+		assertEquals(Long.MAX_VALUE, JSONCodec.toLong(Long.MAX_VALUE, "a"));
+		assertEquals(1L << 62, JSONCodec.toLong(0x1p62, "a"));
+	}
+	
+	@Test
+	public void testWholeNumberConversionNotWhole(){
+		try{
+			JSONCodec.toInt(1.5, "a");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Value for a is not a valid int: 1.5", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testWholeNumberConversionOutOfRange(){
+		try{
+			JSONCodec.toLong(1e20, "a");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Value for a is not a valid long: 1.0E20", e.getMessage());
+		}
+		try{
+			JSONCodec.toInt(3e9, "b");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Value for b is not a valid int: 3.0E9", e.getMessage());
+		}
+		try{
+			JSONCodec.toShort(40000L, "c");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Value for c is not a valid short: 40000", e.getMessage());
+		}
+	}
+}
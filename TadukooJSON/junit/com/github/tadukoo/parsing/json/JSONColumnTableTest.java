@@ -0,0 +1,190 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONColumnTableTest{
+	private final JSONConverter converter = new JSONConverter();
+	private final String recordsJSON = "[" +
+			"{\"id\": 1, \"name\": \"a\", \"active\": true, \"tags\": [\"x\"]}, " +
+			"{\"id\": 2, \"name\": \"b\", \"active\": false, \"extra\": null}, " +
+			"{\"id\": 3, \"name\": \"a\", \"active\": null, \"tags\": {\"y\": 1}}, " +
+			"{\"name\": null, \"mixed\": 5}, " +
+			"{\"id\": 4.5, \"mixed\": \"five\"}" +
+			"]";
+	
+	private JSONColumnTable makeTable(){
+		return JSONColumnTable.fromRecords((JSONArray<?>) converter.parseJSON(recordsJSON));
+	}
+	
+	@Test
+	public void testColumns(){
+		JSONColumnTable table = makeTable();
+		assertEquals(5, table.getRowCount());
+		assertEquals(List.of("id", "name", "active", "tags", "extra", "mixed"),
+				table.getColumns().stream().map(JSONColumnTable.Column::getName).toList());
+		assertEquals(JSONColumnTable.ColumnType.NUMBER, table.getColumn("id").getType());
+		assertEquals(JSONColumnTable.ColumnType.STRING, table.getColumn("name").getType());
+		assertEquals(JSONColumnTable.ColumnType.BOOLEAN, table.getColumn("active").getType());
+		assertEquals(JSONColumnTable.ColumnType.OTHER, table.getColumn("tags").getType());
+		assertEquals(JSONColumnTable.ColumnType.OTHER, table.getColumn("extra").getType());
+		assertEquals(JSONColumnTable.ColumnType.OTHER, table.getColumn("mixed").getType());
+		assertNull(table.getColumn("nothing"));
+	}
+	
+	@Test
+	public void testNumberColumn(){
+		JSONColumnTable.Column id = makeTable().getColumn("id");
+		double sum = 0;
+		for(int row = 0; row < 5; row++){
+			if(!id.isNull(row)){
+				sum += id.getNumber(row);
+			}
+		}
+		assertEquals(10.5, sum);
+		assertFalse(id.hasKey(3));
+		assertTrue(id.isNull(3));
+		assertNull(id.get(3));
+		assertEquals(4.5, id.get(4));
+	}
+	
+	@Test
+	public void testStringColumn(){
+		JSONColumnTable.Column name = makeTable().getColumn("name");
+		assertEquals(List.of("a", "b"), name.getDictionary());
+		assertEquals(0, name.getStringCode(0));
+		assertEquals(1, name.getStringCode(1));
+		assertEquals(0, name.getStringCode(2));
+		assertEquals(-1, name.getStringCode(3));
+		assertTrue(name.hasKey(3));
+		assertEquals(-1, name.getStringCode(4));
+		assertFalse(name.hasKey(4));
+		assertEquals("b", name.getString(1));
+		assertNull(name.getString(3));
+	}
+	
+	@Test
+	public void testBooleanColumn(){
+		JSONColumnTable.Column active = makeTable().getColumn("active");
+		assertTrue(active.getBoolean(0));
+		assertFalse(active.getBoolean(1));
+		assertTrue(active.isNull(2));
+		assertTrue(active.hasKey(2));
+		assertEquals(false, active.get(1));
+	}
+	
+	@Test
+	public void testMixedColumn(){
+		JSONColumnTable.Column mixed = makeTable().getColumn("mixed");
+		assertEquals(5.0, mixed.get(3));
+		assertEquals("five", mixed.get(4));
+		assertFalse(mixed.hasKey(0));
+	}
+	
+	@Test
+	public void testWrongColumnType(){
+		try{
+			makeTable().getColumn("name").getNumber(0);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Column name is a STRING column, not NUMBER", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testRoundTrip(){
+		JSONColumnTable table = makeTable();
+		assertEquals(converter.convertToJSON(converter.parseJSON(recordsJSON)),
+				converter.convertToJSON(table.toJSONArray()));
+		assertEquals("{\"name\":null,\"mixed\":5.0}", converter.convertToJSON(table.getRecord(3)));
+		assertThrows(IndexOutOfBoundsException.class, () -> table.getRecord(5));
+	}
+	
+	@Test
+	public void testFromReader() throws IOException{
+		JSONColumnTable table = JSONColumnTable.fromReader(new StringReader(recordsJSON));
+		assertEquals(5, table.getRowCount());
+		assertEquals(converter.convertToJSON(makeTable().toJSONArray()), converter.convertToJSON(table.toJSONArray()));
+	}
+	
+	@Test
+	public void testFromReaderNotAnArray(){
+		try{
+			JSONColumnTable.fromReader(new StringReader("{\"a\": 1}"));
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("JSON input isn't an array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFromReaderNotClasses(){
+		try{
+			JSONColumnTable.fromReader(new StringReader("[{}, [1]]"));
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("JSON array item isn't a JSON class", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFromReaderTrailingContent() throws IOException{
+		try{
+			JSONColumnTable.fromReader(new StringReader("[{\"a\": 1}] {\"x\": 1}"));
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unexpected content after the end of the JSON array", e.getMessage());
+		}
+		try{
+			JSONColumnTable.fromReader(new StringReader("[{\"a\": 1}][{\"a\": 2}]"));
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unexpected content after the end of the JSON array", e.getMessage());
+		}
+		assertEquals(1, JSONColumnTable.fromReader(new StringReader("[{\"a\": 1}]\n")).getRowCount());
+	}
+	
+	@Test
+	public void testBuilder(){
+		SimpleOrderedJSONClass first = new SimpleOrderedJSONClass();
+		first.setItem("n", 1);
+		SimpleOrderedJSONClass second = new SimpleOrderedJSONClass();
+		second.setItem("n", 2L);
+		second.setItem("s", "x");
+		JSONColumnTable table = JSONColumnTable.builder().addRecord(first).addRecord(second).build();
+		assertEquals(2, table.getRowCount());
+		assertEquals(2.0, table.getColumn("n").getNumber(1));
+		assertFalse(table.getColumn("s").hasKey(0));
+		assertEquals("x", table.getColumn("s").getString(1));
+	}
+	
+	@Test
+	public void testRecordNotAClass(){
+		try{
+			JSONColumnTable.fromRecords(List.of(1));
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Record isn't a JSON class: 1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testManyRows(){
+		JSONColumnTable.JSONColumnTableBuilder builder = JSONColumnTable.builder();
+		for(int i = 0; i < 1000; i++){
+			SimpleOrderedJSONClass record = new SimpleOrderedJSONClass();
+			record.setItem("i", i);
+			record.setItem("parity", i % 2 == 0?"even":"odd");
+			builder.addRecord(record);
+		}
+		JSONColumnTable table = builder.build();
+		assertEquals(999.0, table.getColumn("i").getNumber(999));
+		assertEquals(2, table.getColumn("parity").getDictionary().size());
+		assertEquals("odd", table.getColumn("parity").getString(999));
+	}
+}
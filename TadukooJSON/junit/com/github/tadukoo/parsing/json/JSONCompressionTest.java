@@ -0,0 +1,81 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONCompressionTest{
+	private final byte[] text = "{\"a\": \"b\", \"c\": [1, 2, 3]}".repeat(100).getBytes(StandardCharsets.UTF_8);
+	
+	private static class CloseTrackingOutputStream extends ByteArrayOutputStream{
+		private boolean closed = false;
+		
+		@Override
+		public void close(){
+			closed = true;
+		}
+	}
+	
+	private static class CloseTrackingInputStream extends ByteArrayInputStream{
+		private boolean closed = false;
+		
+		private CloseTrackingInputStream(byte[] bytes){
+			super(bytes);
+		}
+		
+		@Override
+		public void close(){
+			closed = true;
+		}
+	}
+	
+	@Test
+	public void testRoundTrip() throws IOException{
+		for(JSONCompression compression: JSONCompression.values()){
+			CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+			try(OutputStream compressed = compression.compress(out)){
+				compressed.write(text);
+			}
+			assertFalse(out.closed);
+			assertTrue(out.size() < text.length);
+			
+			CloseTrackingInputStream in = new CloseTrackingInputStream(out.toByteArray());
+			try(InputStream decompressed = compression.decompress(in)){
+				assertArrayEquals(text, decompressed.readAllBytes());
+			}
+			assertFalse(in.closed);
+		}
+	}
+	
+	@Test
+	public void testGZIPIsStandard() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(OutputStream compressed = JSONCompression.GZIP.compress(out)){
+			compressed.write(text);
+		}
+		try(InputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))){
+			assertArrayEquals(text, in.readAllBytes());
+		}
+	}
+	
+	@Test
+	public void testDeflateIsStandard() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(DeflaterOutputStream compressed = new DeflaterOutputStream(out)){
+			compressed.write(text);
+		}
+		try(InflaterInputStream in = JSONCompression.DEFLATE.decompress(new ByteArrayInputStream(out.toByteArray()))){
+			assertArrayEquals(text, in.readAllBytes());
+		}
+	}
+}
@@ -4,11 +4,18 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @SuppressWarnings("unchecked")
 public class JSONConverterTest{
@@ -317,6 +324,132 @@ public class JSONConverterTest{
 		}
 	}
 	
+	@Test
+	public void testProjectionNestedKey(){
+		String JSON = """
+				{
+				  "user": {"id": 5, "name": "Derp", "tags": ["a", "b"]},
+				  "skipped": {"nested": [1, {"x": "}]"}], "str": "\\"{"},
+				  "other": "ignored"
+				}
+				""";
+		
+		JSONObject obj = converter.parseJSON(JSON, JSONProjection.of("user.id"));
+		if(obj instanceof JSONClass clazz){
+			assertEquals(1, clazz.getKeys().size());
+			JSONClass user = (JSONClass) clazz.getItem("user");
+			assertEquals(1, user.getKeys().size());
+			assertEquals(5.0, user.getItem("id"));
+			assertEquals("{\"user\":{\"id\":5.0}}", converter.convertToJSON(clazz));
+		}else{
+			throw new IllegalStateException("Didn't get a JSONClass object");
+		}
+	}
+	
+	@Test
+	public void testProjectionArrayItems(){
+		String JSON = """
+				{
+				  "items": [
+				    {"price": 2.5, "name": "a", "extra": [true, false]},
+				    "not a class",
+				    {"name": "b", "price": 3}
+				  ],
+				  "count": 2
+				}
+				""";
+		
+		JSONObject obj = converter.parseJSON(JSON, JSONProjection.of("items[*].price", "count"));
+		if(obj instanceof JSONClass clazz){
+			assertEquals(2, clazz.getKeys().size());
+			assertEquals(2.0, clazz.getItem("count"));
+			List<Object> items = ((JSONArray<Object>) clazz.getItem("items")).getItems();
+			assertEquals(2, items.size());
+			assertEquals("{\"price\":2.5}", converter.convertToJSON(items.get(0)));
+			assertEquals("{\"price\":3.0}", converter.convertToJSON(items.get(1)));
+		}else{
+			throw new IllegalStateException("Didn't get a JSONClass object");
+		}
+	}
+	
+	@Test
+	public void testProjectionKeepsWholeSubtree(){
+		String JSON = """
+				[
+				  {"id": 1, "data": {"a": [1, 2], "b": null}},
+				  {"id": 2, "data": [], "other": {}}
+				]
+				""";
+		
+		JSONObject obj = converter.parseJSON(JSON, JSONProjection.of("[*].data"));
+		assertEquals("[{\"data\":{\"a\":[1.0,2.0],\"b\":null}},{\"data\":[]}]", converter.convertToJSON(obj));
+	}
+	
+	@Test
+	public void testProjectionNull(){
+		String JSON = "{\"a\": 1, \"b\": [true]}";
+		assertEquals("{\"a\":1.0,\"b\":[true]}", converter.convertToJSON(converter.parseJSON(JSON, null)));
+	}
+	
+	@Test
+	public void testSymbolTable(){
+		JSONSymbolTable symbolTable = new JSONSymbolTable();
+		JSONConverter symbolConverter = new JSONConverter(symbolTable);
+		assertSame(symbolTable, symbolConverter.getSymbolTable());
+		assertNull(converter.getSymbolTable());
+		
+		String JSON = """
+				[
+				  {"status": "OK", "message": "this is a long message"},
+				  {"status": "OK", "message": "this is a long message"}
+				]
+				""";
+		JSONArray<JSONClass> array = (JSONArray<JSONClass>) symbolConverter.parseJSON(JSON);
+		JSONClass first = array.get(0);
+		JSONClass second = array.get(1);
+		assertEquals("OK", first.getItem("status"));
+		assertSame(first.getItem("status"), second.getItem("status"));
+		assertEquals(first.getItem("message"), second.getItem("message"));
+		assertNotSame(first.getItem("message"), second.getItem("message"));
+		
+		// Keys are the same instances, even across parses
+		JSONClass third = (JSONClass) symbolConverter.parseJSON("{\"status\": \"KO\"}");
+		assertSame(((OrderedJSONClass) first).getKeyOrder().get(0), ((OrderedJSONClass) third).getKeyOrder().get(0));
+	}
+	
+	@Test
+	public void testEscapedStrings(){
+		String JSON = "{\"quote\\\"key\": \"line\\none\\ttab \\u00e9\", \"plain\": \"no escapes\"}";
+		
+		JSONClass clazz = (JSONClass) converter.parseJSON(JSON);
+		assertEquals("line\none\ttab \u00e9", clazz.getItem("quote\"key"));
+		assertEquals("no escapes", clazz.getItem("plain"));
+	}
+	
+	@Test
+	public void testEscapedStringsWithSymbolTable(){
+		JSONConverter symbolConverter = new JSONConverter(new JSONSymbolTable());
+		JSONArray<Object> array = (JSONArray<Object>) symbolConverter.parseJSON("[\"a\\nb\", \"a\\nb\"]");
+		assertEquals("a\nb", array.get(0));
+		assertSame(array.get(0), array.get(1));
+	}
+	
+	@Test
+	public void testEscapedStringsRoundTrip(){
+		JSONClass clazz = new AbstractOrderedJSONClass(){
+			@Override
+			public List<String> getKeyOrder(){
+				return List.of("a\"b");
+			}
+		};
+		clazz.setItem("a\"b", "back\\slash\n\u0001");
+		String JSON = converter.convertToJSON(clazz);
+		assertEquals("{\"a\\\"b\":\"back\\\\slash\\n\\u0001\"}", JSON);
+		
+		JSONClass parsed = (JSONClass) converter.parseJSON(JSON);
+		assertEquals("back\\slash\n\u0001", parsed.getItem("a\"b"));
+	}
+	
 	@Test
 	public void testNullConversion(){
 		assertEquals("null", converter.convertToJSON(null));
@@ -327,6 +460,12 @@ public class JSONConverterTest{
 		assertEquals("\"test_string\"", converter.convertToJSON("test_string"));
 	}
 	
+	@Test
+	public void testQuoteString(){
+		assertEquals("\"plain\"", JSONConverter.quoteString("plain"));
+		assertEquals("\"a\\\"b\\\\c\\b\\f\\n\\r\\t\\u001f\"", JSONConverter.quoteString("a\"b\\c\b\f\n\r\t\u001f"));
+	}
+	
 	@Test
 	public void testTrueConversion(){
 		assertEquals("true", converter.convertToJSON(true));
@@ -415,4 +554,162 @@ public class JSONConverterTest{
 			throw new IllegalStateException("Didn't get a JSONClass object");
 		}
 	}
+	
+	@Test
+	public void testBinaryJSONRoundTrip() throws IOException{
+		String JSON = "{\"a\": [1, true, null, \"x\"], \"b\": {\"c\": 2.5}}";
+		JSONObject obj = converter.parseJSON(JSON);
+		byte[] bytes = converter.convertToBinaryJSON(obj);
+		assertEquals(converter.convertToJSON(obj), converter.convertToJSON(converter.parseBinaryJSON(bytes)));
+	}
+	
+	@Test
+	public void testBinaryJSONNotAnObject(){
+		try{
+			converter.parseBinaryJSON(converter.convertToBinaryJSON("just a string"));
+			fail();
+		}catch(IllegalArgumentException | IOException e){
+			assertEquals("Binary JSON is not a JSON class or array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSaveBinaryJSONFile() throws IOException{
+		JSONObject obj = converter.parseJSON("[{\"id\": 1}, {\"id\": 2}]");
+		String filepath = "target/testSaveBinaryJSONFile/BinaryTest.tjb";
+		converter.saveBinaryJSONFile(filepath, obj);
+		JSONObject obj2 = converter.parseBinaryJSONFromFile(filepath);
+		assertEquals("[{\"id\":1.0},{\"id\":2.0}]", converter.convertToJSON(obj2));
+	}
+	
+	public static class TypedItem extends AbstractJSONClass{ }
+	
+	public static class TypedClass extends AbstractJSONClass{
+		
+		@Override
+		public Class<? extends JSONClass> getSubClassType(String key){
+			return "item".equals(key)?TypedItem.class:null;
+		}
+		
+		@Override
+		public Class<? extends JSONClass> getArrayItemType(String key){
+			return "items".equals(key)?TypedItem.class:null;
+		}
+	}
+	
+	@Test
+	public void testParseJSONTyped(){
+		String JSON = "{\"item\": {\"a\": 1}, \"items\": [{\"b\": 2}, [{\"c\": 3}]], \"other\": {\"d\": 4}}";
+		TypedClass clazz = converter.parseJSONAs(JSON, TypedClass.class);
+		assertTrue(clazz.getItem("item") instanceof TypedItem);
+		assertEquals(1.0, ((JSONClass) clazz.getItem("item")).getItem("a"));
+		List<?> items = (List<?>) clazz.getItem("items");
+		assertTrue(items.get(0) instanceof TypedItem);
+		assertTrue(((List<?>) items.get(1)).get(0) instanceof TypedItem);
+		assertTrue(clazz.getItem("other") instanceof SimpleOrderedJSONClass);
+	}
+	
+	@Test
+	public void testParseJSONTypedNotAClass(){
+		try{
+			converter.parseJSONAs("[1, 2]", TypedClass.class);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("String is not a JSON class", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONTypedPojoConstructor(){
+		JSONClassFactoryTest.PublicClass clazz = converter.parseJSONAs("{\"a\": 1, \"b\": \"c\"}",
+				JSONClassFactoryTest.PublicClass.class);
+		assertEquals(1.0, clazz.getItem("a"));
+		assertEquals("c", clazz.getItem("b"));
+	}
+	
+	@Test
+	public void testParseJSONTypedNoConstructor(){
+		try{
+			converter.parseJSONAs("{}", JSONClassFactoryTest.AbstractClass.class);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't create JSON class of type " +
+					JSONClassFactoryTest.AbstractClass.class.getCanonicalName(), e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testConvertToJSONBytes(){
+		JSONObject obj = converter.parseJSON("{\"a\": [1, \"caf\u00e9\"], \"b\": {\"c\": \"\\n\"}}");
+		assertEquals(converter.convertToJSON(obj),
+				new String(converter.convertToJSONBytes(obj), StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testWriteJSON() throws IOException{
+		JSONObject obj = converter.parseJSON("[1, true, null]");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		converter.writeJSON(out, obj);
+		assertEquals("[1.0,true,null]", out.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testReadJSON() throws IOException{
+		JSONObject obj = converter.parseJSON("{\"a\": [1, \"caf\u00e9\"], \"b\": {\"c\": \"\\n\"}}");
+		JSONObject read = converter.readJSON(new ByteArrayInputStream(converter.convertToJSONBytes(obj)));
+		assertEquals(converter.convertToJSON(obj), converter.convertToJSON(read));
+	}
+	
+	@Test
+	public void testReadJSONNotAJSONObject(){
+		try{
+			converter.readJSON(new ByteArrayInputStream("5".getBytes(StandardCharsets.UTF_8)));
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("JSON input doesn't hold a single JSON class or array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCompressedJSONRoundTrip() throws IOException{
+		JSONObject obj = converter.parseJSON("{\"a\": [1, true, null, \"caf\u00e9\"], \"b\": {\"c\": 2.5}}");
+		for(JSONCompression compression: JSONCompression.values()){
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			converter.writeCompressedJSON(out, obj, compression);
+			ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+			assertEquals(converter.convertToJSON(obj),
+					converter.convertToJSON(converter.readCompressedJSON(in, compression)));
+		}
+	}
+	
+	@Test
+	public void testReadGZIPFromJDK() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(GZIPOutputStream gzip = new GZIPOutputStream(out)){
+			gzip.write("[1, {\"a\": \"b\"}]".getBytes(StandardCharsets.UTF_8));
+		}
+		JSONObject obj = converter.readCompressedJSON(
+				new ByteArrayInputStream(out.toByteArray()), JSONCompression.GZIP);
+		assertEquals("[1.0,{\"a\":\"b\"}]", converter.convertToJSON(obj));
+	}
+	
+	@Test
+	public void testSaveCompressedJSONFile() throws IOException{
+		JSONArray<Object> array = new JSONArrayList<>();
+		for(int i = 0; i < 20000; i++){
+			JSONClass clazz = new SimpleOrderedJSONClass();
+			clazz.setItem("id", (double) i);
+			clazz.setItem("name", "name " + i);
+			array.add(clazz);
+		}
+		String filepath = "target/testSaveCompressedJSONFile/Compressed.json.gz";
+		converter.saveCompressedJSONFile(filepath, array, JSONCompression.GZIP);
+		String JSON = converter.convertToJSON(array);
+		assertTrue(Files.size(Path.of(filepath)) < JSON.length() / 4);
+		try(GZIPInputStream in = new GZIPInputStream(Files.newInputStream(Path.of(filepath)))){
+			assertEquals(JSON, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		}
+		assertEquals(JSON, converter.convertToJSON(
+				converter.parseCompressedJSONFromFile(filepath, JSONCompression.GZIP)));
+	}
 }
@@ -0,0 +1,162 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONDiffTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	private String diff(String source, String target){
+		return converter.convertToJSON(JSONDiff.diff(converter.parseJSON(source), converter.parseJSON(target)));
+	}
+	
+	private void assertRoundTrip(String source, String target){
+		JSONObject sourceObj = converter.parseJSON(source);
+		JSONObject targetObj = converter.parseJSON(target);
+		JSONArray<JSONClass> patch = JSONDiff.diff(sourceObj, targetObj);
+		Object patched = JSONDiff.applyPatch(sourceObj, patch);
+		assertTrue(JSONDiff.valuesEqual(targetObj, patched), converter.convertToJSON(patched));
+		assertSame(sourceObj, patched);
+	}
+	
+	private Object apply(String document, String patch){
+		return JSONDiff.applyPatch(converter.parseJSON(document), (JSONArray<?>) converter.parseJSON(patch));
+	}
+	
+	@Test
+	public void testDiffIdentical(){
+		JSONObject obj = converter.parseJSON("{\"a\": [1, 2], \"b\": {\"c\": true}}");
+		assertTrue(JSONDiff.diff(obj, obj).isEmpty());
+		assertEquals("[]", diff("{\"a\": [1, 2], \"b\": {\"c\": true}}", "{\"b\": {\"c\": true}, \"a\": [1, 2]}"));
+	}
+	
+	@Test
+	public void testDiffClass(){
+		assertEquals("[{\"op\":\"replace\",\"path\":\"/a\",\"value\":2.0},{\"op\":\"remove\",\"path\":\"/b\"}," +
+				"{\"op\":\"add\",\"path\":\"/c\",\"value\":\"x\"}]",
+				diff("{\"a\": 1, \"b\": 2}", "{\"a\": 2, \"c\": \"x\"}"));
+	}
+	
+	@Test
+	public void testDiffNested(){
+		assertEquals("[{\"op\":\"replace\",\"path\":\"/a/b/0/c\",\"value\":false}]",
+				diff("{\"a\": {\"b\": [{\"c\": true}]}}", "{\"a\": {\"b\": [{\"c\": false}]}}"));
+	}
+	
+	@Test
+	public void testDiffArrayInsertAndRemove(){
+		assertEquals("[{\"op\":\"add\",\"path\":\"/0\",\"value\":0.0}]", diff("[1, 2, 3]", "[0, 1, 2, 3]"));
+		assertEquals("[{\"op\":\"remove\",\"path\":\"/1\"}]", diff("[1, 2, 3]", "[1, 3]"));
+		assertEquals("[{\"op\":\"remove\",\"path\":\"/1\"},{\"op\":\"remove\",\"path\":\"/1\"}]",
+				diff("[1, 2, 3, 4]", "[1, 4]"));
+		assertEquals("[{\"op\":\"replace\",\"path\":\"/1\",\"value\":5.0}]", diff("[1, 2, 3]", "[1, 5, 3]"));
+	}
+	
+	@Test
+	public void testDiffTypeChange(){
+		assertEquals("[{\"op\":\"replace\",\"path\":\"/a\",\"value\":[1.0]}]", diff("{\"a\": {}}", "{\"a\": [1]}"));
+		assertEquals("[{\"op\":\"replace\",\"path\":\"\",\"value\":[]}]", diff("{}", "[]"));
+	}
+	
+	@Test
+	public void testDiffNumbersByValue(){
+		JSONClass a = new SimpleOrderedJSONClass();
+		a.setItem("n", 1);
+		JSONClass b = new SimpleOrderedJSONClass();
+		b.setItem("n", 1.0);
+		assertTrue(JSONDiff.diff(a, b).isEmpty());
+		assertTrue(JSONDiff.valuesEqual(-0.0, 0));
+	}
+	
+	@Test
+	public void testDiffEscapedKeys(){
+		assertEquals("[{\"op\":\"replace\",\"path\":\"/a~1b/c~0d\",\"value\":2.0}]",
+				diff("{\"a/b\": {\"c~d\": 1}}", "{\"a/b\": {\"c~d\": 2}}"));
+	}
+	
+	@Test
+	public void testRoundTrips(){
+		assertRoundTrip("{\"a\": 1, \"b\": [1, 2, {\"c\": 3}]}", "{\"b\": [0, 1, 2, {\"c\": 4}, 5], \"d\": null}");
+		assertRoundTrip("[1, 2, 3, 4, 5]", "[2, 3, 9]");
+		assertRoundTrip("{\"a/b\": {\"c~d\": [true]}}", "{\"a/b\": {\"c~d\": []}, \"e\": {}}");
+	}
+	
+	@Test
+	public void testApplyOperations(){
+		assertEquals("{\"c\":[1.0,2.0,3.0],\"b\":1.0}", converter.convertToJSON(apply(
+				"{\"a\": 1, \"c\": [1, 3]}",
+				"[{\"op\": \"move\", \"from\": \"/a\", \"path\": \"/b\"}, " +
+						"{\"op\": \"add\", \"path\": \"/c/1\", \"value\": 2}]")));
+		assertEquals("{\"a\":[1.0],\"b\":[1.0,2.0]}", converter.convertToJSON(apply(
+				"{\"a\": [1]}",
+				"[{\"op\": \"copy\", \"from\": \"/a\", \"path\": \"/b\"}, " +
+						"{\"op\": \"add\", \"path\": \"/b/-\", \"value\": 2}, " +
+						"{\"op\": \"test\", \"path\": \"/a\", \"value\": [1]}]")));
+		assertEquals("[1.0]", converter.convertToJSON(apply("{}",
+				"[{\"op\": \"replace\", \"path\": \"\", \"value\": [1]}]")));
+	}
+	
+	@Test
+	public void testApplyCopiesValues(){
+		JSONClass document = new SimpleOrderedJSONClass();
+		JSONArray<JSONClass> patch = JSONDiff.diff(document, converter.parseJSON("{\"a\": {\"b\": 1}}"));
+		JSONDiff.applyPatch(document, patch);
+		assertNotSame(patch.get(0).getItem(JSONDiff.valueKey), document.getItem("a"));
+	}
+	
+	@Test
+	public void testApplyToCachingClass(){
+		CachingJSONClass document = CachingJSONClass.copyOf((JSONClass) converter.parseJSON("{\"a\": {\"b\": 1}}"));
+		converter.convertToJSON(document);
+		JSONDiff.applyPatch(document, List.of(((JSONArray<?>) converter.parseJSON(
+				"[{\"op\": \"replace\", \"path\": \"/a/b\", \"value\": 2}]")).get(0)));
+		assertFalse(document.isCached());
+		assertEquals("{\"a\":{\"b\":2.0}}", converter.convertToJSON(document));
+	}
+	
+	@Test
+	public void testApplyTestFailed(){
+		try{
+			apply("{\"a\": 1}", "[{\"op\": \"test\", \"path\": \"/a\", \"value\": 2}]");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON Patch test failed at path: /a", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testApplyMissingPath(){
+		try{
+			apply("{\"a\": [1]}", "[{\"op\": \"remove\", \"path\": \"/a/1\"}]");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("JSON Pointer path doesn't exist: /a/1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testApplyUnknownOperation(){
+		try{
+			apply("{}", "[{\"op\": \"derp\", \"path\": \"\"}]");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Unknown JSON Patch operation: derp", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParsePointer(){
+		assertEquals(List.of(), JSONDiff.parsePointer(""));
+		assertEquals(List.of(""), JSONDiff.parsePointer("/"));
+		assertEquals(List.of("a/b", "c~d", "0"), JSONDiff.parsePointer("/a~1b/c~0d/0"));
+		try{
+			JSONDiff.parsePointer("a");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Invalid JSON Pointer: a", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,203 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONDocumentCacheTest{
+	private final Path directory = Path.of("target/JSONDocumentCacheTest");
+	
+	private Path writeFile(String name, String json) throws IOException{
+		Files.createDirectories(directory);
+		Path file = directory.resolve(name);
+		Files.writeString(file, json);
+		return file;
+	}
+	
+	@Test
+	public void testCachesDocument() throws IOException{
+		Path file = writeFile("cached.json", "{\"a\": [1, 2], \"b\": \"c\"}");
+		JSONDocumentCache cache = new JSONDocumentCache(1 << 20);
+		JSONObject first = cache.get(file);
+		assertTrue(first instanceof FrozenJSONClass);
+		assertEquals("c", ((JSONClass) first).getItem("b"));
+		assertSame(first, cache.get(file.toString()));
+		assertSame(first, cache.get(directory.resolve("../JSONDocumentCacheTest/cached.json")));
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getParseCount());
+		assertEquals(1, cache.size());
+		assertTrue(cache.getWeight() > 0);
+	}
+	
+	@Test
+	public void testArrayDocument() throws IOException{
+		Path file = writeFile("array.json", "[{}, []]");
+		assertTrue(new JSONDocumentCache(1 << 20).get(file) instanceof FrozenJSONArray);
+	}
+	
+	@Test
+	public void testChangedFileIsParsedAgain() throws IOException{
+		Path file = writeFile("changed.json", "{\"v\": 1}");
+		JSONDocumentCache cache = new JSONDocumentCache(1 << 20);
+		JSONObject first = cache.get(file);
+		writeFile("changed.json", "{\"v\": 22}");
+		JSONObject second = cache.get(file);
+		assertNotSame(first, second);
+		assertEquals(22.0, ((JSONClass) second).getItem("v"));
+		assertEquals(1, cache.size());
+		
+		// Same size, but a new modified time
+		writeFile("changed.json", "{\"v\": 33}");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+		assertEquals(33.0, ((JSONClass) cache.get(file)).getItem("v"));
+		assertEquals(3, cache.getParseCount());
+	}
+	
+	@Test
+	public void testEvictsLeastRecentlyUsed() throws IOException{
+		Path a = writeFile("evictA.json", "{}"), b = writeFile("evictB.json", "{}"), c = writeFile("evictC.json", "{}");
+		JSONDocumentCache cache = new JSONDocumentCache(2, document -> 1);
+		cache.get(a);
+		cache.get(b);
+		cache.get(a);
+		cache.get(c);
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getWeight());
+		cache.get(a);
+		assertEquals(3, cache.getParseCount());
+		cache.get(b);
+		assertEquals(4, cache.getParseCount());
+	}
+	
+	@Test
+	public void testTooHeavyDocumentNotCached() throws IOException{
+		Path file = writeFile("heavy.json", "{\"a\": \"b\"}");
+		JSONDocumentCache cache = new JSONDocumentCache(10, document -> 11);
+		cache.get(file);
+		cache.get(file);
+		assertEquals(0, cache.size());
+		assertEquals(2, cache.getParseCount());
+	}
+	
+	@Test
+	public void testInvalidate() throws IOException{
+		Path file = writeFile("invalidate.json", "{}");
+		JSONDocumentCache cache = new JSONDocumentCache(1 << 20);
+		cache.get(file);
+		cache.invalidate(file);
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getWeight());
+		cache.get(file);
+		cache.invalidateAll();
+		assertEquals(0, cache.size());
+		assertEquals(2, cache.getParseCount());
+	}
+	
+	@Test
+	public void testConcurrentLoadsParseOnce() throws Exception{
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < 20000; i++){
+			json.append(i == 0?"":",").append("{\"id\": ").append(i).append("}");
+		}
+		Path file = writeFile("concurrent.json", json.append("]").toString());
+		AtomicInteger weighs = new AtomicInteger();
+		JSONDocumentCache cache = new JSONDocumentCache(Long.MAX_VALUE, document -> weighs.incrementAndGet());
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		List<JSONObject> results = new ArrayList<>();
+		for(int i = 0; i < 8; i++){
+			Thread thread = new Thread(() -> {
+				try{
+					start.await();
+					JSONObject document = cache.get(file);
+					synchronized(results){
+						results.add(document);
+					}
+				}catch(Exception e){
+					throw new RuntimeException(e);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for(Thread thread: threads){
+			thread.join();
+		}
+		assertEquals(8, results.size());
+		for(JSONObject result: results){
+			assertSame(results.get(0), result);
+		}
+		assertEquals(1, cache.getParseCount());
+		assertEquals(1, weighs.get());
+	}
+	
+	@Test
+	public void testDeeplyNestedFileDoesNotBlockLoads() throws Exception{
+		Path file = writeFile("nested.json", "[".repeat(1_000_000) + "]".repeat(1_000_000));
+		JSONDocumentCache cache = new JSONDocumentCache(1 << 20);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		AtomicInteger failures = new AtomicInteger();
+		for(int i = 0; i < 4; i++){
+			Thread thread = new Thread(() -> {
+				try{
+					start.await();
+					cache.get(file);
+				}catch(StackOverflowError e){
+					failures.incrementAndGet();
+				}catch(Exception e){
+					throw new RuntimeException(e);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for(Thread thread: threads){
+			thread.join(60000);
+			assertFalse(thread.isAlive());
+		}
+		assertEquals(4, failures.get());
+		
+		// A later load of the same file fails again instead of waiting on the failed load
+		assertThrows(StackOverflowError.class, () -> cache.get(file));
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testMissingFile(){
+		assertThrows(NoSuchFileException.class,
+				() -> new JSONDocumentCache(100).get(directory.resolve("missing.json")));
+	}
+	
+	@Test
+	public void testNegativeMaxWeight(){
+		try{
+			new JSONDocumentCache(-1);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Maximum weight can't be negative: -1", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testEstimateRetainedSize(){
+		assertEquals(0, JSONDocumentCache.estimateRetainedSize(null));
+		assertEquals(16, JSONDocumentCache.estimateRetainedSize(1.0));
+		assertEquals(48, JSONDocumentCache.estimateRetainedSize("abc"));
+		assertTrue(JSONDocumentCache.estimateRetainedSize(new JSONConverter().parseJSON("{\"a\": [1, 2, \"x\"]}")) >
+				JSONDocumentCache.estimateRetainedSize(new JSONConverter().parseJSON("{\"a\": []}")));
+	}
+}
@@ -0,0 +1,187 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONExternalSorterTest{
+	private final Path directory = Path.of("target/JSONExternalSorterTest");
+	private final JSONConverter converter = new JSONConverter();
+	
+	private Path writeFile(String name, String json) throws IOException{
+		Files.createDirectories(directory);
+		Path file = directory.resolve(name);
+		Files.writeString(file, json);
+		return file;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private List<Object> readArray(Path file) throws IOException{
+		return ((JSONArray<Object>) converter.parseJSONFromFile(file.toFile())).getItems();
+	}
+	
+	private long countRuns(Path tempDirectory) throws IOException{
+		if(!Files.exists(tempDirectory)){
+			return 0;
+		}
+		try(Stream<Path> files = Files.list(tempDirectory)){
+			return files.count();
+		}
+	}
+	
+	@Test
+	public void testSortInMemory() throws IOException{
+		Path input = writeFile("small.json", "[{\"id\": 3, \"n\": \"c\"}, {\"id\": 1, \"n\": \"a\"}, " +
+				"{\"id\": 2, \"n\": \"b\"}, {\"n\": \"none\"}, {\"id\": 1, \"n\": \"a2\"}]");
+		Path output = directory.resolve("small-sorted.json");
+		JSONExternalSorter sorter = new JSONExternalSorter("$.id");
+		assertEquals(5, sorter.sort(input, output));
+		assertEquals("[{\"n\":\"none\"},{\"id\":1.0,\"n\":\"a\"},{\"id\":1.0,\"n\":\"a2\"},{\"id\":2.0,\"n\":\"b\"}," +
+				"{\"id\":3.0,\"n\":\"c\"}]", Files.readString(output));
+	}
+	
+	@Test
+	public void testSortWithSpilledRuns() throws IOException{
+		Random random = new Random(48);
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < 5000; i++){
+			if(i != 0){
+				json.append(", ");
+			}
+			json.append("{\"user\": {\"id\": ").append(random.nextInt(1000)).append("}, \"seq\": ").append(i)
+					.append("}");
+		}
+		Path input = writeFile("large.json", json.append("]").toString());
+		Path output = directory.resolve("large-sorted.json");
+		Path tempDirectory = directory.resolve("runs");
+		
+		// Small enough runs to need more than one merge pass
+		JSONExternalSorter sorter = new JSONExternalSorter(JSONPath.compile("$.user.id"), 2000, tempDirectory);
+		assertEquals(5000, sorter.sort(input, output));
+		assertEquals(0, countRuns(tempDirectory));
+		
+		List<Object> sorted = readArray(output);
+		assertEquals(5000, sorted.size());
+		for(int i = 1; i < sorted.size(); i++){
+			JSONClass before = (JSONClass) sorted.get(i - 1);
+			JSONClass after = (JSONClass) sorted.get(i);
+			double beforeID = (Double) ((JSONClass) before.getItem("user")).getItem("id");
+			double afterID = (Double) ((JSONClass) after.getItem("user")).getItem("id");
+			assertTrue(beforeID <= afterID);
+			if(beforeID == afterID){
+				// The sort is stable
+				assertTrue((Double) before.getItem("seq") < (Double) after.getItem("seq"));
+			}
+		}
+	}
+	
+	@Test
+	public void testSortEmptyArray() throws IOException{
+		Path input = writeFile("empty.json", " [ ] ");
+		Path output = directory.resolve("empty-sorted.json");
+		assertEquals(0, new JSONExternalSorter("$.id").sort(input, output));
+		assertEquals("[]", Files.readString(output));
+	}
+	
+	@Test
+	public void testSortNotAnArray() throws IOException{
+		Path input = writeFile("class.json", "{\"a\": 1}");
+		try{
+			new JSONExternalSorter("$.id").sort(input, directory.resolve("class-sorted.json"));
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON input isn't an array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSortTrailingContent() throws IOException{
+		Path input = writeFile("trailing.json", "[{\"id\": 2}, {\"id\": 1}] {\"id\": 0}");
+		try{
+			new JSONExternalSorter("$.id").sort(input, directory.resolve("trailing-sorted.json"));
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unexpected content after the end of the JSON array", e.getMessage());
+		}
+		
+		Path input2 = writeFile("two-arrays.json", "[{\"id\": 2}][{\"id\": 1}]");
+		try{
+			new JSONExternalSorter("$.id").sort(input2, directory.resolve("two-arrays-sorted.json"));
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unexpected content after the end of the JSON array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBadMaxRunWeight(){
+		try{
+			new JSONExternalSorter(JSONPath.compile("$.id"), 0, null);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Maximum run weight must be positive: 0", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCompareKeys(){
+		List<Object> keys = new ArrayList<>(List.of("b", 2.0, true, "a", 1, false, new JSONArrayList<>()));
+		keys.add(null);
+		keys.sort(JSONExternalSorter::compareKeys);
+		assertNull(keys.get(0));
+		assertEquals(List.of(false, true, 1, 2.0, "a", "b"), keys.subList(1, 7));
+		assertEquals(0, JSONExternalSorter.compareKeys(1, 1.0));
+		assertEquals(0, JSONExternalSorter.compareKeys(new JSONArrayList<>(), new SimpleOrderedJSONClass()));
+	}
+	
+	@Test
+	public void testMergeJoin() throws IOException{
+		Path left = writeFile("left.json", "[{\"l\": \"no key\"}, {\"id\": 1, \"l\": \"a\"}, " +
+				"{\"id\": 2, \"l\": \"b\"}, {\"id\": 2, \"l\": \"c\"}, {\"id\": 4, \"l\": \"d\"}]");
+		Path right = writeFile("right.json", "[{\"key\": null}, {\"key\": 2, \"r\": \"x\"}, " +
+				"{\"key\": 2, \"r\": \"y\"}, {\"key\": 3, \"r\": \"z\"}, {\"key\": 4, \"r\": \"w\"}]");
+		List<String> pairs = new ArrayList<>();
+		long count = JSONExternalSorter.mergeJoin(left, JSONPath.compile("$.id"), right, JSONPath.compile("$.key"),
+				(leftItem, rightItem) -> pairs.add(((JSONClass) leftItem).getItem("l") + "-" +
+						((JSONClass) rightItem).getItem("r")));
+		assertEquals(5, count);
+		assertEquals(List.of("b-x", "b-y", "c-x", "c-y", "d-w"), pairs);
+	}
+	
+	@Test
+	public void testMergeJoinUnsorted() throws IOException{
+		Path left = writeFile("unsorted-left.json", "[{\"id\": 2}, {\"id\": 1}]");
+		Path right = writeFile("unsorted-right.json", "[{\"id\": 1}, {\"id\": 2}]");
+		JSONPath key = JSONPath.compile("$.id");
+		try{
+			JSONExternalSorter.mergeJoin(left, key, right, key, (leftItem, rightItem) -> { });
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON array file isn't sorted by its key: " + left, e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSortThenMergeJoin() throws IOException{
+		Path orders = writeFile("orders.json", "[{\"user\": 2, \"order\": \"o1\"}, {\"user\": 1, \"order\": \"o2\"}, " +
+				"{\"user\": 2, \"order\": \"o3\"}]");
+		Path users = writeFile("users.json", "[{\"id\": 2, \"name\": \"Bo\"}, {\"id\": 1, \"name\": \"Al\"}]");
+		Path sortedOrders = directory.resolve("orders-sorted.json");
+		Path sortedUsers = directory.resolve("users-sorted.json");
+		new JSONExternalSorter("$.user").sort(orders, sortedOrders);
+		new JSONExternalSorter("$.id").sort(users, sortedUsers);
+		List<String> pairs = new ArrayList<>();
+		JSONExternalSorter.mergeJoin(sortedOrders, JSONPath.compile("$.user"), sortedUsers, JSONPath.compile("$.id"),
+				(order, user) -> pairs.add(((JSONClass) order).getItem("order") + "-" +
+						((JSONClass) user).getItem("name")));
+		assertEquals(List.of("o2-Al", "o1-Bo", "o3-Bo"), pairs);
+	}
+}
@@ -0,0 +1,181 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONFeederTest{
+	private final JSONConverter converter = new JSONConverter();
+	
+	private static List<Object> drain(JSONFeeder feeder){
+		List<Object> values = new ArrayList<>();
+		while(feeder.hasNext()){
+			values.add(feeder.next());
+		}
+		return values;
+	}
+	
+	@Test
+	public void testWholeInput(){
+		String json = "{\"a\": [1, 2.5, -3.25, true, false, null], \"b\": {\"c\": \"d\\n\\u0041\\\"\"}, \"e\": []}";
+		JSONFeeder feeder = new JSONFeeder();
+		feeder.feed(json.toCharArray());
+		feeder.endOfInput();
+		List<Object> values = drain(feeder);
+		assertEquals(1, values.size());
+		assertEquals(converter.convertToJSON(converter.parseJSON(json)), converter.convertToJSON(values.get(0)));
+	}
+	
+	@Test
+	public void testOneCharAtATime(){
+		String json = "{\"key\": \"a \\u00e9 string\", \"num\": 123.5, \"list\": [{}, [], \"x\"], \"t\": true}";
+		JSONFeeder feeder = new JSONFeeder();
+		char[] chars = json.toCharArray();
+		for(int i = 0; i < chars.length; i++){
+			assertFalse(feeder.hasNext());
+			feeder.feed(chars, i, 1);
+		}
+		feeder.endOfInput();
+		assertEquals(converter.convertToJSON(converter.parseJSON(json)), converter.convertToJSON(feeder.next()));
+		assertFalse(feeder.hasNext());
+	}
+	
+	@Test
+	public void testBytesSplitInCharacters(){
+		String json = "{\"emoji\": \"\uD83D\uDE00 caf\u00e9 \u4e2d\"}";
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		JSONFeeder feeder = new JSONFeeder();
+		for(byte b: bytes){
+			feeder.feed(ByteBuffer.wrap(new byte[]{b}));
+		}
+		feeder.endOfInput();
+		assertEquals("\uD83D\uDE00 caf\u00e9 \u4e2d", ((JSONClass) feeder.next()).getItem("emoji"));
+	}
+	
+	@Test
+	public void testLargeByteBuffer(){
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < 5000; i++){
+			json.append(i == 0?"":",").append("\"item\u00e9").append(i).append('"');
+		}
+		json.append(']');
+		JSONFeeder feeder = new JSONFeeder();
+		feeder.feed(ByteBuffer.wrap(json.toString().getBytes(StandardCharsets.UTF_8)));
+		feeder.endOfInput();
+		List<?> array = (List<?>) feeder.next();
+		assertEquals(5000, array.size());
+		assertEquals("item\u00e94999", array.get(4999));
+	}
+	
+	@Test
+	public void testCharBuffer(){
+		JSONFeeder feeder = new JSONFeeder();
+		feeder.feed(CharBuffer.wrap("[1, 2]"));
+		assertEquals(List.of(1.0, 2.0), feeder.next());
+	}
+	
+	@Test
+	public void testMultipleTopLevelValues(){
+		JSONFeeder feeder = new JSONFeeder();
+		feeder.feed("{\"a\": 1}\n[2]\n\"three\"\nnull\n-4e2".toCharArray());
+		
+		// The last number isn't known to be complete until the end of input
+		assertEquals(4, drain(feeder).size());
+		assertFalse(feeder.isBetweenValues());
+		feeder.endOfInput();
+		assertEquals(-400.0, feeder.next());
+		assertTrue(feeder.isBetweenValues());
+	}
+	
+	@Test
+	public void testNullValue(){
+		JSONFeeder feeder = new JSONFeeder();
+		feeder.feed("null ".toCharArray());
+		assertTrue(feeder.hasNext());
+		assertNull(feeder.next());
+		assertThrows(IllegalStateException.class, feeder::next);
+	}
+	
+	@Test
+	public void testSplitTopLevelArray(){
+		JSONFeeder feeder = new JSONFeeder(null, true);
+		feeder.feed("[{\"a\": 1}, [2, 3], 4".toCharArray());
+		List<Object> values = drain(feeder);
+		assertEquals(2, values.size());
+		assertEquals("{\"a\":1.0}", converter.convertToJSON(values.get(0)));
+		assertEquals("[2.0,3.0]", converter.convertToJSON(values.get(1)));
+		feeder.feed("]".toCharArray());
+		assertEquals(List.of(4.0), drain(feeder));
+		feeder.endOfInput();
+	}
+	
+	@Test
+	public void testSplitTopLevelArrayTrailingContent(){
+		JSONFeeder feeder = new JSONFeeder(null, true);
+		feeder.feed("[1] \n".toCharArray());
+		assertEquals(List.of(1.0), drain(feeder));
+		try{
+			feeder.feed("[2]".toCharArray());
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Unexpected content after the end of the JSON array", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testSymbolTable(){
+		JSONFeeder feeder = new JSONFeeder(new JSONSymbolTable(), false);
+		feeder.feed("[{\"key\": \"v\"}, {\"key\": \"v\"}]".toCharArray());
+		List<?> array = (List<?>) feeder.next();
+		JSONClass first = (JSONClass) array.get(0);
+		JSONClass second = (JSONClass) array.get(1);
+		assertSame(first.getKeys().iterator().next(), second.getKeys().iterator().next());
+		assertSame(first.getItem("key"), second.getItem("key"));
+	}
+	
+	@Test
+	public void testPrematureEnd(){
+		JSONFeeder feeder = new JSONFeeder();
+		feeder.feed("{\"a\": [1, ".toCharArray());
+		IllegalStateException e = assertThrows(IllegalStateException.class, feeder::endOfInput);
+		assertEquals("JSON input ended prematurely", e.getMessage());
+	}
+	
+	@Test
+	public void testErrors(){
+		assertEquals("Didn't find a colon in a key-value pair in JSON class", feedError("{\"a\" 1}"));
+		assertEquals("End of JSON class not marked with closing brace", feedError("{\"a\": 1]"));
+		assertEquals("End of JSON array not marked with closing bracket", feedError("[1}"));
+		assertEquals("Unknown character at start of JSON value: x", feedError("[x]"));
+		assertEquals("JSON class key doesn't start with a quote", feedError("{a: 1}"));
+		assertEquals("Invalid JSON literal, expected true", feedError("[tru]"));
+		assertEquals("Invalid JSON number: 01", feedError("[01]"));
+		assertEquals("Invalid escape sequence in JSON string: \\q", feedError("[\"\\q\"]"));
+		assertEquals("Invalid unicode escape sequence in JSON string", feedError("[\"\\u00g0\"]"));
+	}
+	
+	private static String feedError(String json){
+		JSONFeeder feeder = new JSONFeeder();
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> feeder.feed(json.toCharArray()));
+		
+		// The feeder can't be used after an error
+		assertThrows(IllegalStateException.class, () -> feeder.feed("1".toCharArray()));
+		return e.getMessage();
+	}
+	
+	@Test
+	public void testMalformedUTF8(){
+		JSONFeeder feeder = new JSONFeeder();
+		assertThrows(IllegalStateException.class, () -> feeder.feed(ByteBuffer.wrap(new byte[]{'"', (byte) 0xFF})));
+		
+		JSONFeeder feeder2 = new JSONFeeder();
+		feeder2.feed(ByteBuffer.wrap(new byte[]{'"', (byte) 0xC3}));
+		assertThrows(IllegalStateException.class, feeder2::endOfInput);
+	}
+}
@@ -0,0 +1,82 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONHashTrieTest{
+	
+	@Test
+	public void testEmpty(){
+		assertEquals(0, JSONHashTrie.empty.size());
+		assertSame(JSONHashTrie.notFound, JSONHashTrie.empty.get("a"));
+		assertFalse(JSONHashTrie.empty.containsKey("a"));
+		assertSame(JSONHashTrie.empty, JSONHashTrie.empty.remove("a"));
+	}
+	
+	@Test
+	public void testPutAndGet(){
+		JSONHashTrie trie = JSONHashTrie.empty.put("a", 1).put("b", null);
+		assertEquals(2, trie.size());
+		assertEquals(1, trie.get("a"));
+		assertNull(trie.get("b"));
+		assertTrue(trie.containsKey("b"));
+		assertSame(JSONHashTrie.notFound, trie.get("c"));
+	}
+	
+	@Test
+	public void testPutIsPersistent(){
+		JSONHashTrie trie = JSONHashTrie.empty.put("a", 1);
+		JSONHashTrie trie2 = trie.put("a", 2);
+		assertEquals(1, trie.get("a"));
+		assertEquals(2, trie2.get("a"));
+		assertEquals(1, trie2.size());
+		assertSame(trie2, trie2.put("a", 2));
+	}
+	
+	@Test
+	public void testManyKeys(){
+		JSONHashTrie trie = JSONHashTrie.empty;
+		for(int i = 0; i < 5000; i++){
+			trie = trie.put("key" + i, i);
+		}
+		assertEquals(5000, trie.size());
+		for(int i = 0; i < 5000; i++){
+			assertEquals(i, trie.get("key" + i));
+		}
+		for(int i = 0; i < 5000; i += 2){
+			trie = trie.remove("key" + i);
+		}
+		assertEquals(2500, trie.size());
+		for(int i = 0; i < 5000; i++){
+			assertEquals(i % 2 == 0?JSONHashTrie.notFound:i, trie.get("key" + i));
+		}
+		for(int i = 1; i < 5000; i += 2){
+			trie = trie.remove("key" + i);
+		}
+		assertSame(JSONHashTrie.empty, trie);
+	}
+	
+	@Test
+	public void testCollisions(){
+		// "Aa" and "BB" have the same hash code
+		JSONHashTrie trie = JSONHashTrie.empty.put("Aa", 1).put("BB", 2).put("C", 3);
+		assertEquals(3, trie.size());
+		assertEquals(1, trie.get("Aa"));
+		assertEquals(2, trie.get("BB"));
+		assertEquals(3, trie.get("C"));
+		
+		JSONHashTrie trie2 = trie.put("BB", 4).put("AaAa", 5).put("BBBB", 6).put("AaBB", 7);
+		assertEquals(6, trie2.size());
+		assertEquals(4, trie2.get("BB"));
+		assertEquals(7, trie2.get("AaBB"));
+		assertEquals(2, trie.get("BB"));
+		
+		trie2 = trie2.remove("Aa");
+		assertSame(JSONHashTrie.notFound, trie2.get("Aa"));
+		assertEquals(4, trie2.get("BB"));
+		trie2 = trie2.remove("BB").remove("BB");
+		assertEquals(4, trie2.size());
+		assertSame(JSONHashTrie.notFound, trie2.get("BB"));
+	}
+}
@@ -0,0 +1,155 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONPathTest{
+	private final JSONConverter converter = new JSONConverter();
+	private final String storeJSON = "{\"store\": {\"books\": [" +
+			"{\"title\": \"A\", \"price\": 8.5, \"author\": \"X\", \"tags\": [\"old\"]}, " +
+			"{\"title\": \"B\", \"price\": 12}, " +
+			"{\"title\": \"C\", \"price\": 5, \"author\": null}, " +
+			"{\"title\": \"D\", \"price\": 9, \"author\": \"Y\"}" +
+			"], \"name\": \"Shop\", \"open\": true}}";
+	private final Object store = converter.parseJSON(storeJSON);
+	
+	private void assertBoth(List<Object> expected, String expression) throws IOException{
+		JSONPath path = JSONPath.compile(expression);
+		assertEquals(expected, path.evaluate(store));
+		assertEquals(expected, path.evaluateStream(new StringReader(storeJSON)));
+	}
+	
+	@Test
+	public void testRoot() throws IOException{
+		JSONPath path = JSONPath.compile("$");
+		assertTrue(path.isDefinite());
+		assertEquals(List.of(store), path.evaluate(store));
+		assertEquals(converter.convertToJSON(store),
+				converter.convertToJSON(path.evaluateStreamFirst(new StringReader(storeJSON))));
+	}
+	
+	@Test
+	public void testKeys() throws IOException{
+		assertBoth(List.of("Shop"), "$.store.name");
+		assertBoth(List.of(true), "$['store'][\"open\"]");
+		assertBoth(List.of(), "$.store.missing");
+		assertBoth(List.of(), "$.store.name.deeper");
+	}
+	
+	@Test
+	public void testIndex() throws IOException{
+		assertBoth(List.of("B"), "$.store.books[1].title");
+		assertBoth(List.of(), "$.store.books[10].title");
+		assertBoth(List.of(), "$.store[0]");
+	}
+	
+	@Test
+	public void testWildcard() throws IOException{
+		assertBoth(List.of("A", "B", "C", "D"), "$.store.books[*].title");
+		assertBoth(List.of("old"), "$.store.books.*.tags[*]");
+		JSONPath path = JSONPath.compile("$.store.*");
+		assertFalse(path.isDefinite());
+		List<Object> treeResults = path.evaluate(store);
+		List<Object> streamResults = path.evaluateStream(new StringReader(storeJSON));
+		assertEquals(3, treeResults.size());
+		assertEquals(converter.convertToJSON(streamResults.get(0)), converter.convertToJSON(treeResults.get(0)));
+		assertEquals(List.of("Shop", true), treeResults.subList(1, 3));
+		assertEquals(List.of("Shop", true), streamResults.subList(1, 3));
+		
+		// Class values come out in key order either way
+		String orderedJSON = "{\"z\": 1, \"a\": 2, \"m\": 3}";
+		JSONPath all = JSONPath.compile("$.*");
+		assertEquals(List.of(1.0, 2.0, 3.0), all.evaluate(converter.parseJSON(orderedJSON)));
+		assertEquals(List.of(1.0, 2.0, 3.0), all.evaluateStream(new StringReader(orderedJSON)));
+	}
+	
+	@Test
+	public void testFilters() throws IOException{
+		assertBoth(List.of("A", "C", "D"), "$.store.books[?(@.price < 10)].title");
+		assertBoth(List.of("B"), "$.store.books[?(@.price >= 12)].title");
+		assertBoth(List.of("A", "C", "D"), "$.store.books[?(@.author)].title");
+		assertBoth(List.of("C"), "$.store.books[?(@.author == null)].title");
+		assertBoth(List.of("D"), "$.store.books[?(@.author == 'Y')].title");
+		assertBoth(List.of("A", "D"), "$.store.books[?(@.price < 10 && @.author != null)].title");
+		assertBoth(List.of("B", "C"), "$.store.books[?(@.price > 10 || @.price <= 5)].title");
+		assertBoth(List.of("A"), "$.store.books[?(@.tags[0] == \"old\")].title");
+		assertBoth(List.of("B", "D"), "$.store.books[?(@.title > 'A' && @.title != 'C')].title");
+	}
+	
+	@Test
+	public void testLimit() throws IOException{
+		JSONPath path = JSONPath.compile("$.store.books[*].title");
+		assertEquals(List.of("A", "B"), path.evaluate(store, 2));
+		assertEquals(List.of("A", "B"), path.evaluateStream(new StringReader(storeJSON), 2));
+		assertEquals("A", path.evaluateFirst(store));
+		assertNull(JSONPath.compile("$.nothing").evaluateFirst(store));
+	}
+	
+	@Test
+	public void testStreamBuildsMatchedValues() throws IOException{
+		Object book = JSONPath.compile("$.store.books[0]").evaluateStreamFirst(new StringReader(storeJSON));
+		assertEquals("{\"title\":\"A\",\"price\":8.5,\"author\":\"X\",\"tags\":[\"old\"]}",
+				converter.convertToJSON(book));
+		assertEquals(12.0, JSONPath.compile("$.store.books[1].price").evaluateStreamFirst(
+				new StringReader(storeJSON)));
+	}
+	
+	@Test
+	public void testStreamStopsEarly() throws IOException{
+		// Everything after the match is never read, so the broken JSON isn't noticed
+		String broken = "{\"a\": {\"b\": 1}, \"c\": [1, 2, }}}";
+		assertEquals(List.of(1.0), JSONPath.compile("$.a.b").evaluateStream(new StringReader(broken)));
+		assertEquals(List.of(1.0), JSONPath.compile("$.*.b").evaluateStream(new StringReader(broken), 1));
+	}
+	
+	@Test
+	public void testStreamStillReportsBrokenJSON(){
+		String broken = "{\"a\": {\"b\": 1}, \"c\": [1, 2, }}}";
+		try{
+			JSONPath.compile("$.*.b").evaluateStream(new StringReader(broken));
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("Unknown character at start of JSON value: }", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCompiledPathIsReusable() throws IOException{
+		JSONPath path = JSONPath.compile("$.items[*].id");
+		for(int i = 0; i < 3; i++){
+			String json = "{\"items\": [{\"id\": " + i + "}, {\"id\": " + (i + 1) + "}]}";
+			assertEquals(List.of((double) i, (double) (i + 1)), path.evaluateStream(new StringReader(json)));
+		}
+		assertEquals("$.items[*].id", path.getExpression());
+		assertEquals("$.items[*].id", path.toString());
+	}
+	
+	@Test
+	public void testInvalidExpressions(){
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("store"));
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("$.store["));
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("$.store[?(@.a == )]"));
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("$.store[abc]"));
+		try{
+			JSONPath.compile("$.");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Invalid JSONPath expression at index 2: Expression ended prematurely in $.", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testInvalidLimit(){
+		try{
+			JSONPath.compile("$").evaluate(store, 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Limit must be positive: 0", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONProjectionTest{
+	
+	@Test
+	public void testSingleKey(){
+		JSONProjection projection = JSONProjection.of("id");
+		assertFalse(projection.keepsAll());
+		assertEquals(1, projection.getKeys().size());
+		assertTrue(projection.getKeys().contains("id"));
+		assertTrue(projection.getKeyProjection("id").keepsAll());
+		assertNull(projection.getKeyProjection("name"));
+		assertNull(projection.getItemProjection());
+	}
+	
+	@Test
+	public void testNestedKey(){
+		JSONProjection projection = JSONProjection.of("user.id");
+		JSONProjection userProjection = projection.getKeyProjection("user");
+		assertNotNull(userProjection);
+		assertFalse(userProjection.keepsAll());
+		assertTrue(userProjection.getKeyProjection("id").keepsAll());
+	}
+	
+	@Test
+	public void testArrayItems(){
+		JSONProjection projection = JSONProjection.of("items[*].price");
+		JSONProjection itemsProjection = projection.getKeyProjection("items");
+		assertNotNull(itemsProjection);
+		assertFalse(itemsProjection.keepsAll());
+		JSONProjection itemProjection = itemsProjection.getItemProjection();
+		assertNotNull(itemProjection);
+		assertTrue(itemProjection.getKeyProjection("price").keepsAll());
+	}
+	
+	@Test
+	public void testTopLevelArray(){
+		JSONProjection projection = JSONProjection.of("[*].id");
+		assertTrue(projection.getKeys().isEmpty());
+		assertTrue(projection.getItemProjection().getKeyProjection("id").keepsAll());
+	}
+	
+	@Test
+	public void testMultiplePathsShareNodes(){
+		JSONProjection projection = new JSONProjection(List.of("user.id", "user.name", "user"));
+		JSONProjection userProjection = projection.getKeyProjection("user");
+		assertTrue(userProjection.keepsAll());
+		assertEquals(2, userProjection.getKeys().size());
+	}
+	
+	@Test
+	public void testEmptyPath(){
+		try{
+			JSONProjection.of("");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("JSON Projection path can't be empty", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testEmptyKey(){
+		try{
+			JSONProjection.of("user..id");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Empty key in JSON Projection path: user..id", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testTrailingPeriod(){
+		try{
+			JSONProjection.of("user.");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Invalid JSON Projection path: user.", e.getMessage());
+		}
+	}
+}
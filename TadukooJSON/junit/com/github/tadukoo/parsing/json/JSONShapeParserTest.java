@@ -0,0 +1,238 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONShapeParserTest{
+	private final JSONConverter converter = new JSONConverter();
+	private final JSONShapeParser parser = new JSONShapeParser();
+	
+	private String record(int i){
+		return "{\"id\": " + i + ", \"name\": \"Record " + i + "\", \"active\": " + (i % 2 == 0) +
+				", \"owner\": {\"first\": \"A\", \"last\": null}, \"scores\": [" + i + ", 2.5]}";
+	}
+	
+	private void assertParsesLikeConverter(String json){
+		JSONObject expected = converter.parseJSON(json);
+		JSONObject actual = parser.parseJSON(json);
+		assertEquals(expected.convertToJSON(converter), actual.convertToJSON(converter));
+	}
+	
+	@Test
+	public void testParseJSONFirstClass(){
+		JSONObject obj = parser.parseJSON(record(1));
+		assertTrue(obj instanceof ShapedJSONClass);
+		JSONClass clazz = (JSONClass) obj;
+		assertEquals(1.0, clazz.getItem("id"));
+		assertEquals("Record 1", clazz.getItem("name"));
+		assertEquals(false, clazz.getItem("active"));
+		JSONClass owner = (JSONClass) clazz.getItem("owner");
+		assertEquals("A", owner.getItem("first"));
+		assertNull(owner.getItem("last"));
+		assertEquals(new JSONArrayList<>(List.of(1.0, 2.5)), clazz.getItem("scores"));
+		assertEquals(0, parser.getHitCount());
+		assertEquals(0, parser.getMissCount());
+	}
+	
+	@Test
+	public void testParseJSONHomogeneousStream(){
+		for(int i = 0; i < 10; i++){
+			assertParsesLikeConverter(record(i));
+		}
+		// Each document after the first hits at the root and the owner
+		assertEquals(18, parser.getHitCount());
+		assertEquals(0, parser.getMissCount());
+	}
+	
+	@Test
+	public void testParseJSONSharesShape(){
+		ShapedJSONClass first = (ShapedJSONClass) parser.parseJSON(record(1));
+		ShapedJSONClass second = (ShapedJSONClass) parser.parseJSON(record(2));
+		assertSame(first.getKeyOrder(), second.getKeyOrder());
+		assertEquals(List.of("id", "name", "active", "owner", "scores"), second.getKeyOrder());
+	}
+	
+	@Test
+	public void testParseJSONMismatchedKey(){
+		parser.parseJSON("{\"a\": 1, \"b\": 2, \"c\": 3}");
+		JSONClass clazz = (JSONClass) parser.parseJSON("{\"a\": 4, \"x\": 5, \"c\": 6}");
+		assertEquals(List.of("a", "x", "c"), ((OrderedJSONClass) clazz).getKeyOrder());
+		assertEquals(4.0, clazz.getItem("a"));
+		assertEquals(5.0, clazz.getItem("x"));
+		assertEquals(6.0, clazz.getItem("c"));
+		assertEquals(0, parser.getHitCount());
+		assertEquals(1, parser.getMissCount());
+		
+		// The new layout is learned
+		parser.parseJSON("{\"a\": 7, \"x\": 8, \"c\": 9}");
+		assertEquals(1, parser.getHitCount());
+	}
+	
+	@Test
+	public void testParseJSONFewerKeys(){
+		parser.parseJSON("{\"a\": 1, \"b\": 2}");
+		JSONClass clazz = (JSONClass) parser.parseJSON("{\"a\": 3}");
+		assertEquals("{\"a\":3.0}", clazz.convertToJSON(converter));
+		assertEquals(1, parser.getMissCount());
+	}
+	
+	@Test
+	public void testParseJSONMoreKeys(){
+		parser.parseJSON("{\"a\": 1}");
+		JSONClass clazz = (JSONClass) parser.parseJSON("{\"a\": 2, \"b\": 3}");
+		assertEquals("{\"a\":2.0,\"b\":3.0}", clazz.convertToJSON(converter));
+		assertEquals(1, parser.getMissCount());
+	}
+	
+	@Test
+	public void testParseJSONKeyPrefix(){
+		parser.parseJSON("{\"id\": 1}");
+		JSONClass clazz = (JSONClass) parser.parseJSON("{\"identifier\": 2}");
+		assertEquals(List.of("identifier"), ((OrderedJSONClass) clazz).getKeyOrder());
+		assertEquals(1, parser.getMissCount());
+	}
+	
+	@Test
+	public void testParseJSONEscapedKey(){
+		parser.parseJSON("{\"a\\\"b\": 1}");
+		JSONClass clazz = (JSONClass) parser.parseJSON("{\"a\\\"b\": 2}");
+		assertEquals(2.0, clazz.getItem("a\"b"));
+		assertEquals(1, parser.getHitCount());
+	}
+	
+	@Test
+	public void testParseJSONArrayOfClasses(){
+		String json = "[{\"sku\": \"A\", \"quantity\": 2}, {\"sku\": \"B\", \"quantity\": 1}, " +
+				"{\"sku\": \"C\", \"price\": 3}]";
+		assertParsesLikeConverter(json);
+		assertEquals(1, parser.getHitCount());
+		assertEquals(1, parser.getMissCount());
+	}
+	
+	@Test
+	public void testParseJSONHeterogeneousStream(){
+		for(int i = 0; i < 100; i++){
+			assertParsesLikeConverter("{\"key" + i + "\": " + i + "}");
+		}
+		assertEquals(0, parser.getHitCount());
+		assertEquals(JSONShapeParser.missLimit, parser.getMissCount());
+		assertFalse(parser.parseJSON("{\"key\": 1}") instanceof ShapedJSONClass);
+	}
+	
+	@Test
+	public void testParseJSONDuplicateKeys(){
+		JSONObject obj = parser.parseJSON("{\"a\": 1, \"a\": 2}");
+		assertTrue(obj instanceof SimpleOrderedJSONClass);
+		assertEquals(2.0, ((JSONClass) obj).getItem("a"));
+	}
+	
+	@Test
+	public void testParseJSONEmpty(){
+		assertParsesLikeConverter("{}");
+		assertParsesLikeConverter("{ }");
+		assertParsesLikeConverter("[]");
+		assertEquals(1, parser.getHitCount());
+	}
+	
+	@Test
+	public void testParseJSONEmptyThenNonEmpty(){
+		parser.parseJSON("{}");
+		JSONClass clazz = (JSONClass) parser.parseJSON("{\"a\": 1}");
+		assertEquals("{\"a\":1.0}", clazz.convertToJSON(converter));
+		assertEquals(1, parser.getMissCount());
+		assertParsesLikeConverter("[{}, {\"a\": 1}, { }, {\"b\": {}}]");
+	}
+	
+	@Test
+	public void testParseJSONWhitespace(){
+		parser.parseJSON(" { \"a\" : [ 1 , 2 ] , \"b\" : { } } ");
+		JSONClass clazz = (JSONClass) parser.parseJSON("\n{\n\t\"a\": [],\n\t\"b\": {}\n}\n");
+		assertEquals("{\"a\":[],\"b\":{}}", clazz.convertToJSON(converter));
+		assertEquals(2, parser.getHitCount());
+	}
+	
+	@Test
+	public void testParseJSONNotAnObject(){
+		try{
+			parser.parseJSON("\"text\"");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("String is not valid JSON", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONTrailingContent(){
+		try{
+			parser.parseJSON("{} {}");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON has more after the end of the value", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONMissingClosingBrace(){
+		parser.parseJSON("{\"a\": 1}");
+		try{
+			parser.parseJSON("{\"a\": 1 ]");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("End of JSON class not marked with closing brace", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONMissingColon(){
+		parser.parseJSON("{\"a\": 1}");
+		try{
+			parser.parseJSON("{\"a\" 1}");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Didn't find a colon in a key-value pair in JSON class", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONClassEndedPrematurely(){
+		try{
+			parser.parseJSON("{\"a\": 1");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON Class ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONMissingClosingBracket(){
+		try{
+			parser.parseJSON("[1, 2}");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("End of JSON array not marked with closing bracket", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONUnknownValue(){
+		try{
+			parser.parseJSON("{\"a\": x}");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Unknown character at start of JSON value: x", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testParseJSONInvalidNumber(){
+		try{
+			parser.parseJSON("[01]");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Invalid JSON number: 01", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONStreamTransformerTest{
+	
+	@Test
+	public void testNoOperators(){
+		assertEquals("{\"a\":[1,2.5e3,\"x\"],\"b\":{\"c\":null}}",
+				new JSONStreamTransformer().transform("{ \"a\" : [ 1, 2.5e3, \"x\" ], \"b\" : { \"c\" : null } }"));
+	}
+	
+	@Test
+	public void testDropKey(){
+		assertEquals("{\"a\":1,\"c\":[{\"d\":3}]}", new JSONStreamTransformer().dropKey("b")
+				.transform("{\"a\": 1, \"b\": {\"x\": [1, 2]}, \"c\": [{\"b\": 2, \"d\": 3}]}"));
+	}
+	
+	@Test
+	public void testDropOnlyKey(){
+		assertEquals("{\"a\":{}}", new JSONStreamTransformer().dropKey("b").transform("{\"a\": {\"b\": [[]]}}"));
+	}
+	
+	@Test
+	public void testRenameKey(){
+		assertEquals("{\"id\":1,\"inner\":{\"id\":2}}", new JSONStreamTransformer().renameKey("userId", "id")
+				.transform("{\"userId\": 1, \"inner\": {\"userId\": 2}}"));
+	}
+	
+	@Test
+	public void testRedactKey(){
+		assertEquals("{\"user\":\"bob\",\"password\":\"***\",\"tokens\":[{\"password\":\"***\"}]}",
+				new JSONStreamTransformer().redactKey("password", "***")
+						.transform("{\"user\": \"bob\", \"password\": {\"hash\": \"abc\"}, " +
+								"\"tokens\": [{\"password\": \"x\"}]}"));
+	}
+	
+	@Test
+	public void testRedactKeyThenRenameKey(){
+		assertEquals("{\"socialSecurity\":\"***\",\"name\":\"bob\"}",
+				new JSONStreamTransformer().redactKey("ssn", "***").renameKey("ssn", "socialSecurity")
+						.transform("{\"ssn\": \"123-45-6789\", \"name\": \"bob\"}"));
+	}
+	
+	@Test
+	public void testRedactKeyThenDropKey(){
+		assertEquals("{\"ssn\":\"***\"}", new JSONStreamTransformer().redactKey("ssn", "***").dropKey("x")
+				.transform("{\"ssn\": \"123-45-6789\", \"x\": 1}"));
+	}
+	
+	@Test
+	public void testRedactKeyThenKeepOnly(){
+		assertEquals("{\"ssn\":\"***\"}", new JSONStreamTransformer().redactKey("ssn", "***").keepOnly("ssn")
+				.transform("{\"ssn\": \"123-45-6789\", \"x\": 1}"));
+	}
+	
+	@Test
+	public void testRedactKeyThenDropSameKey(){
+		assertEquals("{\"x\":1}", new JSONStreamTransformer().redactKey("ssn", "***").dropKey("ssn")
+				.transform("{\"ssn\": \"123-45-6789\", \"x\": 1}"));
+	}
+	
+	@Test
+	public void testKeepOnly(){
+		assertEquals("{\"user\":{\"id\":1},\"items\":[{\"price\":2},{\"price\":3}]}",
+				new JSONStreamTransformer().keepOnly("user.id", "items[*].price")
+						.transform("{\"user\": {\"id\": 1, \"name\": \"x\"}, \"other\": true, " +
+								"\"items\": [{\"price\": 2, \"name\": \"a\"}, {\"name\": \"b\", \"price\": 3}]}"));
+	}
+	
+	@Test
+	public void testKeepOnlyWholeValue(){
+		assertEquals("{\"user\":{\"id\":1,\"tags\":[\"a\",{\"b\":2}]}}", new JSONStreamTransformer().keepOnly("user")
+				.transform("{\"user\": {\"id\": 1, \"tags\": [\"a\", {\"b\": 2}]}, \"other\": 5}"));
+	}
+	
+	@Test
+	public void testKeepOnlyTopLevelArray(){
+		assertEquals("[{\"id\":1},{\"id\":2},{}]", new JSONStreamTransformer().keepOnly("[*].id")
+				.transform("[{\"id\": 1, \"x\": 2}, {\"x\": [3], \"id\": 2}, {\"y\": 4}]"));
+	}
+	
+	@Test
+	public void testKeepOnlyAfterRename(){
+		// Keys are matched as they appeared in the input, at the last step as well as in the path
+		assertEquals("{\"b\":1}", new JSONStreamTransformer().renameKey("a", "b").keepOnly("a")
+				.transform("{\"a\": 1, \"b\": 2}"));
+		assertEquals("{\"x\":{\"d\":1}}", new JSONStreamTransformer().renameKey("c", "d").keepOnly("x.c")
+				.transform("{\"x\": {\"c\": 1, \"d\": 2}}"));
+	}
+	
+	@Test
+	public void testOperatorsRunInOrder(){
+		assertEquals("{\"b\":1}", new JSONStreamTransformer().renameKey("a", "b").dropKey("a")
+				.transform("{\"a\": 1}"));
+		assertEquals("{\"c\":2}", new JSONStreamTransformer().renameKey("a", "b").dropKey("b")
+				.transform("{\"a\": 1, \"c\": 2}"));
+	}
+	
+	@Test
+	public void testCustomOperatorPaths(){
+		List<String> seen = new ArrayList<>();
+		new JSONStreamTransformer().addOperator((path, key) -> {
+			seen.add(path + " " + key);
+			return JSONStreamTransformer.Action.keep(key);
+		}).transform("{\"a\": [{\"b\": 1}, {\"c\": {\"d\": 2}}], \"e\": 3}");
+		assertEquals(List.of("[] a", "[a, 0] b", "[a, 1] c", "[a, 1, c] d", "[] e"), seen);
+	}
+	
+	@Test
+	public void testMultipleTopLevelValues(){
+		assertEquals("{\"a\":1}\n{\"a\":3}", new JSONStreamTransformer().dropKey("b")
+				.transform("{\"a\": 1, \"b\": 2}\n{\"b\": 4, \"a\": 3}"));
+	}
+	
+	@Test
+	public void testOutputStream() throws IOException{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new JSONStreamTransformer().renameKey("café", "cafe")
+				.transform(new StringReader("{\"café\": \"é\"}"), out);
+		assertEquals("{\"cafe\":\"é\"}", out.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testMalformedInput(){
+		try{
+			new JSONStreamTransformer().dropKey("a").transform("{\"a\": [1, 2}");
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("End of JSON array not marked with closing bracket", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONStringDecoderTest{
+	private final JSONStringDecoder decoder = new JSONStringDecoder();
+	
+	@Test
+	public void testScanNoEscapes(){
+		String source = "{\"key\": 5}";
+		assertEquals(6, decoder.scan(source, 1));
+		assertFalse(decoder.hasEscapes());
+		assertEquals(2, decoder.getContentStart());
+		assertEquals(5, decoder.getContentEnd());
+		assertEquals("key", decoder.getString());
+	}
+	
+	@Test
+	public void testGetValueIsSlice(){
+		decoder.scan("[\"slice\"]", 1);
+		CharSequence value = decoder.getValue();
+		assertTrue(value instanceof CharBuffer);
+		assertEquals("slice", value.toString());
+	}
+	
+	@Test
+	public void testScanEmpty(){
+		assertEquals(2, decoder.scan("\"\"", 0));
+		assertEquals("", decoder.getString());
+	}
+	
+	@Test
+	public void testScanSimpleEscapes(){
+		String source = "\"a\\\"b\\\\c\\/d\\be\\ff\\ng\\rh\\ti\"";
+		assertEquals(source.length(), decoder.scan(source, 0));
+		assertTrue(decoder.hasEscapes());
+		assertEquals("a\"b\\c/d\be\ff\ng\rh\ti", decoder.getString());
+		assertEquals("a\"b\\c/d\be\ff\ng\rh\ti", decoder.getValue().toString());
+	}
+	
+	@Test
+	public void testScanUnicodeEscape(){
+		decoder.scan("\"caf\\u00e9 \\u00E9\"", 0);
+		assertEquals("caf\u00e9 \u00e9", decoder.getString());
+	}
+	
+	@Test
+	public void testScanSurrogatePair(){
+		decoder.scan("\"\\ud83d\\ude00\"", 0);
+		assertEquals("\uD83D\uDE00", decoder.getString());
+	}
+	
+	@Test
+	public void testScanReusesBuffer(){
+		decoder.scan("\"first\\n\"", 0);
+		assertEquals("first\n", decoder.getString());
+		decoder.scan("\"second\\t\"", 0);
+		assertEquals("second\t", decoder.getString());
+		decoder.scan("\"third\"", 0);
+		assertFalse(decoder.hasEscapes());
+		assertEquals("third", decoder.getString());
+	}
+	
+	@Test
+	public void testScanNotAQuote(){
+		try{
+			decoder.scan("derp", 0);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON string doesn't start with a quote", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testScanUnterminated(){
+		try{
+			decoder.scan("\"derp", 0);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON string ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testScanUnterminatedAfterEscape(){
+		try{
+			decoder.scan("\"derp\\n", 0);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("JSON string ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testScanInvalidEscape(){
+		try{
+			decoder.scan("\"derp\\x\"", 0);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Invalid escape sequence in JSON string: \\x", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testScanInvalidUnicodeEscape(){
+		try{
+			decoder.scan("\"\\u00zz\"", 0);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Invalid unicode escape in JSON string", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONSymbolTableTest{
+	private final JSONSymbolTable table = new JSONSymbolTable(16, 4);
+	
+	@Test
+	public void testDefaultConstructor(){
+		JSONSymbolTable defaultTable = new JSONSymbolTable();
+		assertEquals(JSONSymbolTable.defaultCapacity, defaultTable.getCapacity());
+		assertEquals(JSONSymbolTable.defaultMaxValueLength, defaultTable.getMaxValueLength());
+	}
+	
+	@Test
+	public void testCapacityRoundedToPowerOfTwo(){
+		assertEquals(16, new JSONSymbolTable(9, 0).getCapacity());
+		assertEquals(16, new JSONSymbolTable(16, 0).getCapacity());
+		assertEquals(1, new JSONSymbolTable(1, 0).getCapacity());
+	}
+	
+	@Test
+	public void testBadCapacity(){
+		try{
+			new JSONSymbolTable(0, 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("JSON Symbol Table capacity must be positive", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetKeyReturnsSameInstance(){
+		String first = table.getKey("{\"derp\":1}", 2, 6);
+		String second = table.getKey("[\"derp\"]", 2, 6);
+		assertEquals("derp", first);
+		assertSame(first, second);
+		assertEquals(1, table.getHitCount());
+		assertEquals(1, table.getMissCount());
+	}
+	
+	@Test
+	public void testGetKeyFromStringBuilder(){
+		String first = table.getKey(new StringBuilder("xkeyx"), 1, 4);
+		String second = table.getKey("key", 0, 3);
+		assertEquals("key", first);
+		assertSame(first, second);
+	}
+	
+	@Test
+	public void testHashMatchesString(){
+		// Symbols are hashed the same way as Strings
+		table.getKey("abc", 0, 3);
+		table.getKey("abd", 0, 3);
+		assertEquals("abc", table.getKey("abc", 0, 3));
+		assertEquals("abd", table.getKey("abd", 0, 3));
+	}
+	
+	@Test
+	public void testGetValueShort(){
+		String first = table.getValue("\"OK\"", 1, 3);
+		String second = table.getValue("OK", 0, 2);
+		assertSame(first, second);
+	}
+	
+	@Test
+	public void testGetValueLong(){
+		String first = table.getValue("\"too long\"", 1, 9);
+		String second = table.getValue("\"too long\"", 1, 9);
+		assertEquals(first, second);
+		assertNotSame(first, second);
+		assertEquals(0, table.getHitCount());
+		assertEquals(0, table.getMissCount());
+	}
+	
+	@Test
+	public void testEviction(){
+		JSONSymbolTable tinyTable = new JSONSymbolTable(1, 0);
+		String first = tinyTable.getKey("[a]", 1, 2);
+		tinyTable.getKey("[b]", 1, 2);
+		String third = tinyTable.getKey("[a]", 1, 2);
+		assertEquals(first, third);
+		assertNotSame(first, third);
+		assertEquals(3, tinyTable.getMissCount());
+	}
+	
+	@Test
+	public void testClear(){
+		String first = table.getKey("\"derp\"", 1, 5);
+		table.getKey("\"derp\"", 1, 5);
+		table.clear();
+		assertEquals(0, table.getHitCount());
+		assertEquals(0, table.getMissCount());
+		assertNotSame(first, table.getKey("\"derp\"", 1, 5));
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONTokenWriterTest{
+	
+	@Test
+	public void testWriteClass() throws IOException{
+		StringWriter out = new StringWriter();
+		JSONTokenWriter writer = new JSONTokenWriter(out);
+		writer.write(JSONToken.CLASS_START, null);
+		writer.write(JSONToken.KEY, "a");
+		writer.write(JSONToken.ARRAY_START, null);
+		writer.write(JSONToken.NUMBER, "1");
+		writer.write(JSONToken.TRUE, null);
+		writer.write(JSONToken.NULL, null);
+		writer.write(JSONToken.ARRAY_END, null);
+		writer.write(JSONToken.KEY, "b\"");
+		writer.write(JSONToken.STRING, "line\nbreak");
+		writer.write(JSONToken.KEY, "c");
+		writer.write(JSONToken.CLASS_START, null);
+		writer.write(JSONToken.CLASS_END, null);
+		writer.write(JSONToken.CLASS_END, null);
+		assertEquals("{\"a\":[1,true,null],\"b\\\"\":\"line\\nbreak\",\"c\":{}}", out.toString());
+	}
+	
+	@Test
+	public void testWriteValue() throws IOException{
+		StringWriter out = new StringWriter();
+		JSONTokenWriter writer = new JSONTokenWriter(out);
+		writer.write(JSONToken.ARRAY_START, null);
+		writer.write(JSONToken.FALSE, null);
+		writer.writeValue("{\"x\":1}");
+		writer.write(JSONToken.ARRAY_END, null);
+		assertEquals("[false,{\"x\":1}]", out.toString());
+	}
+	
+	@Test
+	public void testTopLevelValuesOnSeparateLines() throws IOException{
+		StringWriter out = new StringWriter();
+		JSONTokenWriter writer = new JSONTokenWriter(out);
+		writer.write(JSONToken.CLASS_START, null);
+		writer.write(JSONToken.CLASS_END, null);
+		writer.write(JSONToken.NUMBER, "2");
+		writer.write(JSONToken.STRING, "s");
+		assertEquals("{}\n2\n\"s\"", out.toString());
+	}
+	
+	@Test
+	public void testDeepNesting() throws IOException{
+		StringWriter out = new StringWriter();
+		JSONTokenWriter writer = new JSONTokenWriter(out);
+		for(int i = 0; i < 40; i++){
+			writer.write(JSONToken.ARRAY_START, null);
+		}
+		for(int i = 0; i < 40; i++){
+			writer.write(JSONToken.ARRAY_END, null);
+		}
+		assertEquals("[".repeat(40) + "]".repeat(40), out.toString());
+	}
+}
@@ -0,0 +1,142 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONTokenizerTest{
+	
+	private static List<String> tokens(String json) throws IOException{
+		JSONTokenizer tokenizer = new JSONTokenizer(new StringReader(json));
+		List<String> tokens = new ArrayList<>();
+		JSONToken token;
+		while((token = tokenizer.next()) != null){
+			String text = tokenizer.getText();
+			tokens.add(text == null?token.name():token.name() + " " + text);
+		}
+		return tokens;
+	}
+	
+	@Test
+	public void testAllTokens() throws IOException{
+		assertEquals(List.of("CLASS_START", "KEY a", "ARRAY_START", "NUMBER 1", "NUMBER -2.5e3", "TRUE", "FALSE",
+				"NULL", "ARRAY_END", "KEY b", "CLASS_START", "KEY c", "STRING d", "CLASS_END", "KEY e",
+				"ARRAY_START", "ARRAY_END", "CLASS_END"),
+				tokens("{\"a\": [1, -2.5e3, true, false, null], \"b\": {\"c\": \"d\"}, \"e\": []}"));
+	}
+	
+	@Test
+	public void testStringEscapes() throws IOException{
+		assertEquals(List.of("STRING a\"b\\c/\n\té"), tokens("\"a\\\"b\\\\c\\/\\n\\t\\u00e9\""));
+	}
+	
+	@Test
+	public void testMultipleTopLevelValues() throws IOException{
+		assertEquals(List.of("CLASS_START", "CLASS_END", "NUMBER 5", "ARRAY_START", "ARRAY_END"),
+				tokens(" {} \n 5 [] "));
+	}
+	
+	@Test
+	public void testDepth() throws IOException{
+		JSONTokenizer tokenizer = new JSONTokenizer(new StringReader("{\"a\": [1]}"));
+		assertEquals(0, tokenizer.getDepth());
+		tokenizer.next();
+		assertEquals(1, tokenizer.getDepth());
+		tokenizer.next();
+		tokenizer.next();
+		assertEquals(2, tokenizer.getDepth());
+		tokenizer.next();
+		tokenizer.next();
+		assertEquals(1, tokenizer.getDepth());
+		assertEquals(JSONToken.CLASS_END, tokenizer.next());
+		assertEquals(0, tokenizer.getDepth());
+		assertNull(tokenizer.next());
+		assertNull(tokenizer.getToken());
+	}
+	
+	@Test
+	public void testSkipValue() throws IOException{
+		JSONTokenizer tokenizer = new JSONTokenizer(new StringReader("{\"a\": {\"b\": [1, {\"c\": 2}]}, \"d\": 3}"));
+		tokenizer.next();
+		assertEquals(JSONToken.KEY, tokenizer.next());
+		tokenizer.skipValue();
+		assertEquals(JSONToken.KEY, tokenizer.next());
+		assertEquals("d", tokenizer.getText());
+		assertEquals(JSONToken.NUMBER, tokenizer.next());
+		assertEquals(JSONToken.CLASS_END, tokenizer.next());
+	}
+	
+	@Test
+	public void testSkipValueWithoutValue() throws IOException{
+		JSONTokenizer tokenizer = new JSONTokenizer(new StringReader("[]"));
+		tokenizer.next();
+		try{
+			tokenizer.skipValue();
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("No JSON value to skip", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testLongStringAcrossBuffers() throws IOException{
+		String longString = "x".repeat(20000) + "\\n" + "y".repeat(10000);
+		assertEquals(List.of("STRING " + "x".repeat(20000) + "\n" + "y".repeat(10000)),
+				tokens("\"" + longString + "\""));
+	}
+	
+	@Test
+	public void testMissingColon(){
+		try{
+			tokens("{\"a\" 1}");
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("Didn't find a colon in a key-value pair in JSON class", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testMismatchedEnd(){
+		try{
+			tokens("[1}");
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("End of JSON array not marked with closing bracket", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testPrematureEnd(){
+		try{
+			tokens("{\"a\": [1");
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("JSON input ended prematurely", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testInvalidNumber(){
+		try{
+			tokens("[01]");
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("Invalid JSON number: 01", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testInvalidLiteral(){
+		try{
+			tokens("[tru]");
+			fail();
+		}catch(IllegalStateException | IOException e){
+			assertEquals("Invalid JSON literal, expected true", e.getMessage());
+		}
+	}
+}
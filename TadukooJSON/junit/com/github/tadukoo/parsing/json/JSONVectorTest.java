@@ -0,0 +1,55 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONVectorTest{
+	
+	@Test
+	public void testEmpty(){
+		JSONVector<String> vector = JSONVector.empty();
+		assertEquals(0, vector.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> vector.get(0));
+	}
+	
+	@Test
+	public void testAppendAndGet(){
+		// Enough items to need three levels in the trie
+		JSONVector<Integer> vector = JSONVector.empty();
+		for(int i = 0; i < 40000; i++){
+			vector = vector.append(i);
+		}
+		assertEquals(40000, vector.size());
+		for(int i = 0; i < 40000; i++){
+			assertEquals(i, (int) vector.get(i));
+		}
+		JSONVector<Integer> finalVector = vector;
+		assertThrows(IndexOutOfBoundsException.class, () -> finalVector.get(40000));
+		assertThrows(IndexOutOfBoundsException.class, () -> finalVector.get(-1));
+	}
+	
+	@Test
+	public void testAppendIsPersistent(){
+		JSONVector<Integer> vector = JSONVector.<Integer>empty().append(1);
+		JSONVector<Integer> vector2 = vector.append(2);
+		assertEquals(1, vector.size());
+		assertEquals(2, vector2.size());
+		assertEquals(2, (int) vector2.get(1));
+	}
+	
+	@Test
+	public void testSet(){
+		JSONVector<Integer> vector = JSONVector.empty();
+		for(int i = 0; i < 2000; i++){
+			vector = vector.append(i);
+		}
+		JSONVector<Integer> vector2 = vector.set(5, -5).set(1990, -1990).set(1000, -1000);
+		for(int i = 0; i < 2000; i++){
+			assertEquals(i, (int) vector.get(i));
+			assertEquals(i == 5 || i == 1990 || i == 1000?-i:i, (int) vector2.get(i));
+		}
+		Integer item = vector2.get(7);
+		assertSame(vector2, vector2.set(7, item));
+	}
+}
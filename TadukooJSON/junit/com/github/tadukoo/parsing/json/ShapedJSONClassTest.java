@@ -0,0 +1,94 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShapedJSONClassTest{
+	private final JSONConverter converter = new JSONConverter();
+	private final JSONShape shape = JSONShape.of(List.of("a", "b"), List.of("a\"", "b\""));
+	private final ShapedJSONClass clazz = new ShapedJSONClass(shape, new Object[]{"x", 2.0});
+	
+	@Test
+	public void testShapeDuplicateKeys(){
+		assertNull(JSONShape.of(List.of("a", "a"), List.of("a\"", "a\"")));
+	}
+	
+	@Test
+	public void testGetItem(){
+		assertEquals("x", clazz.getItem("a"));
+		assertEquals(2.0, clazz.getItem("b"));
+		assertNull(clazz.getItem("c"));
+	}
+	
+	@Test
+	public void testHasKey(){
+		assertTrue(clazz.hasKey("a"));
+		assertFalse(clazz.hasKey("c"));
+		assertTrue(clazz.hasItem("b"));
+		assertFalse(clazz.hasItem("c"));
+	}
+	
+	@Test
+	public void testGetKeys(){
+		assertEquals(Set.of("a", "b"), clazz.getKeys());
+		assertEquals(List.of("a", "b"), clazz.getKeyOrder());
+	}
+	
+	@Test
+	public void testSetExistingItem(){
+		clazz.setItem("b", 3.0);
+		assertEquals(3.0, clazz.getItem("b"));
+		assertSame(shape.getKeys(), clazz.getKeyOrder());
+		
+		// The shape isn't changed for other classes
+		ShapedJSONClass other = new ShapedJSONClass(shape, new Object[]{"y", 4.0});
+		assertEquals(4.0, other.getItem("b"));
+	}
+	
+	@Test
+	public void testSetNewItem(){
+		clazz.setItem("c", true);
+		assertEquals(List.of("a", "b", "c"), clazz.getKeyOrder());
+		assertEquals(true, clazz.getItem("c"));
+		assertEquals(List.of("a", "b"), shape.getKeys());
+	}
+	
+	@Test
+	public void testRemoveItem(){
+		clazz.removeItem("c");
+		assertSame(shape.getKeys(), clazz.getKeyOrder());
+		clazz.removeItem("a");
+		assertEquals(List.of("b"), clazz.getKeyOrder());
+		assertNull(clazz.getItem("a"));
+	}
+	
+	@Test
+	public void testGetMap(){
+		Map<String, Object> map = clazz.getMap();
+		assertEquals(Map.of("a", "x", "b", 2.0), map);
+		assertEquals("x", map.get("a"));
+		assertTrue(map.containsKey("b"));
+		assertEquals(2.0, map.put("b", 5.0));
+		assertEquals(5.0, clazz.getItem("b"));
+		map.put("c", 6.0);
+		assertEquals(List.of("a", "b", "c"), clazz.getKeyOrder());
+		assertEquals(3, map.size());
+	}
+	
+	@Test
+	public void testConvertToJSON(){
+		assertEquals("{\"a\":\"x\",\"b\":2.0}", clazz.convertToJSON(converter));
+	}
+	
+	@Test
+	public void testFreeze(){
+		FrozenJSONClass frozen = clazz.freeze();
+		assertEquals("x", frozen.getItem("a"));
+		assertEquals(2.0, frozen.getItem("b"));
+	}
+}
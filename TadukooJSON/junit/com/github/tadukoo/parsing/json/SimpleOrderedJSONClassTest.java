@@ -0,0 +1,52 @@
+package com.github.tadukoo.parsing.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimpleOrderedJSONClassTest{
+	private final SimpleOrderedJSONClass clazz = new SimpleOrderedJSONClass();
+	
+	@Test
+	public void testConstructor(){
+		assertTrue(clazz.getMap().isEmpty());
+		assertTrue(clazz.getKeyOrder().isEmpty());
+	}
+	
+	@Test
+	public void testSetItemKeepsOrder(){
+		clazz.setItem("Zebra", 1);
+		clazz.setItem("Apple", 2);
+		clazz.setItem("Mango", 3);
+		assertEquals(List.of("Zebra", "Apple", "Mango"), clazz.getKeyOrder());
+		assertEquals("{\"Zebra\":1,\"Apple\":2,\"Mango\":3}", clazz.convertToJSON(new JSONConverter()));
+	}
+	
+	@Test
+	public void testSetItemTwice(){
+		clazz.setItem("Derp", 1);
+		clazz.setItem("Test", 2);
+		clazz.setItem("Derp", 3);
+		assertEquals(List.of("Derp", "Test"), clazz.getKeyOrder());
+		assertEquals(3, clazz.getItem("Derp"));
+	}
+	
+	@Test
+	public void testSetItemNull(){
+		clazz.setItem("Derp", null);
+		clazz.setItem("Derp", 5);
+		assertEquals(List.of("Derp"), clazz.getKeyOrder());
+	}
+	
+	@Test
+	public void testRemoveItem(){
+		clazz.setItem("Derp", 1);
+		clazz.setItem("Test", 2);
+		clazz.removeItem("Derp");
+		assertEquals(List.of("Test"), clazz.getKeyOrder());
+		assertFalse(clazz.hasKey("Derp"));
+		assertEquals("{\"Test\":2}", clazz.convertToJSON(new JSONConverter()));
+	}
+}
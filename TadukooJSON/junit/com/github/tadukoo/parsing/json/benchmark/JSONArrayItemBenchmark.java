@@ -0,0 +1,117 @@
+package com.github.tadukoo.parsing.json.benchmark;
+
+import com.github.tadukoo.parsing.json.AbstractJSONClass;
+import com.github.tadukoo.parsing.json.JSONArray;
+import com.github.tadukoo.parsing.json.JSONArrayList;
+import com.github.tadukoo.parsing.json.JSONClass;
+import com.github.tadukoo.parsing.json.SimpleOrderedJSONClass;
+import com.github.tadukoo.util.pojo.MappedPojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link JSONClass#getJSONArrayItem(String, Class)}, which uses the cached factories from
+ * {@link com.github.tadukoo.parsing.json.JSONClassFactory JSONClassFactory}, against the previous approach of
+ * looking up the constructor with reflection on every call and using {@link Constructor#newInstance(Object...)}
+ * for every item.
+ * <br><br>
+ * Run from the TadukooJSON module after {@code mvn test-compile} with:
+ * {@code java -cp target/test-classes:target/classes:<dependencies> org.openjdk.jmh.Main JSONArrayItemBenchmark}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JSONArrayItemBenchmark{
+	
+	/**
+	 * A typed JSON class to convert the items to
+	 */
+	public static class Item extends AbstractJSONClass{
+		
+		/**
+		 * Constructs an Item using the given pojo for field mappings
+		 *
+		 * @param pojo A {@link MappedPojo} to use for field mappings
+		 */
+		public Item(MappedPojo pojo){
+			super(pojo);
+		}
+	}
+	
+	/** The number of items in the array */
+	@Param({"1", "100"})
+	public int itemCount;
+	
+	/** The JSON class containing the array */
+	private JSONClass holder;
+	
+	/**
+	 * Builds the JSON class containing the array of items
+	 */
+	@Setup(Level.Trial)
+	public void setup(){
+		JSONArrayList<JSONClass> items = new JSONArrayList<>();
+		for(int i = 0; i < itemCount; i++){
+			JSONClass item = new SimpleOrderedJSONClass();
+			item.setItem("id", (double) i);
+			item.setItem("name", "Item " + i);
+			items.add(item);
+		}
+		holder = new SimpleOrderedJSONClass();
+		holder.setItem("items", items);
+	}
+	
+	/**
+	 * Converts the array using the cached factory
+	 *
+	 * @return The converted array
+	 * @throws Exception If anything goes wrong in converting
+	 */
+	@Benchmark
+	public JSONArray<Item> cachedFactory() throws Exception{
+		return holder.getJSONArrayItem("items", Item.class);
+	}
+	
+	/**
+	 * Converts the array using reflection on every call, as was done before the cached factories
+	 *
+	 * @return The converted array
+	 * @throws Exception If anything goes wrong in converting
+	 */
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public JSONArray<Item> reflection() throws Exception{
+		Constructor<Item> constructor = Item.class.getDeclaredConstructor(MappedPojo.class);
+		JSONArrayList<JSONClass> classList = (JSONArrayList<JSONClass>) holder.getItem("items");
+		JSONArrayList<Item> itemList = new JSONArrayList<>();
+		for(JSONClass jsonClass: classList){
+			try{
+				itemList.add(constructor.newInstance(jsonClass));
+			}catch(InvocationTargetException e){
+				throw new IllegalStateException(e);
+			}
+		}
+		return itemList;
+	}
+}
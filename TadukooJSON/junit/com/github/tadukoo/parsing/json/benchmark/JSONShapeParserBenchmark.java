@@ -0,0 +1,109 @@
+package com.github.tadukoo.parsing.json.benchmark;
+
+import com.github.tadukoo.parsing.json.JSONConverter;
+import com.github.tadukoo.parsing.json.JSONShapeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link JSONShapeParser} against {@link JSONConverter#parseJSON(String)} for a stream of documents. In the
+ * homogeneous stream, every document has the same keys in the same order, so the shape parser's speculation always
+ * hits; in the heterogeneous stream, the keys of the documents vary, so it keeps missing (until it stops
+ * speculating), which shows the cost of falling back.
+ * <br><br>
+ * Run from the TadukooJSON module after {@code mvn test-compile} with:
+ * {@code java -cp target/test-classes:target/classes:<dependencies> org.openjdk.jmh.Main JSONShapeParserBenchmark}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JSONShapeParserBenchmark{
+	/** Status values used in the documents */
+	private static final String[] statuses = {"OK", "PENDING", "FAILED", "CANCELLED"};
+	/** Optional keys used to vary the documents in the heterogeneous stream */
+	private static final String[] extraKeys = {"note", "priority", "channel", "coupon", "gift", "rush", "source"};
+	
+	/** The kind of stream to parse - homogeneous or heterogeneous */
+	@Param({"homogeneous", "heterogeneous"})
+	public String stream;
+	
+	/** The number of documents in the stream */
+	@Param({"10000"})
+	public int documentCount;
+	
+	/** The documents to be parsed */
+	private List<String> documents;
+	
+	/**
+	 * Builds the documents to be parsed
+	 */
+	@Setup(Level.Trial)
+	public void setup(){
+		boolean homogeneous = stream.equals("homogeneous");
+		documents = new ArrayList<>(documentCount);
+		for(int i = 0; i < documentCount; i++){
+			StringBuilder document = new StringBuilder("{\"id\": ").append(i);
+			if(!homogeneous){
+				// Add a varying set of the extra keys, in varying order
+				for(int j = 0; j < extraKeys.length; j++){
+					if(((i >> j) & 1) == 1){
+						document.append(", \"").append(extraKeys[(i + j) % extraKeys.length]).append("\": ").append(j);
+					}
+				}
+			}
+			document.append(", \"status\": \"").append(statuses[i % statuses.length]).append('"')
+					.append(", \"customer\": {\"name\": \"Customer ").append(i).append("\", \"tier\": \"gold\"}")
+					.append(", \"lines\": [{\"sku\": \"A").append(i % 50).append("\", \"quantity\": 2}, ")
+					.append("{\"sku\": \"B").append(i % 20).append("\", \"quantity\": 1}]}");
+			documents.add(document.toString());
+		}
+	}
+	
+	/**
+	 * Parses the stream with {@link JSONConverter#parseJSON(String)}
+	 *
+	 * @param blackhole The {@link Blackhole} to consume the parsed documents
+	 */
+	@Benchmark
+	public void converter(Blackhole blackhole){
+		JSONConverter converter = new JSONConverter();
+		for(String document: documents){
+			blackhole.consume(converter.parseJSON(document));
+		}
+	}
+	
+	/**
+	 * Parses the stream with a {@link JSONShapeParser}
+	 *
+	 * @param blackhole The {@link Blackhole} to consume the parsed documents
+	 */
+	@Benchmark
+	public void shapeParser(Blackhole blackhole){
+		JSONShapeParser parser = new JSONShapeParser();
+		for(String document: documents){
+			blackhole.consume(parser.parseJSON(document));
+		}
+	}
+}
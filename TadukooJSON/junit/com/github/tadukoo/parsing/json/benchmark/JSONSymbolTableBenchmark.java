@@ -0,0 +1,120 @@
+package com.github.tadukoo.parsing.json.benchmark;
+
+import com.github.tadukoo.parsing.json.JSONConverter;
+import com.github.tadukoo.parsing.json.JSONObject;
+import com.github.tadukoo.parsing.json.JSONSymbolTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retention benchmark for {@link JSONSymbolTable}. Parses a batch of documents with repeating keys and
+ * low-cardinality values, keeps them all alive, and reports the heap retained by them (as the
+ * {@code retainedBytes} counter) along with the time it took to parse them.
+ * <br><br>
+ * Run from the TadukooJSON module after {@code mvn test-compile} with:
+ * {@code java -cp target/test-classes:target/classes:<dependencies> org.openjdk.jmh.Main JSONSymbolTableBenchmark}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class JSONSymbolTableBenchmark{
+	/** Low-cardinality status values used in the documents */
+	private static final String[] statuses = {"OK", "PENDING", "FAILED", "CANCELLED"};
+	/** Low-cardinality region values used in the documents */
+	private static final String[] regions = {"us-east", "us-west", "eu-central", "eu-west", "ap-south"};
+	
+	/** Whether to parse with a {@link JSONSymbolTable} */
+	@Param({"false", "true"})
+	public boolean useSymbolTable;
+	
+	/** The number of documents to parse and retain */
+	@Param({"20000"})
+	public int documentCount;
+	
+	/** The documents to be parsed */
+	private List<String> documents;
+	
+	/**
+	 * Counter for the heap retained by the parsed documents
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Retention{
+		/** The heap retained by the parsed documents, in bytes */
+		public long retainedBytes;
+		
+		/**
+		 * Resets the counter before each iteration
+		 */
+		@Setup(Level.Iteration)
+		public void reset(){
+			retainedBytes = 0;
+		}
+	}
+	
+	/**
+	 * Builds the documents to be parsed
+	 */
+	@Setup(Level.Trial)
+	public void setup(){
+		documents = new ArrayList<>(documentCount);
+		for(int i = 0; i < documentCount; i++){
+			documents.add("{\"id\": " + i + ", \"status\": \"" + statuses[i % statuses.length] + "\"" +
+					", \"region\": \"" + regions[i % regions.length] + "\", \"type\": \"order\"" +
+					", \"customer\": {\"name\": \"Customer " + i + "\", \"tier\": \"gold\"}" +
+					", \"lines\": [{\"sku\": \"A" + (i % 50) + "\", \"quantity\": 2}, " +
+					"{\"sku\": \"B" + (i % 20) + "\", \"quantity\": 1}]}");
+		}
+	}
+	
+	/**
+	 * Parses all the documents and keeps them alive while measuring the retained heap
+	 *
+	 * @param retention The counter for retained heap
+	 * @return The parsed documents
+	 */
+	@Benchmark
+	public List<JSONObject> parseAndRetain(Retention retention){
+		long before = usedHeapAfterGC();
+		JSONConverter converter = useSymbolTable?new JSONConverter(new JSONSymbolTable()):new JSONConverter();
+		List<JSONObject> parsed = new ArrayList<>(documentCount);
+		for(String document: documents){
+			parsed.add(converter.parseJSON(document));
+		}
+		retention.retainedBytes = usedHeapAfterGC() - before;
+		return parsed;
+	}
+	
+	/**
+	 * @return The used heap after requesting garbage collection
+	 */
+	private static long usedHeapAfterGC(){
+		for(int i = 0; i < 3; i++){
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+}
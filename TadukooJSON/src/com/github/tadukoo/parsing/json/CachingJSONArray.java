@@ -0,0 +1,159 @@
+package com.github.tadukoo.parsing.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Caching JSON Array is a {@link JSONArray} that keeps its last serialized form (as a String, and as UTF-8 bytes if
+ * requested). Any change to the list invalidates the cache of this array and its ancestors, while sibling subtrees
+ * keep theirs. See {@link CachingJSONObject} for details.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class CachingJSONArray<T> extends AbstractList<T> implements JSONArray<T>, CachingJSONObject, RandomAccess{
+	/** The items in the array */
+	private final List<T> items;
+	/** The caching object this array is in - may be null */
+	private CachingJSONObject parent;
+	/** The cached JSON string - null if it's not valid */
+	private String cachedJSON;
+	/** The cached JSON bytes - null if they're not valid */
+	private byte[] cachedJSONBytes;
+	
+	/**
+	 * Constructs an empty CachingJSONArray
+	 */
+	public CachingJSONArray(){
+		items = new ArrayList<>();
+		parent = null;
+		cachedJSON = null;
+		cachedJSONBytes = null;
+	}
+	
+	/**
+	 * Constructs a CachingJSONArray with the given items
+	 *
+	 * @param items The items in the array
+	 */
+	public CachingJSONArray(List<T> items){
+		this();
+		addAll(items);
+	}
+	
+	/**
+	 * Creates a CachingJSONArray with a copy of the items in the given list, where every {@link JSONClass} and
+	 * {@link JSONArray} in it is also copied into a caching version
+	 *
+	 * @param array The list to copy
+	 * @return The CachingJSONArray copy
+	 */
+	public static CachingJSONArray<Object> copyOf(List<?> array){
+		CachingJSONArray<Object> copy = new CachingJSONArray<>();
+		for(Object item: array){
+			copy.add(CachingJSONObject.copyOf(item));
+		}
+		return copy;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<T> getItems(){
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return items.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T get(int index){
+		return items.get(index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T set(int index, T item){
+		T old = items.set(index, item);
+		CachingJSONObject.detach(old, this);
+		CachingJSONObject.attach(item, this);
+		invalidate();
+		return old;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void add(int index, T item){
+		items.add(index, item);
+		modCount++;
+		CachingJSONObject.attach(item, this);
+		invalidate();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T remove(int index){
+		T old = items.remove(index);
+		modCount++;
+		CachingJSONObject.detach(old, this);
+		invalidate();
+		return old;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public CachingJSONObject getParent(){
+		return parent;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void setParent(CachingJSONObject parent){
+		this.parent = parent;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean isCached(){
+		return cachedJSON != null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void invalidate(){
+		// If this is already invalid, its ancestors are too
+		if(cachedJSON == null && cachedJSONBytes == null){
+			return;
+		}
+		cachedJSON = null;
+		cachedJSONBytes = null;
+		if(parent != null){
+			parent.invalidate();
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String convertToJSON(JSONConverter converter){
+		if(cachedJSON == null){
+			cachedJSON = JSONArray.super.convertToJSON(converter);
+		}
+		return cachedJSON;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public byte[] convertToJSONBytes(JSONConverter converter){
+		if(cachedJSONBytes == null){
+			cachedJSONBytes = convertToJSON(converter).getBytes(StandardCharsets.UTF_8);
+		}
+		return cachedJSONBytes;
+	}
+}
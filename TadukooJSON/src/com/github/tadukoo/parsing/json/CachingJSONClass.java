@@ -0,0 +1,115 @@
+package com.github.tadukoo.parsing.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Caching JSON Class is a {@link SimpleOrderedJSONClass} that keeps its last serialized form (as a String, and as
+ * UTF-8 bytes if requested). Setting or removing an item invalidates the cache of this class and its ancestors,
+ * while sibling subtrees keep theirs. See {@link CachingJSONObject} for details.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class CachingJSONClass extends SimpleOrderedJSONClass implements CachingJSONObject{
+	/** The caching object this class is in - may be null */
+	private CachingJSONObject parent;
+	/** The cached JSON string - null if it's not valid */
+	private String cachedJSON;
+	/** The cached JSON bytes - null if they're not valid */
+	private byte[] cachedJSONBytes;
+	
+	/**
+	 * Constructs an empty CachingJSONClass
+	 */
+	public CachingJSONClass(){
+		super();
+		parent = null;
+		cachedJSON = null;
+		cachedJSONBytes = null;
+	}
+	
+	/**
+	 * Creates a CachingJSONClass with a copy of the items in the given {@link JSONClass}, where every
+	 * {@link JSONClass} and {@link JSONArray} in it is also copied into a caching version
+	 *
+	 * @param clazz The {@link JSONClass} to copy
+	 * @return The CachingJSONClass copy
+	 */
+	public static CachingJSONClass copyOf(JSONClass clazz){
+		CachingJSONClass copy = new CachingJSONClass();
+		Collection<String> keys = clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+		for(String key: keys){
+			copy.setItem(key, CachingJSONObject.copyOf(clazz.getItem(key)));
+		}
+		return copy;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public CachingJSONObject getParent(){
+		return parent;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void setParent(CachingJSONObject parent){
+		this.parent = parent;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean isCached(){
+		return cachedJSON != null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void invalidate(){
+		// If this is already invalid, its ancestors are too
+		if(cachedJSON == null && cachedJSONBytes == null){
+			return;
+		}
+		cachedJSON = null;
+		cachedJSONBytes = null;
+		if(parent != null){
+			parent.invalidate();
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void setItem(String key, Object value){
+		CachingJSONObject.detach(getItem(key), this);
+		super.setItem(key, value);
+		CachingJSONObject.attach(value, this);
+		invalidate();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeItem(String key){
+		CachingJSONObject.detach(getItem(key), this);
+		super.removeItem(key);
+		invalidate();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String convertToJSON(JSONConverter converter){
+		if(cachedJSON == null){
+			cachedJSON = super.convertToJSON(converter);
+		}
+		return cachedJSON;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public byte[] convertToJSONBytes(JSONConverter converter){
+		if(cachedJSONBytes == null){
+			cachedJSONBytes = convertToJSON(converter).getBytes(StandardCharsets.UTF_8);
+		}
+		return cachedJSONBytes;
+	}
+}
@@ -0,0 +1,90 @@
+package com.github.tadukoo.parsing.json;
+
+/**
+ * Caching JSON Object is a {@link JSONObject} that keeps its last serialized form, so it doesn't have to be
+ * converted again until it changes. Each caching object knows its parent (if the parent is also a caching
+ * object), and a change to it invalidates only its own cache and the caches of its ancestors. When the tree is
+ * converted again, unchanged subtrees just return their cached forms, which are spliced into the new JSON.
+ * <br><br>
+ * A caching object should only be in one parent at a time. Changes made directly to the underlying map or list,
+ * or to values that aren't caching objects, aren't tracked.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public interface CachingJSONObject extends JSONObject{
+	
+	/**
+	 * @return The caching object this one is in, or null if it's not in one
+	 */
+	CachingJSONObject getParent();
+	
+	/**
+	 * Sets the caching object this one is in. This is handled automatically when caching objects are added to
+	 * or removed from each other.
+	 *
+	 * @param parent The caching object this one is in - may be null
+	 */
+	void setParent(CachingJSONObject parent);
+	
+	/**
+	 * @return Whether this object currently has a cached JSON string
+	 */
+	boolean isCached();
+	
+	/**
+	 * Clears the cached forms of this object and its ancestors
+	 */
+	void invalidate();
+	
+	/**
+	 * Converts this JSON object into JSON as UTF-8 bytes, using the cached bytes if they're still valid. The bytes
+	 * are cached alongside the JSON string (so the string is only encoded once per change) and are cleared with it
+	 * by {@link #invalidate()}. The returned array must not be modified.
+	 *
+	 * @param converter A JSON converter used for converting sub-objects if needed
+	 * @return The UTF-8 bytes of the JSON representing this object
+	 */
+	byte[] convertToJSONBytes(JSONConverter converter);
+	
+	/**
+	 * Makes the given value a child of the given parent if it's a caching object
+	 *
+	 * @param value The value being added to the parent
+	 * @param parent The parent it's being added to
+	 */
+	static void attach(Object value, CachingJSONObject parent){
+		if(value instanceof CachingJSONObject child){
+			child.setParent(parent);
+		}
+	}
+	
+	/**
+	 * Removes the given value from the given parent if it's a caching object in that parent
+	 *
+	 * @param value The value being removed from the parent
+	 * @param parent The parent it's being removed from
+	 */
+	static void detach(Object value, CachingJSONObject parent){
+		if(value instanceof CachingJSONObject child && child.getParent() == parent){
+			child.setParent(null);
+		}
+	}
+	
+	/**
+	 * Creates a copy of the given value where every {@link JSONClass} and {@link JSONArray} in it is replaced by
+	 * a {@link CachingJSONClass} or {@link CachingJSONArray}. Other values are kept as they are.
+	 *
+	 * @param value The value to copy
+	 * @return The copy of the value
+	 */
+	static Object copyOf(Object value){
+		if(value instanceof JSONClass clazz){
+			return CachingJSONClass.copyOf(clazz);
+		}else if(value instanceof JSONArray<?> array){
+			return CachingJSONArray.copyOf(array);
+		}
+		return value;
+	}
+}
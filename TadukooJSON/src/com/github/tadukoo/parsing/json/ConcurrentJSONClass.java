@@ -0,0 +1,314 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent JSON Class is a mutable {@link JSONClass} that can be shared and updated by many threads at once.
+ * Its items are stored in a {@link ConcurrentHashMap}, so reads are lock-free and writes to different keys only
+ * contend on the map's internal per-bin locks, instead of one lock for the whole class.
+ * <br><br>
+ * A Concurrent JSON Class is the root of a document: {@link JSONClass} values added to it are copied into child
+ * Concurrent JSON Classes of the same document, and {@link JSONArray} values are stored frozen (see
+ * {@link FrozenJSONArray}), so they can only be changed by replacing them. {@link #compute(String, UnaryOperator)}
+ * and {@link #computeAt(List, UnaryOperator)} update a single (possibly nested) item atomically.
+ * <br><br>
+ * Every write in the document holds the shared side of one document-wide read-write lock, and {@link #snapshot()}
+ * holds the exclusive side while it copies the document into a {@link FrozenJSONClass}. This means a snapshot (and
+ * so {@link #convertToJSON(JSONConverter)}) always sees the document as it was between writes, while writes still
+ * don't block each other. Writes and snapshots must not be made from inside a compute function.
+ * <br><br>
+ * A Concurrent JSON Class doesn't keep the order of its keys: {@link #getKeys()}, snapshots, and so
+ * {@link #convertToJSON(JSONConverter)} list them in the {@link ConcurrentHashMap}'s iteration order, which can
+ * change as keys are added and removed. Use an {@link OrderedJSONClass} where the key order matters.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class ConcurrentJSONClass implements JSONClass{
+	/** Stored in place of null values, since {@link ConcurrentHashMap} doesn't allow null */
+	private static final Object nullValue = new Object();
+	
+	/** The items in the class */
+	private final ConcurrentHashMap<String, Object> items;
+	/** The lock for the whole document - writes hold the read lock, snapshots hold the write lock */
+	private final ReentrantReadWriteLock documentLock;
+	
+	/**
+	 * Constructs an empty ConcurrentJSONClass, as the root of a new document
+	 */
+	public ConcurrentJSONClass(){
+		this(new ReentrantReadWriteLock());
+	}
+	
+	/**
+	 * Constructs an empty ConcurrentJSONClass in the document with the given lock
+	 *
+	 * @param documentLock The lock for the whole document
+	 */
+	private ConcurrentJSONClass(ReentrantReadWriteLock documentLock){
+		items = new ConcurrentHashMap<>();
+		this.documentLock = documentLock;
+	}
+	
+	/**
+	 * Creates a ConcurrentJSONClass (as the root of a new document) with a copy of the items in the given
+	 * {@link JSONClass}
+	 *
+	 * @param clazz The {@link JSONClass} to copy
+	 * @return The ConcurrentJSONClass copy
+	 */
+	public static ConcurrentJSONClass copyOf(JSONClass clazz){
+		ConcurrentJSONClass copy = new ConcurrentJSONClass();
+		copy.copyItems(clazz.snapshot());
+		return copy;
+	}
+	
+	/**
+	 * Copies the items in the given {@link JSONClass} into this class (which no other thread can see yet)
+	 *
+	 * @param clazz The {@link JSONClass} to copy
+	 */
+	private void copyItems(JSONClass clazz){
+		Collection<String> keys = clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+		for(String key: keys){
+			items.put(key, toStoredValue(clazz.getItem(key)));
+		}
+	}
+	
+	/**
+	 * Converts the given value into the form stored in the map
+	 *
+	 * @param value The value to be stored
+	 * @return The value to store in the map
+	 */
+	private Object toStoredValue(Object value){
+		if(value == null){
+			return nullValue;
+		}else if(value instanceof JSONClass clazz){
+			// Copy classes into this document
+			if(clazz instanceof ConcurrentJSONClass concurrent){
+				clazz = concurrent.documentLock == documentLock?concurrent.freezeItems():concurrent.snapshot();
+			}
+			ConcurrentJSONClass child = new ConcurrentJSONClass(documentLock);
+			child.copyItems(clazz);
+			return child;
+		}else if(value instanceof JSONArray<?> array){
+			return FrozenJSONArray.of(array);
+		}
+		return value;
+	}
+	
+	/**
+	 * Converts the given value from the map back into a normal value
+	 *
+	 * @param value The value from the map
+	 * @return The normal value
+	 */
+	private static Object fromStoredValue(Object value){
+		return value == nullValue?null:value;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasKey(String key){
+		return items.containsKey(key);
+	}
+	
+	/**
+	 * @return A read-only live view of the keys in this class
+	 */
+	@Override
+	public Set<String> getKeys(){
+		return Collections.unmodifiableSet(items.keySet());
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasItem(String key){
+		Object value = items.get(key);
+		return value != null && value != nullValue;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Object getItem(String key){
+		return fromStoredValue(items.get(key));
+	}
+	
+	/**
+	 * Grabs the item at the given path of keys, without locking
+	 *
+	 * @param path The keys leading to the item
+	 * @return The item, or null if the path doesn't exist
+	 */
+	public Object getItemAt(List<String> path){
+		Object current = this;
+		for(String key: path){
+			if(!(current instanceof ConcurrentJSONClass clazz)){
+				return null;
+			}
+			current = clazz.getItem(key);
+		}
+		return current;
+	}
+	
+	/**
+	 * Sets the given key to the given value. A {@link JSONClass} value is copied into this document, and a
+	 * {@link JSONArray} value is frozen.
+	 *
+	 * @param key The key to set
+	 * @param value The value to set it to
+	 */
+	@Override
+	public void setItem(String key, Object value){
+		documentLock.readLock().lock();
+		try{
+			items.put(key, toStoredValue(value));
+		}finally{
+			documentLock.readLock().unlock();
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeItem(String key){
+		documentLock.readLock().lock();
+		try{
+			items.remove(key);
+		}finally{
+			documentLock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Atomically replaces the item with the given key with the result of the given function. The function gets the
+	 * current item (null if it's missing) and is called once, while the key is locked, so it should be short; it
+	 * must not write to or snapshot this document. A null result is stored as a JSON null.
+	 *
+	 * @param key The key of the item
+	 * @param function The function that calculates the new item from the current one
+	 * @return The new item (as stored - {@link JSONClass} results are copied into this document)
+	 */
+	public Object compute(String key, UnaryOperator<Object> function){
+		documentLock.readLock().lock();
+		try{
+			return fromStoredValue(items.compute(key,
+					(k, current) -> toStoredValue(function.apply(fromStoredValue(current)))));
+		}finally{
+			documentLock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Atomically replaces the item at the given path of keys with the result of the given function, creating any
+	 * missing classes along the way. See {@link #compute(String, UnaryOperator)} for details about the function.
+	 *
+	 * @param path The keys leading to the item
+	 * @param function The function that calculates the new item from the current one
+	 * @return The new item
+	 * @throws IllegalArgumentException If the path is empty
+	 * @throws IllegalStateException If a value along the path isn't a {@link JSONClass}
+	 */
+	public Object computeAt(List<String> path, UnaryOperator<Object> function){
+		if(path.isEmpty()){
+			throw new IllegalArgumentException("Path must have at least one key");
+		}
+		documentLock.readLock().lock();
+		try{
+			ConcurrentJSONClass parent = this;
+			for(String key: path.subList(0, path.size() - 1)){
+				Object child = parent.items.computeIfAbsent(key, k -> new ConcurrentJSONClass(documentLock));
+				if(!(child instanceof ConcurrentJSONClass clazz)){
+					throw new IllegalStateException("JSON value isn't a JSON class: " + key);
+				}
+				parent = clazz;
+			}
+			return parent.compute(path.get(path.size() - 1), function);
+		}finally{
+			documentLock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Atomically replaces the item at the given JSON Pointer with the result of the given function.
+	 * See {@link #computeAt(List, UnaryOperator)} for details.
+	 *
+	 * @param pointer The JSON Pointer to the item (see {@link JSONDiff#parsePointer(String)})
+	 * @param function The function that calculates the new item from the current one
+	 * @return The new item
+	 */
+	public Object computeAt(String pointer, UnaryOperator<Object> function){
+		return computeAt(JSONDiff.parsePointer(pointer), function);
+	}
+	
+	/**
+	 * @return A read-only copy of the items in this class at this moment (child classes are still live) - use
+	 * {@link #snapshot()} for a consistent copy of the whole document
+	 */
+	@Override
+	public Map<String, Object> getMap(){
+		Map<String, Object> map = new HashMap<>();
+		items.forEach((key, value) -> map.put(key, fromStoredValue(value)));
+		return Collections.unmodifiableMap(map);
+	}
+	
+	/**
+	 * Creates a consistent, read-only snapshot of this class. Writes to the document wait while it's being made.
+	 *
+	 * @return The {@link FrozenJSONClass} snapshot of this class
+	 * @throws IllegalStateException If called from inside a write (e.g. a compute function)
+	 */
+	@Override
+	public FrozenJSONClass snapshot(){
+		if(documentLock.getReadHoldCount() != 0){
+			throw new IllegalStateException("Can't snapshot a Concurrent JSON Class while writing to it");
+		}
+		documentLock.writeLock().lock();
+		try{
+			return freezeItems();
+		}finally{
+			documentLock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Copies this class into a {@link FrozenJSONClass}, without locking
+	 *
+	 * @return The {@link FrozenJSONClass} copy
+	 */
+	private FrozenJSONClass freezeItems(){
+		FrozenJSONClass frozen = FrozenJSONClass.empty();
+		for(Map.Entry<String, Object> entry: items.entrySet()){
+			Object value = entry.getValue();
+			frozen = frozen.with(entry.getKey(),
+					value instanceof ConcurrentJSONClass child?child.freezeItems():fromStoredValue(value));
+		}
+		return frozen;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public FrozenJSONClass freeze(){
+		return snapshot();
+	}
+	
+	/**
+	 * Converts a consistent {@link #snapshot()} of this class into JSON
+	 *
+	 * @param converter A JSON converter used for converting sub-objects if needed
+	 * @return The JSON representation of this class
+	 */
+	@Override
+	public String convertToJSON(JSONConverter converter){
+		return snapshot().convertToJSON(converter);
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Frozen JSON Array is a read-only {@link JSONArray} snapshot, made using {@link JSONArray#freeze()}. Its items are
+ * stored in a persistent vector, and every {@link JSONClass} and {@link JSONArray} in it is frozen too. All the
+ * {@link List} modification methods throw an {@link UnsupportedOperationException}; instead,
+ * {@link #with(int, Object)} and {@link #append(Object)} return a new Frozen JSON Array that shares every untouched
+ * item (and the vector nodes holding them) with this one.
+ * <br><br>
+ * All of a Frozen JSON Array's fields are final and never change after construction, so it can be safely published
+ * to and read from any number of threads without locking.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public final class FrozenJSONArray<T> extends AbstractList<T> implements JSONArray<T>, RandomAccess{
+	/** An empty Frozen JSON Array */
+	private static final FrozenJSONArray<?> empty = new FrozenJSONArray<>(JSONVector.empty());
+	
+	/** The items in the array */
+	private final JSONVector<T> items;
+	
+	/**
+	 * Constructs a Frozen JSON Array with the given items
+	 *
+	 * @param items The items in the array
+	 */
+	private FrozenJSONArray(JSONVector<T> items){
+		this.items = items;
+	}
+	
+	/**
+	 * @param <T> The type of items in the array
+	 * @return An empty Frozen JSON Array
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> FrozenJSONArray<T> empty(){
+		return (FrozenJSONArray<T>) empty;
+	}
+	
+	/**
+	 * Creates a Frozen JSON Array with the items in the given list, where every {@link JSONClass} and
+	 * {@link JSONArray} in it is also frozen. If the given list is already a Frozen JSON Array, it's returned as is.
+	 *
+	 * @param array The list to freeze
+	 * @return The Frozen JSON Array
+	 */
+	@SuppressWarnings("unchecked")
+	public static FrozenJSONArray<Object> of(List<?> array){
+		if(array instanceof FrozenJSONArray<?> frozen){
+			return (FrozenJSONArray<Object>) frozen;
+		}
+		JSONVector<Object> items = JSONVector.empty();
+		for(Object item: array){
+			items = items.append(FrozenJSONClass.freezeValue(item));
+		}
+		return new FrozenJSONArray<>(items);
+	}
+	
+	/**
+	 * Creates a Frozen JSON Array with the item at the given index set to the given item (frozen if needed).
+	 * Everything else is shared with this array.
+	 *
+	 * @param index The index to set
+	 * @param item The item to set it to
+	 * @return The new Frozen JSON Array (or this one if the item was already there)
+	 */
+	@SuppressWarnings("unchecked")
+	public FrozenJSONArray<T> with(int index, T item){
+		JSONVector<T> newItems = items.set(index, (T) FrozenJSONClass.freezeValue(item));
+		return newItems == items?this:new FrozenJSONArray<>(newItems);
+	}
+	
+	/**
+	 * Creates a Frozen JSON Array with the given item (frozen if needed) added at the end.
+	 * Everything else is shared with this array.
+	 *
+	 * @param item The item to add
+	 * @return The new Frozen JSON Array
+	 */
+	@SuppressWarnings("unchecked")
+	public FrozenJSONArray<T> append(T item){
+		return new FrozenJSONArray<>(items.append((T) FrozenJSONClass.freezeValue(item)));
+	}
+	
+	/**
+	 * @return This array, since it's already frozen
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public FrozenJSONArray<Object> freeze(){
+		return (FrozenJSONArray<Object>) this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<T> getItems(){
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return items.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T get(int index){
+		return items.get(index);
+	}
+}
@@ -0,0 +1,285 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Frozen JSON Class is a read-only {@link OrderedJSONClass} snapshot, made using {@link JSONClass#freeze()}.
+ * Its items are stored in a persistent hash array mapped trie, with the key order in a persistent vector, and every
+ * {@link JSONClass} and {@link JSONArray} in it is frozen too. {@link #setItem(String, Object)} and
+ * {@link #removeItem(String)} throw an {@link UnsupportedOperationException}; instead, {@link #with(String, Object)}
+ * and {@link #without(String)} return a new Frozen JSON Class that shares every untouched item (and the trie nodes
+ * holding them) with this one.
+ * <br><br>
+ * All of a Frozen JSON Class's fields are final and never change after construction, so it can be safely published
+ * to and read from any number of threads without locking.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public final class FrozenJSONClass implements OrderedJSONClass{
+	/** An empty Frozen JSON Class */
+	private static final FrozenJSONClass empty = new FrozenJSONClass(JSONHashTrie.empty, JSONVector.empty());
+	
+	/** The items in the class */
+	private final JSONHashTrie items;
+	/** The keys in the class, in order */
+	private final JSONVector<String> keyOrder;
+	
+	/**
+	 * Constructs a Frozen JSON Class with the given items and key order
+	 *
+	 * @param items The items in the class
+	 * @param keyOrder The keys in the class, in order
+	 */
+	private FrozenJSONClass(JSONHashTrie items, JSONVector<String> keyOrder){
+		this.items = items;
+		this.keyOrder = keyOrder;
+	}
+	
+	/**
+	 * @return An empty Frozen JSON Class
+	 */
+	public static FrozenJSONClass empty(){
+		return empty;
+	}
+	
+	/**
+	 * Creates a Frozen JSON Class with the items in the given {@link JSONClass}, where every {@link JSONClass} and
+	 * {@link JSONArray} in it is also frozen. If the given class is already frozen, it's returned as is.
+	 *
+	 * @param clazz The {@link JSONClass} to freeze
+	 * @return The Frozen JSON Class
+	 */
+	public static FrozenJSONClass of(JSONClass clazz){
+		if(clazz instanceof FrozenJSONClass frozen){
+			return frozen;
+		}
+		JSONHashTrie items = JSONHashTrie.empty;
+		JSONVector<String> keyOrder = JSONVector.empty();
+		Collection<String> keys = clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+		for(String key: keys){
+			items = items.put(key, freezeValue(clazz.getItem(key)));
+			keyOrder = keyOrder.append(key);
+		}
+		return new FrozenJSONClass(items, keyOrder);
+	}
+	
+	/**
+	 * Freezes the given value if it's a {@link JSONClass} or {@link JSONArray}
+	 *
+	 * @param value The value to freeze
+	 * @return The frozen value (or the value itself if it doesn't need freezing)
+	 */
+	static Object freezeValue(Object value){
+		if(value instanceof JSONClass clazz){
+			return clazz.freeze();
+		}else if(value instanceof JSONArray<?> array){
+			return array.freeze();
+		}
+		return value;
+	}
+	
+	/**
+	 * Creates a Frozen JSON Class with the given key set to the given value (frozen if needed). A new key is added at
+	 * the end of the key order, while an existing key keeps its place. Everything else is shared with this class.
+	 *
+	 * @param key The key to set
+	 * @param value The value to set it to
+	 * @return The new Frozen JSON Class (or this one if the value was already set)
+	 */
+	public FrozenJSONClass with(String key, Object value){
+		boolean newKey = !items.containsKey(key);
+		JSONHashTrie newItems = items.put(key, freezeValue(value));
+		if(newItems == items){
+			return this;
+		}
+		return new FrozenJSONClass(newItems, newKey?keyOrder.append(key):keyOrder);
+	}
+	
+	/**
+	 * Creates a Frozen JSON Class without the given key. The items are still shared with this class, but the key
+	 * order has to be rebuilt.
+	 *
+	 * @param key The key to remove
+	 * @return The new Frozen JSON Class (or this one if the key wasn't in it)
+	 */
+	public FrozenJSONClass without(String key){
+		JSONHashTrie newItems = items.remove(key);
+		if(newItems == items){
+			return this;
+		}
+		JSONVector<String> newKeyOrder = JSONVector.empty();
+		for(int i = 0; i < keyOrder.size(); i++){
+			String existingKey = keyOrder.get(i);
+			if(!existingKey.equals(key)){
+				newKeyOrder = newKeyOrder.append(existingKey);
+			}
+		}
+		return new FrozenJSONClass(newItems, newKeyOrder);
+	}
+	
+	/**
+	 * @return This class, since it's already frozen
+	 */
+	@Override
+	public FrozenJSONClass freeze(){
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasKey(String key){
+		return items.containsKey(key);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Set<String> getKeys(){
+		return new AbstractSet<>(){
+			/** {@inheritDoc} */
+			@Override
+			public Iterator<String> iterator(){
+				return getKeyOrder().iterator();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public int size(){
+				return keyOrder.size();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean contains(Object key){
+				return key instanceof String str && items.containsKey(str);
+			}
+		};
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<String> getKeyOrder(){
+		return new FrozenKeyList();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasItem(String key){
+		return getItem(key) != null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Object getItem(String key){
+		Object value = items.get(key);
+		return value == JSONHashTrie.notFound?null:value;
+	}
+	
+	/**
+	 * Not supported - use {@link #with(String, Object)} instead
+	 *
+	 * @param key The key of the item
+	 * @param value The value of the item
+	 * @throws UnsupportedOperationException Always
+	 */
+	@Override
+	public void setItem(String key, Object value){
+		throw new UnsupportedOperationException("Frozen JSON Class can't be modified");
+	}
+	
+	/**
+	 * Not supported - use {@link #without(String)} instead
+	 *
+	 * @param key The key of the item
+	 * @throws UnsupportedOperationException Always
+	 */
+	@Override
+	public void removeItem(String key){
+		throw new UnsupportedOperationException("Frozen JSON Class can't be modified");
+	}
+	
+	/**
+	 * @return A read-only {@link Map} view of the items in this class, in key order
+	 */
+	@Override
+	public Map<String, Object> getMap(){
+		return new AbstractMap<>(){
+			/** {@inheritDoc} */
+			@Override
+			public Set<Entry<String, Object>> entrySet(){
+				return new AbstractSet<>(){
+					/** {@inheritDoc} */
+					@Override
+					public Iterator<Entry<String, Object>> iterator(){
+						Iterator<String> keys = getKeyOrder().iterator();
+						return new Iterator<>(){
+							/** {@inheritDoc} */
+							@Override
+							public boolean hasNext(){
+								return keys.hasNext();
+							}
+							
+							/** {@inheritDoc} */
+							@Override
+							public Entry<String, Object> next(){
+								String key = keys.next();
+								return new SimpleImmutableEntry<>(key, getItem(key));
+							}
+						};
+					}
+					
+					/** {@inheritDoc} */
+					@Override
+					public int size(){
+						return keyOrder.size();
+					}
+				};
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public int size(){
+				return keyOrder.size();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean containsKey(Object key){
+				return key instanceof String str && items.containsKey(str);
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public Object get(Object key){
+				return key instanceof String str?getItem(str):null;
+			}
+		};
+	}
+	
+	/**
+	 * A read-only {@link List} view of the key order
+	 */
+	private final class FrozenKeyList extends AbstractList<String> implements RandomAccess{
+		
+		/** {@inheritDoc} */
+		@Override
+		public String get(int index){
+			return keyOrder.get(index);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int size(){
+			return keyOrder.size();
+		}
+	}
+}
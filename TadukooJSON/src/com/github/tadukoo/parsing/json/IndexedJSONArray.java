@@ -0,0 +1,298 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Indexed JSON Array is a {@link JSONArray} that keeps hash indexes on chosen keys of the {@link JSONClass} items
+ * in it, so {@link #findBy(String, Object)} and {@link #findAllBy(String, Object)} find the items with a given
+ * value for a key in constant time, instead of a scan of the whole array. Indexes are added with
+ * {@link #addIndex(String)}, and are updated as items are added, set, and removed through any of the {@link List}
+ * methods (including iterators and sub lists).
+ * <br><br>
+ * Items that aren't {@link JSONClass JSONClasses}, or don't have an indexed key, aren't in that key's index. Numbers
+ * are indexed by their exact value, so an Integer 5 finds an item with 5.0 (as parsed), but a Long that a double
+ * can't hold exactly only finds that same Long value. Changing the value of an indexed key in an item that's already
+ * in the array isn't noticed - call {@link #rebuildIndexes()} after doing so.
+ * <br><br>
+ * An Indexed JSON Array is not thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class IndexedJSONArray<T> extends AbstractList<T> implements JSONArray<T>, RandomAccess{
+	
+	/**
+	 * The items in an index with the same value, when there's more than one
+	 */
+	private static class Duplicates extends ArrayList<JSONClass>{ }
+	
+	/** The items in the array */
+	private final List<T> items;
+	/**
+	 * The indexes by key: each maps a value to the item with it, or to {@link Duplicates} if more than one item
+	 * has it
+	 */
+	private final Map<String, Map<Object, Object>> indexes;
+	
+	/**
+	 * Constructs an empty Indexed JSON Array, without any indexes
+	 */
+	public IndexedJSONArray(){
+		items = new ArrayList<>();
+		indexes = new LinkedHashMap<>();
+	}
+	
+	/**
+	 * Constructs an Indexed JSON Array with the given items and indexes on the given keys
+	 *
+	 * @param items The items in the array
+	 * @param keys The keys to index
+	 */
+	public IndexedJSONArray(Collection<? extends T> items, String ... keys){
+		this.items = new ArrayList<>(items);
+		indexes = new LinkedHashMap<>();
+		for(String key: keys){
+			addIndex(key);
+		}
+	}
+	
+	/**
+	 * Adds an index on the given key, indexing the items already in the array
+	 *
+	 * @param key The key to index
+	 */
+	public void addIndex(String key){
+		if(indexes.containsKey(key)){
+			return;
+		}
+		Map<Object, Object> index = new HashMap<>();
+		indexes.put(key, index);
+		for(T item: items){
+			addToIndex(key, index, item);
+		}
+	}
+	
+	/**
+	 * Removes the index on the given key
+	 *
+	 * @param key The key to stop indexing
+	 */
+	public void removeIndex(String key){
+		indexes.remove(key);
+	}
+	
+	/**
+	 * @return The keys that are indexed
+	 */
+	public Set<String> getIndexedKeys(){
+		return Collections.unmodifiableSet(indexes.keySet());
+	}
+	
+	/**
+	 * Rebuilds every index from scratch, for when indexed values in the items have been changed
+	 */
+	public void rebuildIndexes(){
+		for(Map.Entry<String, Map<Object, Object>> entry: indexes.entrySet()){
+			entry.getValue().clear();
+			for(T item: items){
+				addToIndex(entry.getKey(), entry.getValue(), item);
+			}
+		}
+	}
+	
+	/**
+	 * Finds an item with the given value for the given key (the earliest added, if there's more than one)
+	 *
+	 * @param key The indexed key
+	 * @param value The value to find
+	 * @return An item with the value, or null if there isn't one
+	 */
+	@SuppressWarnings("unchecked")
+	public T findBy(String key, Object value){
+		Object found = getIndex(key).get(normalize(value));
+		if(found instanceof Duplicates duplicates){
+			return (T) duplicates.get(0);
+		}
+		return (T) found;
+	}
+	
+	/**
+	 * Finds every item with the given value for the given key
+	 *
+	 * @param key The indexed key
+	 * @param value The value to find
+	 * @return The items with the value, in the order they were added
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> findAllBy(String key, Object value){
+		Object found = getIndex(key).get(normalize(value));
+		if(found == null){
+			return Collections.emptyList();
+		}else if(found instanceof Duplicates duplicates){
+			return Collections.unmodifiableList((List<T>) new ArrayList<>(duplicates));
+		}
+		return Collections.singletonList((T) found);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<T> getItems(){
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T get(int index){
+		return items.get(index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int size(){
+		return items.size();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T set(int index, T item){
+		T old = items.set(index, item);
+		removeFromIndexes(old);
+		addToIndexes(item);
+		return old;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void add(int index, T item){
+		items.add(index, item);
+		modCount++;
+		addToIndexes(item);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public T remove(int index){
+		T old = items.remove(index);
+		modCount++;
+		removeFromIndexes(old);
+		return old;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void clear(){
+		items.clear();
+		modCount++;
+		for(Map<Object, Object> index: indexes.values()){
+			index.clear();
+		}
+	}
+	
+	/**
+	 * @param key An indexed key
+	 * @return The index for the key
+	 */
+	private Map<Object, Object> getIndex(String key){
+		Map<Object, Object> index = indexes.get(key);
+		if(index == null){
+			throw new IllegalArgumentException("Key isn't indexed: " + key);
+		}
+		return index;
+	}
+	
+	/**
+	 * Adds the given item to every index
+	 *
+	 * @param item The item to add
+	 */
+	private void addToIndexes(T item){
+		for(Map.Entry<String, Map<Object, Object>> entry: indexes.entrySet()){
+			addToIndex(entry.getKey(), entry.getValue(), item);
+		}
+	}
+	
+	/**
+	 * Adds the given item to an index, if it has the key
+	 *
+	 * @param key The indexed key
+	 * @param index The index for the key
+	 * @param item The item to add
+	 */
+	private static void addToIndex(String key, Map<Object, Object> index, Object item){
+		if(!(item instanceof JSONClass clazz) || !clazz.hasKey(key)){
+			return;
+		}
+		index.merge(normalize(clazz.getItem(key)), clazz, (found, added) -> {
+			if(found instanceof Duplicates duplicates){
+				duplicates.add(clazz);
+				return duplicates;
+			}
+			Duplicates duplicates = new Duplicates();
+			duplicates.add((JSONClass) found);
+			duplicates.add(clazz);
+			return duplicates;
+		});
+	}
+	
+	/**
+	 * Removes the given item from every index
+	 *
+	 * @param item The item to remove
+	 */
+	private void removeFromIndexes(T item){
+		if(!(item instanceof JSONClass clazz)){
+			return;
+		}
+		for(Map.Entry<String, Map<Object, Object>> entry: indexes.entrySet()){
+			if(!clazz.hasKey(entry.getKey())){
+				continue;
+			}
+			Map<Object, Object> index = entry.getValue();
+			Object value = normalize(clazz.getItem(entry.getKey()));
+			Object found = index.get(value);
+			if(found == clazz){
+				index.remove(value);
+			}else if(found instanceof Duplicates duplicates){
+				// Remove this exact item, since other items may be equal to it
+				for(int i = 0; i < duplicates.size(); i++){
+					if(duplicates.get(i) == clazz){
+						duplicates.remove(i);
+						break;
+					}
+				}
+				if(duplicates.size() == 1){
+					index.put(value, duplicates.get(0));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param value A value
+	 * @return The value as it's stored in an index (whole numbers that fit in a long are stored as Longs, and other
+	 * numbers as Doubles, so equal numbers of different types share a key without rounding any Long)
+	 */
+	private static Object normalize(Object value){
+		if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte){
+			return ((Number) value).longValue();
+		}else if(value instanceof Number number){
+			double d = number.doubleValue();
+			// Every whole double in the range of a long converts to it exactly
+			if(d == Math.rint(d) && d >= Long.MIN_VALUE && d < 0x1p63){
+				return (long) d;
+			}
+			return d;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,856 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JSON Aggregation computes counts, sums, minimums, and maximums of fields in JSON records, optionally grouped by
+ * the values of other fields - like a SQL {@code SELECT region, COUNT(*), SUM(amount) ... GROUP BY region}. An
+ * aggregation is set up with a {@link JSONAggregationBuilder} (from {@link #builder()}), and can then be run over
+ * records that are already parsed with {@link #aggregate(Iterable)}, or over a large JSON array or newline-delimited
+ * JSON (NDJSON) file with {@link #aggregateArrayFile(Path)} or {@link #aggregateNDJSONFile(Path)}.
+ * <br><br>
+ * Files are split into chunks of whole records, and the chunks are scanned in parallel on an {@link Executor}. Each
+ * chunk is read with a {@link JSONTokenizer}, pulling out only the fields the aggregation refers to and skipping
+ * over everything else without building it, so no {@link JSONClass} is ever made for a record. Each chunk keeps its
+ * own partial aggregates, which are merged once every chunk is done. NDJSON files are split at newlines; JSON array
+ * files are first scanned (without being parsed) to find the commas between items to split at.
+ * <br><br>
+ * Fields are referred to by key paths of keys separated by periods (e.g. {@code order.amount}), as in
+ * {@link JSONProjection}. Only simple values are used: a field that's missing, or that's a class or array, is
+ * treated as null. Numbers are used as Doubles, and sums, minimums, and maximums skip values that aren't numbers.
+ * <br><br>
+ * A JSON Aggregation is immutable, and can be run by several threads at once.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONAggregation{
+	/** The smallest chunk a file is split into, in bytes - 1 MB */
+	public static final long minChunkSize = 1024 * 1024;
+	/** The number of chunks per thread a file is split into (so uneven chunks balance out) */
+	private static final int chunksPerThread = 4;
+	/** The size of the buffer used in scanning and reading files */
+	private static final int bufferSize = 65536;
+	
+	/**
+	 * The operations an aggregate can do
+	 */
+	private enum Operation{
+		/** Counts the records */
+		COUNT,
+		/** Sums a field */
+		SUM,
+		/** Finds the minimum of a field */
+		MIN,
+		/** Finds the maximum of a field */
+		MAX
+	}
+	
+	/**
+	 * An aggregate computed for each group
+	 */
+	private static final class Aggregate{
+		/** The name of the aggregate in the results */
+		private final String name;
+		/** The operation of the aggregate */
+		private final Operation operation;
+		/** The index of the field the aggregate is of - -1 for a count */
+		private final int field;
+		
+		/**
+		 * Constructs an Aggregate with the given settings
+		 *
+		 * @param name The name of the aggregate in the results
+		 * @param operation The operation of the aggregate
+		 * @param field The index of the field the aggregate is of - -1 for a count
+		 */
+		private Aggregate(String name, Operation operation, int field){
+			this.name = name;
+			this.operation = operation;
+			this.field = field;
+		}
+	}
+	
+	/**
+	 * A node in the tree of key paths to the fields that are extracted from each record
+	 */
+	private static final class FieldNode{
+		/** The nodes for keys below this one */
+		private final Map<String, FieldNode> children = new HashMap<>();
+		/** The index of the field that ends at this node - -1 if none does */
+		private int field = -1;
+	}
+	
+	/**
+	 * The partial aggregates of one group
+	 */
+	private static final class Group{
+		/** The number of records in the group */
+		private long count;
+		/** The sum, minimum, or maximum of each aggregate (unused for counts) */
+		private final double[] values;
+		/** Whether each aggregate has seen a number */
+		private final boolean[] seen;
+		
+		/**
+		 * Constructs an empty Group
+		 *
+		 * @param numAggregates The number of aggregates
+		 */
+		private Group(int numAggregates){
+			count = 0;
+			values = new double[numAggregates];
+			seen = new boolean[numAggregates];
+		}
+	}
+	
+	/**
+	 * JSON Aggregation Builder is used to set up a {@link JSONAggregation}. A builder is not thread-safe.
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.2
+	 * @since Alpha v.0.3.2
+	 */
+	public static class JSONAggregationBuilder{
+		/** The key paths to group by */
+		private final List<String> groupByPaths = new ArrayList<>();
+		/** The names of the aggregates, in order */
+		private final List<String> names = new ArrayList<>();
+		/** The operations of the aggregates, in order */
+		private final List<Operation> operations = new ArrayList<>();
+		/** The key paths the aggregates are of (null for counts), in order */
+		private final List<String> paths = new ArrayList<>();
+		
+		/** Not allowed to create this outside of JSONAggregation */
+		private JSONAggregationBuilder(){ }
+		
+		/**
+		 * Groups the records by the value at the given key path (which is included in each result under the path)
+		 *
+		 * @param path The key path to group by
+		 * @return This builder, to continue in building
+		 */
+		public JSONAggregationBuilder groupBy(String path){
+			checkPath(path);
+			groupByPaths.add(path);
+			return this;
+		}
+		
+		/**
+		 * Counts the records in each group
+		 *
+		 * @param name The name of the count in the results
+		 * @return This builder, to continue in building
+		 */
+		public JSONAggregationBuilder count(String name){
+			return add(name, Operation.COUNT, null);
+		}
+		
+		/**
+		 * Sums the numbers at the given key path in each group (0 if there are none)
+		 *
+		 * @param name The name of the sum in the results
+		 * @param path The key path to sum
+		 * @return This builder, to continue in building
+		 */
+		public JSONAggregationBuilder sum(String name, String path){
+			return add(name, Operation.SUM, path);
+		}
+		
+		/**
+		 * Finds the minimum of the numbers at the given key path in each group (null if there are none)
+		 *
+		 * @param name The name of the minimum in the results
+		 * @param path The key path to find the minimum of
+		 * @return This builder, to continue in building
+		 */
+		public JSONAggregationBuilder min(String name, String path){
+			return add(name, Operation.MIN, path);
+		}
+		
+		/**
+		 * Finds the maximum of the numbers at the given key path in each group (null if there are none)
+		 *
+		 * @param name The name of the maximum in the results
+		 * @param path The key path to find the maximum of
+		 * @return This builder, to continue in building
+		 */
+		public JSONAggregationBuilder max(String name, String path){
+			return add(name, Operation.MAX, path);
+		}
+		
+		/**
+		 * Adds an aggregate
+		 *
+		 * @param name The name of the aggregate in the results
+		 * @param operation The operation of the aggregate
+		 * @param path The key path the aggregate is of - null for a count
+		 * @return This builder, to continue in building
+		 */
+		private JSONAggregationBuilder add(String name, Operation operation, String path){
+			if(names.contains(name) || groupByPaths.contains(name)){
+				throw new IllegalArgumentException("Duplicate aggregation result name: " + name);
+			}
+			if(path != null){
+				checkPath(path);
+			}
+			names.add(name);
+			operations.add(operation);
+			paths.add(path);
+			return this;
+		}
+		
+		/**
+		 * Builds the {@link JSONAggregation}
+		 *
+		 * @return The built {@link JSONAggregation}
+		 */
+		public JSONAggregation build(){
+			return new JSONAggregation(this);
+		}
+	}
+	
+	/** The key paths to group by */
+	private final List<String> groupByPaths;
+	/** The aggregates computed for each group */
+	private final List<Aggregate> aggregates;
+	/** The key paths of the fields extracted from each record, split into their keys */
+	private final List<String[]> fieldKeys;
+	/** The root of the tree of key paths to the fields */
+	private final FieldNode fieldTree;
+	
+	/**
+	 * Constructs a JSON Aggregation from the given builder
+	 *
+	 * @param builder The {@link JSONAggregationBuilder} that was set up
+	 */
+	private JSONAggregation(JSONAggregationBuilder builder){
+		groupByPaths = Collections.unmodifiableList(new ArrayList<>(builder.groupByPaths));
+		fieldKeys = new ArrayList<>();
+		fieldTree = new FieldNode();
+		
+		// The group by fields come first, then the fields of the aggregates (each path is only extracted once)
+		Map<String, Integer> fieldIndexes = new LinkedHashMap<>();
+		for(String path: groupByPaths){
+			addField(fieldIndexes, path);
+		}
+		List<Aggregate> aggregates = new ArrayList<>();
+		for(int i = 0; i < builder.names.size(); i++){
+			String path = builder.paths.get(i);
+			aggregates.add(new Aggregate(builder.names.get(i), builder.operations.get(i),
+					path == null?-1:addField(fieldIndexes, path)));
+		}
+		this.aggregates = Collections.unmodifiableList(aggregates);
+	}
+	
+	/**
+	 * @return A builder to set up a JSON Aggregation
+	 */
+	public static JSONAggregationBuilder builder(){
+		return new JSONAggregationBuilder();
+	}
+	
+	/**
+	 * @return The key paths the records are grouped by
+	 */
+	public List<String> getGroupByPaths(){
+		return groupByPaths;
+	}
+	
+	/**
+	 * Ensures the given key path is valid: keys separated by periods, without any array steps
+	 *
+	 * @param path The key path to check
+	 */
+	private static void checkPath(String path){
+		if(path == null || path.isEmpty() || path.indexOf(JSONConverter.arrayStartChar) != -1 ||
+				Arrays.asList(path.split("\\.", -1)).contains("")){
+			throw new IllegalArgumentException("Invalid aggregation key path: " + path);
+		}
+	}
+	
+	/**
+	 * Adds the given key path as a field to extract, if it isn't already one
+	 *
+	 * @param fieldIndexes The indexes of the fields by their paths
+	 * @param path The key path of the field
+	 * @return The index of the field
+	 */
+	private int addField(Map<String, Integer> fieldIndexes, String path){
+		Integer index = fieldIndexes.get(path);
+		if(index != null){
+			return index;
+		}
+		int field = fieldKeys.size();
+		String[] keys = path.split("\\.");
+		fieldKeys.add(keys);
+		fieldIndexes.put(path, field);
+		FieldNode node = fieldTree;
+		for(String key: keys){
+			node = node.children.computeIfAbsent(key, k -> new FieldNode());
+		}
+		node.field = field;
+		return field;
+	}
+	
+	/**
+	 * Runs the aggregation over the given records that are already parsed
+	 *
+	 * @param records The records (e.g. a {@link JSONArray}) - anything that isn't a {@link JSONClass} only counts
+	 * @return The results, as described in {@link #aggregateArrayFile(Path, Executor, int)}
+	 */
+	public JSONArray<JSONClass> aggregate(Iterable<?> records){
+		Map<Object, Group> groups = new HashMap<>();
+		Object[] values = new Object[fieldKeys.size()];
+		for(Object record: records){
+			for(int field = 0; field < values.length; field++){
+				values[field] = extract(record, fieldKeys.get(field));
+			}
+			accumulate(groups, values);
+		}
+		return toResults(groups);
+	}
+	
+	/**
+	 * Runs the aggregation over the items of the given JSON array file, using the common pool
+	 *
+	 * @param file The JSON array file
+	 * @return The results, as described in {@link #aggregateArrayFile(Path, Executor, int)}
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	public JSONArray<JSONClass> aggregateArrayFile(Path file) throws IOException{
+		return aggregateArrayFile(file, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Runs the aggregation over the items of the given JSON array file, scanning chunks of it in parallel on the
+	 * given executor. The results are a {@link JSONClass} for each group, sorted by the group by values (in the
+	 * {@link JSONExternalSorter#compareKeys(Object, Object) order of keys}), holding the group by values under
+	 * their paths and then the aggregates under their names. Counts are Longs, and sums, minimums, and maximums
+	 * are Doubles. Without any group by paths, there's one result for all the records (even if there are none).
+	 *
+	 * @param file The JSON array file
+	 * @param executor The {@link Executor} to scan the chunks on
+	 * @param parallelism The number of threads expected to scan the chunks (which sets how many chunks the file
+	 * is split into)
+	 * @return The results, one for each group
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws IllegalStateException If the file isn't a valid JSON array
+	 */
+	public JSONArray<JSONClass> aggregateArrayFile(Path file, Executor executor, int parallelism) throws IOException{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+			return aggregateChunks(channel, splitArray(channel, chunkTarget(channel, parallelism)), true, executor);
+		}
+	}
+	
+	/**
+	 * Runs the aggregation over the records of the given newline-delimited JSON file, using the common pool
+	 *
+	 * @param file The NDJSON file
+	 * @return The results, as described in {@link #aggregateArrayFile(Path, Executor, int)}
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	public JSONArray<JSONClass> aggregateNDJSONFile(Path file) throws IOException{
+		return aggregateNDJSONFile(file, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Runs the aggregation over the records of the given newline-delimited JSON file, scanning chunks of it in
+	 * parallel on the given executor
+	 *
+	 * @param file The NDJSON file
+	 * @param executor The {@link Executor} to scan the chunks on
+	 * @param parallelism The number of threads expected to scan the chunks (which sets how many chunks the file
+	 * is split into)
+	 * @return The results, as described in {@link #aggregateArrayFile(Path, Executor, int)}
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws IllegalStateException If a record isn't valid JSON
+	 */
+	public JSONArray<JSONClass> aggregateNDJSONFile(Path file, Executor executor, int parallelism) throws IOException{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+			return aggregateChunks(channel, splitLines(channel, chunkTarget(channel, parallelism)), false, executor);
+		}
+	}
+	
+	/**
+	 * Figures out the target size of the chunks to split a file into
+	 *
+	 * @param channel The channel of the file
+	 * @param parallelism The number of threads expected to scan the chunks
+	 * @return The target size of the chunks, in bytes
+	 * @throws IOException If anything goes wrong in getting the size of the file
+	 */
+	private static long chunkTarget(FileChannel channel, int parallelism) throws IOException{
+		if(parallelism <= 0){
+			throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+		}
+		return Math.max(minChunkSize, channel.size() / ((long) parallelism * chunksPerThread) + 1);
+	}
+	
+	/**
+	 * Splits a newline-delimited JSON file into chunks that start and end at newlines
+	 *
+	 * @param channel The channel of the file
+	 * @param target The target size of the chunks
+	 * @return The start and end of each chunk, in pairs
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	private static List<long[]> splitLines(FileChannel channel, long target) throws IOException{
+		List<long[]> chunks = new ArrayList<>();
+		long size = channel.size();
+		ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+		long start = 0;
+		while(start < size){
+			// Move the end of the chunk up to just past the next newline
+			long end = Math.min(start + target, size);
+			boolean found = end == size;
+			while(!found){
+				buffer.clear();
+				int length = channel.read(buffer, end);
+				if(length < 0){
+					end = size;
+					break;
+				}
+				for(int i = 0; i < length && !found; i++){
+					end++;
+					found = buffer.get(i) == '\n';
+				}
+			}
+			chunks.add(new long[]{start, end});
+			start = end;
+		}
+		return chunks;
+	}
+	
+	/**
+	 * Splits a JSON array file into chunks of whole items, by scanning the file for the commas between items at
+	 * the top level of the array. Each chunk is everything between two commas (or the brackets of the array).
+	 *
+	 * @param channel The channel of the file
+	 * @param target The target size of the chunks
+	 * @return The start and end of each chunk, in pairs
+	 * @throws IOException If anything goes wrong in reading the file
+	 * @throws IllegalStateException If the file isn't a JSON array
+	 */
+	private static List<long[]> splitArray(FileChannel channel, long target) throws IOException{
+		List<long[]> chunks = new ArrayList<>();
+		ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+		long position = 0;
+		long chunkStart = -1;
+		int depth = 0;
+		boolean inString = false;
+		boolean escaped = false;
+		boolean ended = false;
+		int length;
+		while((length = channel.read(buffer.clear(), position)) > 0){
+			for(int i = 0; i < length; i++, position++){
+				byte b = buffer.get(i);
+				if(ended){
+					if(!Character.isWhitespace(b)){
+						throw new IllegalStateException("JSON input has more after the end of the array");
+					}
+				}else if(chunkStart == -1){
+					// Find the start of the array
+					if(b == JSONConverter.arrayStartChar){
+						chunkStart = position + 1;
+						depth = 1;
+					}else if(!Character.isWhitespace(b)){
+						throw new IllegalStateException("JSON input isn't an array");
+					}
+				}else if(inString){
+					if(escaped){
+						escaped = false;
+					}else if(b == '\\'){
+						escaped = true;
+					}else if(b == '"'){
+						inString = false;
+					}
+				}else if(b == '"'){
+					inString = true;
+				}else if(b == JSONConverter.arrayStartChar || b == JSONConverter.classStartChar){
+					depth++;
+				}else if(b == JSONConverter.arrayEndChar || b == JSONConverter.classEndChar){
+					depth--;
+					if(depth == 0){
+						chunks.add(new long[]{chunkStart, position});
+						ended = true;
+					}
+				}else if(b == JSONConverter.nextValueChar && depth == 1 && position - chunkStart >= target){
+					chunks.add(new long[]{chunkStart, position});
+					chunkStart = position + 1;
+				}
+			}
+		}
+		if(chunkStart == -1){
+			throw new IllegalStateException("JSON input isn't an array");
+		}else if(!ended){
+			throw new IllegalStateException("JSON input ended prematurely");
+		}
+		return chunks;
+	}
+	
+	/**
+	 * Scans the given chunks of a file in parallel, and merges their partial aggregates
+	 *
+	 * @param channel The channel of the file
+	 * @param chunks The start and end of each chunk, in pairs
+	 * @param arrayItems Whether the chunks are items of a JSON array (or else lines of NDJSON)
+	 * @param executor The {@link Executor} to scan the chunks on
+	 * @return The results
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	private JSONArray<JSONClass> aggregateChunks(
+			FileChannel channel, List<long[]> chunks, boolean arrayItems, Executor executor) throws IOException{
+		List<CompletableFuture<Map<Object, Group>>> partials = new ArrayList<>();
+		for(long[] chunk: chunks){
+			partials.add(CompletableFuture.supplyAsync(() -> {
+				try{
+					return scanChunk(channel, chunk[0], chunk[1], arrayItems);
+				}catch(IOException e){
+					throw new CompletionException(e);
+				}
+			}, executor));
+		}
+		
+		Map<Object, Group> groups = new HashMap<>();
+		try{
+			for(CompletableFuture<Map<Object, Group>> partial: partials){
+				for(Map.Entry<Object, Group> entry: partial.join().entrySet()){
+					Group group = groups.get(entry.getKey());
+					if(group == null){
+						groups.put(entry.getKey(), entry.getValue());
+					}else{
+						merge(group, entry.getValue());
+					}
+				}
+			}
+		}catch(CompletionException e){
+			if(e.getCause() instanceof IOException ioe){
+				throw new IOException(ioe.getMessage(), ioe);
+			}else if(e.getCause() instanceof RuntimeException re){
+				throw re;
+			}
+			throw e;
+		}
+		return toResults(groups);
+	}
+	
+	/**
+	 * Scans one chunk of a file, extracting the fields of each record with a {@link JSONTokenizer}
+	 *
+	 * @param channel The channel of the file
+	 * @param start The start of the chunk
+	 * @param end The end of the chunk
+	 * @param arrayItems Whether the chunk is items of a JSON array (or else lines of NDJSON)
+	 * @return The partial aggregates of the chunk
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	private Map<Object, Group> scanChunk(FileChannel channel, long start, long end, boolean arrayItems)
+			throws IOException{
+		InputStream in = new ChunkInputStream(channel, start, end);
+		if(arrayItems){
+			// Put the items back in an array, so the commas between them are valid
+			in = new SequenceInputStream(new SequenceInputStream(new ByteArrayInputStream(new byte[]{'['}), in),
+					new ByteArrayInputStream(new byte[]{']'}));
+		}
+		Map<Object, Group> groups = new HashMap<>();
+		Object[] values = new Object[fieldKeys.size()];
+		try(JSONTokenizer tokenizer = new JSONTokenizer(new InputStreamReader(in, StandardCharsets.UTF_8))){
+			if(arrayItems){
+				tokenizer.next();
+			}
+			JSONToken token;
+			while((token = tokenizer.next()) != null && token != JSONToken.ARRAY_END){
+				Arrays.fill(values, null);
+				if(token == JSONToken.CLASS_START){
+					extract(tokenizer, fieldTree, values);
+				}else if(token == JSONToken.ARRAY_START){
+					skipRest(tokenizer, tokenizer.getDepth() - 1);
+				}
+				accumulate(groups, values);
+			}
+		}
+		return groups;
+	}
+	
+	/**
+	 * Extracts the fields below the given node from the class the tokenizer is in (just after its start),
+	 * skipping over everything else, and reading up to the end of the class
+	 *
+	 * @param tokenizer The {@link JSONTokenizer} reading the record
+	 * @param node The {@link FieldNode} for the class
+	 * @param values The values of the fields, to put the extracted ones into
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private static void extract(JSONTokenizer tokenizer, FieldNode node, Object[] values) throws IOException{
+		int depth = tokenizer.getDepth();
+		while(tokenizer.next() == JSONToken.KEY){
+			FieldNode child = node.children.get(tokenizer.getText());
+			if(child == null){
+				tokenizer.skipValue();
+				continue;
+			}
+			JSONToken token = tokenizer.next();
+			switch(token){
+				case CLASS_START -> {
+					if(child.children.isEmpty()){
+						skipRest(tokenizer, depth);
+					}else{
+						extract(tokenizer, child, values);
+					}
+				}
+				case ARRAY_START -> skipRest(tokenizer, depth);
+				default -> {
+					if(child.field != -1){
+						values[child.field] = switch(token){
+							case STRING -> tokenizer.getText();
+							case NUMBER -> Double.parseDouble(tokenizer.getText());
+							case TRUE -> true;
+							case FALSE -> false;
+							default -> null;
+						};
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Reads past the rest of the class or array the tokenizer just started
+	 *
+	 * @param tokenizer The {@link JSONTokenizer}
+	 * @param depth The depth the tokenizer was at before the class or array started
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private static void skipRest(JSONTokenizer tokenizer, int depth) throws IOException{
+		while(tokenizer.getDepth() > depth){
+			tokenizer.next();
+		}
+	}
+	
+	/**
+	 * Extracts the value at the given keys from a record that's already parsed
+	 *
+	 * @param record The record
+	 * @param keys The keys of the field's path
+	 * @return The simple value at the keys (with numbers as Doubles), or null if there isn't one
+	 */
+	private static Object extract(Object record, String[] keys){
+		Object value = record;
+		for(String key: keys){
+			if(!(value instanceof JSONClass clazz)){
+				return null;
+			}
+			value = clazz.getItem(key);
+		}
+		if(value instanceof Number number){
+			return number.doubleValue();
+		}
+		return value instanceof String || value instanceof Boolean?value:null;
+	}
+	
+	/**
+	 * Adds the record with the given field values to its group
+	 *
+	 * @param groups The groups so far
+	 * @param values The values of the fields of the record
+	 */
+	private void accumulate(Map<Object, Group> groups, Object[] values){
+		Object key;
+		if(groupByPaths.isEmpty()){
+			key = null;
+		}else if(groupByPaths.size() == 1){
+			key = values[0];
+		}else{
+			key = Arrays.asList(Arrays.copyOf(values, groupByPaths.size()));
+		}
+		Group group = groups.computeIfAbsent(key, k -> new Group(aggregates.size()));
+		group.count++;
+		for(int i = 0; i < aggregates.size(); i++){
+			Aggregate aggregate = aggregates.get(i);
+			if(aggregate.operation != Operation.COUNT && values[aggregate.field] instanceof Double number){
+				accumulate(group, i, aggregate.operation, number);
+			}
+		}
+	}
+	
+	/**
+	 * Adds a number to one of the aggregates of a group
+	 *
+	 * @param group The group
+	 * @param index The index of the aggregate
+	 * @param operation The operation of the aggregate
+	 * @param number The number to add
+	 */
+	private static void accumulate(Group group, int index, Operation operation, double number){
+		if(!group.seen[index]){
+			group.values[index] = number;
+			group.seen[index] = true;
+			return;
+		}
+		group.values[index] = switch(operation){
+			case SUM -> group.values[index] + number;
+			case MIN -> Math.min(group.values[index], number);
+			case MAX -> Math.max(group.values[index], number);
+			case COUNT -> 0;
+		};
+	}
+	
+	/**
+	 * Merges the partial aggregates of a group from another chunk into the given group
+	 *
+	 * @param group The group to merge into
+	 * @param other The partial aggregates from another chunk
+	 */
+	private void merge(Group group, Group other){
+		group.count += other.count;
+		for(int i = 0; i < aggregates.size(); i++){
+			if(other.seen[i]){
+				accumulate(group, i, aggregates.get(i).operation, other.values[i]);
+			}
+		}
+	}
+	
+	/**
+	 * Turns the groups into the results
+	 *
+	 * @param groups The groups
+	 * @return The results, as described in {@link #aggregateArrayFile(Path, Executor, int)}
+	 */
+	private JSONArray<JSONClass> toResults(Map<Object, Group> groups){
+		if(groupByPaths.isEmpty() && groups.isEmpty()){
+			groups.put(null, new Group(aggregates.size()));
+		}
+		List<Map.Entry<Object, Group>> entries = new ArrayList<>(groups.entrySet());
+		entries.sort((entry1, entry2) -> compareGroupKeys(entry1.getKey(), entry2.getKey()));
+		
+		JSONArray<JSONClass> results = new JSONArrayList<>();
+		for(Map.Entry<Object, Group> entry: entries){
+			JSONClass result = new SimpleOrderedJSONClass();
+			if(groupByPaths.size() == 1){
+				result.setItem(groupByPaths.get(0), entry.getKey());
+			}else if(!groupByPaths.isEmpty()){
+				List<?> key = (List<?>) entry.getKey();
+				for(int i = 0; i < groupByPaths.size(); i++){
+					result.setItem(groupByPaths.get(i), key.get(i));
+				}
+			}
+			Group group = entry.getValue();
+			for(int i = 0; i < aggregates.size(); i++){
+				Aggregate aggregate = aggregates.get(i);
+				if(aggregate.operation == Operation.COUNT){
+					result.setItem(aggregate.name, group.count);
+				}else if(group.seen[i]){
+					result.setItem(aggregate.name, group.values[i]);
+				}else{
+					result.setItem(aggregate.name, aggregate.operation == Operation.SUM?(Object) 0.0:null);
+				}
+			}
+			results.add(result);
+		}
+		return results;
+	}
+	
+	/**
+	 * Compares two group keys, value by value for multiple group by paths
+	 *
+	 * @param key1 The first group key
+	 * @param key2 The second group key
+	 * @return A negative number, zero, or a positive number if the first key is before, equal to, or after the second
+	 */
+	private int compareGroupKeys(Object key1, Object key2){
+		if(groupByPaths.size() <= 1){
+			return JSONExternalSorter.compareKeys(key1, key2);
+		}
+		List<?> list1 = (List<?>) key1;
+		List<?> list2 = (List<?>) key2;
+		for(int i = 0; i < list1.size(); i++){
+			int order = JSONExternalSorter.compareKeys(list1.get(i), list2.get(i));
+			if(order != 0){
+				return order;
+			}
+		}
+		return 0;
+	}
+	
+	/**
+	 * Chunk Input Stream reads a range of a file, using positional reads so several can share the channel
+	 */
+	private static class ChunkInputStream extends InputStream{
+		/** The channel of the file */
+		private final FileChannel channel;
+		/** The buffer bytes are read into */
+		private final ByteBuffer buffer;
+		/** The position of the next byte to read into the buffer */
+		private long position;
+		/** The end of the range */
+		private final long end;
+		
+		/**
+		 * Constructs a Chunk Input Stream of the given range of a file
+		 *
+		 * @param channel The channel of the file
+		 * @param start The start of the range
+		 * @param end The end of the range
+		 */
+		private ChunkInputStream(FileChannel channel, long start, long end){
+			this.channel = channel;
+			buffer = ByteBuffer.allocate(bufferSize);
+			buffer.limit(0);
+			position = start;
+			this.end = end;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int read() throws IOException{
+			byte[] b = new byte[1];
+			return read(b, 0, 1) == -1?-1:b[0] & 0xFF;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException{
+			if(length == 0){
+				return 0;
+			}
+			if(!buffer.hasRemaining()){
+				if(position >= end){
+					return -1;
+				}
+				buffer.clear();
+				buffer.limit((int) Math.min(buffer.capacity(), end - position));
+				int read = channel.read(buffer, position);
+				if(read <= 0){
+					return -1;
+				}
+				position += read;
+				buffer.flip();
+			}
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+	}
+}
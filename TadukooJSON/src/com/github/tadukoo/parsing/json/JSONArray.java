@@ -7,7 +7,7 @@ import java.util.stream.Collectors;
  * JSON Array represents an array of objects in JSON. It's stored as a List of Objects.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3.1
+ * @version Alpha v.0.3.2
  * @since Alpha v.0.1
  */
 public interface JSONArray<T> extends JSONObject, List<T>{
@@ -22,6 +22,16 @@ public interface JSONArray<T> extends JSONObject, List<T>{
 	 */
 	int size();
 	
+	/**
+	 * Creates a read-only, thread-safe snapshot of this array, where every {@link JSONClass} and {@link JSONArray}
+	 * in it is also frozen. See {@link FrozenJSONArray} for details.
+	 *
+	 * @return The {@link FrozenJSONArray} snapshot of this array
+	 */
+	default FrozenJSONArray<Object> freeze(){
+		return FrozenJSONArray.of(this);
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	default String convertToJSON(JSONConverter converter){
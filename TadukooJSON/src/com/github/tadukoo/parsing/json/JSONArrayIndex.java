@@ -0,0 +1,301 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * JSON Array Index gives random access to the items of a large JSON array file. The file is scanned once by
+ * {@link #build(Path)}, which writes a sidecar index file of the byte offset of every item. Afterwards (including
+ * in later runs, using {@link #open(Path)}), the JSON file is memory-mapped and item N is fetched with
+ * {@link #get(long)} by parsing only that item's bytes, so picking a few records out of a huge file doesn't need
+ * the whole file to be parsed.
+ * <br><br>
+ * The index file is a list of 8-byte big-endian offsets: the start of each item, then the closing bracket of the
+ * array, then the size of the JSON file (used to catch an index that's out of date with its JSON file). Building the
+ * index only tracks strings and nesting to find where items start, so the items themselves aren't validated until
+ * they're fetched.
+ * <br><br>
+ * A JSON Array Index is safe to share between threads. The JSON file must not be modified while it's in use.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONArrayIndex{
+	/** The extension added to the JSON file's name for the default index file - .idx */
+	public static final String indexExtension = ".idx";
+	/** The number of bytes read at a time while building an index */
+	private static final int bufferSize = 65536;
+	/** The number of bits in the size of each mapped segment of a file (segments are 1 GB) */
+	private static final int segmentBits = 30;
+	/** The size of each mapped segment of a file */
+	private static final long segmentSize = 1L << segmentBits;
+	
+	/** The mapped segments of the JSON file */
+	private final MappedByteBuffer[] jsonSegments;
+	/** The mapped segments of the index file */
+	private final MappedByteBuffer[] indexSegments;
+	/** The number of items in the array */
+	private final long size;
+	
+	/**
+	 * Constructs a JSON Array Index by mapping the given files
+	 *
+	 * @param jsonFile The JSON array file
+	 * @param indexFile The index file for it
+	 * @throws IOException If anything goes wrong in mapping the files
+	 */
+	private JSONArrayIndex(Path jsonFile, Path indexFile) throws IOException{
+		jsonSegments = map(jsonFile);
+		indexSegments = map(indexFile);
+		long indexLength = Files.size(indexFile);
+		if(indexLength < 2 * Long.BYTES || indexLength % Long.BYTES != 0){
+			throw new IllegalStateException("JSON array index is malformed");
+		}
+		size = indexLength / Long.BYTES - 2;
+		if(getIndexEntry(size + 1) != Files.size(jsonFile)){
+			throw new IllegalStateException("JSON array index is out of date with its JSON file");
+		}
+	}
+	
+	/**
+	 * @param jsonFile The JSON array file
+	 * @return The default path of the index file for it (the JSON file's path with {@link #indexExtension} added)
+	 */
+	public static Path getDefaultIndexFile(Path jsonFile){
+		return jsonFile.resolveSibling(jsonFile.getFileName() + indexExtension);
+	}
+	
+	/**
+	 * Scans the given JSON array file, writes its index to the {@link #getDefaultIndexFile(Path) default index file},
+	 * and opens it
+	 *
+	 * @param jsonFile The JSON array file (UTF-8)
+	 * @return The opened JSON Array Index
+	 * @throws IOException If anything goes wrong in reading or writing the files
+	 */
+	public static JSONArrayIndex build(Path jsonFile) throws IOException{
+		return build(jsonFile, getDefaultIndexFile(jsonFile));
+	}
+	
+	/**
+	 * Scans the given JSON array file, writes its index to the given index file (replacing it if it exists),
+	 * and opens it
+	 *
+	 * @param jsonFile The JSON array file (UTF-8)
+	 * @param indexFile The index file to write
+	 * @return The opened JSON Array Index
+	 * @throws IOException If anything goes wrong in reading or writing the files
+	 */
+	public static JSONArrayIndex build(Path jsonFile, Path indexFile) throws IOException{
+		try(FileChannel in = FileChannel.open(jsonFile, StandardOpenOption.READ);
+				DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(indexFile), bufferSize))){
+			ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+			long position = 0;
+			int depth = 0;
+			boolean started = false, ended = false, inString = false, escaped = false, expectingItem = false;
+			long arrayEnd = -1;
+			
+			while(in.read(buffer.clear()) >= 0){
+				buffer.flip();
+				while(buffer.hasRemaining()){
+					byte b = buffer.get();
+					if(inString){
+						// Multi-byte UTF-8 characters never contain ASCII bytes, so they can't be mistaken for these
+						if(escaped){
+							escaped = false;
+						}else if(b == JSONStringDecoder.escapeChar){
+							escaped = true;
+						}else if(b == JSONStringDecoder.quoteChar){
+							inString = false;
+						}
+					}else if(b != ' ' && b != '\t' && b != '\n' && b != '\r' && b != '\f'){
+						if(ended){
+							throw new IllegalStateException("JSON input has more after the end of the array");
+						}else if(!started){
+							if(b != JSONConverter.arrayStartChar){
+								throw new IllegalStateException("JSON input isn't an array");
+							}
+							started = true;
+							expectingItem = true;
+						}else if(depth == 1 && expectingItem && b != JSONConverter.arrayEndChar){
+							// The start of an item
+							out.writeLong(position);
+							expectingItem = false;
+						}
+						switch(b){
+							case JSONStringDecoder.quoteChar -> inString = true;
+							case JSONConverter.classStartChar, JSONConverter.arrayStartChar -> depth++;
+							case JSONConverter.classEndChar, JSONConverter.arrayEndChar -> {
+								if(--depth == 0){
+									arrayEnd = position;
+									ended = true;
+								}
+							}
+							case JSONConverter.nextValueChar -> {
+								if(depth == 1){
+									expectingItem = true;
+								}
+							}
+							default -> { }
+						}
+					}
+					position++;
+				}
+			}
+			if(!ended){
+				throw new IllegalStateException(started?"JSON input ended prematurely":"JSON input isn't an array");
+			}
+			out.writeLong(arrayEnd);
+			out.writeLong(position);
+		}
+		return new JSONArrayIndex(jsonFile, indexFile);
+	}
+	
+	/**
+	 * Opens the JSON Array Index for the given JSON array file from its
+	 * {@link #getDefaultIndexFile(Path) default index file}
+	 *
+	 * @param jsonFile The JSON array file
+	 * @return The opened JSON Array Index
+	 * @throws IOException If anything goes wrong in mapping the files
+	 */
+	public static JSONArrayIndex open(Path jsonFile) throws IOException{
+		return open(jsonFile, getDefaultIndexFile(jsonFile));
+	}
+	
+	/**
+	 * Opens the JSON Array Index for the given JSON array file from the given index file
+	 *
+	 * @param jsonFile The JSON array file
+	 * @param indexFile The index file for it (written by {@link #build(Path, Path)})
+	 * @return The opened JSON Array Index
+	 * @throws IOException If anything goes wrong in mapping the files
+	 */
+	public static JSONArrayIndex open(Path jsonFile, Path indexFile) throws IOException{
+		return new JSONArrayIndex(jsonFile, indexFile);
+	}
+	
+	/**
+	 * @return The number of items in the array
+	 */
+	public long size(){
+		return size;
+	}
+	
+	/**
+	 * @param index The index of the item
+	 * @return The byte offset in the JSON file of the start of the item
+	 */
+	public long getOffset(long index){
+		checkIndex(index);
+		return getIndexEntry(index);
+	}
+	
+	/**
+	 * Parses the item at the given index from the JSON file
+	 *
+	 * @param index The index of the item
+	 * @return The item, parsed into a {@link JSONClass} or {@link JSONArray}
+	 */
+	public JSONObject get(long index){
+		checkIndex(index);
+		long start = getIndexEntry(index);
+		long end;
+		if(index + 1 == size){
+			// Back up from the closing bracket of the array
+			end = skipWhitespaceBackwards(getIndexEntry(size) - 1);
+		}else{
+			// Back up from the start of the next item over the comma between them
+			end = skipWhitespaceBackwards(getIndexEntry(index + 1) - 1);
+			if(getByte(end) != JSONConverter.nextValueChar){
+				throw new IllegalStateException("JSON array index is out of date with its JSON file");
+			}
+			end = skipWhitespaceBackwards(end - 1);
+		}
+		
+		// Feed the item's bytes straight from the mapped segments
+		JSONFeeder feeder = new JSONFeeder();
+		for(long position = start; position <= end; position = (position | (segmentSize - 1)) + 1){
+			int segmentStart = (int) (position & (segmentSize - 1));
+			int segmentEnd = (int) Math.min(end - (position - segmentStart), segmentSize - 1);
+			feeder.feed(jsonSegments[(int) (position >>> segmentBits)]
+					.slice(segmentStart, segmentEnd - segmentStart + 1));
+		}
+		feeder.endOfInput();
+		if(!feeder.hasNext() || !(feeder.next() instanceof JSONObject item)){
+			throw new IllegalStateException("JSON array item isn't a JSON class or array");
+		}
+		return item;
+	}
+	
+	/**
+	 * Checks that the given index is in the array
+	 *
+	 * @param index The index of an item
+	 */
+	private void checkIndex(long index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+		}
+	}
+	
+	/**
+	 * @param position The position of a byte in the JSON file
+	 * @return The position of the last byte at or before the given one that isn't whitespace
+	 */
+	private long skipWhitespaceBackwards(long position){
+		byte b;
+		while((b = getByte(position)) == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f'){
+			position--;
+		}
+		return position;
+	}
+	
+	/**
+	 * @param position The position of a byte in the JSON file
+	 * @return The byte at that position
+	 */
+	private byte getByte(long position){
+		return jsonSegments[(int) (position >>> segmentBits)].get((int) (position & (segmentSize - 1)));
+	}
+	
+	/**
+	 * @param entry The number of the entry in the index file
+	 * @return The entry (an offset in the JSON file)
+	 */
+	private long getIndexEntry(long entry){
+		long position = entry * Long.BYTES;
+		// Segments are a multiple of 8 bytes, so entries never cross between them
+		return indexSegments[(int) (position >>> segmentBits)].getLong((int) (position & (segmentSize - 1)));
+	}
+	
+	/**
+	 * Memory-maps the given file (read-only) in segments of {@link #segmentSize}, since a single mapping can't be
+	 * larger than 2 GB
+	 *
+	 * @param file The file to map
+	 * @return The mapped segments of the file
+	 * @throws IOException If anything goes wrong in mapping the file
+	 */
+	private static MappedByteBuffer[] map(Path file) throws IOException{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+			long length = channel.size();
+			MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((length + segmentSize - 1) >>> segmentBits)];
+			for(int i = 0; i < segments.length; i++){
+				long segmentStart = i * segmentSize;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart,
+						Math.min(segmentSize, length - segmentStart));
+			}
+			return segments;
+		}
+	}
+}
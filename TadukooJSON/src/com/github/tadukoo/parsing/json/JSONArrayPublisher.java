@@ -0,0 +1,319 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JSON Array Publisher is a {@link Flow.Publisher} of the items of a top-level JSON array, read from a file,
+ * a {@link Reader}, or a {@link ReadableByteChannel}. The input is parsed with a {@link JSONFeeder} that queues
+ * each item as soon as it's complete, so subscribers can start working on the first items while the rest of the
+ * array is still being read, and the whole array is never held in memory.
+ * <br><br>
+ * Subscriber demand is honored: input is only read while the subscriber has requested more items than have been
+ * delivered. Input is read in chunks of 8192 characters, so the items parsed from the rest of a chunk are held until
+ * they're requested. Reading and delivery happen on the given {@link Executor} ({@link ForkJoinPool#commonPool()} by
+ * default), one task at a time per subscription. Every item must be a {@link JSONClass} or {@link JSONArray} -
+ * anything else, input that isn't a JSON array, or anything but whitespace after the array, is signalled to the
+ * subscriber as an {@link IllegalStateException}.
+ * <br><br>
+ * A publisher made from a file opens the file again for each subscriber. A publisher made from a {@link Reader} or
+ * channel can only be subscribed to once.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONArrayPublisher implements Flow.Publisher<JSONObject>{
+	/** The number of characters read at a time */
+	private static final int bufferSize = 8192;
+	
+	/** Opens the input for a subscriber */
+	private final Callable<Reader> opener;
+	/** Whether the input can be opened for more than one subscriber */
+	private final boolean reusable;
+	/** The {@link Executor} used for reading and delivery */
+	private final Executor executor;
+	/** Whether a subscriber has subscribed */
+	private final AtomicBoolean subscribed;
+	
+	/**
+	 * Constructs a JSON Array Publisher with the given settings
+	 *
+	 * @param opener Opens the input for a subscriber
+	 * @param reusable Whether the input can be opened for more than one subscriber
+	 * @param executor The {@link Executor} used for reading and delivery
+	 */
+	private JSONArrayPublisher(Callable<Reader> opener, boolean reusable, Executor executor){
+		this.opener = opener;
+		this.reusable = reusable;
+		this.executor = executor;
+		subscribed = new AtomicBoolean(false);
+	}
+	
+	/**
+	 * Creates a JSON Array Publisher of the items in the given UTF-8 JSON file, using the common pool
+	 *
+	 * @param file The path to the file
+	 * @return The JSON Array Publisher
+	 */
+	public static JSONArrayPublisher fromFile(Path file){
+		return fromFile(file, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Creates a JSON Array Publisher of the items in the given UTF-8 JSON file
+	 *
+	 * @param file The path to the file
+	 * @param executor The {@link Executor} used for reading and delivery
+	 * @return The JSON Array Publisher
+	 */
+	public static JSONArrayPublisher fromFile(Path file, Executor executor){
+		return new JSONArrayPublisher(() -> Files.newBufferedReader(file, StandardCharsets.UTF_8), true, executor);
+	}
+	
+	/**
+	 * Creates a JSON Array Publisher of the items read from the given {@link Reader}, using the common pool.
+	 * The reader is closed when the subscription ends.
+	 *
+	 * @param reader The {@link Reader} to read from
+	 * @return The JSON Array Publisher
+	 */
+	public static JSONArrayPublisher fromReader(Reader reader){
+		return fromReader(reader, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Creates a JSON Array Publisher of the items read from the given {@link Reader}.
+	 * The reader is closed when the subscription ends.
+	 *
+	 * @param reader The {@link Reader} to read from
+	 * @param executor The {@link Executor} used for reading and delivery
+	 * @return The JSON Array Publisher
+	 */
+	public static JSONArrayPublisher fromReader(Reader reader, Executor executor){
+		return new JSONArrayPublisher(() -> reader, false, executor);
+	}
+	
+	/**
+	 * Creates a JSON Array Publisher of the items read as UTF-8 from the given {@link ReadableByteChannel}, using
+	 * the common pool. The channel is closed when the subscription ends.
+	 *
+	 * @param channel The {@link ReadableByteChannel} to read from
+	 * @return The JSON Array Publisher
+	 */
+	public static JSONArrayPublisher fromChannel(ReadableByteChannel channel){
+		return fromChannel(channel, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Creates a JSON Array Publisher of the items read as UTF-8 from the given {@link ReadableByteChannel}.
+	 * The channel is closed when the subscription ends.
+	 *
+	 * @param channel The {@link ReadableByteChannel} to read from
+	 * @param executor The {@link Executor} used for reading and delivery
+	 * @return The JSON Array Publisher
+	 */
+	public static JSONArrayPublisher fromChannel(ReadableByteChannel channel, Executor executor){
+		return new JSONArrayPublisher(() -> Channels.newReader(channel, StandardCharsets.UTF_8), false, executor);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void subscribe(Flow.Subscriber<? super JSONObject> subscriber){
+		if(subscriber == null){
+			throw new NullPointerException("Subscriber can't be null");
+		}
+		if(!reusable && !subscribed.compareAndSet(false, true)){
+			subscriber.onSubscribe(new Flow.Subscription(){
+				/** {@inheritDoc} */
+				@Override
+				public void request(long n){ }
+				
+				/** {@inheritDoc} */
+				@Override
+				public void cancel(){ }
+			});
+			subscriber.onError(new IllegalStateException("JSON Array Publisher can only be subscribed to once"));
+			return;
+		}
+		subscriber.onSubscribe(new ArraySubscription(subscriber));
+	}
+	
+	/**
+	 * The subscription of one subscriber, which reads the input and delivers items as they're requested
+	 */
+	private final class ArraySubscription implements Flow.Subscription, Runnable{
+		/** The subscriber to deliver to */
+		private final Flow.Subscriber<? super JSONObject> subscriber;
+		/** The number of items requested but not yet delivered */
+		private final AtomicLong demand;
+		/** The number of times the subscription was scheduled to run but hasn't yet */
+		private final AtomicInteger pendingRuns;
+		/** Whether the subscriber cancelled */
+		private volatile boolean cancelled;
+		/** An error to signal to the subscriber (from a bad request) - null if there isn't one */
+		private volatile Throwable requestError;
+		/** The input being read - null until the first run */
+		private Reader reader;
+		/** The {@link JSONFeeder} parsing the input */
+		private JSONFeeder feeder;
+		/** The buffer characters are read into */
+		private char[] buffer;
+		/** Whether the start of the array was found */
+		private boolean started;
+		/** Whether the end of the input was reached */
+		private boolean inputEnded;
+		/** Whether the subscription is over */
+		private boolean done;
+		
+		/**
+		 * Constructs a new Array Subscription for the given subscriber
+		 *
+		 * @param subscriber The subscriber to deliver to
+		 */
+		private ArraySubscription(Flow.Subscriber<? super JSONObject> subscriber){
+			this.subscriber = subscriber;
+			demand = new AtomicLong(0);
+			pendingRuns = new AtomicInteger(0);
+			cancelled = false;
+			requestError = null;
+			started = false;
+			inputEnded = false;
+			done = false;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void request(long n){
+			if(n <= 0){
+				requestError = new IllegalArgumentException("Requested number of items must be positive: " + n);
+			}else{
+				demand.getAndAccumulate(n, (current, added) -> current + added < 0?Long.MAX_VALUE:current + added);
+			}
+			schedule();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void cancel(){
+			cancelled = true;
+			schedule();
+		}
+		
+		/**
+		 * Schedules the subscription to run on the executor, unless it's already scheduled or running
+		 */
+		private void schedule(){
+			if(pendingRuns.getAndIncrement() == 0){
+				executor.execute(this);
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void run(){
+			int missed = 1;
+			do{
+				deliver();
+				missed = pendingRuns.addAndGet(-missed);
+			}while(missed != 0);
+		}
+		
+		/**
+		 * Reads the input and delivers items while there's demand, and signals the end of the subscription
+		 */
+		private void deliver(){
+			if(done){
+				return;
+			}
+			try{
+				if(reader == null && !cancelled){
+					reader = opener.call();
+					feeder = new JSONFeeder(null, true);
+					buffer = new char[bufferSize];
+				}
+				while(!cancelled && requestError == null){
+					if(feeder.hasNext()){
+						if(demand.get() == 0){
+							return;
+						}
+						Object item = feeder.next();
+						if(!(item instanceof JSONObject obj)){
+							throw new IllegalStateException("JSON array item isn't a JSON class or array");
+						}
+						demand.decrementAndGet();
+						subscriber.onNext(obj);
+					}else if(inputEnded){
+						finish();
+						subscriber.onComplete();
+						return;
+					}else{
+						read();
+					}
+				}
+				finish();
+				if(!cancelled){
+					subscriber.onError(requestError);
+				}
+			}catch(Exception e){
+				finish();
+				subscriber.onError(e);
+			}
+		}
+		
+		/**
+		 * Reads the next chunk of the input and feeds it to the {@link JSONFeeder}
+		 *
+		 * @throws IOException If anything goes wrong in reading
+		 */
+		private void read() throws IOException{
+			int length = reader.read(buffer);
+			if(length < 0){
+				if(!started){
+					throw new IllegalStateException("JSON input isn't an array");
+				}
+				feeder.endOfInput();
+				inputEnded = true;
+				return;
+			}
+			if(!started){
+				// Make sure the input starts with an array
+				for(int i = 0; i < length && !started; i++){
+					if(!Character.isWhitespace(buffer[i])){
+						if(buffer[i] != JSONConverter.arrayStartChar){
+							throw new IllegalStateException("JSON input isn't an array");
+						}
+						started = true;
+					}
+				}
+			}
+			feeder.feed(buffer, 0, length);
+		}
+		
+		/**
+		 * Ends the subscription and closes the input
+		 */
+		private void finish(){
+			done = true;
+			if(reader != null){
+				try{
+					reader.close();
+				}catch(IOException ignored){
+					// Nothing more can be done about it
+				}
+			}
+		}
+	}
+}
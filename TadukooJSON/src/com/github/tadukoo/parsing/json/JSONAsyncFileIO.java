@@ -0,0 +1,571 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * JSON Async File IO does the work of {@link JSONConverter#parseJSONFromFileAsync(Path, Executor)} and
+ * {@link JSONConverter#saveJSONFileAsync(Path, Object, Executor)}, reading and writing files in chunks with an
+ * {@link AsynchronousFileChannel}. Reading feeds each chunk to a {@link JSONFeeder} as it arrives, so no thread
+ * waits on the file. Writing encodes with a {@link JSONByteWriter} and writes each chunk as soon as it's filled,
+ * while the next one is encoded, with the completion of each write starting the next. If the file falls behind,
+ * the encoding stops and is picked up again on the executor once a chunk is written, so no thread waits on the file
+ * either, only a few chunks are held, and the JSON is never held as a whole.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+final class JSONAsyncFileIO{
+	/** The size of the chunks read and written */
+	static final int chunkSize = 65536;
+	
+	/** Not allowed to create a JSON Async File IO */
+	private JSONAsyncFileIO(){ }
+	
+	/**
+	 * Opens the given file as an {@link AsynchronousFileChannel}, using the executor for its completion handlers if
+	 * it's an {@link ExecutorService} (or the default pool if it's null)
+	 *
+	 * @param file The file to open
+	 * @param options The options to open it with
+	 * @param executor The {@link Executor} to use
+	 * @return The opened channel
+	 * @throws IOException If anything goes wrong in opening the file
+	 */
+	private static AsynchronousFileChannel open(Path file, Set<OpenOption> options, Executor executor)
+			throws IOException{
+		return AsynchronousFileChannel.open(file, options, executor instanceof ExecutorService service?service:null);
+	}
+	
+	/**
+	 * Closes the given channel, ignoring any error
+	 *
+	 * @param channel The channel to close
+	 */
+	private static void closeQuietly(AsynchronousFileChannel channel){
+		try{
+			channel.close();
+		}catch(IOException ignored){
+			// Nothing more can be done about it
+		}
+	}
+	
+	/**
+	 * Reads and parses the given JSON file
+	 *
+	 * @param file The file to read
+	 * @param executor The {@link Executor} to parse on
+	 * @return A future for the parsed JSON object
+	 */
+	static CompletableFuture<JSONObject> read(Path file, Executor executor){
+		CompletableFuture<JSONObject> result = new CompletableFuture<>();
+		executor.execute(() -> {
+			try{
+				new ChunkReader(open(file, Set.of(StandardOpenOption.READ), executor), executor, result).readNext();
+			}catch(Throwable e){
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+	
+	/**
+	 * Converts the given object to JSON and writes it to the given file (creating its parent directories if needed)
+	 *
+	 * @param file The file to write
+	 * @param obj The object to convert to JSON
+	 * @param converter The {@link JSONConverter} to use for objects with a {@link JSONCodec}
+	 * @param executor The {@link Executor} to encode on
+	 * @return A future for when the file is written (or failed, for any error)
+	 */
+	static CompletableFuture<Void> write(Path file, Object obj, JSONConverter converter, Executor executor){
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		executor.execute(() -> {
+			AsynchronousFileChannel channel;
+			try{
+				if(file.toAbsolutePath().getParent() != null){
+					Files.createDirectories(file.toAbsolutePath().getParent());
+				}
+				channel = open(file, Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING), executor);
+			}catch(Throwable e){
+				result.completeExceptionally(e);
+				return;
+			}
+			ChunkWriter out = new ChunkWriter(channel);
+			out.written.whenComplete((ignored, error) -> {
+				closeQuietly(channel);
+				if(error != null){
+					result.completeExceptionally(error);
+				}else{
+					result.complete(null);
+				}
+			});
+			new ChunkEncoder(obj, new JSONByteWriter(out, converter), out, executor).run();
+		});
+		return result;
+	}
+	
+	/**
+	 * Chunk Reader reads a file a chunk at a time, feeding each chunk to a {@link JSONFeeder}
+	 */
+	private static class ChunkReader implements CompletionHandler<Integer, Void>{
+		/** The channel to read from */
+		private final AsynchronousFileChannel channel;
+		/** The {@link Executor} to parse on */
+		private final Executor executor;
+		/** The future for the parsed JSON object */
+		private final CompletableFuture<JSONObject> result;
+		/** The {@link JSONFeeder} parsing the file */
+		private final JSONFeeder feeder;
+		/** The buffer chunks are read into */
+		private final ByteBuffer buffer;
+		/** The position in the file of the next chunk */
+		private long position;
+		
+		/**
+		 * Constructs a Chunk Reader with the given settings
+		 *
+		 * @param channel The channel to read from
+		 * @param executor The {@link Executor} to parse on
+		 * @param result The future for the parsed JSON object
+		 */
+		private ChunkReader(AsynchronousFileChannel channel, Executor executor, CompletableFuture<JSONObject> result){
+			this.channel = channel;
+			this.executor = executor;
+			this.result = result;
+			feeder = new JSONFeeder();
+			buffer = ByteBuffer.allocate(chunkSize);
+			position = 0;
+		}
+		
+		/**
+		 * Starts reading the next chunk
+		 */
+		private void readNext(){
+			buffer.clear();
+			channel.read(buffer, position, null, this);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void completed(Integer length, Void attachment){
+			executor.execute(() -> {
+				try{
+					if(length < 0){
+						closeQuietly(channel);
+						feeder.endOfInput();
+						if(!feeder.hasNext() || !(feeder.next() instanceof JSONObject obj) || feeder.hasNext()){
+							throw new IllegalStateException("JSON file doesn't hold a single JSON class or array");
+						}
+						result.complete(obj);
+						return;
+					}
+					position += length;
+					buffer.flip();
+					feeder.feed(buffer);
+					readNext();
+				}catch(Throwable e){
+					// Anything at all (even a StackOverflowError from a deeply nested file) must fail the future
+					failed(e, null);
+				}
+			});
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void failed(Throwable error, Void attachment){
+			closeQuietly(channel);
+			result.completeExceptionally(error);
+		}
+	}
+	
+	/**
+	 * Chunk Encoder encodes an object into a {@link ChunkWriter} a piece at a time, walking the classes and arrays
+	 * in it with its own stack instead of recursion. Whenever the {@link ChunkWriter} has as many chunks waiting to be
+	 * written as it allows, the encoder stops (returning its thread to the executor), and the write that frees up a
+	 * chunk runs it again on the executor to pick up where it left off. Values that are written as a whole (like
+	 * Strings, and classes with a {@link JSONCodec}) are never split, so they can go past the limit while they're
+	 * written.
+	 */
+	private static class ChunkEncoder implements Runnable{
+		/**
+		 * A class or array that's being written
+		 *
+		 * @param items The items of the class - null if it's an array
+		 * @param iterator Goes through the keys of the class or the items of the array
+		 */
+		private record Frame(Map<String, Object> items, Iterator<?> iterator){ }
+		
+		/** The object to encode - null once it's started */
+		private Object obj;
+		/** The {@link JSONByteWriter} to encode with */
+		private final JSONByteWriter writer;
+		/** The {@link ChunkWriter} the encoded bytes go to */
+		private final ChunkWriter out;
+		/** Runs this encoder again on the executor, to pick up where it paused */
+		private final Runnable resume;
+		/** The classes and arrays being written, innermost first */
+		private final Deque<Frame> frames;
+		/** Whether the innermost class or array doesn't have any items written yet */
+		private boolean first;
+		
+		/**
+		 * Constructs a Chunk Encoder with the given settings
+		 *
+		 * @param obj The object to encode
+		 * @param writer The {@link JSONByteWriter} to encode with
+		 * @param out The {@link ChunkWriter} the encoded bytes go to
+		 * @param executor The {@link Executor} to encode on
+		 */
+		private ChunkEncoder(Object obj, JSONByteWriter writer, ChunkWriter out, Executor executor){
+			this.obj = obj;
+			this.writer = writer;
+			this.out = out;
+			resume = () -> executor.execute(this);
+			frames = new ArrayDeque<>();
+			first = true;
+		}
+		
+		/**
+		 * Encodes until the {@link ChunkWriter} is full or the object is finished
+		 */
+		@Override
+		public void run(){
+			try{
+				if(obj != null){
+					Object value = obj;
+					obj = null;
+					start(value);
+				}
+				while(!frames.isEmpty()){
+					if(out.pauseIfFull(resume)){
+						return;
+					}
+					step();
+				}
+				writer.flush();
+				out.finish();
+			}catch(Throwable e){
+				// Anything at all must fail the future
+				out.fail(e);
+			}
+		}
+		
+		/**
+		 * Starts writing the given value, pushing a frame for it if it's a class or array that can be written a piece
+		 * at a time, or writing it as a whole otherwise
+		 *
+		 * @param value The value to write
+		 * @throws IOException If anything goes wrong in writing
+		 */
+		private void start(Object value) throws IOException{
+			if(value instanceof JSONClass clazz && !(value instanceof CachingJSONObject)){
+				JSONClass snapshot = clazz.snapshot();
+				if(JSONCodecs.getCodec(snapshot.getClass()) == null){
+					Collection<String> keys = snapshot instanceof OrderedJSONClass ordered?
+							ordered.getKeyOrder():snapshot.getKeys();
+					writer.writeByte(JSONConverter.classStartChar);
+					frames.push(new Frame(snapshot.getMap(), keys.iterator()));
+					first = true;
+					return;
+				}
+				value = snapshot;
+			}else if(value instanceof JSONArray<?> array && !(value instanceof CachingJSONObject)){
+				writer.writeByte(JSONConverter.arrayStartChar);
+				frames.push(new Frame(null, array.getItems().iterator()));
+				first = true;
+				return;
+			}
+			writer.write(value);
+		}
+		
+		/**
+		 * Writes the next item of the innermost class or array, or ends it if there are no more items
+		 *
+		 * @throws IOException If anything goes wrong in writing
+		 */
+		private void step() throws IOException{
+			Frame frame = frames.peek();
+			if(!frame.iterator.hasNext()){
+				frames.pop();
+				writer.writeByte(frame.items != null?JSONConverter.classEndChar:JSONConverter.arrayEndChar);
+				first = false;
+				return;
+			}
+			Object next = frame.iterator.next();
+			if(!first){
+				writer.writeByte(JSONConverter.nextValueChar);
+			}
+			first = false;
+			if(frame.items != null){
+				writer.writeKey((String) next);
+				start(frame.items.get(next));
+			}else{
+				start(next);
+			}
+		}
+	}
+	
+	/**
+	 * Chunk Writer is an {@link OutputStream} that collects bytes into chunks, handing each one off to be written to
+	 * the channel when it's filled. Chunks are written one at a time, in order: the completion of each write starts
+	 * the write of the next chunk waiting, so nothing ever waits on a write. Written chunks are reused.
+	 */
+	private static class ChunkWriter extends OutputStream{
+		/** The number of filled chunks that can be waiting to be written before the encoding is paused */
+		private static final int maxWaitingChunks = 2;
+		
+		/** The channel to write to */
+		private final AsynchronousFileChannel channel;
+		/** The filled chunks waiting to be written - the first one is being written if {@link #writing} */
+		private final Deque<ByteBuffer> waiting;
+		/** Written chunks that can be filled again */
+		private final Deque<ByteBuffer> spares;
+		/** A future for when every chunk is written (or writing failed) */
+		private final CompletableFuture<Void> written;
+		/** The chunk being filled */
+		private ByteBuffer chunk;
+		/** The position in the file of the next chunk to be written */
+		private long position;
+		/** Whether a chunk is being written */
+		private boolean writing;
+		/** Whether the last chunk has been handed off (or the encoding failed) */
+		private boolean finished;
+		/** The error the encoding or a write failed with - null if there isn't one */
+		private Throwable error;
+		/** Picks up the encoding where it paused - null if it isn't paused */
+		private Runnable resume;
+		
+		/**
+		 * Constructs a Chunk Writer that writes to the given channel
+		 *
+		 * @param channel The channel to write to
+		 */
+		private ChunkWriter(AsynchronousFileChannel channel){
+			this.channel = channel;
+			waiting = new ArrayDeque<>();
+			spares = new ArrayDeque<>();
+			written = new CompletableFuture<>();
+			chunk = ByteBuffer.allocate(chunkSize);
+			position = 0;
+			writing = false;
+			finished = false;
+			error = null;
+			resume = null;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void write(int b) throws IOException{
+			chunk.put((byte) b);
+			if(!chunk.hasRemaining()){
+				handOff();
+			}
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException{
+			while(length > 0){
+				int count = Math.min(length, chunk.remaining());
+				chunk.put(bytes, offset, count);
+				offset += count;
+				length -= count;
+				if(!chunk.hasRemaining()){
+					handOff();
+				}
+			}
+		}
+		
+		/**
+		 * Checks whether as many chunks as allowed are waiting to be written, and if so, keeps the given task to be
+		 * run when one of them is written
+		 *
+		 * @param task The task that picks up the encoding where it paused
+		 * @return Whether the encoding should pause
+		 */
+		private synchronized boolean pauseIfFull(Runnable task){
+			if(waiting.size() < maxWaitingChunks){
+				return false;
+			}
+			resume = task;
+			return true;
+		}
+		
+		/**
+		 * Hands off the last chunk to be written, and completes {@link #written} once everything is written
+		 *
+		 * @throws IOException If writing an earlier chunk failed
+		 */
+		private void finish() throws IOException{
+			if(chunk.position() != 0){
+				handOff();
+			}
+			boolean done;
+			synchronized(this){
+				finished = true;
+				done = !writing;
+			}
+			if(done){
+				complete();
+			}
+		}
+		
+		/**
+		 * Fails the write with the given error, once the chunk being written (if any) is done
+		 *
+		 * @param failure The error
+		 */
+		private void fail(Throwable failure){
+			boolean done;
+			synchronized(this){
+				if(error == null){
+					error = failure;
+				}
+				finished = true;
+				resume = null;
+				// Drop the chunks that haven't started being written
+				while(waiting.size() > (writing?1:0)){
+					waiting.removeLast();
+				}
+				done = !writing;
+			}
+			if(done){
+				complete();
+			}
+		}
+		
+		/**
+		 * Completes {@link #written}, with the error if there is one
+		 */
+		private void complete(){
+			Throwable failure;
+			synchronized(this){
+				failure = error;
+			}
+			if(failure != null){
+				written.completeExceptionally(failure);
+			}else{
+				written.complete(null);
+			}
+		}
+		
+		/**
+		 * Hands off the current chunk to be written (starting the write if no other chunk is being written) and
+		 * starts filling a spare one
+		 *
+		 * @throws IOException If writing an earlier chunk failed
+		 */
+		private void handOff() throws IOException{
+			ByteBuffer toWrite = null;
+			long chunkPosition = 0;
+			synchronized(this){
+				if(error != null){
+					throw error instanceof IOException ioe?ioe:new IOException(error);
+				}
+				waiting.add(chunk.flip());
+				if(!writing){
+					writing = true;
+					toWrite = chunk;
+					chunkPosition = position;
+				}
+				ByteBuffer spare = spares.poll();
+				chunk = spare != null?spare:ByteBuffer.allocate(chunkSize);
+			}
+			if(toWrite != null){
+				writeChunk(toWrite, chunkPosition);
+			}
+		}
+		
+		/**
+		 * Called when the chunk being written is done: starts writing the next chunk waiting (if any), and resumes the
+		 * encoding if it was paused for it
+		 *
+		 * @param bytes The chunk that was written
+		 */
+		private void chunkWritten(ByteBuffer bytes){
+			ByteBuffer next;
+			long nextPosition;
+			Runnable task;
+			boolean done;
+			synchronized(this){
+				position += bytes.limit();
+				waiting.poll();
+				spares.add(bytes.clear());
+				next = waiting.peek();
+				nextPosition = position;
+				writing = next != null;
+				task = resume;
+				resume = null;
+				done = finished && !writing;
+			}
+			if(next != null){
+				writeChunk(next, nextPosition);
+			}
+			if(task != null){
+				task.run();
+			}
+			if(done){
+				complete();
+			}
+		}
+		
+		/**
+		 * Called when writing the chunk failed: fails the write (the encoding stops at its next hand-off or pause)
+		 *
+		 * @param failure The error the write failed with
+		 */
+		private void chunkFailed(Throwable failure){
+			synchronized(this){
+				writing = false;
+				waiting.clear();
+			}
+			fail(failure);
+		}
+		
+		/**
+		 * Writes the whole of the given chunk, then calls {@link #chunkWritten(ByteBuffer)}
+		 *
+		 * @param bytes The chunk to write
+		 * @param chunkPosition The position in the file of the chunk
+		 */
+		private void writeChunk(ByteBuffer bytes, long chunkPosition){
+			channel.write(bytes, chunkPosition, chunkPosition, new CompletionHandler<>(){
+				/** {@inheritDoc} */
+				@Override
+				public void completed(Integer length, Long start){
+					if(bytes.hasRemaining()){
+						// Only part of the chunk was written, so write the rest
+						channel.write(bytes, start + length, start + length, this);
+					}else{
+						chunkWritten(bytes);
+					}
+				}
+				
+				/** {@inheritDoc} */
+				@Override
+				public void failed(Throwable failure, Long start){
+					chunkFailed(failure);
+				}
+			});
+		}
+	}
+}
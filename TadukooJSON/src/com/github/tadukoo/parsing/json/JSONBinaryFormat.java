@@ -0,0 +1,66 @@
+package com.github.tadukoo.parsing.json;
+
+/**
+ * JSON Binary Format is an interface containing the constants for the Tadukoo binary JSON format, used by
+ * {@link JSONBinaryWriter} and {@link JSONBinaryReader}. The format is a compact, tagged encoding of JSON values
+ * that keeps the Java types of the values (e.g. an Integer stays an Integer).
+ * <br><br>
+ * A binary JSON stream starts with the {@link #magic magic bytes} followed by the {@link #formatVersion format version}
+ * byte. It's then followed by any number of values, each of which starts with a one-byte tag:
+ * <ul>
+ *     <li>{@link #nullTag}, {@link #falseTag}, and {@link #trueTag} have nothing after them</li>
+ *     <li>{@link #intTag}, {@link #longTag}, and {@link #shortTag} are followed by a zig-zag varint</li>
+ *     <li>{@link #wholeDoubleTag} is a Double with no fractional part, followed by a zig-zag varint</li>
+ *     <li>{@link #floatTag} and {@link #doubleTag} are followed by their IEEE 754 bits (4 or 8 bytes, big-endian)</li>
+ *     <li>{@link #stringTag} is followed by a varint of the length in bytes, then the UTF-8 bytes</li>
+ *     <li>{@link #arrayTag} is followed by a varint of the number of items, then each item value</li>
+ *     <li>{@link #classTag} is followed by a varint of the number of entries, then each key and value</li>
+ * </ul>
+ * Varints are unsigned, 7 bits per byte, least significant group first, with the high bit set on every byte except
+ * the last.
+ * <br><br>
+ * Keys are compressed using a dictionary that's built up as the stream is written and read. Each key starts with a
+ * varint: if its lowest bit is 0, the rest of it is the index of a key already in the dictionary. If the lowest bit
+ * is 1, the rest of it is the length in bytes of a new key, followed by its UTF-8 bytes, and the key is added to
+ * the dictionary (as long as it has less than {@link #maxDictionarySize} keys).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public interface JSONBinaryFormat{
+	/** The bytes at the start of a binary JSON stream - TJB */
+	byte[] magic = {'T', 'J', 'B'};
+	/** The version of the binary JSON format */
+	byte formatVersion = 1;
+	/** The maximum number of keys in the key dictionary */
+	int maxDictionarySize = 65536;
+	
+	/*
+	 * Value tags
+	 */
+	/** Tag for a null value */
+	byte nullTag = 0x00;
+	/** Tag for a false boolean */
+	byte falseTag = 0x01;
+	/** Tag for a true boolean */
+	byte trueTag = 0x02;
+	/** Tag for an Integer */
+	byte intTag = 0x03;
+	/** Tag for a Long */
+	byte longTag = 0x04;
+	/** Tag for a Short */
+	byte shortTag = 0x05;
+	/** Tag for a Float */
+	byte floatTag = 0x06;
+	/** Tag for a Double */
+	byte doubleTag = 0x07;
+	/** Tag for a Double with no fractional part (stored as a varint) */
+	byte wholeDoubleTag = 0x08;
+	/** Tag for a String */
+	byte stringTag = 0x09;
+	/** Tag for a {@link JSONArray} */
+	byte arrayTag = 0x0A;
+	/** Tag for a {@link JSONClass} */
+	byte classTag = 0x0B;
+}
@@ -0,0 +1,310 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON Binary Reader reads JSON values that were written in the {@link JSONBinaryFormat Tadukoo binary JSON format}
+ * by a {@link JSONBinaryWriter}. Values are read back with the same Java types they were written with, classes are
+ * read as {@link SimpleOrderedJSONClass SimpleOrderedJSONClasses}, and arrays as {@link JSONArrayList JSONArrayLists}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONBinaryReader implements JSONBinaryFormat, Closeable{
+	/** The size of the buffer used in reading from a stream */
+	private static final int bufferSize = 8192;
+	/** The most items to make room for up front in an array, since the size read may not be trustworthy */
+	private static final int maxInitialCapacity = 1024;
+	
+	/** The {@link InputStream} to read from - null if reading from a byte array */
+	private final InputStream in;
+	/** The buffer of bytes read but not yet used */
+	private byte[] buffer;
+	/** The position of the next byte to use in the buffer */
+	private int position;
+	/** The number of valid bytes in the buffer */
+	private int limit;
+	/** The key dictionary, in the order keys were added */
+	private final List<String> keyDictionary;
+	
+	/**
+	 * Constructs a JSON Binary Reader that reads from the given {@link InputStream}, and reads the header
+	 * of the binary JSON format
+	 *
+	 * @param in The {@link InputStream} to read from
+	 * @throws IOException If anything goes wrong in reading the header
+	 */
+	public JSONBinaryReader(InputStream in) throws IOException{
+		this.in = in;
+		buffer = new byte[bufferSize];
+		position = 0;
+		limit = 0;
+		keyDictionary = new ArrayList<>();
+		readHeader();
+	}
+	
+	/**
+	 * Constructs a JSON Binary Reader that reads from the given bytes, and reads the header
+	 * of the binary JSON format
+	 *
+	 * @param bytes The bytes to read from
+	 * @throws IOException If anything goes wrong in reading the header
+	 */
+	public JSONBinaryReader(byte[] bytes) throws IOException{
+		in = null;
+		buffer = bytes;
+		position = 0;
+		limit = bytes.length;
+		keyDictionary = new ArrayList<>();
+		readHeader();
+	}
+	
+	/**
+	 * Reads the header of the binary JSON format and ensures it's valid
+	 *
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private void readHeader() throws IOException{
+		if(!fill(magic.length + 1)){
+			throw new IllegalArgumentException("Stream is not binary JSON");
+		}
+		for(byte b: magic){
+			if(buffer[position++] != b){
+				throw new IllegalArgumentException("Stream is not binary JSON");
+			}
+		}
+		byte version = buffer[position++];
+		if(version != formatVersion){
+			throw new IllegalArgumentException("Unsupported binary JSON version: " + version);
+		}
+	}
+	
+	/**
+	 * @return Whether there's another value to be read
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public boolean hasNext() throws IOException{
+		return fill(1);
+	}
+	
+	/**
+	 * Reads the next value
+	 *
+	 * @return The value that was read (may be null)
+	 * @throws IOException If anything goes wrong in reading, including reaching the end of the stream
+	 */
+	public Object read() throws IOException{
+		byte tag = readByte();
+		return switch(tag){
+			case nullTag -> null;
+			case falseTag -> false;
+			case trueTag -> true;
+			case intTag -> (int) unZigZag(readVarLong());
+			case longTag -> unZigZag(readVarLong());
+			case shortTag -> (short) unZigZag(readVarLong());
+			case floatTag -> Float.intBitsToFloat((int) readFixed(4));
+			case doubleTag -> Double.longBitsToDouble(readFixed(8));
+			case wholeDoubleTag -> (double) unZigZag(readVarLong());
+			case stringTag -> readString(checkLength(readVarLong()));
+			case arrayTag -> {
+				int size = checkLength(readVarLong());
+				JSONArrayList<Object> array = new JSONArrayList<>();
+				array.ensureCapacity(Math.min(size, maxInitialCapacity));
+				for(int i = 0; i < size; i++){
+					array.add(read());
+				}
+				yield array;
+			}
+			case classTag -> {
+				int size = checkLength(readVarLong());
+				JSONClass clazz = new SimpleOrderedJSONClass();
+				for(int i = 0; i < size; i++){
+					String key = readKey();
+					clazz.setItem(key, read());
+				}
+				yield clazz;
+			}
+			default -> throw new IllegalStateException("Unknown binary JSON tag: " + tag);
+		};
+	}
+	
+	/**
+	 * Reads a key, either from the key dictionary or as a new key
+	 *
+	 * @return The key that was read
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private String readKey() throws IOException{
+		long header = readVarLong();
+		if((header & 1) == 0){
+			long index = header >>> 1;
+			if(index >= keyDictionary.size()){
+				throw new IllegalStateException("Unknown key index in binary JSON: " + index);
+			}
+			return keyDictionary.get((int) index);
+		}
+		String key = readString(checkLength(header >>> 1));
+		if(keyDictionary.size() < maxDictionarySize){
+			keyDictionary.add(key);
+		}
+		return key;
+	}
+	
+	/**
+	 * Reads a String of the given length in UTF-8 bytes. A long String from a stream is read a buffer at a time,
+	 * since the length read may not be trustworthy, so memory only grows as the bytes actually arrive.
+	 *
+	 * @param length The length of the String in bytes
+	 * @return The String that was read
+	 * @throws IOException If anything goes wrong in reading, including reaching the end of the stream
+	 */
+	private String readString(int length) throws IOException{
+		if(in == null || length <= bufferSize || limit - position >= length){
+			require(length);
+			String str = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return str;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(bufferSize);
+		int remaining = length;
+		while(remaining > 0){
+			int count = Math.min(remaining, bufferSize);
+			require(count);
+			bytes.write(buffer, position, count);
+			position += count;
+			remaining -= count;
+		}
+		return bytes.toString(StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Ensures the given length fits in an int
+	 *
+	 * @param length The length that was read
+	 * @return The length as an int
+	 */
+	private static int checkLength(long length){
+		if(length > Integer.MAX_VALUE - 8){
+			throw new IllegalStateException("Length in binary JSON is too large: " + length);
+		}
+		return (int) length;
+	}
+	
+	/**
+	 * Reverses zig-zag encoding
+	 *
+	 * @param value The zig-zag encoded number
+	 * @return The original number
+	 */
+	private static long unZigZag(long value){
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Reads an unsigned varint
+	 *
+	 * @return The number that was read
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private long readVarLong() throws IOException{
+		long value = 0;
+		for(int shift = 0; shift < 64; shift += 7){
+			byte b = readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if((b & 0x80) == 0){
+				return value;
+			}
+		}
+		throw new IllegalStateException("Malformed varint in binary JSON");
+	}
+	
+	/**
+	 * Reads a number stored in a fixed number of big-endian bytes
+	 *
+	 * @param numBytes The number of bytes to read
+	 * @return The number that was read
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private long readFixed(int numBytes) throws IOException{
+		require(numBytes);
+		long value = 0;
+		for(int i = 0; i < numBytes; i++){
+			value = (value << 8) | (buffer[position++] & 0xFF);
+		}
+		return value;
+	}
+	
+	/**
+	 * Reads a single byte
+	 *
+	 * @return The byte that was read
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private byte readByte() throws IOException{
+		if(position == limit){
+			require(1);
+		}
+		return buffer[position++];
+	}
+	
+	/**
+	 * Ensures the given number of bytes are available in the buffer, throwing an {@link EOFException} if they
+	 * can't be
+	 *
+	 * @param numBytes The number of bytes needed
+	 * @throws IOException If anything goes wrong in reading, or there aren't enough bytes
+	 */
+	private void require(int numBytes) throws IOException{
+		if(!fill(numBytes)){
+			throw new EOFException("Binary JSON ended prematurely");
+		}
+	}
+	
+	/**
+	 * Tries to ensure the given number of bytes are available in the buffer, reading more from the stream if needed
+	 *
+	 * @param numBytes The number of bytes needed
+	 * @return Whether the bytes are available
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private boolean fill(int numBytes) throws IOException{
+		if(limit - position >= numBytes){
+			return true;
+		}
+		if(in == null){
+			return false;
+		}
+		
+		// Move the unused bytes to the front (growing the buffer if needed) and read more
+		int remaining = limit - position;
+		byte[] newBuffer = numBytes > buffer.length?new byte[Math.max(numBytes, buffer.length * 2)]:buffer;
+		System.arraycopy(buffer, position, newBuffer, 0, remaining);
+		buffer = newBuffer;
+		position = 0;
+		limit = remaining;
+		while(limit < numBytes){
+			int read = in.read(buffer, limit, buffer.length - limit);
+			if(read < 0){
+				return false;
+			}
+			limit += read;
+		}
+		return true;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException{
+		if(in != null){
+			in.close();
+		}
+	}
+}
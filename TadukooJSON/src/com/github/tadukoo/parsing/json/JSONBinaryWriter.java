@@ -0,0 +1,331 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Binary Writer writes JSON values to an {@link OutputStream} in the {@link JSONBinaryFormat Tadukoo binary
+ * JSON format}. Any number of values can be written, and they share one key dictionary, so keys that repeat across
+ * values are only written out in full once. Use {@link JSONBinaryReader} to read them back.
+ * <br><br>
+ * Values are buffered, so {@link #flush()} or {@link #close()} must be called when done writing.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONBinaryWriter implements JSONBinaryFormat, Closeable, Flushable{
+	/** The size of the buffer used in writing */
+	private static final int bufferSize = 8192;
+	/** The largest Double that can be stored as a whole number without losing precision - 2^53 */
+	private static final double maxWholeDouble = 9007199254740992.0;
+	
+	/** The {@link OutputStream} to write to */
+	private final OutputStream out;
+	/** The buffer of bytes not yet written to the stream */
+	private final byte[] buffer;
+	/** The number of bytes in the buffer */
+	private int position;
+	/** The key dictionary, mapping keys to their index */
+	private final Map<String, Integer> keyDictionary;
+	
+	/**
+	 * Constructs a JSON Binary Writer that writes to the given {@link OutputStream}, and writes the header
+	 * of the binary JSON format
+	 *
+	 * @param out The {@link OutputStream} to write to
+	 */
+	public JSONBinaryWriter(OutputStream out){
+		this.out = out;
+		buffer = new byte[bufferSize];
+		position = 0;
+		keyDictionary = new HashMap<>();
+		
+		// Write the header
+		System.arraycopy(magic, 0, buffer, 0, magic.length);
+		position = magic.length;
+		buffer[position++] = formatVersion;
+	}
+	
+	/**
+	 * Writes the given value. It can be anything that {@link JSONConverter#convertToJSON(Object)} supports.
+	 *
+	 * @param value The value to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void write(Object value) throws IOException{
+		if(value == null){
+			writeByte(nullTag);
+		}else if(value instanceof JSONClass clazz){
+			writeClass(clazz.snapshot());
+		}else if(value instanceof JSONArray<?> array){
+			List<?> items = array.getItems();
+			writeByte(arrayTag);
+			writeVarLong(items.size());
+			for(Object item: items){
+				write(item);
+			}
+		}else if(value instanceof Boolean bool){
+			writeByte(bool?trueTag:falseTag);
+		}else if(value instanceof Integer i){
+			writeByte(intTag);
+			writeVarLong(zigZag(i));
+		}else if(value instanceof Long l){
+			writeByte(longTag);
+			writeVarLong(zigZag(l));
+		}else if(value instanceof Short s){
+			writeByte(shortTag);
+			writeVarLong(zigZag(s));
+		}else if(value instanceof Float f){
+			writeByte(floatTag);
+			writeFixed(Float.floatToIntBits(f), 4);
+		}else if(value instanceof Double d){
+			writeDouble(d);
+		}else if(value instanceof String str){
+			writeByte(stringTag);
+			writeString(str);
+		}else{
+			throw new IllegalArgumentException("Unknown how to convert object into binary JSON " +
+					"type: " + value.getClass().getCanonicalName());
+		}
+	}
+	
+	/**
+	 * Writes a {@link JSONClass}, using the key order if it's an {@link OrderedJSONClass}
+	 *
+	 * @param clazz The {@link JSONClass} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeClass(JSONClass clazz) throws IOException{
+		Collection<String> keys = clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+		Map<String, Object> items = clazz.getMap();
+		writeByte(classTag);
+		writeVarLong(keys.size());
+		for(String key: keys){
+			writeKey(key);
+			write(items.get(key));
+		}
+	}
+	
+	/**
+	 * Writes a key, using the key dictionary if the key was already written
+	 *
+	 * @param key The key to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeKey(String key) throws IOException{
+		Integer index = keyDictionary.get(key);
+		if(index != null){
+			writeVarLong((long) index << 1);
+			return;
+		}
+		if(keyDictionary.size() < maxDictionarySize){
+			keyDictionary.put(key, keyDictionary.size());
+		}
+		writeStringWithFlag(key, 1);
+	}
+	
+	/**
+	 * Writes a Double, as a varint if it's a whole number that can be stored exactly
+	 *
+	 * @param d The Double to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeDouble(double d) throws IOException{
+		if(d == Math.rint(d) && Math.abs(d) < maxWholeDouble &&
+				(d != 0 || Double.doubleToRawLongBits(d) == 0)){
+			writeByte(wholeDoubleTag);
+			writeVarLong(zigZag((long) d));
+		}else{
+			writeByte(doubleTag);
+			writeFixed(Double.doubleToRawLongBits(d), 8);
+		}
+	}
+	
+	/**
+	 * Writes a String as its length in UTF-8 bytes, followed by the bytes
+	 *
+	 * @param str The String to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeString(String str) throws IOException{
+		writeStringWithFlag(str, -1);
+	}
+	
+	/**
+	 * Writes a String as its length in UTF-8 bytes (possibly with a flag in the lowest bit), followed by the bytes
+	 *
+	 * @param str The String to be written
+	 * @param flag The flag to put in the lowest bit of the length, or -1 to not use a flag
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeStringWithFlag(String str, int flag) throws IOException{
+		int length = utf8Length(str);
+		writeVarLong(flag < 0?length:((long) length << 1) | flag);
+		if(length > buffer.length){
+			// Too big for the buffer, so write it straight to the stream
+			drainBuffer();
+			out.write(str.getBytes(StandardCharsets.UTF_8));
+			return;
+		}
+		ensureSpace(length);
+		position = encodeUTF8(str, buffer, position);
+	}
+	
+	/**
+	 * Encodes the given String as UTF-8 into the given buffer. The buffer must have space for
+	 * {@link #utf8Length(String)} bytes.
+	 *
+	 * @param str The String to encode
+	 * @param buffer The buffer to encode the String into
+	 * @param position The index in the buffer to start at
+	 * @return The index in the buffer after the encoded String
+	 */
+	static int encodeUTF8(String str, byte[] buffer, int position){
+		int strLength = str.length();
+		for(int i = 0; i < strLength; i++){
+			char c = str.charAt(i);
+			if(c < 0x80){
+				buffer[position++] = (byte) c;
+			}else if(c < 0x800){
+				buffer[position++] = (byte) (0xC0 | (c >> 6));
+				buffer[position++] = (byte) (0x80 | (c & 0x3F));
+			}else if(Character.isHighSurrogate(c) && i + 1 < strLength &&
+					Character.isLowSurrogate(str.charAt(i + 1))){
+				int codePoint = Character.toCodePoint(c, str.charAt(++i));
+				buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+				buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+			}else if(Character.isSurrogate(c)){
+				// Unpaired surrogates can't be encoded, so they're replaced (as String.getBytes does)
+				buffer[position++] = '?';
+			}else{
+				buffer[position++] = (byte) (0xE0 | (c >> 12));
+				buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				buffer[position++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return position;
+	}
+	
+	/**
+	 * Calculates the number of bytes the given String takes up in UTF-8
+	 *
+	 * @param str The String to check
+	 * @return The length of the String in UTF-8 bytes
+	 */
+	static int utf8Length(String str){
+		int strLength = str.length();
+		int length = strLength;
+		for(int i = 0; i < strLength; i++){
+			char c = str.charAt(i);
+			if(c >= 0x80){
+				if(c < 0x800){
+					length++;
+				}else if(Character.isHighSurrogate(c) && i + 1 < strLength &&
+						Character.isLowSurrogate(str.charAt(i + 1))){
+					// 4 bytes for 2 chars
+					length += 2;
+					i++;
+				}else if(!Character.isSurrogate(c)){
+					length += 2;
+				}
+			}
+		}
+		return length;
+	}
+	
+	/**
+	 * Applies zig-zag encoding to the given number, so that small negative numbers are small varints
+	 *
+	 * @param value The number to be encoded
+	 * @return The zig-zag encoded number
+	 */
+	private static long zigZag(long value){
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	/**
+	 * Writes the given number as an unsigned varint
+	 *
+	 * @param value The number to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeVarLong(long value) throws IOException{
+		ensureSpace(10);
+		while((value & ~0x7FL) != 0){
+			buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+	
+	/**
+	 * Writes the given number as a fixed number of big-endian bytes
+	 *
+	 * @param value The number to be written
+	 * @param numBytes The number of bytes to write
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeFixed(long value, int numBytes) throws IOException{
+		ensureSpace(numBytes);
+		for(int shift = (numBytes - 1) * 8; shift >= 0; shift -= 8){
+			buffer[position++] = (byte) (value >>> shift);
+		}
+	}
+	
+	/**
+	 * Writes a single byte
+	 *
+	 * @param b The byte to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeByte(byte b) throws IOException{
+		ensureSpace(1);
+		buffer[position++] = b;
+	}
+	
+	/**
+	 * Ensures there's space for the given number of bytes in the buffer, flushing it if there's not
+	 *
+	 * @param numBytes The number of bytes that need to fit in the buffer
+	 * @throws IOException If anything goes wrong in writing the buffer
+	 */
+	private void ensureSpace(int numBytes) throws IOException{
+		if(buffer.length - position < numBytes){
+			drainBuffer();
+		}
+	}
+	
+	/**
+	 * Writes the contents of the buffer to the stream and empties the buffer
+	 *
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void drainBuffer() throws IOException{
+		out.write(buffer, 0, position);
+		position = 0;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void flush() throws IOException{
+		drainBuffer();
+		out.flush();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException{
+		flush();
+		out.close();
+	}
+}
@@ -0,0 +1,515 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Byte Writer writes JSON values as UTF-8 text straight to an {@link OutputStream}, producing the same JSON as
+ * {@link JSONConverter#convertToJSON(Object)} without building any intermediate Strings:
+ * <ul>
+ *     <li>Keys are encoded (with their quotes and colon) once, and the bytes are cached for reuse</li>
+ *     <li>Strings are encoded straight into the buffer, then checked for characters that need escaping 8 bytes
+ *     at a time (SWAR), so only Strings that actually need escaping go through the slower escaping path</li>
+ *     <li>Integers, and Doubles and Floats that are whole numbers, are written digit by digit into the buffer</li>
+ *     <li>{@link CachingJSONObject Caching JSON Objects} are written using their cached bytes</li>
+ *     <li>Classes are written from their {@link JSONClass#snapshot() snapshot}, so classes like
+ *     {@link ConcurrentJSONClass} are written as they were at one moment</li>
+ * </ul>
+ * The writer can be reused for any number of values (keeping its key cache), and values are buffered, so
+ * {@link #flush()} or {@link #close()} must be called when done writing. A JSON Byte Writer is not thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONByteWriter implements Closeable, Flushable{
+	/** The size of the buffer used in writing */
+	private static final int bufferSize = 8192;
+	/** The maximum number of keys kept in the key cache */
+	public static final int maxCachedKeys = 4096;
+	/**
+	 * The largest whole number that {@link Double#toString(double)} and {@link Float#toString(float)} write
+	 * without an exponent - 10^7
+	 */
+	private static final double maxPlainWholeNumber = 1.0E7;
+	/** Used to read 8 bytes of the buffer at a time as a long */
+	private static final VarHandle longView = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+	/** A long with 0x01 in every byte */
+	private static final long lowBits = 0x0101010101010101L;
+	/** A long with 0x80 in every byte */
+	private static final long highBits = 0x8080808080808080L;
+	/** The bytes for the smallest long, which can't be negated */
+	private static final byte[] minLongBytes = String.valueOf(Long.MIN_VALUE)
+			.getBytes(StandardCharsets.US_ASCII);
+	/** Hex digits used in unicode escapes */
+	private static final byte[] hexDigits = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	
+	/** The {@link OutputStream} to write to */
+	private final OutputStream out;
+	/** The {@link JSONConverter} used for objects with a {@link JSONCodec} or a custom {@link JSONObject} */
+	final JSONConverter converter;
+	/** The buffer of bytes not yet written to the stream */
+	private final byte[] buffer;
+	/** The number of bytes in the buffer */
+	private int position;
+	/** The cached bytes of keys, including their quotes and the colon after them */
+	private final Map<String, byte[]> keyCache;
+	
+	/**
+	 * Constructs a JSON Byte Writer that writes to the given {@link OutputStream}
+	 *
+	 * @param out The {@link OutputStream} to write to
+	 */
+	public JSONByteWriter(OutputStream out){
+		this(out, new JSONConverter());
+	}
+	
+	/**
+	 * Constructs a JSON Byte Writer that writes to the given {@link OutputStream}, using the given
+	 * {@link JSONConverter} for objects with a {@link JSONCodec} or a custom {@link JSONObject}
+	 *
+	 * @param out The {@link OutputStream} to write to
+	 * @param converter The {@link JSONConverter} to use
+	 */
+	public JSONByteWriter(OutputStream out, JSONConverter converter){
+		this.out = out;
+		this.converter = converter;
+		buffer = new byte[bufferSize];
+		position = 0;
+		keyCache = new HashMap<>();
+	}
+	
+	/**
+	 * @return The number of keys currently in the key cache
+	 */
+	public int getCachedKeyCount(){
+		return keyCache.size();
+	}
+	
+	/**
+	 * Writes the given value as JSON. It can be anything that {@link JSONConverter#convertToJSON(Object)} supports.
+	 *
+	 * @param value The value to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void write(Object value) throws IOException{
+		if(value == null){
+			writeASCII("null");
+		}else if(value instanceof CachingJSONObject caching){
+			writeBytes(caching.convertToJSONBytes(converter));
+		}else if(value instanceof JSONClass clazz){
+			writeClass(clazz.snapshot());
+		}else if(value instanceof JSONArray<?> array){
+			writeArray(array.getItems());
+		}else if(value instanceof JSONObject obj){
+			writeRaw(obj.convertToJSON(converter));
+		}else if(value instanceof Boolean bool){
+			writeASCII(bool?"true":"false");
+		}else if(value instanceof Integer || value instanceof Long || value instanceof Short){
+			writeLong(((Number) value).longValue());
+		}else if(value instanceof Float f){
+			writeFloat(f);
+		}else if(value instanceof Double d){
+			writeDouble(d);
+		}else if(value instanceof String str){
+			writeString(str);
+		}else{
+			throw new IllegalArgumentException("Unknown how to convert object into JSON string" +
+					"type: " + value.getClass().getCanonicalName());
+		}
+	}
+	
+	/**
+	 * Writes a {@link JSONClass}, using its {@link JSONCodec} if it has one, or using the key order if it's an
+	 * {@link OrderedJSONClass}
+	 *
+	 * @param clazz The {@link JSONClass} to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeClass(JSONClass clazz) throws IOException{
+		JSONCodec<JSONClass> codec = JSONCodecs.getCodec(clazz.getClass());
+		if(codec != null){
+			codec.writeJSON(clazz, this);
+			return;
+		}
+		Collection<String> keys = clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+		Map<String, Object> items = clazz.getMap();
+		writeByte(JSONConverter.classStartChar);
+		boolean first = true;
+		for(String key: keys){
+			if(!first){
+				writeByte(JSONConverter.nextValueChar);
+			}
+			first = false;
+			writeKey(key);
+			write(items.get(key));
+		}
+		writeByte(JSONConverter.classEndChar);
+	}
+	
+	/**
+	 * Writes the items of a {@link JSONArray}
+	 *
+	 * @param items The items to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeArray(List<?> items) throws IOException{
+		writeByte(JSONConverter.arrayStartChar);
+		boolean first = true;
+		for(Object item: items){
+			if(!first){
+				writeByte(JSONConverter.nextValueChar);
+			}
+			first = false;
+			write(item);
+		}
+		writeByte(JSONConverter.arrayEndChar);
+	}
+	
+	/**
+	 * Writes a key along with its quotes and the colon after it, using the key cache (also used by generated
+	 * {@link JSONCodec JSONCodecs} for keys they don't declare)
+	 *
+	 * @param key The key to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeKey(String key) throws IOException{
+		byte[] keyBytes = keyCache.get(key);
+		if(keyBytes == null){
+			// At most 6 bytes per character (for escapes), plus the quotes and colon
+			int maxLength = key.length() * 6 + 3;
+			if(maxLength > buffer.length || keyCache.size() >= maxCachedKeys){
+				writeString(key);
+				writeByte(JSONConverter.keyEndChar);
+				return;
+			}
+			
+			// Encode the key using the buffer, then copy it out for the cache
+			ensureSpace(maxLength);
+			int start = position;
+			writeString(key);
+			writeByte(JSONConverter.keyEndChar);
+			byte[] encoded = new byte[position - start];
+			System.arraycopy(buffer, start, encoded, 0, encoded.length);
+			keyCache.put(key, encoded);
+			return;
+		}
+		if(keyBytes.length > buffer.length - position){
+			drainBuffer();
+		}
+		System.arraycopy(keyBytes, 0, buffer, position, keyBytes.length);
+		position += keyBytes.length;
+	}
+	
+	/**
+	 * Writes a String surrounded by quotes, escaping it as {@link JSONConverter#quoteString(String)} does
+	 *
+	 * @param str The String to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeString(String str) throws IOException{
+		int length = JSONBinaryWriter.utf8Length(str);
+		if(length + 2 <= buffer.length){
+			// Encode the String into the buffer, then check it for bytes that need escaping
+			ensureSpace(length + 2);
+			int start = position;
+			buffer[position++] = JSONStringDecoder.quoteChar;
+			position = JSONBinaryWriter.encodeUTF8(str, buffer, position);
+			if(!needsEscaping(buffer, start + 1, position)){
+				buffer[position++] = JSONStringDecoder.quoteChar;
+				return;
+			}
+			
+			// Something needs to be escaped, so start over and escape it
+			position = start;
+		}
+		writeEscapedString(str);
+	}
+	
+	/**
+	 * Writes a String surrounded by quotes one character at a time, escaping characters as needed
+	 *
+	 * @param str The String to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeEscapedString(String str) throws IOException{
+		writeByte(JSONStringDecoder.quoteChar);
+		int strLength = str.length();
+		for(int i = 0; i < strLength; i++){
+			char c = str.charAt(i);
+			ensureSpace(6);
+			switch(c){
+				case '"', '\\' -> writeEscape(c);
+				case '\b' -> writeEscape('b');
+				case '\f' -> writeEscape('f');
+				case '\n' -> writeEscape('n');
+				case '\r' -> writeEscape('r');
+				case '\t' -> writeEscape('t');
+				default -> {
+					if(c < ' '){
+						writeEscape('u');
+						for(int shift = 12; shift >= 0; shift -= 4){
+							buffer[position++] = hexDigits[(c >> shift) & 0xF];
+						}
+					}else if(Character.isHighSurrogate(c) && i + 1 < strLength &&
+							Character.isLowSurrogate(str.charAt(i + 1))){
+						position = JSONBinaryWriter.encodeUTF8(str.substring(i, i + 2), buffer, position);
+						i++;
+					}else if(c < 0x80){
+						buffer[position++] = (byte) c;
+					}else{
+						position = JSONBinaryWriter.encodeUTF8(String.valueOf(c), buffer, position);
+					}
+				}
+			}
+		}
+		writeByte(JSONStringDecoder.quoteChar);
+	}
+	
+	/**
+	 * Writes a backslash followed by the given character (there must be space for both)
+	 *
+	 * @param c The character after the backslash
+	 */
+	private void writeEscape(char c){
+		buffer[position++] = JSONStringDecoder.escapeChar;
+		buffer[position++] = (byte) c;
+	}
+	
+	/**
+	 * Checks if any of the given bytes of UTF-8 need to be escaped in JSON (quotes, backslashes, and control
+	 * characters), checking 8 bytes at a time. Bytes of multi-byte characters are all 0x80 or above, so they
+	 * never match.
+	 *
+	 * @param bytes The bytes to check
+	 * @param start The index of the first byte to check
+	 * @param end The index after the last byte to check
+	 * @return Whether any of the bytes need to be escaped
+	 */
+	static boolean needsEscaping(byte[] bytes, int start, int end){
+		int index = start;
+		for(; index + Long.BYTES <= end; index += Long.BYTES){
+			long word = (long) longView.get(bytes, index);
+			if(hasByteBelow(word, ' ') || hasByte(word, JSONStringDecoder.quoteChar) ||
+					hasByte(word, JSONStringDecoder.escapeChar)){
+				return true;
+			}
+		}
+		for(; index < end; index++){
+			byte b = bytes[index];
+			if((b >= 0 && b < ' ') || b == JSONStringDecoder.quoteChar || b == JSONStringDecoder.escapeChar){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks if any byte in the given word is less than the given value (which must be at most 128)
+	 *
+	 * @param word The 8 bytes to check
+	 * @param value The value to compare to
+	 * @return Whether any byte is less than the value
+	 */
+	private static boolean hasByteBelow(long word, int value){
+		return ((word - lowBits * value) & ~word & highBits) != 0;
+	}
+	
+	/**
+	 * Checks if any byte in the given word is equal to the given value
+	 *
+	 * @param word The 8 bytes to check
+	 * @param value The value to look for
+	 * @return Whether any byte is equal to the value
+	 */
+	private static boolean hasByte(long word, int value){
+		return hasByteBelow(word ^ (lowBits * value), 1);
+	}
+	
+	/**
+	 * Writes a whole number digit by digit
+	 *
+	 * @param value The number to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeLong(long value) throws IOException{
+		ensureSpace(minLongBytes.length);
+		if(value == Long.MIN_VALUE){
+			System.arraycopy(minLongBytes, 0, buffer, position, minLongBytes.length);
+			position += minLongBytes.length;
+			return;
+		}
+		if(value < 0){
+			buffer[position++] = '-';
+			value = -value;
+		}
+		
+		// Count the digits, then fill them in from the end
+		int digits = 1;
+		for(long remaining = value / 10; remaining != 0; remaining /= 10){
+			digits++;
+		}
+		int end = position + digits;
+		for(int index = end - 1; index >= position; index--){
+			buffer[index] = (byte) ('0' + (value % 10));
+			value /= 10;
+		}
+		position = end;
+	}
+	
+	/**
+	 * Writes a Double, digit by digit if it's a whole number that {@link Double#toString(double)} would write
+	 * without an exponent
+	 *
+	 * @param d The Double to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeDouble(double d) throws IOException{
+		if(d == Math.rint(d) && Math.abs(d) < maxPlainWholeNumber){
+			writeWholeNumber((long) d, Double.doubleToRawLongBits(d) < 0);
+		}else{
+			writeASCII(Double.toString(d));
+		}
+	}
+	
+	/**
+	 * Writes a Float, digit by digit if it's a whole number that {@link Float#toString(float)} would write
+	 * without an exponent
+	 *
+	 * @param f The Float to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeFloat(float f) throws IOException{
+		if(f == Math.rint(f) && Math.abs(f) < maxPlainWholeNumber){
+			writeWholeNumber((long) f, Float.floatToRawIntBits(f) < 0);
+		}else{
+			writeASCII(Float.toString(f));
+		}
+	}
+	
+	/**
+	 * Writes a whole floating point number, followed by .0
+	 *
+	 * @param value The whole number to be written
+	 * @param negative Whether the number is negative (needed for negative zero)
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeWholeNumber(long value, boolean negative) throws IOException{
+		if(negative && value == 0){
+			writeByte('-');
+		}
+		writeLong(value);
+		writeASCII(".0");
+	}
+	
+	/**
+	 * Writes JSON text that's already been converted (and escaped)
+	 *
+	 * @param JSONText The JSON text to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	void writeRaw(String JSONText) throws IOException{
+		int length = JSONBinaryWriter.utf8Length(JSONText);
+		if(length > buffer.length){
+			drainBuffer();
+			byte[] bytes = new byte[length];
+			JSONBinaryWriter.encodeUTF8(JSONText, bytes, 0);
+			out.write(bytes);
+			return;
+		}
+		ensureSpace(length);
+		position = JSONBinaryWriter.encodeUTF8(JSONText, buffer, position);
+	}
+	
+	/**
+	 * Writes the given bytes (which are already UTF-8 JSON, like the pre-encoded keys of a generated
+	 * {@link JSONCodec})
+	 *
+	 * @param bytes The bytes to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeBytes(byte[] bytes) throws IOException{
+		if(bytes.length > buffer.length){
+			drainBuffer();
+			out.write(bytes);
+			return;
+		}
+		ensureSpace(bytes.length);
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+		position += bytes.length;
+	}
+	
+	/**
+	 * Writes a String made up of only ASCII characters
+	 *
+	 * @param ascii The String to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeASCII(String ascii) throws IOException{
+		int length = ascii.length();
+		ensureSpace(length);
+		for(int i = 0; i < length; i++){
+			buffer[position++] = (byte) ascii.charAt(i);
+		}
+	}
+	
+	/**
+	 * Writes a single ASCII character, like the braces and commas written by a generated {@link JSONCodec} (also
+	 * used by {@link JSONExternalSorter} for the brackets and commas of an array whose items are written one at a
+	 * time)
+	 *
+	 * @param c The character to be written
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeByte(char c) throws IOException{
+		ensureSpace(1);
+		buffer[position++] = (byte) c;
+	}
+	
+	/**
+	 * Ensures there's space for the given number of bytes in the buffer, flushing it if there's not
+	 *
+	 * @param numBytes The number of bytes that need to fit in the buffer
+	 * @throws IOException If anything goes wrong in writing the buffer
+	 */
+	private void ensureSpace(int numBytes) throws IOException{
+		if(buffer.length - position < numBytes){
+			drainBuffer();
+		}
+	}
+	
+	/**
+	 * Writes the contents of the buffer to the stream and empties the buffer
+	 *
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void drainBuffer() throws IOException{
+		out.write(buffer, 0, position);
+		position = 0;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void flush() throws IOException{
+		drainBuffer();
+		out.flush();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException{
+		flush();
+		out.close();
+	}
+}
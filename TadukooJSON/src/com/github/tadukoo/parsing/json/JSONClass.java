@@ -3,18 +3,19 @@ package com.github.tadukoo.parsing.json;
 import com.github.tadukoo.util.logger.EasyLogger;
 import com.github.tadukoo.util.pojo.MappedPojo;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * JSON Class represents a collection of named values in JSON. It's represented using {@link MappedPojo}.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.1
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.1
  */
 public interface JSONClass extends JSONObject, MappedPojo{
 	
@@ -39,15 +40,67 @@ public interface JSONClass extends JSONObject, MappedPojo{
 		if(!keys.isEmpty()){
 			// Convert each item to a JSON string representation
 			JSONStringBuilder.append(keys.stream()
-					.map(key -> "\"" + key + "\"" + JSONConverter.keyEndChar + converter.convertToJSON(items.get(key)))
+					.map(key -> JSONConverter.quoteString(key) + JSONConverter.keyEndChar +
+							converter.convertToJSON(items.get(key)))
 					.collect(Collectors.joining(String.valueOf(JSONConverter.nextValueChar))));
 		}
 		JSONStringBuilder.append(JSONConverter.classEndChar);
 		return JSONStringBuilder.toString();
 	}
 	
+	/**
+	 * Grabs a consistent view of this class for reading all of its items at once, like when it's written out or
+	 * compared. Classes whose items can change while they're being read (like {@link ConcurrentJSONClass}) return a
+	 * copy made at one moment; others just return themselves.
+	 *
+	 * @return A consistent view of this class
+	 */
+	default JSONClass snapshot(){
+		return this;
+	}
+	
+	/**
+	 * Creates a read-only, thread-safe snapshot of this class, where every {@link JSONClass} and {@link JSONArray}
+	 * in it is also frozen. See {@link FrozenJSONClass} for details.
+	 *
+	 * @return The {@link FrozenJSONClass} snapshot of this class
+	 */
+	default FrozenJSONClass freeze(){
+		return FrozenJSONClass.of(this);
+	}
+	
+	/**
+	 * Grabs the type of {@link JSONClass} to be created for a class value at the given key when parsing directly
+	 * into this class with {@link JSONConverter#parseJSONAs(String, Class)}. Subclasses can override this to declare
+	 * the types of their sub-objects. The type must have a no-argument constructor or
+	 * one that accepts a {@link MappedPojo}.
+	 *
+	 * @param key The key of the class value
+	 * @return The type of {@link JSONClass} to create, or null to use the default ({@link SimpleOrderedJSONClass})
+	 */
+	default Class<? extends JSONClass> getSubClassType(String key){
+		return null;
+	}
+	
+	/**
+	 * Grabs the type of {@link JSONClass} to be created for the class items in an array at the given key when
+	 * parsing directly into this class with {@link JSONConverter#parseJSONAs(String, Class)}. Subclasses can override
+	 * this to declare the item types of their arrays. The type must have a no-argument constructor or
+	 * one that accepts a {@link MappedPojo}.
+	 *
+	 * @param key The key of the array value
+	 * @return The type of {@link JSONClass} to create for items, or null to use the default
+	 * ({@link SimpleOrderedJSONClass})
+	 */
+	default Class<? extends JSONClass> getArrayItemType(String key){
+		return null;
+	}
+	
 	/**
 	 * Grabs the item with the given key as a {@link List}, using the fact that it's a {@link JSONArray}.
+	 * If the items need to be converted to a {@link JSONClass}, it's done using the constructor that accepts a
+	 * {@link MappedPojo}, through the cached factory from {@link JSONClassFactory} (so reflection is only done once
+	 * per class, not once per item).
 	 *
 	 * @param key The key for the item to be grabbed
 	 * @param clazz The class of items in the list/array
@@ -70,16 +123,27 @@ public interface JSONClass extends JSONObject, MappedPojo{
 			return (JSONArrayList<T>) getItem(key);
 		}else if(JSONClass.class.isAssignableFrom(clazz)){
 			// If it's a JSONClass, we can use constructors
-			Constructor<T> constructor = clazz.getDeclaredConstructor(MappedPojo.class);
+			clazz.getDeclaredConstructor(MappedPojo.class);
 			JSONArrayList<JSONClass> classList = (JSONArrayList<JSONClass>) getItem(key);
 			
 			// Convert the JSONClasses to the proper class
 			JSONArrayList<T> itemList = new JSONArrayList<>();
+			itemList.ensureCapacity(classList.size());
+			Function<MappedPojo, T> factory = null;
 			for(JSONClass jsonClass: classList){
 				if(clazz.isInstance(jsonClass)){
 					itemList.add((T) jsonClass);
 				}else{
-					itemList.add(constructor.newInstance(jsonClass));
+					if(factory == null){
+						factory = JSONClassFactory.getPojoFactory(clazz);
+					}
+					T item;
+					try{
+						item = factory.apply(jsonClass);
+					}catch(Throwable t){
+						throw new InvocationTargetException(t);
+					}
+					itemList.add(item);
 				}
 			}
 			return itemList;
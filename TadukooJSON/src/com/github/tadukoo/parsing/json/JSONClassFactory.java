@@ -0,0 +1,236 @@
+package com.github.tadukoo.parsing.json;
+
+import com.github.tadukoo.util.pojo.MappedPojo;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JSON Class Factory is a registry of factories used to create {@link JSONClass JSONClasses} without using
+ * reflection on every call. The constructor to use (either the one that accepts a {@link MappedPojo}, or the
+ * no-argument one) is looked up only once per class, turned into a {@link Function} or {@link Supplier} (using
+ * {@link LambdaMetafactory} when possible, or a {@link MethodHandle} otherwise), and cached in a {@link ClassValue}.
+ * The constructor must be accessible from this package, the same as it would be for reflection done here - access
+ * isn't widened.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public final class JSONClassFactory{
+	
+	/** Factory cached for classes that can't be created from a {@link MappedPojo} */
+	private static final Function<MappedPojo, Object> missingFactory = pojo -> {
+		throw new IllegalStateException("No factory available");
+	};
+	
+	/** Supplier cached for classes that can't be created with a no-argument constructor */
+	private static final Supplier<Object> missingSupplier = () -> {
+		throw new IllegalStateException("No supplier available");
+	};
+	
+	/** The cached factories for creating classes from a {@link MappedPojo} */
+	private static final ClassValue<Function<MappedPojo, ?>> pojoFactories = new ClassValue<>(){
+		@Override
+		protected Function<MappedPojo, ?> computeValue(Class<?> type){
+			return createPojoFactory(type);
+		}
+	};
+	
+	/** The cached suppliers for creating classes with their no-argument constructor */
+	private static final ClassValue<Supplier<?>> suppliers = new ClassValue<>(){
+		@Override
+		protected Supplier<?> computeValue(Class<?> type){
+			return createSupplier(type);
+		}
+	};
+	
+	/** Not allowed to instantiate JSONClassFactory */
+	private JSONClassFactory(){ }
+	
+	/**
+	 * Grabs the factory for creating the given class from a {@link MappedPojo}. The class must have a constructor
+	 * that accepts a {@link MappedPojo}.
+	 *
+	 * @param clazz The class to create
+	 * @param <T> The type of the class
+	 * @return A {@link Function} that creates the class from a {@link MappedPojo}
+	 * @throws NoSuchMethodException If the class doesn't have a constructor that accepts a {@link MappedPojo}
+	 * @throws InstantiationException If the class is abstract
+	 * @throws IllegalAccessException If the constructor isn't accessible
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Function<MappedPojo, T> getPojoFactory(Class<T> clazz)
+			throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		if(Modifier.isAbstract(clazz.getModifiers())){
+			throw new InstantiationException(clazz.getName());
+		}
+		Function<MappedPojo, ?> factory = pojoFactories.get(clazz);
+		if(factory == missingFactory){
+			throw missingConstructor(clazz, MappedPojo.class);
+		}
+		return (Function<MappedPojo, T>) factory;
+	}
+	
+	/**
+	 * Grabs the supplier for creating the given class with its no-argument constructor.
+	 *
+	 * @param clazz The class to create
+	 * @param <T> The type of the class
+	 * @return A {@link Supplier} that creates a new instance of the class
+	 * @throws NoSuchMethodException If the class doesn't have a no-argument constructor
+	 * @throws InstantiationException If the class is abstract
+	 * @throws IllegalAccessException If the constructor isn't accessible
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> getSupplier(Class<T> clazz)
+			throws NoSuchMethodException, InstantiationException, IllegalAccessException{
+		if(Modifier.isAbstract(clazz.getModifiers())){
+			throw new InstantiationException(clazz.getName());
+		}
+		Supplier<?> supplier = suppliers.get(clazz);
+		if(supplier == missingSupplier){
+			throw missingConstructor(clazz);
+		}
+		return (Supplier<T>) supplier;
+	}
+	
+	/**
+	 * Figures out why there's no factory or supplier for the given class: either it doesn't have a constructor with
+	 * the given parameter types (in which case the {@link NoSuchMethodException} is thrown), or it has one that isn't
+	 * accessible
+	 *
+	 * @param clazz The class that was to be created
+	 * @param parameterTypes The parameter types of the constructor
+	 * @return The {@link IllegalAccessException} to throw if the constructor exists
+	 * @throws NoSuchMethodException If the class doesn't have the constructor
+	 */
+	private static IllegalAccessException missingConstructor(Class<?> clazz, Class<?> ... parameterTypes)
+			throws NoSuchMethodException{
+		Constructor<?> constructor = clazz.getDeclaredConstructor(parameterTypes);
+		return new IllegalAccessException(JSONClassFactory.class.getName() + " cannot access " + constructor);
+	}
+	
+	/**
+	 * Creates the factory for creating the given class from a {@link MappedPojo}
+	 *
+	 * @param type The class to create
+	 * @return The factory, or {@link #missingFactory} if there's no constructor to use
+	 */
+	@SuppressWarnings("unchecked")
+	private static Function<MappedPojo, ?> createPojoFactory(Class<?> type){
+		MethodHandle handle = findConstructor(type, MappedPojo.class);
+		if(handle == null){
+			return missingFactory;
+		}
+		Object lambda = spinLambda(handle, type, Function.class, "apply", MappedPojo.class);
+		if(lambda != null){
+			return (Function<MappedPojo, ?>) lambda;
+		}
+		
+		// Fall back to the method handle (e.g. if the class isn't visible for a lambda)
+		MethodHandle exactHandle = handle.asType(MethodType.methodType(Object.class, MappedPojo.class));
+		return pojo -> {
+			try{
+				return (Object) exactHandle.invokeExact(pojo);
+			}catch(Throwable t){
+				throw rethrow(t, type);
+			}
+		};
+	}
+	
+	/**
+	 * Creates the supplier for creating the given class with its no-argument constructor
+	 *
+	 * @param type The class to create
+	 * @return The supplier, or {@link #missingSupplier} if there's no constructor to use
+	 */
+	@SuppressWarnings("unchecked")
+	private static Supplier<?> createSupplier(Class<?> type){
+		MethodHandle handle = findConstructor(type);
+		if(handle == null){
+			return missingSupplier;
+		}
+		Object lambda = spinLambda(handle, type, Supplier.class, "get");
+		if(lambda != null){
+			return (Supplier<?>) lambda;
+		}
+		
+		// Fall back to the method handle (e.g. if the class isn't visible for a lambda)
+		MethodHandle exactHandle = handle.asType(MethodType.methodType(Object.class));
+		return () -> {
+			try{
+				return (Object) exactHandle.invokeExact();
+			}catch(Throwable t){
+				throw rethrow(t, type);
+			}
+		};
+	}
+	
+	/**
+	 * Finds the constructor of the given class with the given parameter types, as a {@link MethodHandle}
+	 *
+	 * @param type The class to find the constructor of
+	 * @param parameterTypes The parameter types of the constructor
+	 * @return The {@link MethodHandle} for the constructor, or null if it can't be found or accessed
+	 */
+	private static MethodHandle findConstructor(Class<?> type, Class<?> ... parameterTypes){
+		try{
+			return MethodHandles.lookup().findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+		}catch(NoSuchMethodException | IllegalAccessException | RuntimeException e){
+			return null;
+		}
+	}
+	
+	/**
+	 * Tries to spin up a lambda implementing the given functional interface that calls the given constructor,
+	 * so that it can be inlined like a normal call. The lambda is defined alongside this class, so this only works
+	 * when the class is visible from this class's {@link ClassLoader}.
+	 *
+	 * @param handle The {@link MethodHandle} for the constructor
+	 * @param type The class the constructor creates
+	 * @param interfaceType The functional interface to implement
+	 * @param methodName The name of the method in the functional interface
+	 * @param parameterTypes The parameter types of the constructor
+	 * @return The lambda, or null if it couldn't be created
+	 */
+	private static Object spinLambda(
+			MethodHandle handle, Class<?> type, Class<?> interfaceType, String methodName,
+			Class<?> ... parameterTypes){
+		try{
+			if(Class.forName(type.getName(), false, JSONClassFactory.class.getClassLoader()) != type){
+				return null;
+			}
+			MethodType erasedType = MethodType.genericMethodType(parameterTypes.length);
+			CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), methodName,
+					MethodType.methodType(interfaceType), erasedType, handle,
+					MethodType.methodType(type, parameterTypes));
+			return site.getTarget().invoke();
+		}catch(Throwable t){
+			return null;
+		}
+	}
+	
+	/**
+	 * Rethrows anything thrown by a constructor as an unchecked exception
+	 *
+	 * @param t The {@link Throwable} that was thrown
+	 * @param type The class being created
+	 * @return Never returns - used so callers can {@code throw rethrow(...)}
+	 */
+	private static RuntimeException rethrow(Throwable t, Class<?> type){
+		if(t instanceof RuntimeException e){
+			throw e;
+		}else if(t instanceof Error e){
+			throw e;
+		}
+		throw new IllegalStateException("Failed to create " + type.getName(), t);
+	}
+}
@@ -0,0 +1,160 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.IOException;
+
+/**
+ * JSON Codec is used to write and parse a fixed-schema {@link JSONClass} type. Codecs are normally generated at
+ * compile time (by the JSON Codec Processor in TadukooJSONProcessor) for classes annotated with
+ * {@link JSONField JSONFields}, and are found by {@link JSONCodecs}. Generated codecs use pre-encoded keys and
+ * dispatch on key with a switch, so {@link JSONConverter} doesn't have to check the type of each value.
+ *
+ * @param <T> The type of {@link JSONClass} this codec handles
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public interface JSONCodec<T extends JSONClass>{
+	
+	/**
+	 * @return The type of {@link JSONClass} this codec handles
+	 */
+	Class<T> getType();
+	
+	/**
+	 * Writes the given JSON class as a JSON string to the given builder
+	 *
+	 * @param value The JSON class to write
+	 * @param JSONStringBuilder The StringBuilder to write the JSON string to
+	 * @param converter The {@link JSONConverter} to use for values that the codec doesn't handle itself
+	 */
+	void writeJSON(T value, StringBuilder JSONStringBuilder, JSONConverter converter);
+	
+	/**
+	 * Writes the given JSON class as UTF-8 JSON to the given {@link JSONByteWriter}. Generated codecs write
+	 * straight to the writer, using pre-encoded key bytes; by default, this writes the class to a StringBuilder
+	 * with {@link #writeJSON(JSONClass, StringBuilder, JSONConverter)} and then encodes that.
+	 *
+	 * @param value The JSON class to write
+	 * @param writer The {@link JSONByteWriter} to write to (its {@link JSONConverter} is used for values that the
+	 * codec doesn't handle itself)
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	default void writeJSON(T value, JSONByteWriter writer) throws IOException{
+		StringBuilder JSONStringBuilder = new StringBuilder();
+		writeJSON(value, JSONStringBuilder, writer.converter);
+		writer.writeRaw(JSONStringBuilder.toString());
+	}
+	
+	/**
+	 * Sets a parsed value on the given JSON class, converting it to the declared type of the field if needed
+	 *
+	 * @param target The JSON class being parsed
+	 * @param key The key of the value
+	 * @param value The parsed value
+	 */
+	void setItem(T target, String key, Object value);
+	
+	/**
+	 * Grabs the type of {@link JSONClass} to be created for a class value at the given key when parsing
+	 *
+	 * @param target The JSON class being parsed
+	 * @param key The key of the class value
+	 * @return The type of {@link JSONClass} to create, or null to use the default
+	 */
+	default Class<? extends JSONClass> getSubClassType(T target, String key){
+		return target.getSubClassType(key);
+	}
+	
+	/**
+	 * Grabs the type of {@link JSONClass} to be created for the class items in an array at the given key when
+	 * parsing
+	 *
+	 * @param target The JSON class being parsed
+	 * @param key The key of the array value
+	 * @return The type of {@link JSONClass} to create for items, or null to use the default
+	 */
+	default Class<? extends JSONClass> getArrayItemType(T target, String key){
+		return target.getArrayItemType(key);
+	}
+	
+	/**
+	 * Converts a parsed number to an int for a field declared as one. Used by generated codecs, so that a number
+	 * that isn't a whole number, or is out of range, is reported instead of being silently narrowed.
+	 *
+	 * @param number The parsed number
+	 * @param key The key of the field (for the error message)
+	 * @return The number as an int
+	 * @throws IllegalArgumentException If the number isn't a whole number in the range of an int
+	 */
+	static int toInt(Number number, String key){
+		long value = toWholeNumber(number, key, "int");
+		if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE){
+			throw notValid(number, key, "int");
+		}
+		return (int) value;
+	}
+	
+	/**
+	 * Converts a parsed number to a long for a field declared as one. Used by generated codecs, so that a number
+	 * that isn't a whole number, or is out of range, is reported instead of being silently narrowed.
+	 *
+	 * @param number The parsed number
+	 * @param key The key of the field (for the error message)
+	 * @return The number as a long
+	 * @throws IllegalArgumentException If the number isn't a whole number in the range of a long
+	 */
+	static long toLong(Number number, String key){
+		return toWholeNumber(number, key, "long");
+	}
+	
+	/**
+	 * Converts a parsed number to a short for a field declared as one. Used by generated codecs, so that a number
+	 * that isn't a whole number, or is out of range, is reported instead of being silently narrowed.
+	 *
+	 * @param number The parsed number
+	 * @param key The key of the field (for the error message)
+	 * @return The number as a short
+	 * @throws IllegalArgumentException If the number isn't a whole number in the range of a short
+	 */
+	static short toShort(Number number, String key){
+		long value = toWholeNumber(number, key, "short");
+		if(value < Short.MIN_VALUE || value > Short.MAX_VALUE){
+			throw notValid(number, key, "short");
+		}
+		return (short) value;
+	}
+	
+	/**
+	 * Converts the given number to a long, checking that it's a whole number in the range of a long
+	 *
+	 * @param number The number to convert
+	 * @param key The key of the field (for the error message)
+	 * @param typeName The name of the declared type (for the error message)
+	 * @return The number as a long
+	 * @throws IllegalArgumentException If the number isn't a whole number in the range of a long
+	 */
+	private static long toWholeNumber(Number number, String key, String typeName){
+		if(number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte){
+			return number.longValue();
+		}
+		double value = number.doubleValue();
+		// 0x1p63 is Long.MAX_VALUE + 1, which is exact as a double (unlike Long.MAX_VALUE itself)
+		if(value != Math.rint(value) || value < -0x1p63 || value >= 0x1p63){
+			throw notValid(number, key, typeName);
+		}
+		return (long) value;
+	}
+	
+	/**
+	 * Creates the exception for a number that isn't valid for the declared type of a field
+	 *
+	 * @param number The number
+	 * @param key The key of the field
+	 * @param typeName The name of the declared type
+	 * @return The {@link IllegalArgumentException} to throw
+	 */
+	private static IllegalArgumentException notValid(Number number, String key, String typeName){
+		return new IllegalArgumentException("Value for " + key + " is not a valid " + typeName + ": " + number);
+	}
+}
@@ -0,0 +1,77 @@
+package com.github.tadukoo.parsing.json;
+
+/**
+ * JSON Codecs finds the {@link JSONCodec} for a {@link JSONClass} type. Generated codecs are named after the class
+ * they handle (e.g. {@code Outer_Inner_JSONCodec} for {@code Outer.Inner}), in the same package, and need a
+ * no-argument constructor. The codec is looked up only once per class and cached in a {@link ClassValue}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public final class JSONCodecs{
+	/** The suffix added to the name of a class to get the name of its codec */
+	public static final String codecSuffix = "_JSONCodec";
+	
+	/** The cached codecs - null is cached for classes that don't have one */
+	private static final ClassValue<JSONCodec<?>> codecs = new ClassValue<>(){
+		@Override
+		protected JSONCodec<?> computeValue(Class<?> type){
+			return loadCodec(type);
+		}
+	};
+	
+	/** Not allowed to instantiate JSONCodecs */
+	private JSONCodecs(){ }
+	
+	/**
+	 * Grabs the {@link JSONCodec} for the given type of {@link JSONClass}
+	 *
+	 * @param type The type of {@link JSONClass}
+	 * @param <T> The type of {@link JSONClass}
+	 * @return The {@link JSONCodec} for the type, or null if there isn't one
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends JSONClass> JSONCodec<T> getCodec(Class<? extends T> type){
+		return (JSONCodec<T>) codecs.get(type);
+	}
+	
+	/**
+	 * Determines the (binary) name of the codec class for the given type
+	 *
+	 * @param type The type of {@link JSONClass}
+	 * @return The name of the codec class for the type
+	 */
+	public static String getCodecName(Class<?> type){
+		String packageName = type.getPackageName();
+		String name = type.getName();
+		if(!packageName.isEmpty()){
+			name = name.substring(packageName.length() + 1);
+		}
+		name = name.replace('$', '_') + codecSuffix;
+		return packageName.isEmpty()?name:packageName + "." + name;
+	}
+	
+	/**
+	 * Loads the codec for the given type
+	 *
+	 * @param type The type to load the codec for
+	 * @return The codec, or null if there isn't one
+	 */
+	private static JSONCodec<?> loadCodec(Class<?> type){
+		if(!JSONClass.class.isAssignableFrom(type)){
+			return null;
+		}
+		try{
+			Class<?> codecClass = Class.forName(getCodecName(type), true, type.getClassLoader());
+			if(!JSONCodec.class.isAssignableFrom(codecClass)){
+				return null;
+			}
+			JSONCodec<?> codec = (JSONCodec<?>) JSONClassFactory.getSupplier(codecClass).get();
+			return codec.getType() == type?codec:null;
+		}catch(ClassNotFoundException | LinkageError | NoSuchMethodException | InstantiationException |
+				IllegalAccessException e){
+			return null;
+		}
+	}
+}
@@ -0,0 +1,596 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Column Table holds an array of {@link JSONClass} records in columnar form (a struct of arrays): one column
+ * per key, where numbers are stored as a primitive double array, booleans as a bit set, and Strings as an int
+ * array of codes into a dictionary of the distinct Strings in the column. Scanning one or two fields across many
+ * records then only touches those columns' arrays, instead of a map and a boxed value per record.
+ * <br><br>
+ * A column's type is decided by the values in it - a column with values of more than one type (or with classes
+ * or arrays in it) is an {@link ColumnType#OTHER} column holding the values as they are. Null values and missing
+ * keys are tracked separately, so converting back with {@link #getRecord(int)} or {@link #toJSONArray()} gives the
+ * same records (except that numbers all come back as Doubles).
+ * <br><br>
+ * Tables can be made from a list of records with {@link #fromRecords(Iterable)}, straight from a JSON array being
+ * parsed with {@link #fromReader(Reader)} (without the whole array being held in memory), or a record at a time
+ * with a {@link JSONColumnTableBuilder}. A JSON Column Table is immutable and safe to share between threads.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONColumnTable{
+	
+	/**
+	 * The types of columns in a {@link JSONColumnTable}
+	 */
+	public enum ColumnType{
+		/** Numbers, stored as doubles */
+		NUMBER,
+		/** Booleans, stored as bits */
+		BOOLEAN,
+		/** Strings, stored as codes into a dictionary */
+		STRING,
+		/** Values of more than one type, classes, arrays, or only nulls, stored as they are */
+		OTHER
+	}
+	
+	/**
+	 * A column in a {@link JSONColumnTable}
+	 */
+	public static final class Column{
+		/** The key the column is for */
+		private final String name;
+		/** The type of the column */
+		private final ColumnType type;
+		/** The number values - only for {@link ColumnType#NUMBER} columns */
+		private final double[] numbers;
+		/** The boolean values - only for {@link ColumnType#BOOLEAN} columns */
+		private final BitSet booleans;
+		/** The codes of the String values into the dictionary - only for {@link ColumnType#STRING} columns */
+		private final int[] codes;
+		/** The distinct String values - only for {@link ColumnType#STRING} columns */
+		private final List<String> dictionary;
+		/** The values - only for {@link ColumnType#OTHER} columns */
+		private final Object[] objects;
+		/** The rows where the record doesn't have the key */
+		private final BitSet missing;
+		/** The rows where the value is null */
+		private final BitSet nulls;
+		
+		/**
+		 * Constructs a Column with the given settings
+		 *
+		 * @param name The key the column is for
+		 * @param type The type of the column
+		 * @param numbers The number values - only for {@link ColumnType#NUMBER} columns
+		 * @param booleans The boolean values - only for {@link ColumnType#BOOLEAN} columns
+		 * @param codes The codes of the String values into the dictionary - only for {@link ColumnType#STRING}
+		 * columns
+		 * @param dictionary The distinct String values - only for {@link ColumnType#STRING} columns
+		 * @param objects The values - only for {@link ColumnType#OTHER} columns
+		 * @param missing The rows where the record doesn't have the key
+		 * @param nulls The rows where the value is null
+		 */
+		private Column(
+				String name, ColumnType type, double[] numbers, BitSet booleans, int[] codes, List<String> dictionary,
+				Object[] objects, BitSet missing, BitSet nulls){
+			this.name = name;
+			this.type = type;
+			this.numbers = numbers;
+			this.booleans = booleans;
+			this.codes = codes;
+			this.dictionary = dictionary;
+			this.objects = objects;
+			this.missing = missing;
+			this.nulls = nulls;
+		}
+		
+		/**
+		 * @return The key the column is for
+		 */
+		public String getName(){
+			return name;
+		}
+		
+		/**
+		 * @return The type of the column
+		 */
+		public ColumnType getType(){
+			return type;
+		}
+		
+		/**
+		 * @param row The row
+		 * @return Whether the record in the row has the key (even if its value is null)
+		 */
+		public boolean hasKey(int row){
+			return !missing.get(row);
+		}
+		
+		/**
+		 * @param row The row
+		 * @return Whether the value in the row is null (or the record doesn't have the key)
+		 */
+		public boolean isNull(int row){
+			return nulls.get(row) || missing.get(row);
+		}
+		
+		/**
+		 * @param row The row
+		 * @return The number in the row - 0 if it's null
+		 */
+		public double getNumber(int row){
+			checkType(ColumnType.NUMBER);
+			return numbers[row];
+		}
+		
+		/**
+		 * @param row The row
+		 * @return The boolean in the row - false if it's null
+		 */
+		public boolean getBoolean(int row){
+			checkType(ColumnType.BOOLEAN);
+			return booleans.get(row);
+		}
+		
+		/**
+		 * @param row The row
+		 * @return The code of the String in the row (its index in the {@link #getDictionary() dictionary}) - -1 if
+		 * it's null
+		 */
+		public int getStringCode(int row){
+			checkType(ColumnType.STRING);
+			return codes[row];
+		}
+		
+		/**
+		 * @return The distinct Strings in the column, indexed by their codes
+		 */
+		public List<String> getDictionary(){
+			checkType(ColumnType.STRING);
+			return dictionary;
+		}
+		
+		/**
+		 * @param row The row
+		 * @return The String in the row - null if it's null
+		 */
+		public String getString(int row){
+			int code = getStringCode(row);
+			return code < 0?null:dictionary.get(code);
+		}
+		
+		/**
+		 * @param row The row
+		 * @return The value in the row (numbers as Doubles) - null if it's null or the record doesn't have the key
+		 */
+		public Object get(int row){
+			if(isNull(row)){
+				return null;
+			}
+			return switch(type){
+				case NUMBER -> numbers[row];
+				case BOOLEAN -> booleans.get(row);
+				case STRING -> dictionary.get(codes[row]);
+				case OTHER -> objects[row];
+			};
+		}
+		
+		/**
+		 * Checks that the column is of the given type
+		 *
+		 * @param expected The expected type
+		 */
+		private void checkType(ColumnType expected){
+			if(type != expected){
+				throw new IllegalStateException("Column " + name + " is a " + type + " column, not " + expected);
+			}
+		}
+	}
+	
+	/**
+	 * JSON Column Table Builder is used to build a {@link JSONColumnTable} a record at a time, so the records
+	 * don't all need to be held in memory. A builder is not thread-safe.
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.2
+	 * @since Alpha v.0.3.2
+	 */
+	public static class JSONColumnTableBuilder{
+		/** The columns being built, in the order their keys were first seen */
+		private final Map<String, ColumnBuilder> columns = new LinkedHashMap<>();
+		/** The number of records added */
+		private int rowCount = 0;
+		
+		/** Not allowed to create this outside of JSONColumnTable */
+		private JSONColumnTableBuilder(){ }
+		
+		/**
+		 * Adds a record to the table
+		 *
+		 * @param record The record to add
+		 * @return This builder, to continue in building
+		 */
+		public JSONColumnTableBuilder addRecord(JSONClass record){
+			JSONClass items = record.snapshot();
+			Collection<String> keys = items instanceof OrderedJSONClass ordered?ordered.getKeyOrder():items.getKeys();
+			for(String key: keys){
+				columns.computeIfAbsent(key, ColumnBuilder::new).set(rowCount, items.getItem(key));
+			}
+			rowCount++;
+			return this;
+		}
+		
+		/**
+		 * Adds records to the table
+		 *
+		 * @param records The records to add (which must all be {@link JSONClass JSONClasses})
+		 * @return This builder, to continue in building
+		 */
+		public JSONColumnTableBuilder addRecords(Iterable<?> records){
+			for(Object record: records){
+				if(!(record instanceof JSONClass clazz)){
+					throw new IllegalArgumentException("Record isn't a JSON class: " + record);
+				}
+				addRecord(clazz);
+			}
+			return this;
+		}
+		
+		/**
+		 * Builds the {@link JSONColumnTable}
+		 *
+		 * @return The built {@link JSONColumnTable}
+		 */
+		public JSONColumnTable build(){
+			List<Column> built = new ArrayList<>(columns.size());
+			for(ColumnBuilder column: columns.values()){
+				built.add(column.build(rowCount));
+			}
+			return new JSONColumnTable(rowCount, built);
+		}
+	}
+	
+	/**
+	 * Column Builder builds one {@link Column} as records are added
+	 */
+	private static class ColumnBuilder{
+		/** The key the column is for */
+		private final String name;
+		/** The type of the column - null until a value that isn't null is set */
+		private ColumnType type;
+		/** The number of rows filled in */
+		private int filled;
+		/** The number values */
+		private double[] numbers;
+		/** The boolean values */
+		private BitSet booleans;
+		/** The codes of the String values into the dictionary */
+		private int[] codes;
+		/** The distinct String values */
+		private List<String> dictionary;
+		/** The codes of the distinct String values */
+		private Map<String, Integer> dictionaryCodes;
+		/** The values, for {@link ColumnType#OTHER} columns */
+		private Object[] objects;
+		/** The rows where the record doesn't have the key */
+		private final BitSet missing;
+		/** The rows where the value is null */
+		private final BitSet nulls;
+		
+		/**
+		 * Constructs a Column Builder for the given key
+		 *
+		 * @param name The key the column is for
+		 */
+		private ColumnBuilder(String name){
+			this.name = name;
+			type = null;
+			filled = 0;
+			missing = new BitSet();
+			nulls = new BitSet();
+		}
+		
+		/**
+		 * Sets the value in the given row (rows before it that weren't set are missing the key)
+		 *
+		 * @param row The row
+		 * @param value The value
+		 */
+		private void set(int row, Object value){
+			missing.set(filled, row);
+			filled = row + 1;
+			if(value == null){
+				nulls.set(row);
+				return;
+			}
+			
+			ColumnType valueType;
+			if(value instanceof Number){
+				valueType = ColumnType.NUMBER;
+			}else if(value instanceof Boolean){
+				valueType = ColumnType.BOOLEAN;
+			}else if(value instanceof String){
+				valueType = ColumnType.STRING;
+			}else{
+				valueType = ColumnType.OTHER;
+			}
+			if(type == null){
+				start(valueType);
+			}else if(type != valueType && type != ColumnType.OTHER){
+				convertToOther(row);
+			}
+			
+			switch(type){
+				case NUMBER -> {
+					numbers = ensureCapacity(numbers, row);
+					numbers[row] = ((Number) value).doubleValue();
+				}
+				case BOOLEAN -> booleans.set(row, (Boolean) value);
+				case STRING -> {
+					codes = ensureCapacity(codes, row);
+					codes[row] = dictionaryCodes.computeIfAbsent((String) value, string -> {
+						dictionary.add(string);
+						return dictionary.size() - 1;
+					});
+				}
+				case OTHER -> {
+					objects = ensureCapacity(objects, row);
+					objects[row] = value;
+				}
+			}
+		}
+		
+		/**
+		 * Sets the type of the column and creates its storage
+		 *
+		 * @param newType The type of the column
+		 */
+		private void start(ColumnType newType){
+			type = newType;
+			switch(newType){
+				case NUMBER -> numbers = new double[16];
+				case BOOLEAN -> booleans = new BitSet();
+				case STRING -> {
+					codes = new int[16];
+					dictionary = new ArrayList<>();
+					dictionaryCodes = new HashMap<>();
+				}
+				case OTHER -> objects = new Object[16];
+			}
+		}
+		
+		/**
+		 * Converts the column to an {@link ColumnType#OTHER} column, because a value of a different type was found
+		 *
+		 * @param rows The number of rows set before the value of a different type
+		 */
+		private void convertToOther(int rows){
+			Object[] values = new Object[Math.max(16, rows + 1)];
+			for(int row = 0; row < rows; row++){
+				if(!missing.get(row) && !nulls.get(row)){
+					values[row] = switch(type){
+						case NUMBER -> numbers[row];
+						case BOOLEAN -> booleans.get(row);
+						case STRING -> dictionary.get(codes[row]);
+						case OTHER -> objects[row];
+					};
+				}
+			}
+			numbers = null;
+			booleans = null;
+			codes = null;
+			dictionary = null;
+			dictionaryCodes = null;
+			objects = values;
+			type = ColumnType.OTHER;
+		}
+		
+		/**
+		 * Builds the column
+		 *
+		 * @param rowCount The number of rows in the table
+		 * @return The built {@link Column}
+		 */
+		private Column build(int rowCount){
+			missing.set(filled, rowCount);
+			if(type == null){
+				// Only nulls were found
+				start(ColumnType.OTHER);
+			}
+			return switch(type){
+				case NUMBER -> new Column(name, type, Arrays.copyOf(numbers, rowCount), null, null, null, null,
+						missing, nulls);
+				case BOOLEAN -> new Column(name, type, null, booleans, null, null, null, missing, nulls);
+				case STRING -> {
+					int[] builtCodes = Arrays.copyOf(codes, rowCount);
+					// Null and missing rows don't have a String
+					for(int row = missing.nextSetBit(0); row >= 0; row = missing.nextSetBit(row + 1)){
+						builtCodes[row] = -1;
+					}
+					for(int row = nulls.nextSetBit(0); row >= 0; row = nulls.nextSetBit(row + 1)){
+						builtCodes[row] = -1;
+					}
+					yield new Column(name, type, null, null, builtCodes,
+							Collections.unmodifiableList(new ArrayList<>(dictionary)), null, missing, nulls);
+				}
+				case OTHER -> new Column(name, type, null, null, null, null, Arrays.copyOf(objects, rowCount),
+						missing, nulls);
+			};
+		}
+		
+		/**
+		 * @param array An array
+		 * @param index An index that's about to be set
+		 * @return The array, or a copy of it with room for the index
+		 */
+		private static double[] ensureCapacity(double[] array, int index){
+			return index < array.length?array:Arrays.copyOf(array, Math.max(index + 1, array.length * 2));
+		}
+		
+		/**
+		 * @param array An array
+		 * @param index An index that's about to be set
+		 * @return The array, or a copy of it with room for the index
+		 */
+		private static int[] ensureCapacity(int[] array, int index){
+			return index < array.length?array:Arrays.copyOf(array, Math.max(index + 1, array.length * 2));
+		}
+		
+		/**
+		 * @param array An array
+		 * @param index An index that's about to be set
+		 * @return The array, or a copy of it with room for the index
+		 */
+		private static Object[] ensureCapacity(Object[] array, int index){
+			return index < array.length?array:Arrays.copyOf(array, Math.max(index + 1, array.length * 2));
+		}
+	}
+	
+	/** The number of rows (records) in the table */
+	private final int rowCount;
+	/** The columns, in the order their keys were first seen */
+	private final List<Column> columns;
+	/** The columns by their keys */
+	private final Map<String, Column> columnsByName;
+	
+	/**
+	 * Constructs a JSON Column Table with the given columns
+	 *
+	 * @param rowCount The number of rows (records) in the table
+	 * @param columns The columns, in the order their keys were first seen
+	 */
+	private JSONColumnTable(int rowCount, List<Column> columns){
+		this.rowCount = rowCount;
+		this.columns = Collections.unmodifiableList(columns);
+		columnsByName = new HashMap<>();
+		for(Column column: columns){
+			columnsByName.put(column.getName(), column);
+		}
+	}
+	
+	/**
+	 * @return A builder to build a JSON Column Table a record at a time
+	 */
+	public static JSONColumnTableBuilder builder(){
+		return new JSONColumnTableBuilder();
+	}
+	
+	/**
+	 * Creates a JSON Column Table from the given records
+	 *
+	 * @param records The records (e.g. a {@link JSONArray}), which must all be {@link JSONClass JSONClasses}
+	 * @return The JSON Column Table
+	 */
+	public static JSONColumnTable fromRecords(Iterable<?> records){
+		return builder().addRecords(records).build();
+	}
+	
+	/**
+	 * Creates a JSON Column Table from the JSON array read from the given {@link Reader}, adding each record as soon
+	 * as it's parsed so the whole array is never held in memory. The reader isn't closed.
+	 *
+	 * @param in The {@link Reader} to read a JSON array of classes from
+	 * @return The JSON Column Table
+	 * @throws IOException If anything goes wrong in reading
+	 * @throws IllegalStateException If the input isn't a JSON array of classes, or anything but whitespace follows
+	 * the array
+	 */
+	public static JSONColumnTable fromReader(Reader in) throws IOException{
+		JSONColumnTableBuilder builder = builder();
+		JSONFeeder feeder = new JSONFeeder(null, true);
+		char[] buffer = new char[8192];
+		boolean started = false;
+		int length;
+		while((length = in.read(buffer)) >= 0){
+			for(int i = 0; i < length && !started; i++){
+				if(!Character.isWhitespace(buffer[i])){
+					if(buffer[i] != JSONConverter.arrayStartChar){
+						throw new IllegalStateException("JSON input isn't an array");
+					}
+					started = true;
+				}
+			}
+			feeder.feed(buffer, 0, length);
+			while(feeder.hasNext()){
+				if(!(feeder.next() instanceof JSONClass record)){
+					throw new IllegalStateException("JSON array item isn't a JSON class");
+				}
+				builder.addRecord(record);
+			}
+		}
+		if(!started){
+			throw new IllegalStateException("JSON input isn't an array");
+		}
+		feeder.endOfInput();
+		return builder.build();
+	}
+	
+	/**
+	 * @return The number of rows (records) in the table
+	 */
+	public int getRowCount(){
+		return rowCount;
+	}
+	
+	/**
+	 * @return The columns, in the order their keys were first seen
+	 */
+	public List<Column> getColumns(){
+		return columns;
+	}
+	
+	/**
+	 * @param name The key of a column
+	 * @return The column for the key - null if no record has the key
+	 */
+	public Column getColumn(String name){
+		return columnsByName.get(name);
+	}
+	
+	/**
+	 * Converts a row back into a record
+	 *
+	 * @param row The row
+	 * @return The record in the row, with its keys in column order
+	 */
+	public JSONClass getRecord(int row){
+		if(row < 0 || row >= rowCount){
+			throw new IndexOutOfBoundsException("Index " + row + " out of bounds for length " + rowCount);
+		}
+		SimpleOrderedJSONClass record = new SimpleOrderedJSONClass();
+		for(Column column: columns){
+			if(column.hasKey(row)){
+				record.setItem(column.getName(), column.get(row));
+			}
+		}
+		return record;
+	}
+	
+	/**
+	 * Converts the table back into an array of records
+	 *
+	 * @return The records, with their keys in column order
+	 */
+	public JSONArray<JSONClass> toJSONArray(){
+		JSONArrayList<JSONClass> records = new JSONArrayList<>();
+		records.ensureCapacity(rowCount);
+		for(int row = 0; row < rowCount; row++){
+			records.add(getRecord(row));
+		}
+		return records;
+	}
+}
@@ -0,0 +1,131 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * JSON Compression represents the compression formats {@link JSONConverter} can read and write JSON in, using
+ * {@link java.util.zip}. The streams it gives don't close the streams they wrap when they're closed, so they can be
+ * closed (to free the native compressor memory) without closing the caller's stream.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public enum JSONCompression{
+	/** The gzip format (RFC 1952), as in .gz files */
+	GZIP,
+	/** The zlib-wrapped deflate format (RFC 1950), as used by HTTP's deflate encoding */
+	DEFLATE;
+	
+	/** The size of the buffers used by the compressor and decompressor */
+	public static final int bufferSize = 65536;
+	
+	/**
+	 * Wraps the given {@link InputStream} of compressed bytes in one that decompresses them. Closing the returned
+	 * stream doesn't close the given one.
+	 *
+	 * @param in The {@link InputStream} of compressed bytes
+	 * @return An {@link InputStream} of the decompressed bytes
+	 * @throws IOException If the gzip header can't be read
+	 */
+	public InflaterInputStream decompress(InputStream in) throws IOException{
+		InputStream shielded = new NonClosingInputStream(in);
+		return switch(this){
+			case GZIP -> new GZIPInputStream(shielded, bufferSize);
+			case DEFLATE -> new InflaterInputStream(shielded, new Inflater(), bufferSize){
+				/** {@inheritDoc} */
+				@Override
+				public void close() throws IOException{
+					super.close();
+					// The Inflater was given to the stream, so it has to be ended here
+					inf.end();
+				}
+			};
+		};
+	}
+	
+	/**
+	 * Wraps the given {@link OutputStream} in one that compresses the bytes written to it. Closing the returned
+	 * stream finishes the compressed data and flushes the given stream, but doesn't close it.
+	 *
+	 * @param out The {@link OutputStream} to write the compressed bytes to
+	 * @return An {@link OutputStream} that compresses bytes written to it
+	 * @throws IOException If the gzip header can't be written
+	 */
+	public DeflaterOutputStream compress(OutputStream out) throws IOException{
+		OutputStream shielded = new NonClosingOutputStream(out);
+		return switch(this){
+			case GZIP -> new GZIPOutputStream(shielded, bufferSize);
+			case DEFLATE -> new DeflaterOutputStream(shielded, new Deflater(), bufferSize){
+				/** {@inheritDoc} */
+				@Override
+				public void close() throws IOException{
+					super.close();
+					// The Deflater was given to the stream, so it has to be ended here
+					def.end();
+				}
+			};
+		};
+	}
+	
+	/**
+	 * An {@link InputStream} that passes everything through to another one, except for closing it
+	 */
+	private static class NonClosingInputStream extends FilterInputStream{
+		
+		/**
+		 * Constructs a Non Closing Input Stream around the given stream
+		 *
+		 * @param in The {@link InputStream} to pass through to
+		 */
+		private NonClosingInputStream(InputStream in){
+			super(in);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void close(){
+			// The wrapped stream belongs to the caller
+		}
+	}
+	
+	/**
+	 * An {@link OutputStream} that passes everything through to another one, except for closing it (which only
+	 * flushes it)
+	 */
+	private static class NonClosingOutputStream extends FilterOutputStream{
+		
+		/**
+		 * Constructs a Non Closing Output Stream around the given stream
+		 *
+		 * @param out The {@link OutputStream} to pass through to
+		 */
+		private NonClosingOutputStream(OutputStream out){
+			super(out);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException{
+			// FilterOutputStream would write these one at a time
+			out.write(bytes, offset, length);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void close() throws IOException{
+			// The wrapped stream belongs to the caller
+			out.flush();
+		}
+	}
+}
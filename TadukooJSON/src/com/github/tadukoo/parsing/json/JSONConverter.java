@@ -2,13 +2,26 @@ package com.github.tadukoo.parsing.json;
 
 import com.github.tadukoo.parsing.CommonPatterns;
 import com.github.tadukoo.util.FileUtil;
+import com.github.tadukoo.util.pojo.MappedPojo;
 import com.github.tadukoo.util.tuple.Pair;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
 
 /**
@@ -16,7 +29,7 @@ import java.util.regex.Matcher;
  * into JSON strings.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3.1
+ * @version Alpha v.0.3.2
  * @since Alpha v.0.1
  */
 public class JSONConverter implements CommonPatterns{
@@ -37,6 +50,11 @@ public class JSONConverter implements CommonPatterns{
 	 * and newline (\n)
 	 */
 	private static final List<Character> whitespaceChars = Arrays.asList(' ', '\t', '\f', '\r', '\n');
+	/** Marker used internally for a value that was skipped over due to a {@link JSONProjection} */
+	private static final Object skippedValue = new Object();
+	
+	/** The {@link JSONSymbolTable} used to deduplicate keys and short String values - may be null */
+	private final JSONSymbolTable symbolTable;
 	
 	/*
 	 * Matchers to use during parsing (they're instantiated at the start of parseJSON)
@@ -47,8 +65,33 @@ public class JSONConverter implements CommonPatterns{
 	private Matcher booleanFormatMatcher;
 	/** A Matcher for {@link #numberFormat} */
 	private Matcher numberFormatMatcher;
-	/** A Matcher for {@link #quotedStringFormat} */
-	private Matcher stringFormatMatcher;
+	/** The {@link JSONStringDecoder} used to decode quoted strings */
+	private final JSONStringDecoder stringDecoder = new JSONStringDecoder();
+	
+	/**
+	 * Constructs a JSON Converter that doesn't deduplicate keys or values
+	 */
+	public JSONConverter(){
+		this(null);
+	}
+	
+	/**
+	 * Constructs a JSON Converter that uses the given {@link JSONSymbolTable} to return canonical String instances
+	 * for keys and short String values that repeat while parsing. The symbol table is kept between calls to parse,
+	 * so it should be confined to the same thread as this converter.
+	 *
+	 * @param symbolTable The {@link JSONSymbolTable} to use in parsing - may be null to not deduplicate Strings
+	 */
+	public JSONConverter(JSONSymbolTable symbolTable){
+		this.symbolTable = symbolTable;
+	}
+	
+	/**
+	 * @return The {@link JSONSymbolTable} used to deduplicate keys and short String values - may be null
+	 */
+	public JSONSymbolTable getSymbolTable(){
+		return symbolTable;
+	}
 	
 	/**
 	 * Parses the given string into a JSON object (either an array or a class), and returns it.
@@ -57,25 +100,70 @@ public class JSONConverter implements CommonPatterns{
 	 * @return A JSONObject (either a JSONClass or JSONArray)
 	 */
 	public JSONObject parseJSON(String JSONString){
+		return parseJSON(JSONString, null);
+	}
+	
+	/**
+	 * Parses the given string into a JSON object (either an array or a class), and returns it. Only the values
+	 * covered by the given {@link JSONProjection} are built, and everything else is skipped over without being
+	 * fully parsed (so skipped values are not validated as strictly).
+	 *
+	 * @param JSONString The string to be parsed
+	 * @param projection The {@link JSONProjection} of key paths to be kept - if null, everything is kept
+	 * @return A JSONObject (either a JSONClass or JSONArray) containing only the projected values
+	 */
+	public JSONObject parseJSON(String JSONString, JSONProjection projection){
 		int charIndex = 0;
+		if(projection != null && projection.keepsAll()){
+			projection = null;
+		}
 		
 		// Initialize matchers
 		nullFormatMatcher = nullFormat.matcher(JSONString);
 		booleanFormatMatcher = booleanFormat.matcher(JSONString);
 		numberFormatMatcher = numberFormat.matcher(JSONString);
-		stringFormatMatcher = quotedStringFormat.matcher(JSONString);
 		
 		// Skip over leading whitespace
 		charIndex = skipWhitespace(JSONString, charIndex);
 		
 		// Determine if we have an array or class
 		return switch(JSONString.charAt(charIndex)){
-			case arrayStartChar -> parseJSONArray(JSONString, ++charIndex).getLeft();
-			case classStartChar -> parseJSONClass(JSONString, ++charIndex).getLeft();
+			case arrayStartChar -> parseJSONArray(JSONString, ++charIndex, projection, null).getLeft();
+			case classStartChar -> parseJSONClass(JSONString, ++charIndex, projection, null).getLeft();
 			default -> throw new IllegalArgumentException("String is not valid JSON");
 		};
 	}
 	
+	/**
+	 * Parses the given string directly into the given type of {@link JSONClass}, and returns it. The class is created
+	 * with its no-argument constructor (or its constructor that accepts a {@link MappedPojo}, given an empty one) and
+	 * filled in as it's parsed, so it isn't built twice. Sub-objects and
+	 * the class items in arrays are created using the types declared by {@link JSONClass#getSubClassType(String)}
+	 * and {@link JSONClass#getArrayItemType(String)} (or as {@link SimpleOrderedJSONClass SimpleOrderedJSONClasses}
+	 * if no type is declared).
+	 *
+	 * @param JSONString The string to be parsed
+	 * @param clazz The type of {@link JSONClass} to parse into
+	 * @param <T> The type of {@link JSONClass} to parse into
+	 * @return The parsed JSON class
+	 */
+	public <T extends JSONClass> T parseJSONAs(String JSONString, Class<T> clazz){
+		int charIndex = 0;
+		
+		// Initialize matchers
+		nullFormatMatcher = nullFormat.matcher(JSONString);
+		booleanFormatMatcher = booleanFormat.matcher(JSONString);
+		numberFormatMatcher = numberFormat.matcher(JSONString);
+		
+		// Skip over leading whitespace
+		charIndex = skipWhitespace(JSONString, charIndex);
+		
+		if(JSONString.length() <= charIndex || JSONString.charAt(charIndex) != classStartChar){
+			throw new IllegalArgumentException("String is not a JSON class");
+		}
+		return clazz.cast(parseJSONClass(JSONString, ++charIndex, null, clazz).getLeft());
+	}
+	
 	/**
 	 * Reads the file at the given filepath and parses it into a JSON object
 	 * (either an array or a class), and returns it.
@@ -105,9 +193,12 @@ public class JSONConverter implements CommonPatterns{
 	 *
 	 * @param JSONString The JSON string to be parsed
 	 * @param startIndex The index of the character AFTER the opening bracket - [
+	 * @param projection The {@link JSONProjection} for this array - null if everything is kept
+	 * @param itemType The type of {@link JSONClass} to create for class items - null to use the default
 	 * @return The parsed JSONArray, and the index of the first character after the closing bracket
 	 */
-	private Pair<JSONArray<Object>, Integer> parseJSONArray(String JSONString, int startIndex){
+	private Pair<JSONArray<Object>, Integer> parseJSONArray(
+			String JSONString, int startIndex, JSONProjection projection, Class<? extends JSONClass> itemType){
 		int charIndex = startIndex;
 		List<Object> items = new ArrayList<>();
 		
@@ -118,10 +209,13 @@ public class JSONConverter implements CommonPatterns{
 			// Skip over leading whitespace
 			charIndex = skipWhitespace(JSONString, charIndex);
 			
-			// Parse the value and add it to the list
-			Pair<Object, Integer> valuePair = parseValue(JSONString, charIndex);
+			// Parse the value and add it to the list (unless it's skipped)
+			Pair<Object, Integer> valuePair = parseProjectedValue(JSONString, charIndex,
+					projection == null?null:projection.getItemProjection(), projection != null, itemType);
 			charIndex = valuePair.getRight();
-			items.add(valuePair.getLeft());
+			if(valuePair.getLeft() != skippedValue){
+				items.add(valuePair.getLeft());
+			}
 			
 			// Skip trailing whitespace
 			charIndex = skipWhitespace(JSONString, charIndex);
@@ -147,17 +241,15 @@ public class JSONConverter implements CommonPatterns{
 	 *
 	 * @param JSONString The JSON string to be parsed
 	 * @param startIndex The index of the character AFTER the opening brace - {
+	 * @param projection The {@link JSONProjection} for this class - null if everything is kept
+	 * @param type The type of {@link JSONClass} to create - null to use the default
 	 * @return The parsed JSONClass, and the index of the first character after the closing brace
 	 */
-	private Pair<JSONClass, Integer> parseJSONClass(String JSONString, int startIndex){
+	private Pair<JSONClass, Integer> parseJSONClass(
+			String JSONString, int startIndex, JSONProjection projection, Class<? extends JSONClass> type){
 		int charIndex = startIndex;
-		List<String> keys = new ArrayList<>();
-		JSONClass clazz = new AbstractOrderedJSONClass(){
-			@Override
-			public List<String> getKeyOrder(){
-				return keys;
-			}
-		};
+		JSONClass clazz = type == null?new SimpleOrderedJSONClass():createJSONClass(type);
+		JSONCodec<JSONClass> codec = type == null?null:JSONCodecs.getCodec(type);
 		
 		// Remove whitespace from the start (we could have an empty class)
 		charIndex = skipWhitespace(JSONString, charIndex);
@@ -167,8 +259,8 @@ public class JSONConverter implements CommonPatterns{
 			charIndex = skipWhitespace(JSONString, charIndex);
 			
 			// Grab the first key
-			String key = matchAtStartOrError(stringFormatMatcher, charIndex);
-			charIndex = stringFormatMatcher.end();
+			charIndex = stringDecoder.scan(JSONString, charIndex);
+			String key = getDecodedString(JSONString, true);
 			
 			// Skip over whitespace
 			charIndex = skipWhitespace(JSONString, charIndex);
@@ -182,11 +274,28 @@ public class JSONConverter implements CommonPatterns{
 			// Skip over whitespace
 			charIndex = skipWhitespace(JSONString, charIndex);
 			
-			// Parse the value and add it to the map
-			Pair<Object, Integer> valuePair = parseValue(JSONString, charIndex);
+			// Find the type declared for the value if it's a class or array
+			Class<? extends JSONClass> valueType = null;
+			if(type != null && charIndex < JSONString.length()){
+				char valueStartChar = JSONString.charAt(charIndex);
+				if(valueStartChar == classStartChar){
+					valueType = codec == null?clazz.getSubClassType(key):codec.getSubClassType(clazz, key);
+				}else if(valueStartChar == arrayStartChar){
+					valueType = codec == null?clazz.getArrayItemType(key):codec.getArrayItemType(clazz, key);
+				}
+			}
+			
+			// Parse the value and add it to the map (unless it's skipped)
+			Pair<Object, Integer> valuePair = parseProjectedValue(JSONString, charIndex,
+					projection == null?null:projection.getKeyProjection(key), projection != null, valueType);
 			charIndex = valuePair.getRight();
-			keys.add(key);
-			clazz.setItem(key, valuePair.getLeft());
+			if(valuePair.getLeft() != skippedValue){
+				if(codec != null){
+					codec.setItem(clazz, key, valuePair.getLeft());
+				}else{
+					clazz.setItem(key, valuePair.getLeft());
+				}
+			}
 			
 			// Skip trailing whitespace
 			charIndex = skipWhitespace(JSONString, charIndex);
@@ -207,19 +316,50 @@ public class JSONConverter implements CommonPatterns{
 		return Pair.of(clazz, ++charIndex);
 	}
 	
+	/**
+	 * Method used to parse a value in a JSON object when a {@link JSONProjection} may be in use. If the value isn't
+	 * covered by the projection, it's skipped over and {@link #skippedValue} is returned as the value.
+	 *
+	 * @param JSONString The JSON string being parsed
+	 * @param startIndex The start index of the value
+	 * @param projection The {@link JSONProjection} for the value - may be null
+	 * @param projecting Whether a projection is in use (if not, a null projection means everything is kept)
+	 * @param type The type of {@link JSONClass} to create if the value is a class (or for the class items if it's an
+	 * array) - null to use the default
+	 * @return The parsed Object value (or {@link #skippedValue}) and the new character index after the value is over
+	 */
+	private Pair<Object, Integer> parseProjectedValue(String JSONString, int startIndex, JSONProjection projection,
+	                                                  boolean projecting, Class<? extends JSONClass> type){
+		if(!projecting || (projection != null && projection.keepsAll())){
+			// Everything is kept in this value
+			return parseValue(JSONString, startIndex, null, type);
+		}
+		
+		char c = JSONString.charAt(startIndex);
+		if(projection == null || (c != classStartChar && c != arrayStartChar)){
+			// Not in the projection, or a simple value where the projection expected a class or array
+			return Pair.of(skippedValue, skipValue(JSONString, startIndex));
+		}
+		return parseValue(JSONString, startIndex, projection, type);
+	}
+	
 	/**
 	 * Method used to parse a value in a JSON object.
 	 *
 	 * @param JSONString The JSON string being parsed
 	 * @param startIndex The start index of the value
+	 * @param projection The {@link JSONProjection} for the value - null if everything is kept
+	 * @param type The type of {@link JSONClass} to create if the value is a class (or for the class items if it's an
+	 * array) - null to use the default
 	 * @return The parsed Object value and the new character index after the value is over
 	 */
-	private Pair<Object, Integer> parseValue(String JSONString, int startIndex){
+	private Pair<Object, Integer> parseValue(
+			String JSONString, int startIndex, JSONProjection projection, Class<? extends JSONClass> type){
 		int charIndex = startIndex;
 		Object value = switch(JSONString.charAt(charIndex)){
 			case '"' -> {
-				String str = matchAtStartOrError(stringFormatMatcher, charIndex);
-				charIndex = stringFormatMatcher.end();
+				charIndex = stringDecoder.scan(JSONString, charIndex);
+				String str = getDecodedString(JSONString, false);
 				yield str;
 			}
 			case 't', 'f' -> {
@@ -238,12 +378,12 @@ public class JSONConverter implements CommonPatterns{
 				yield doub;
 			}
 			case classStartChar -> {
-				Pair<JSONClass, Integer> clazzPair = parseJSONClass(JSONString, ++charIndex);
+				Pair<JSONClass, Integer> clazzPair = parseJSONClass(JSONString, ++charIndex, projection, type);
 				charIndex = clazzPair.getRight();
 				yield clazzPair.getLeft();
 			}
 			case arrayStartChar -> {
-				Pair<JSONArray<Object>, Integer> arrayPair = parseJSONArray(JSONString, ++charIndex);
+				Pair<JSONArray<Object>, Integer> arrayPair = parseJSONArray(JSONString, ++charIndex, projection, type);
 				charIndex = arrayPair.getRight();
 				yield arrayPair.getLeft();
 			}
@@ -253,6 +393,102 @@ public class JSONConverter implements CommonPatterns{
 		return Pair.of(value, charIndex);
 	}
 	
+	/**
+	 * Creates a new instance of the given type of {@link JSONClass} using its no-argument constructor, or its
+	 * constructor that accepts a {@link MappedPojo} (given an empty one) if it doesn't have a no-argument constructor
+	 *
+	 * @param type The type of {@link JSONClass} to create
+	 * @return The newly created {@link JSONClass}
+	 */
+	private static JSONClass createJSONClass(Class<? extends JSONClass> type){
+		try{
+			return JSONClassFactory.getSupplier(type).get();
+		}catch(NoSuchMethodException e){
+			try{
+				return JSONClassFactory.getPojoFactory(type).apply(new SimpleOrderedJSONClass());
+			}catch(NoSuchMethodException | InstantiationException | IllegalAccessException e2){
+				throw new IllegalArgumentException("Can't create JSON class of type " + type.getCanonicalName(), e2);
+			}
+		}catch(InstantiationException | IllegalAccessException e){
+			throw new IllegalArgumentException("Can't create JSON class of type " + type.getCanonicalName(), e);
+		}
+	}
+	
+	/**
+	 * Skips over a value in a JSON object without building it. Strings are skipped while paying attention to
+	 * escaped quotes, and classes and arrays are skipped by keeping track of opening and closing braces and brackets
+	 * (ignoring any that appear inside strings).
+	 *
+	 * @param JSONString The JSON string being parsed
+	 * @param startIndex The start index of the value
+	 * @return The index of the first character after the value
+	 */
+	private int skipValue(String JSONString, int startIndex){
+		int charIndex = startIndex;
+		int length = JSONString.length();
+		switch(JSONString.charAt(charIndex)){
+			case '"' -> {
+				return skipString(JSONString, charIndex);
+			}
+			case classStartChar, arrayStartChar -> {
+				// Keep track of how deep we are in classes and arrays until we get back out
+				int depth = 0;
+				while(charIndex < length){
+					switch(JSONString.charAt(charIndex)){
+						case '"' -> {
+							charIndex = skipString(JSONString, charIndex);
+							continue;
+						}
+						case classStartChar, arrayStartChar -> depth++;
+						case classEndChar, arrayEndChar -> {
+							depth--;
+							if(depth == 0){
+								return charIndex + 1;
+							}
+						}
+					}
+					charIndex++;
+				}
+				throw new IllegalStateException("JSON value ended prematurely");
+			}
+			default -> {
+				// Simple values end at whitespace or the next structural character
+				while(charIndex < length){
+					char c = JSONString.charAt(charIndex);
+					if(c == nextValueChar || c == classEndChar || c == arrayEndChar || whitespaceChars.contains(c)){
+						break;
+					}
+					charIndex++;
+				}
+				return charIndex;
+			}
+		}
+	}
+	
+	/**
+	 * Skips over a quoted string, where startIndex is the index of the opening quote
+	 *
+	 * @param JSONString The JSON string being parsed
+	 * @param startIndex The index of the opening quote
+	 * @return The index of the first character after the closing quote
+	 */
+	private int skipString(String JSONString, int startIndex){
+		int charIndex = startIndex + 1;
+		int length = JSONString.length();
+		while(charIndex < length){
+			char c = JSONString.charAt(charIndex);
+			if(c == '\\'){
+				// Skip whatever is escaped
+				charIndex += 2;
+			}else if(c == '"'){
+				return charIndex + 1;
+			}else{
+				charIndex++;
+			}
+		}
+		throw new IllegalStateException("JSON string ended prematurely");
+	}
+	
 	/**
 	 * Advances the index past any whitespace characters.
 	 *
@@ -284,9 +520,35 @@ public class JSONConverter implements CommonPatterns{
 		return matcher.group(1);
 	}
 	
+	/**
+	 * Grabs the String for the quoted string last scanned by the {@link #stringDecoder}. If a
+	 * {@link JSONSymbolTable} is in use, the canonical String from it is returned instead of a new one.
+	 *
+	 * @param JSONString The JSON string being parsed
+	 * @param isKey Whether the string is a key (if not, it's a value)
+	 * @return The decoded contents of the quoted string
+	 */
+	private String getDecodedString(String JSONString, boolean isKey){
+		if(symbolTable == null){
+			return stringDecoder.getString();
+		}
+		
+		// Look up the symbol directly from the JSON string if possible, otherwise from the decoded value
+		CharSequence source = JSONString;
+		int start = stringDecoder.getContentStart();
+		int end = stringDecoder.getContentEnd();
+		if(stringDecoder.hasEscapes()){
+			source = stringDecoder.getValue();
+			start = 0;
+			end = source.length();
+		}
+		return isKey?symbolTable.getKey(source, start, end):symbolTable.getValue(source, start, end);
+	}
+	
 	/**
 	 * Converts the given object into the proper form for use in JSON.<br>
-	 * If it's a {@link JSONObject}, then we just call {@link JSONObject#convertToJSON(JSONConverter)} on it.
+	 * If it's a {@link JSONClass} with a {@link JSONCodec} (see {@link JSONCodecs}), the codec is used to write it.
+	 * If it's any other {@link JSONObject}, then we just call {@link JSONObject#convertToJSON(JSONConverter)} on it.
 	 * null, true, false, strings, and numbers are handled as JSON expects.<br>
 	 * If it doesn't fall into one of those categories, an error is thrown.
 	 *
@@ -297,6 +559,14 @@ public class JSONConverter implements CommonPatterns{
 		if(obj == null){
 			return "null";
 		}else if(obj instanceof JSONObject){
+			if(obj instanceof JSONClass clazz){
+				JSONCodec<JSONClass> codec = JSONCodecs.getCodec(clazz.getClass());
+				if(codec != null){
+					StringBuilder JSONStringBuilder = new StringBuilder();
+					codec.writeJSON(clazz, JSONStringBuilder, this);
+					return JSONStringBuilder.toString();
+				}
+			}
 			return ((JSONObject) obj).convertToJSON(this);
 		}else if(obj instanceof Boolean){
 			return String.valueOf(obj);
@@ -310,14 +580,147 @@ public class JSONConverter implements CommonPatterns{
 			return Float.toString((Float) obj);
 		}else if(obj instanceof Double){
 			return Double.toString((Double) obj);
-		}else if(obj instanceof String){
-			return "\"" + obj + "\"";
+		}else if(obj instanceof String str){
+			return quoteString(str);
 		}else{
 			throw new IllegalArgumentException("Unknown how to convert object into JSON string" +
 					"type: " + obj.getClass().getCanonicalName());
 		}
 	}
 	
+	/**
+	 * Converts the given object to JSON as UTF-8 bytes, using a {@link JSONByteWriter} to write the bytes directly
+	 * instead of building a String and encoding it.
+	 *
+	 * @param obj The object to convert to JSON
+	 * @return The UTF-8 bytes of the JSON representing the given object
+	 */
+	public byte[] convertToJSONBytes(Object obj){
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONByteWriter writer = new JSONByteWriter(out, this)){
+			writer.write(obj);
+		}catch(IOException e){
+			// ByteArrayOutputStream doesn't throw IOExceptions
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * Converts the given object to JSON and writes it as UTF-8 to the given {@link OutputStream}, using a
+	 * {@link JSONByteWriter}. The stream is flushed, but not closed.
+	 *
+	 * @param out The {@link OutputStream} to write the JSON to
+	 * @param obj The object to convert to JSON
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeJSON(OutputStream out, Object obj) throws IOException{
+		JSONByteWriter writer = new JSONByteWriter(out, this);
+		writer.write(obj);
+		writer.flush();
+	}
+	
+	/**
+	 * Reads UTF-8 JSON from the given {@link InputStream} and parses it into a JSON object (either an array or a
+	 * class), and returns it. The bytes are fed to a {@link JSONFeeder} a chunk at a time, so the JSON is never held
+	 * as a String. The stream is read to its end, but not closed.
+	 *
+	 * @param in The {@link InputStream} to read the JSON from
+	 * @return A JSONObject (either a JSONClass or JSONArray)
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public JSONObject readJSON(InputStream in) throws IOException{
+		JSONFeeder feeder = new JSONFeeder(symbolTable, false);
+		byte[] chunk = new byte[JSONCompression.bufferSize];
+		int length;
+		while((length = in.read(chunk)) != -1){
+			feeder.feed(ByteBuffer.wrap(chunk, 0, length));
+		}
+		feeder.endOfInput();
+		if(!feeder.hasNext() || !(feeder.next() instanceof JSONObject obj) || feeder.hasNext()){
+			throw new IllegalStateException("JSON input doesn't hold a single JSON class or array");
+		}
+		return obj;
+	}
+	
+	/**
+	 * Reads compressed JSON from the given {@link InputStream} and parses it into a JSON object (either an array or
+	 * a class), and returns it. The decompressed bytes go straight to a {@link JSONFeeder} as they're inflated, so
+	 * the uncompressed JSON is never held in memory as a whole. The stream is not closed.
+	 *
+	 * @param in The {@link InputStream} to read the compressed JSON from
+	 * @param compression The {@link JSONCompression} the JSON is compressed with
+	 * @return A JSONObject (either a JSONClass or JSONArray)
+	 * @throws IOException If anything goes wrong in reading or decompressing
+	 */
+	public JSONObject readCompressedJSON(InputStream in, JSONCompression compression) throws IOException{
+		try(InputStream decompressed = compression.decompress(in)){
+			return readJSON(decompressed);
+		}
+	}
+	
+	/**
+	 * Converts the given object to JSON and writes it compressed to the given {@link OutputStream}. The UTF-8 bytes
+	 * from the {@link JSONByteWriter} go straight to the compressor, so the uncompressed JSON is never held in memory
+	 * as a whole. The compressed data is finished and the stream is flushed, but not closed.
+	 *
+	 * @param out The {@link OutputStream} to write the compressed JSON to
+	 * @param obj The object to convert to JSON
+	 * @param compression The {@link JSONCompression} to compress the JSON with
+	 * @throws IOException If anything goes wrong in writing or compressing
+	 */
+	public void writeCompressedJSON(OutputStream out, Object obj, JSONCompression compression) throws IOException{
+		try(OutputStream compressed = compression.compress(out)){
+			writeJSON(compressed, obj);
+		}
+	}
+	
+	/**
+	 * Escapes the given String for use in JSON, returning it surrounded by quotes. Quotes, backslashes, and control
+	 * characters are escaped. If nothing needs to be escaped, the String is only copied once to add the quotes.
+	 *
+	 * @param str The String to escape
+	 * @return The escaped String, surrounded by quotes
+	 */
+	public static String quoteString(String str){
+		int length = str.length();
+		int charIndex = 0;
+		while(charIndex < length){
+			char c = str.charAt(charIndex);
+			if(c == JSONStringDecoder.quoteChar || c == JSONStringDecoder.escapeChar || c < ' '){
+				break;
+			}
+			charIndex++;
+		}
+		if(charIndex == length){
+			return JSONStringDecoder.quoteChar + str + JSONStringDecoder.quoteChar;
+		}
+		
+		// Copy what doesn't need escaping, then escape from there on
+		StringBuilder quoted = new StringBuilder(length + 8);
+		quoted.append(JSONStringDecoder.quoteChar).append(str, 0, charIndex);
+		for(; charIndex < length; charIndex++){
+			char c = str.charAt(charIndex);
+			switch(c){
+				case '"' -> quoted.append("\\\"");
+				case '\\' -> quoted.append("\\\\");
+				case '\b' -> quoted.append("\\b");
+				case '\f' -> quoted.append("\\f");
+				case '\n' -> quoted.append("\\n");
+				case '\r' -> quoted.append("\\r");
+				case '\t' -> quoted.append("\\t");
+				default -> {
+					if(c < ' '){
+						quoted.append(String.format("\\u%04x", (int) c));
+					}else{
+						quoted.append(c);
+					}
+				}
+			}
+		}
+		return quoted.append(JSONStringDecoder.quoteChar).toString();
+	}
+	
 	/**
 	 * Converts the given object to JSON and saves it to a file at the given filepath.
 	 *
@@ -328,4 +731,172 @@ public class JSONConverter implements CommonPatterns{
 	public void saveJSONFile(String filepath, Object obj) throws IOException{
 		FileUtil.writeFile(filepath, convertToJSON(obj));
 	}
+	
+	/**
+	 * Reads the compressed JSON file at the given filepath and parses it into a JSON object (either an array or a
+	 * class), and returns it. See {@link #readCompressedJSON(InputStream, JSONCompression)} for details.
+	 *
+	 * @param filepath The path to the file to be read
+	 * @param compression The {@link JSONCompression} the file is compressed with
+	 * @return A JSONObject (either a JSONClass or JSONArray)
+	 * @throws IOException If anything goes wrong in reading or decompressing the file
+	 */
+	public JSONObject parseCompressedJSONFromFile(String filepath, JSONCompression compression) throws IOException{
+		try(InputStream in = Files.newInputStream(Paths.get(filepath))){
+			return readCompressedJSON(in, compression);
+		}
+	}
+	
+	/**
+	 * Converts the given object to JSON and saves it compressed to a file at the given filepath. See
+	 * {@link #writeCompressedJSON(OutputStream, Object, JSONCompression)} for details.
+	 *
+	 * @param filepath The path of the file to save the compressed JSON to
+	 * @param obj The object to be converted to JSON
+	 * @param compression The {@link JSONCompression} to compress the JSON with
+	 * @throws IOException If anything goes wrong in writing the file
+	 */
+	public void saveCompressedJSONFile(String filepath, Object obj, JSONCompression compression) throws IOException{
+		Path path = Paths.get(filepath);
+		if(path.getParent() != null){
+			Files.createDirectories(path.getParent());
+		}
+		try(OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), JSONCompression.bufferSize)){
+			writeCompressedJSON(out, obj, compression);
+		}
+	}
+	
+	/**
+	 * Reads the file at the given path and parses it into a JSON object (either an array or a class) asynchronously,
+	 * using the common pool. See {@link #parseJSONFromFileAsync(Path, Executor)} for details.
+	 *
+	 * @param file The path to the file to be read
+	 * @return A future for the JSONObject (either a JSONClass or JSONArray)
+	 */
+	public CompletableFuture<JSONObject> parseJSONFromFileAsync(Path file){
+		return parseJSONFromFileAsync(file, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Reads the file at the given path and parses it into a JSON object (either an array or a class) asynchronously.
+	 * The file is read a chunk at a time with an
+	 * {@link java.nio.channels.AsynchronousFileChannel AsynchronousFileChannel}, and each chunk is decoded and parsed
+	 * by a {@link JSONFeeder} on the given executor as it arrives, so no thread waits on the file and the file is
+	 * never held as a String. This converter's {@link JSONSymbolTable} isn't used, since the parsing doesn't happen
+	 * on this converter's thread.
+	 *
+	 * @param file The path to the file to be read
+	 * @param executor The {@link Executor} to parse on (if it's an {@link java.util.concurrent.ExecutorService
+	 * ExecutorService}, the channel's completion handlers run on it too)
+	 * @return A future for the JSONObject (either a JSONClass or JSONArray)
+	 */
+	public CompletableFuture<JSONObject> parseJSONFromFileAsync(Path file, Executor executor){
+		return JSONAsyncFileIO.read(file, executor);
+	}
+	
+	/**
+	 * Converts the given object to JSON and saves it to a file at the given path asynchronously, using the common
+	 * pool. See {@link #saveJSONFileAsync(Path, Object, Executor)} for details.
+	 *
+	 * @param file The path of the file to save the JSON to
+	 * @param obj The object to be converted to JSON
+	 * @return A future for when the file is saved
+	 */
+	public CompletableFuture<Void> saveJSONFileAsync(Path file, Object obj){
+		return saveJSONFileAsync(file, obj, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Converts the given object to JSON and saves it to a file at the given path asynchronously. The object is
+	 * encoded as UTF-8 by a {@link JSONByteWriter} on the given executor, and each chunk of bytes is written with an
+	 * {@link java.nio.channels.AsynchronousFileChannel AsynchronousFileChannel} as soon as it's filled, while the
+	 * next chunk is encoded. Each write starts the next one when it completes, so no thread waits on the file. If
+	 * the file falls behind, the encoding stops and is picked up again on the executor once a chunk is written, so
+	 * only a few chunks are held at a time and the JSON is never held as a whole (a single value that's written as
+	 * a whole, like a String or a class with a {@link JSONCodec}, is held until it's written). The object must not be
+	 * modified until the future completes.
+	 *
+	 * @param file The path of the file to save the JSON to
+	 * @param obj The object to be converted to JSON
+	 * @param executor The {@link Executor} to encode on (if it's an {@link java.util.concurrent.ExecutorService
+	 * ExecutorService}, the channel's completion handlers run on it too)
+	 * @return A future for when the file is saved
+	 */
+	public CompletableFuture<Void> saveJSONFileAsync(Path file, Object obj, Executor executor){
+		return JSONAsyncFileIO.write(file, obj, this, executor);
+	}
+	
+	/**
+	 * Converts the given object into the {@link JSONBinaryFormat Tadukoo binary JSON format}. This is a more
+	 * compact form than a JSON string, and is faster to read back with {@link #parseBinaryJSON(byte[])}.
+	 *
+	 * @param obj The object to convert to binary JSON
+	 * @return The bytes of the binary JSON
+	 */
+	public byte[] convertToBinaryJSON(Object obj){
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try(JSONBinaryWriter writer = new JSONBinaryWriter(out)){
+			writer.write(obj);
+		}catch(IOException e){
+			// ByteArrayOutputStream doesn't throw IOExceptions
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * Parses the given {@link JSONBinaryFormat binary JSON} into a JSON object (either an array or a class),
+	 * and returns it.
+	 *
+	 * @param bytes The binary JSON to be parsed
+	 * @return A JSONObject (either a JSONClass or JSONArray)
+	 * @throws IOException If the binary JSON ends prematurely
+	 */
+	public JSONObject parseBinaryJSON(byte[] bytes) throws IOException{
+		return toJSONObject(new JSONBinaryReader(bytes).read());
+	}
+	
+	/**
+	 * Converts the given object to {@link JSONBinaryFormat binary JSON} and saves it to a file at the given filepath.
+	 *
+	 * @param filepath The path of the file to save the binary JSON to
+	 * @param obj The object to be converted to binary JSON
+	 * @throws IOException If anything goes wrong in writing the file
+	 */
+	public void saveBinaryJSONFile(String filepath, Object obj) throws IOException{
+		Path path = Paths.get(filepath);
+		if(path.getParent() != null){
+			Files.createDirectories(path.getParent());
+		}
+		try(JSONBinaryWriter writer = new JSONBinaryWriter(Files.newOutputStream(path))){
+			writer.write(obj);
+		}
+	}
+	
+	/**
+	 * Reads the {@link JSONBinaryFormat binary JSON} file at the given filepath and parses it into a JSON object
+	 * (either an array or a class), and returns it.
+	 *
+	 * @param filepath The path to the file to be read
+	 * @return A JSONObject (either a JSONClass or JSONArray)
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	public JSONObject parseBinaryJSONFromFile(String filepath) throws IOException{
+		try(JSONBinaryReader reader = new JSONBinaryReader(Files.newInputStream(Paths.get(filepath)))){
+			return toJSONObject(reader.read());
+		}
+	}
+	
+	/**
+	 * Ensures the given value is a {@link JSONObject}, as required at the top level
+	 *
+	 * @param value The value to check
+	 * @return The value as a {@link JSONObject}
+	 */
+	private static JSONObject toJSONObject(Object value){
+		if(value instanceof JSONObject obj){
+			return obj;
+		}
+		throw new IllegalArgumentException("Binary JSON is not a JSON class or array");
+	}
 }
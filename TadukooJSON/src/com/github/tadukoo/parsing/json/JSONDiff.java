@@ -0,0 +1,611 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JSON Diff is used to compute the differences between two JSON trees as a JSON Patch (RFC 6902), and to apply
+ * JSON Patches to JSON trees in place. A patch is a {@link JSONArray} of operations, where each operation is a
+ * {@link JSONClass} with an {@link #opKey op}, a {@link #pathKey path} (a JSON Pointer, as in RFC 6901), and a
+ * {@link #valueKey value} or {@link #fromKey from} path where needed, so it can be converted to JSON with
+ * {@link JSONConverter} to be sent elsewhere.
+ * <br><br>
+ * Diffing is done in a single pass over both trees. Subtrees that are the same object are skipped right away, and
+ * the hash of each subtree is cached while diffing, so unequal subtrees are usually found without comparing them
+ * item by item. Arrays are compared by skipping over their equal leading and trailing items first, so an item
+ * being inserted or removed results in a single operation. Numbers are compared by value, so 1 and 1.0 are equal.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public final class JSONDiff{
+	/** The key for the operation name in a patch operation */
+	public static final String opKey = "op";
+	/** The key for the path in a patch operation */
+	public static final String pathKey = "path";
+	/** The key for the path to move or copy from in a patch operation */
+	public static final String fromKey = "from";
+	/** The key for the value in a patch operation */
+	public static final String valueKey = "value";
+	/** Operation that adds a value */
+	public static final String addOp = "add";
+	/** Operation that removes a value */
+	public static final String removeOp = "remove";
+	/** Operation that replaces a value */
+	public static final String replaceOp = "replace";
+	/** Operation that moves a value */
+	public static final String moveOp = "move";
+	/** Operation that copies a value */
+	public static final String copyOp = "copy";
+	/** Operation that tests that a value is equal to the given value */
+	public static final String testOp = "test";
+	/** Character that separates tokens in a JSON Pointer - slash - / */
+	public static final char pointerSeparatorChar = '/';
+	/** Token used in a JSON Pointer to refer to the end of an array - - */
+	public static final String endOfArrayToken = "-";
+	
+	/** The patch operations found so far */
+	private final JSONArray<JSONClass> patch;
+	/** The cached hashes of subtrees */
+	private final Map<Object, Integer> hashes;
+	
+	/**
+	 * Constructs a JSON Diff, used internally to keep track of a single diff
+	 */
+	private JSONDiff(){
+		patch = new JSONArrayList<>();
+		hashes = new IdentityHashMap<>();
+	}
+	
+	/**
+	 * Computes the JSON Patch that turns the source tree into the target tree. Values in the patch are shared with
+	 * the target tree (they're copied when the patch is applied).
+	 *
+	 * @param source The original JSON tree (or value)
+	 * @param target The JSON tree (or value) the source should be turned into
+	 * @return The JSON Patch, as a {@link JSONArray} of operations
+	 */
+	public static JSONArray<JSONClass> diff(Object source, Object target){
+		JSONDiff diff = new JSONDiff();
+		diff.diffValues(source, target, "");
+		return diff.patch;
+	}
+	
+	/**
+	 * Checks if the two given JSON values are equal, comparing JSON classes without regard to key order
+	 *
+	 * @param a The first value
+	 * @param b The second value
+	 * @return Whether the values are equal as JSON
+	 */
+	public static boolean valuesEqual(Object a, Object b){
+		return new JSONDiff().equal(a, b);
+	}
+	
+	/*
+	 * Diffing
+	 */
+	
+	/**
+	 * Adds the operations needed to turn the source value into the target value at the given path
+	 *
+	 * @param source The source value
+	 * @param target The target value
+	 * @param path The JSON Pointer to the values
+	 */
+	private void diffValues(Object source, Object target, String path){
+		if(source == target){
+			return;
+		}
+		if(source instanceof JSONClass sourceClass && target instanceof JSONClass targetClass){
+			diffClasses(sourceClass.snapshot(), targetClass.snapshot(), path);
+		}else if(source instanceof JSONArray<?> sourceArray && target instanceof JSONArray<?> targetArray){
+			diffArrays(sourceArray.getItems(), targetArray.getItems(), path);
+		}else if(!equal(source, target)){
+			addOperation(replaceOp, path, target);
+		}
+	}
+	
+	/**
+	 * Adds the operations needed to turn the source class into the target class
+	 *
+	 * @param source The source class
+	 * @param target The target class
+	 * @param path The JSON Pointer to the classes
+	 */
+	private void diffClasses(JSONClass source, JSONClass target, String path){
+		for(String key: getKeys(source)){
+			String keyPath = path + pointerSeparatorChar + escapeToken(key);
+			if(!target.hasKey(key)){
+				addOperation(removeOp, keyPath, null);
+			}else{
+				diffValues(source.getItem(key), target.getItem(key), keyPath);
+			}
+		}
+		for(String key: getKeys(target)){
+			if(!source.hasKey(key)){
+				addOperation(addOp, path + pointerSeparatorChar + escapeToken(key), target.getItem(key));
+			}
+		}
+	}
+	
+	/**
+	 * Adds the operations needed to turn the source array into the target array. Equal items at the start and end
+	 * are skipped, then the remaining items are diffed in pairs, and any extra items are added or removed.
+	 *
+	 * @param source The items of the source array
+	 * @param target The items of the target array
+	 * @param path The JSON Pointer to the arrays
+	 */
+	private void diffArrays(List<?> source, List<?> target, String path){
+		int start = 0;
+		int sourceEnd = source.size();
+		int targetEnd = target.size();
+		while(start < sourceEnd && start < targetEnd && equal(source.get(start), target.get(start))){
+			start++;
+		}
+		while(sourceEnd > start && targetEnd > start &&
+				equal(source.get(sourceEnd - 1), target.get(targetEnd - 1))){
+			sourceEnd--;
+			targetEnd--;
+		}
+		
+		// Diff the items that are in both, then add or remove the rest
+		int common = Math.min(sourceEnd, targetEnd) - start;
+		for(int i = start; i < start + common; i++){
+			diffValues(source.get(i), target.get(i), path + pointerSeparatorChar + i);
+		}
+		for(int i = start + common; i < targetEnd; i++){
+			addOperation(addOp, path + pointerSeparatorChar + i, target.get(i));
+		}
+		for(int i = start + common; i < sourceEnd; i++){
+			// Removing shifts the next item into the same index
+			addOperation(removeOp, path + pointerSeparatorChar + (start + common), null);
+		}
+	}
+	
+	/**
+	 * Adds an operation to the patch
+	 *
+	 * @param op The name of the operation
+	 * @param path The JSON Pointer the operation applies to
+	 * @param value The value for the operation (not used for removes)
+	 */
+	private void addOperation(String op, String path, Object value){
+		JSONClass operation = new SimpleOrderedJSONClass();
+		operation.setItem(opKey, op);
+		operation.setItem(pathKey, path);
+		if(!op.equals(removeOp)){
+			operation.setItem(valueKey, value);
+		}
+		patch.add(operation);
+	}
+	
+	/*
+	 * Equality and Hashing
+	 */
+	
+	/**
+	 * Checks if the two given values are equal as JSON, using the cached hashes to find unequal subtrees quickly
+	 *
+	 * @param a The first value
+	 * @param b The second value
+	 * @return Whether the values are equal
+	 */
+	private boolean equal(Object a, Object b){
+		if(a == b){
+			return true;
+		}
+		if(a instanceof Number aNum && b instanceof Number bNum){
+			return numbersEqual(aNum, bNum);
+		}
+		if(a instanceof JSONClass aLive && b instanceof JSONClass bLive){
+			JSONClass aClass = aLive.snapshot();
+			JSONClass bClass = bLive.snapshot();
+			if(aClass.getKeys().size() != bClass.getKeys().size() || hash(aClass) != hash(bClass)){
+				return false;
+			}
+			for(String key: aClass.getKeys()){
+				if(!bClass.hasKey(key) || !equal(aClass.getItem(key), bClass.getItem(key))){
+					return false;
+				}
+			}
+			return true;
+		}
+		if(a instanceof JSONArray<?> aArray && b instanceof JSONArray<?> bArray){
+			List<?> aItems = aArray.getItems();
+			List<?> bItems = bArray.getItems();
+			if(aItems.size() != bItems.size() || hash(a) != hash(b)){
+				return false;
+			}
+			for(int i = 0; i < aItems.size(); i++){
+				if(!equal(aItems.get(i), bItems.get(i))){
+					return false;
+				}
+			}
+			return true;
+		}
+		return Objects.equals(a, b);
+	}
+	
+	/**
+	 * Checks if two numbers are equal by value
+	 *
+	 * @param a The first number
+	 * @param b The second number
+	 * @return Whether the numbers are equal
+	 */
+	private static boolean numbersEqual(Number a, Number b){
+		if(isWholeType(a) && isWholeType(b)){
+			return a.longValue() == b.longValue();
+		}
+		return a.doubleValue() == b.doubleValue();
+	}
+	
+	/**
+	 * Checks if the given number is a whole number type
+	 *
+	 * @param number The number to check
+	 * @return Whether the number is an Integer, Long, or Short
+	 */
+	private static boolean isWholeType(Number number){
+		return number instanceof Integer || number instanceof Long || number instanceof Short;
+	}
+	
+	/**
+	 * Grabs the hash of the given value, which is consistent with {@link #equal(Object, Object)}. The hashes of
+	 * JSON classes and arrays are cached.
+	 *
+	 * @param value The value to hash
+	 * @return The hash of the value
+	 */
+	private int hash(Object value){
+		if(value instanceof Number number){
+			// Adding 0.0 turns -0.0 into 0.0, since they're equal
+			return Double.hashCode(number.doubleValue() + 0.0);
+		}else if(!(value instanceof JSONClass) && !(value instanceof JSONArray)){
+			return Objects.hashCode(value);
+		}
+		Integer cached = hashes.get(value);
+		if(cached != null){
+			return cached;
+		}
+		int hash;
+		if(value instanceof JSONClass clazz){
+			// Key order doesn't matter, so the hashes of the entries are summed
+			hash = 1;
+			for(String key: clazz.getKeys()){
+				hash += key.hashCode() ^ hash(clazz.getItem(key));
+			}
+		}else{
+			hash = 2;
+			for(Object item: ((JSONArray<?>) value).getItems()){
+				hash = 31 * hash + hash(item);
+			}
+		}
+		hashes.put(value, hash);
+		return hash;
+	}
+	
+	/*
+	 * Patching
+	 */
+	
+	/**
+	 * Applies the given JSON Patch to the given document in place. The operations are applied in order, and if
+	 * one fails, the operations before it stay applied. Values from the patch are copied into the document.
+	 *
+	 * @param document The JSON tree (or value) to apply the patch to
+	 * @param patch The JSON Patch, as a list of operations
+	 * @return The patched document - the same object as given, unless the patch replaced the whole document
+	 */
+	public static Object applyPatch(Object document, List<?> patch){
+		Object result = document;
+		for(Object operation: patch){
+			if(!(operation instanceof JSONClass op)){
+				throw new IllegalArgumentException("JSON Patch operation must be a JSON class");
+			}
+			String opName = getRequiredString(op, opKey);
+			String path = getRequiredString(op, pathKey);
+			switch(opName){
+				case addOp -> result = add(result, path, copyValue(getRequiredValue(op)));
+				case removeOp -> result = remove(result, path);
+				case replaceOp -> {
+					get(result, path);
+					result = set(result, path, copyValue(getRequiredValue(op)), false);
+				}
+				case moveOp -> {
+					String from = getRequiredString(op, fromKey);
+					if(path.startsWith(from + pointerSeparatorChar)){
+						throw new IllegalArgumentException("Can't move a JSON value into itself: " + from);
+					}
+					Object value = get(result, from);
+					result = remove(result, from);
+					result = add(result, path, value);
+				}
+				case copyOp -> result = add(result, path, copyValue(get(result, getRequiredString(op, fromKey))));
+				case testOp -> {
+					if(!valuesEqual(get(result, path), getRequiredValue(op))){
+						throw new IllegalStateException("JSON Patch test failed at path: " + path);
+					}
+				}
+				default -> throw new IllegalArgumentException("Unknown JSON Patch operation: " + opName);
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Grabs the value at the given path
+	 *
+	 * @param document The document to look in
+	 * @param path The JSON Pointer to the value
+	 * @return The value at the path
+	 */
+	private static Object get(Object document, String path){
+		Object current = document;
+		for(String token: parsePointer(path)){
+			if(current instanceof JSONClass clazz){
+				if(!clazz.hasKey(token)){
+					throw new IllegalArgumentException("JSON Pointer path doesn't exist: " + path);
+				}
+				current = clazz.getItem(token);
+			}else if(current instanceof JSONArray<?> array){
+				List<?> items = array.getItems();
+				current = items.get(parseIndex(token, items.size() - 1, path));
+			}else{
+				throw new IllegalArgumentException("JSON Pointer path doesn't exist: " + path);
+			}
+		}
+		return current;
+	}
+	
+	/**
+	 * Adds the given value at the given path (inserting it if the parent is an array)
+	 *
+	 * @param document The document to add to
+	 * @param path The JSON Pointer to add the value at
+	 * @param value The value to add
+	 * @return The document, or the value if the path is the whole document
+	 */
+	private static Object add(Object document, String path, Object value){
+		return set(document, path, value, true);
+	}
+	
+	/**
+	 * Sets the given value at the given path
+	 *
+	 * @param document The document to set the value in
+	 * @param path The JSON Pointer to set the value at
+	 * @param value The value to set
+	 * @param insert Whether to insert the value into an array (true) or replace the item that's there (false)
+	 * @return The document, or the value if the path is the whole document
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object set(Object document, String path, Object value, boolean insert){
+		List<String> tokens = parsePointer(path);
+		if(tokens.isEmpty()){
+			return value;
+		}
+		Object parent = getParent(document, tokens, path);
+		String token = tokens.get(tokens.size() - 1);
+		if(parent instanceof JSONClass clazz){
+			clazz.setItem(token, value);
+		}else if(parent instanceof JSONArray<?> array){
+			List<Object> items = (List<Object>) array.getItems();
+			if(insert){
+				items.add(token.equals(endOfArrayToken)?items.size():parseIndex(token, items.size(), path), value);
+			}else{
+				items.set(parseIndex(token, items.size() - 1, path), value);
+			}
+		}else{
+			throw new IllegalArgumentException("JSON Pointer path doesn't exist: " + path);
+		}
+		return document;
+	}
+	
+	/**
+	 * Removes the value at the given path
+	 *
+	 * @param document The document to remove from
+	 * @param path The JSON Pointer to remove the value at
+	 * @return The document, or null if the path is the whole document
+	 */
+	private static Object remove(Object document, String path){
+		List<String> tokens = parsePointer(path);
+		if(tokens.isEmpty()){
+			return null;
+		}
+		Object parent = getParent(document, tokens, path);
+		String token = tokens.get(tokens.size() - 1);
+		if(parent instanceof JSONClass clazz && clazz.hasKey(token)){
+			clazz.removeItem(token);
+		}else if(parent instanceof JSONArray<?> array){
+			List<?> items = array.getItems();
+			items.remove(parseIndex(token, items.size() - 1, path));
+		}else{
+			throw new IllegalArgumentException("JSON Pointer path doesn't exist: " + path);
+		}
+		return document;
+	}
+	
+	/**
+	 * Grabs the parent of the value at the given path
+	 *
+	 * @param document The document to look in
+	 * @param tokens The tokens of the path
+	 * @param path The JSON Pointer (for error messages)
+	 * @return The parent of the value at the path
+	 */
+	private static Object getParent(Object document, List<String> tokens, String path){
+		StringBuilder parentPath = new StringBuilder();
+		for(int i = 0; i < tokens.size() - 1; i++){
+			parentPath.append(pointerSeparatorChar).append(escapeToken(tokens.get(i)));
+		}
+		try{
+			return get(document, parentPath.toString());
+		}catch(IllegalArgumentException e){
+			throw new IllegalArgumentException("JSON Pointer path doesn't exist: " + path);
+		}
+	}
+	
+	/**
+	 * Parses an array index in a JSON Pointer
+	 *
+	 * @param token The token to parse
+	 * @param maxIndex The largest valid index
+	 * @param path The JSON Pointer (for error messages)
+	 * @return The index
+	 */
+	private static int parseIndex(String token, int maxIndex, String path){
+		boolean valid = !token.isEmpty() && token.length() <= 9 && (token.equals("0") || token.charAt(0) != '0');
+		for(int i = 0; valid && i < token.length(); i++){
+			valid = token.charAt(i) >= '0' && token.charAt(i) <= '9';
+		}
+		if(!valid || Integer.parseInt(token) > maxIndex){
+			throw new IllegalArgumentException("JSON Pointer path doesn't exist: " + path);
+		}
+		return Integer.parseInt(token);
+	}
+	
+	/**
+	 * Copies the given value, so that JSON classes and arrays in a patch aren't shared with the document.
+	 * {@link CachingJSONObject Caching JSON Objects} are copied as caching objects.
+	 *
+	 * @param value The value to copy
+	 * @return The copy of the value
+	 */
+	private static Object copyValue(Object value){
+		if(value instanceof CachingJSONObject){
+			return CachingJSONObject.copyOf(value);
+		}else if(value instanceof JSONClass clazz){
+			JSONClass copy = new SimpleOrderedJSONClass();
+			for(String key: getKeys(clazz)){
+				copy.setItem(key, copyValue(clazz.getItem(key)));
+			}
+			return copy;
+		}else if(value instanceof JSONArray<?> array){
+			JSONArrayList<Object> copy = new JSONArrayList<>();
+			for(Object item: array.getItems()){
+				copy.add(copyValue(item));
+			}
+			return copy;
+		}
+		return value;
+	}
+	
+	/**
+	 * Grabs a required String from a patch operation
+	 *
+	 * @param op The patch operation
+	 * @param key The key of the String
+	 * @return The String
+	 */
+	private static String getRequiredString(JSONClass op, String key){
+		if(!(op.getItem(key) instanceof String str)){
+			throw new IllegalArgumentException("JSON Patch operation is missing " + key);
+		}
+		return str;
+	}
+	
+	/**
+	 * Grabs the required value from a patch operation
+	 *
+	 * @param op The patch operation
+	 * @return The value
+	 */
+	private static Object getRequiredValue(JSONClass op){
+		if(!op.hasKey(valueKey)){
+			throw new IllegalArgumentException("JSON Patch operation is missing " + valueKey);
+		}
+		return op.getItem(valueKey);
+	}
+	
+	/*
+	 * JSON Pointers
+	 */
+	
+	/**
+	 * Parses the given JSON Pointer into its (unescaped) tokens
+	 *
+	 * @param path The JSON Pointer
+	 * @return The tokens of the pointer - empty for the whole document
+	 */
+	public static List<String> parsePointer(String path){
+		List<String> tokens = new ArrayList<>();
+		if(path.isEmpty()){
+			return tokens;
+		}
+		if(path.charAt(0) != pointerSeparatorChar){
+			throw new IllegalArgumentException("Invalid JSON Pointer: " + path);
+		}
+		int start = 1;
+		while(true){
+			int end = path.indexOf(pointerSeparatorChar, start);
+			String token = path.substring(start, end < 0?path.length():end);
+			if(token.indexOf('~') >= 0){
+				token = unescapeToken(token, path);
+			}
+			tokens.add(token);
+			if(end < 0){
+				return tokens;
+			}
+			start = end + 1;
+		}
+	}
+	
+	/**
+	 * Escapes a token for use in a JSON Pointer (~ becomes ~0 and / becomes ~1)
+	 *
+	 * @param token The token to escape
+	 * @return The escaped token
+	 */
+	public static String escapeToken(String token){
+		if(token.indexOf('~') < 0 && token.indexOf(pointerSeparatorChar) < 0){
+			return token;
+		}
+		return token.replace("~", "~0").replace("/", "~1");
+	}
+	
+	/**
+	 * Unescapes a token from a JSON Pointer (~1 becomes / and ~0 becomes ~)
+	 *
+	 * @param token The token to unescape
+	 * @param path The JSON Pointer (for error messages)
+	 * @return The unescaped token
+	 */
+	private static String unescapeToken(String token, String path){
+		StringBuilder unescaped = new StringBuilder(token.length());
+		for(int i = 0; i < token.length(); i++){
+			char c = token.charAt(i);
+			if(c == '~'){
+				char next = i + 1 < token.length()?token.charAt(++i):' ';
+				if(next == '0'){
+					unescaped.append('~');
+				}else if(next == '1'){
+					unescaped.append(pointerSeparatorChar);
+				}else{
+					throw new IllegalArgumentException("Invalid JSON Pointer: " + path);
+				}
+			}else{
+				unescaped.append(c);
+			}
+		}
+		return unescaped.toString();
+	}
+	
+	/**
+	 * Grabs the keys of a class, in order if it's an {@link OrderedJSONClass}
+	 *
+	 * @param clazz The class to grab the keys of
+	 * @return The keys of the class
+	 */
+	private static Collection<String> getKeys(JSONClass clazz){
+		return clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+	}
+}
@@ -0,0 +1,372 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.ToLongFunction;
+
+/**
+ * JSON Document Cache caches JSON files parsed by {@link JSONConverter#parseJSONFromFile(String)}, so threads that
+ * repeatedly load the same files only pay for parsing them once. Entries are keyed by the file's path along with its
+ * last modified time and size, which are checked on every load, so a file that's been changed is parsed again.
+ * <br><br>
+ * Each entry has a weight, which by default is {@link #estimateRetainedSize(Object) an estimate} of the memory the
+ * document takes, and the least recently used entries are evicted once the total weight is over the maximum.
+ * If several threads load the same file at once, it's only parsed by one of them, and the others wait for it.
+ * <br><br>
+ * Since cached documents are shared between threads, they're {@link JSONClass#freeze() frozen}: every document
+ * returned is a {@link FrozenJSONClass} or {@link FrozenJSONArray}. A JSON Document Cache is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONDocumentCache{
+	
+	/**
+	 * The version of a file a document was parsed from
+	 */
+	private static final class FileVersion{
+		/** The absolute path to the file */
+		private final Path path;
+		/** The last modified time of the file, in milliseconds */
+		private final long lastModified;
+		/** The size of the file */
+		private final long size;
+		
+		/**
+		 * Constructs a File Version with the given settings
+		 *
+		 * @param path The absolute path to the file
+		 * @param lastModified The last modified time of the file, in milliseconds
+		 * @param size The size of the file
+		 */
+		private FileVersion(Path path, long lastModified, long size){
+			this.path = path;
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean equals(Object obj){
+			return obj instanceof FileVersion other && path.equals(other.path) &&
+					lastModified == other.lastModified && size == other.size;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public int hashCode(){
+			return Objects.hash(path, lastModified, size);
+		}
+	}
+	
+	/**
+	 * A cached document
+	 */
+	private static final class Entry{
+		/** The version of the file the document was parsed from */
+		private final FileVersion version;
+		/** The parsed (and frozen) document */
+		private final JSONObject document;
+		/** The weight of the document */
+		private final long weight;
+		
+		/**
+		 * Constructs an Entry with the given settings
+		 *
+		 * @param version The version of the file the document was parsed from
+		 * @param document The parsed (and frozen) document
+		 * @param weight The weight of the document
+		 */
+		private Entry(FileVersion version, JSONObject document, long weight){
+			this.version = version;
+			this.document = document;
+			this.weight = weight;
+		}
+	}
+	
+	/** The maximum total weight of the cached documents */
+	private final long maxWeight;
+	/** Gives the weight of a document */
+	private final ToLongFunction<JSONObject> weigher;
+	/** The cached documents by path, from least to most recently used - guarded by itself */
+	private final LinkedHashMap<Path, Entry> entries;
+	/** The loads in progress - guarded by {@link #entries} */
+	private final Map<FileVersion, CompletableFuture<Entry>> loading;
+	/** The total weight of the cached documents - guarded by {@link #entries} */
+	private long weight;
+	/** The number of loads that found the document in the cache - guarded by {@link #entries} */
+	private long hitCount;
+	/** The number of loads that didn't find the document in the cache - guarded by {@link #entries} */
+	private long missCount;
+	/** The number of times a file was parsed - guarded by {@link #entries} */
+	private long parseCount;
+	
+	/**
+	 * Constructs a JSON Document Cache that weighs documents by {@link #estimateRetainedSize(Object) an estimate} of
+	 * the memory they take
+	 *
+	 * @param maxWeight The maximum total weight of the cached documents (an estimate in bytes)
+	 */
+	public JSONDocumentCache(long maxWeight){
+		this(maxWeight, JSONDocumentCache::estimateRetainedSize);
+	}
+	
+	/**
+	 * Constructs a JSON Document Cache that weighs documents with the given weigher
+	 *
+	 * @param maxWeight The maximum total weight of the cached documents
+	 * @param weigher Gives the weight of a document (called once per document, on the thread that parsed it)
+	 */
+	public JSONDocumentCache(long maxWeight, ToLongFunction<JSONObject> weigher){
+		if(maxWeight < 0){
+			throw new IllegalArgumentException("Maximum weight can't be negative: " + maxWeight);
+		}
+		this.maxWeight = maxWeight;
+		this.weigher = weigher;
+		entries = new LinkedHashMap<>(16, 0.75f, true);
+		loading = new HashMap<>();
+		weight = 0;
+		hitCount = 0;
+		missCount = 0;
+		parseCount = 0;
+	}
+	
+	/**
+	 * Loads the JSON file at the given filepath, from the cache if it hasn't changed since it was cached
+	 *
+	 * @param filepath The path to the file
+	 * @return The frozen document (a {@link FrozenJSONClass} or {@link FrozenJSONArray})
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	public JSONObject get(String filepath) throws IOException{
+		return get(Paths.get(filepath));
+	}
+	
+	/**
+	 * Loads the JSON file at the given path, from the cache if it hasn't changed since it was cached
+	 *
+	 * @param file The path to the file
+	 * @return The frozen document (a {@link FrozenJSONClass} or {@link FrozenJSONArray})
+	 * @throws IOException If anything goes wrong in reading the file
+	 */
+	public JSONObject get(Path file) throws IOException{
+		Path path = file.toAbsolutePath().normalize();
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		FileVersion version = new FileVersion(path, attributes.lastModifiedTime().toMillis(), attributes.size());
+		
+		CompletableFuture<Entry> load;
+		boolean loadHere = false;
+		synchronized(entries){
+			Entry entry = entries.get(path);
+			if(entry != null && entry.version.equals(version)){
+				hitCount++;
+				return entry.document;
+			}
+			missCount++;
+			load = loading.get(version);
+			if(load == null){
+				load = new CompletableFuture<>();
+				loading.put(version, load);
+				loadHere = true;
+			}
+		}
+		
+		if(!loadHere){
+			// Another thread is already parsing the file
+			try{
+				return load.join().document;
+			}catch(CompletionException e){
+				if(e.getCause() instanceof IOException ioe){
+					throw new IOException(ioe.getMessage(), ioe);
+				}else if(e.getCause() instanceof RuntimeException re){
+					throw re;
+				}else if(e.getCause() instanceof Error err){
+					throw err;
+				}
+				throw e;
+			}
+		}
+		
+		Entry entry;
+		try{
+			JSONObject document = freeze(new JSONConverter().parseJSONFromFile(path.toFile()));
+			entry = new Entry(version, document, weigher.applyAsLong(document));
+		}catch(Throwable e){
+			// Anything at all (even a StackOverflowError from a deeply nested file) must finish the load, or the
+			// threads waiting on it would wait forever
+			synchronized(entries){
+				loading.remove(version);
+			}
+			load.completeExceptionally(e);
+			throw e;
+		}
+		synchronized(entries){
+			loading.remove(version);
+			parseCount++;
+			Entry old = entries.remove(path);
+			if(old != null){
+				weight -= old.weight;
+			}
+			// A document heavier than the whole cache is returned without being cached
+			if(entry.weight <= maxWeight){
+				entries.put(path, entry);
+				weight += entry.weight;
+				evict();
+			}
+		}
+		load.complete(entry);
+		return entry.document;
+	}
+	
+	/**
+	 * Removes the cached document for the given file, if there is one
+	 *
+	 * @param file The path to the file
+	 */
+	public void invalidate(Path file){
+		synchronized(entries){
+			Entry old = entries.remove(file.toAbsolutePath().normalize());
+			if(old != null){
+				weight -= old.weight;
+			}
+		}
+	}
+	
+	/**
+	 * Removes every cached document
+	 */
+	public void invalidateAll(){
+		synchronized(entries){
+			entries.clear();
+			weight = 0;
+		}
+	}
+	
+	/**
+	 * @return The maximum total weight of the cached documents
+	 */
+	public long getMaxWeight(){
+		return maxWeight;
+	}
+	
+	/**
+	 * @return The total weight of the cached documents
+	 */
+	public long getWeight(){
+		synchronized(entries){
+			return weight;
+		}
+	}
+	
+	/**
+	 * @return The number of cached documents
+	 */
+	public int size(){
+		synchronized(entries){
+			return entries.size();
+		}
+	}
+	
+	/**
+	 * @return The number of loads that found the document in the cache
+	 */
+	public long getHitCount(){
+		synchronized(entries){
+			return hitCount;
+		}
+	}
+	
+	/**
+	 * @return The number of loads that didn't find the document in the cache (including those that waited for
+	 * another thread to parse it)
+	 */
+	public long getMissCount(){
+		synchronized(entries){
+			return missCount;
+		}
+	}
+	
+	/**
+	 * @return The number of times a file was parsed
+	 */
+	public long getParseCount(){
+		synchronized(entries){
+			return parseCount;
+		}
+	}
+	
+	/**
+	 * Evicts the least recently used documents until the total weight is no more than the maximum
+	 */
+	private void evict(){
+		Iterator<Entry> iterator = entries.values().iterator();
+		while(weight > maxWeight && iterator.hasNext()){
+			weight -= iterator.next().weight;
+			iterator.remove();
+		}
+	}
+	
+	/**
+	 * @param document A parsed document
+	 * @return The frozen document
+	 */
+	private static JSONObject freeze(JSONObject document){
+		if(document instanceof JSONClass clazz){
+			return clazz.freeze();
+		}
+		return ((JSONArray<?>) document).freeze();
+	}
+	
+	/**
+	 * Estimates the memory taken by the given value and everything in it, assuming a 64-bit JVM with compressed
+	 * pointers. This is a rough estimate, and doesn't account for Strings or numbers that are shared.
+	 *
+	 * @param value The value
+	 * @return The estimated size of the value, in bytes
+	 */
+	public static long estimateRetainedSize(Object value){
+		if(value == null || value instanceof Boolean){
+			// Booleans are shared constants
+			return 0;
+		}else if(value instanceof String string){
+			// The String and its array (assuming one byte per character)
+			return 24 + 16 + align(string.length());
+		}else if(value instanceof Number){
+			return 16;
+		}else if(value instanceof JSONClass clazz){
+			// The class, plus a map entry (or trie slot) and a reference per item
+			long size = 64;
+			for(Map.Entry<String, Object> item: clazz.snapshot().getMap().entrySet()){
+				size += 40 + estimateRetainedSize(item.getKey()) + estimateRetainedSize(item.getValue());
+			}
+			return size;
+		}else if(value instanceof List<?> list){
+			long size = 40 + align(4L * list.size());
+			for(Object item: list){
+				size += estimateRetainedSize(item);
+			}
+			return size;
+		}
+		return 16;
+	}
+	
+	/**
+	 * @param bytes A number of bytes
+	 * @return The number of bytes rounded up to the 8-byte alignment of objects
+	 */
+	private static long align(long bytes){
+		return (bytes + 7) & ~7L;
+	}
+}
@@ -0,0 +1,568 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * JSON External Sorter sorts the items of a JSON array file by a key, without ever holding the whole array in
+ * memory. The items are streamed from the file through a {@link JSONFeeder}, and collected into runs until a run's
+ * {@link JSONDocumentCache#estimateRetainedSize(Object) estimated size} reaches the maximum run weight. Each run is
+ * sorted and spilled to a temporary file in the {@link JSONBinaryFormat Tadukoo binary JSON format}, and the runs are
+ * then merged (at most {@link #maxMergeWidth} at a time) into the output JSON array file. If the whole array fits in
+ * one run, it's sorted in memory and nothing is spilled.
+ * <br><br>
+ * The key of each item is the first value its {@link JSONPath} matches (e.g. {@code $.user.id}), and keys are
+ * ordered by {@link #compareKeys(Object, Object)}. The sort is stable, so items with equal keys keep their order.
+ * Two JSON array files that are sorted by their keys can be joined with
+ * {@link #mergeJoin(Path, JSONPath, Path, JSONPath, JoinHandler)}, which also only holds one key's worth of items
+ * in memory.
+ * <br><br>
+ * A JSON External Sorter is immutable, and can be used by several threads at once.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONExternalSorter{
+	/** The default maximum estimated size of a run, in bytes - 64 MB */
+	public static final long defaultMaxRunWeight = 64L * 1024 * 1024;
+	/** The maximum number of runs merged at once (more runs are merged in several passes) */
+	public static final int maxMergeWidth = 64;
+	/** The number of bytes read from a JSON array file at a time */
+	private static final int bufferSize = 65536;
+	/** Orders {@link KeyedItem Keyed Items} by their keys */
+	private static final Comparator<KeyedItem> keyedItemOrder = (item1, item2) -> compareKeys(item1.key, item2.key);
+	
+	/**
+	 * Handles the pairs of items joined by {@link #mergeJoin(Path, JSONPath, Path, JSONPath, JoinHandler)}
+	 */
+	@FunctionalInterface
+	public interface JoinHandler{
+		/**
+		 * Handles a pair of items with equal keys
+		 *
+		 * @param left The item from the left file
+		 * @param right The item from the right file
+		 * @throws IOException If anything goes wrong in handling the pair
+		 */
+		void join(Object left, Object right) throws IOException;
+	}
+	
+	/**
+	 * Something items are written to one at a time, in sorted order
+	 */
+	@FunctionalInterface
+	private interface ItemSink{
+		/**
+		 * Writes the given item
+		 *
+		 * @param item The item to write
+		 * @throws IOException If anything goes wrong in writing
+		 */
+		void write(Object item) throws IOException;
+	}
+	
+	/**
+	 * Writes items to a sink
+	 */
+	@FunctionalInterface
+	private interface SinkWriter{
+		/**
+		 * Writes items to the given sink
+		 *
+		 * @param sink The {@link ItemSink} to write the items to
+		 * @throws IOException If anything goes wrong in writing
+		 */
+		void writeTo(ItemSink sink) throws IOException;
+	}
+	
+	/**
+	 * An item along with its key
+	 */
+	private static final class KeyedItem{
+		/** The key of the item */
+		private final Object key;
+		/** The item */
+		private final Object item;
+		
+		/**
+		 * Constructs a Keyed Item with the given settings
+		 *
+		 * @param key The key of the item
+		 * @param item The item
+		 */
+		private KeyedItem(Object key, Object item){
+			this.key = key;
+			this.item = item;
+		}
+	}
+	
+	/** The path to the key of each item */
+	private final JSONPath keyPath;
+	/** The maximum estimated size of a run, in bytes */
+	private final long maxRunWeight;
+	/** The directory to spill runs to - null for the default temporary directory */
+	private final Path tempDirectory;
+	
+	/**
+	 * Constructs a JSON External Sorter that sorts by the given key path, spilling runs of up to
+	 * {@link #defaultMaxRunWeight} to the default temporary directory
+	 *
+	 * @param keyPath The {@link JSONPath} expression for the key of each item
+	 */
+	public JSONExternalSorter(String keyPath){
+		this(JSONPath.compile(keyPath), defaultMaxRunWeight, null);
+	}
+	
+	/**
+	 * Constructs a JSON External Sorter with the given settings
+	 *
+	 * @param keyPath The {@link JSONPath} to the key of each item
+	 * @param maxRunWeight The maximum estimated size of a run, in bytes
+	 * @param tempDirectory The directory to spill runs to - null for the default temporary directory
+	 */
+	public JSONExternalSorter(JSONPath keyPath, long maxRunWeight, Path tempDirectory){
+		if(maxRunWeight <= 0){
+			throw new IllegalArgumentException("Maximum run weight must be positive: " + maxRunWeight);
+		}
+		this.keyPath = keyPath;
+		this.maxRunWeight = maxRunWeight;
+		this.tempDirectory = tempDirectory;
+	}
+	
+	/**
+	 * @return The {@link JSONPath} to the key of each item
+	 */
+	public JSONPath getKeyPath(){
+		return keyPath;
+	}
+	
+	/**
+	 * @return The maximum estimated size of a run, in bytes
+	 */
+	public long getMaxRunWeight(){
+		return maxRunWeight;
+	}
+	
+	/**
+	 * @return The directory runs are spilled to - null for the default temporary directory
+	 */
+	public Path getTempDirectory(){
+		return tempDirectory;
+	}
+	
+	/**
+	 * Sorts the items of the JSON array file at the given input path by their keys, and writes them as a JSON array
+	 * to the given output path (which can't be the same as the input). Runs spilled along the way are deleted
+	 * before this returns.
+	 *
+	 * @param input The JSON array file to sort
+	 * @param output The file to write the sorted JSON array to
+	 * @return The number of items sorted
+	 * @throws IOException If anything goes wrong in reading, spilling, or writing
+	 * @throws IllegalStateException If the input isn't a JSON array, or anything but whitespace follows the array
+	 */
+	public long sort(Path input, Path output) throws IOException{
+		// Every run file created, to be deleted at the end
+		List<Path> created = new ArrayList<>();
+		try{
+			List<Path> runs = new ArrayList<>();
+			long count = 0;
+			List<KeyedItem> run = new ArrayList<>();
+			long runWeight = 0;
+			try(ArrayItemReader reader = new ArrayItemReader(input)){
+				while(reader.hasNext()){
+					Object item = reader.next();
+					run.add(new KeyedItem(keyPath.evaluateFirst(item), item));
+					runWeight += JSONDocumentCache.estimateRetainedSize(item);
+					count++;
+					if(runWeight >= maxRunWeight){
+						runs.add(spill(run, created));
+						run.clear();
+						runWeight = 0;
+					}
+				}
+			}
+			
+			if(runs.isEmpty()){
+				// Everything fit in one run, so there's nothing to merge
+				run.sort(keyedItemOrder);
+				writeArray(output, sink -> {
+					for(KeyedItem keyed: run){
+						sink.write(keyed.item);
+					}
+				});
+				return count;
+			}
+			if(!run.isEmpty()){
+				runs.add(spill(run, created));
+				run.clear();
+			}
+			
+			// Merge consecutive groups of runs until few enough are left to merge into the output (merging
+			// consecutive runs in order keeps the sort stable)
+			while(runs.size() > maxMergeWidth){
+				List<Path> merged = new ArrayList<>();
+				for(int start = 0; start < runs.size(); start += maxMergeWidth){
+					List<Path> group = runs.subList(start, Math.min(start + maxMergeWidth, runs.size()));
+					Path mergedRun = createRunFile(created);
+					merged.add(mergedRun);
+					try(JSONBinaryWriter writer = new JSONBinaryWriter(Files.newOutputStream(mergedRun))){
+						merge(group, writer::write);
+					}
+				}
+				for(Path mergedRun: runs){
+					Files.delete(mergedRun);
+				}
+				runs = merged;
+			}
+			List<Path> finalRuns = runs;
+			writeArray(output, sink -> merge(finalRuns, sink));
+			return count;
+		}finally{
+			for(Path run: created){
+				Files.deleteIfExists(run);
+			}
+		}
+	}
+	
+	/**
+	 * Compares two keys. Missing keys and nulls come first, then false, true, numbers (by their double values), and
+	 * Strings (by {@link String#compareTo(String)}). Keys that are classes or arrays come last, and are all equal
+	 * to each other.
+	 *
+	 * @param key1 The first key
+	 * @param key2 The second key
+	 * @return A negative number, zero, or a positive number if the first key is before, equal to, or after the second
+	 */
+	public static int compareKeys(Object key1, Object key2){
+		int rank1 = rank(key1);
+		int rank2 = rank(key2);
+		if(rank1 != rank2){
+			return Integer.compare(rank1, rank2);
+		}
+		return switch(rank1){
+			case 1 -> Boolean.compare((Boolean) key1, (Boolean) key2);
+			case 2 -> Double.compare(((Number) key1).doubleValue(), ((Number) key2).doubleValue());
+			case 3 -> ((String) key1).compareTo((String) key2);
+			default -> 0;
+		};
+	}
+	
+	/**
+	 * @param key A key
+	 * @return The rank of the key's type in the {@link #compareKeys(Object, Object) order of keys}
+	 */
+	private static int rank(Object key){
+		if(key == null){
+			return 0;
+		}else if(key instanceof Boolean){
+			return 1;
+		}else if(key instanceof Number){
+			return 2;
+		}else if(key instanceof String){
+			return 3;
+		}
+		return 4;
+	}
+	
+	/**
+	 * Joins the items of two JSON array files that are each sorted by their keys (e.g. by {@link #sort(Path, Path)}),
+	 * handing every pair of items with equal keys to the given handler, in order (an inner join). Items whose key
+	 * is missing or null aren't joined. Only the right items with the current key are held in memory.
+	 *
+	 * @param left The left JSON array file
+	 * @param leftKey The {@link JSONPath} to the key of each left item
+	 * @param right The right JSON array file
+	 * @param rightKey The {@link JSONPath} to the key of each right item
+	 * @param handler The {@link JoinHandler} to hand each pair of items to
+	 * @return The number of pairs joined
+	 * @throws IOException If anything goes wrong in reading the files or in the handler
+	 * @throws IllegalStateException If either file isn't sorted by its key
+	 */
+	public static long mergeJoin(Path left, JSONPath leftKey, Path right, JSONPath rightKey, JoinHandler handler)
+			throws IOException{
+		long count = 0;
+		try(SortedItemReader leftReader = new SortedItemReader(left, leftKey);
+				SortedItemReader rightReader = new SortedItemReader(right, rightKey)){
+			List<Object> group = new ArrayList<>();
+			Object groupKey = null;
+			KeyedItem nextRight = rightReader.next();
+			KeyedItem nextLeft;
+			while((nextLeft = leftReader.next()) != null){
+				if(nextLeft.key == null){
+					continue;
+				}
+				if(groupKey == null || compareKeys(groupKey, nextLeft.key) != 0){
+					// Move the right side up to this key, and collect the right items with it
+					group.clear();
+					groupKey = nextLeft.key;
+					while(nextRight != null && compareKeys(nextRight.key, groupKey) < 0){
+						nextRight = rightReader.next();
+					}
+					while(nextRight != null && compareKeys(nextRight.key, groupKey) == 0){
+						group.add(nextRight.item);
+						nextRight = rightReader.next();
+					}
+				}
+				for(Object rightItem: group){
+					handler.join(nextLeft.item, rightItem);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Sorts the given run and writes it to a new run file
+	 *
+	 * @param run The run to spill
+	 * @param created The run files created so far, to add the new one to
+	 * @return The run file
+	 * @throws IOException If anything goes wrong in writing the run
+	 */
+	private Path spill(List<KeyedItem> run, List<Path> created) throws IOException{
+		run.sort(keyedItemOrder);
+		Path file = createRunFile(created);
+		try(JSONBinaryWriter writer = new JSONBinaryWriter(Files.newOutputStream(file))){
+			for(KeyedItem keyed: run){
+				writer.write(keyed.item);
+			}
+		}
+		return file;
+	}
+	
+	/**
+	 * Creates a new, empty run file
+	 *
+	 * @param created The run files created so far, to add the new one to
+	 * @return The run file
+	 * @throws IOException If anything goes wrong in creating the file
+	 */
+	private Path createRunFile(List<Path> created) throws IOException{
+		Path file;
+		if(tempDirectory == null){
+			file = Files.createTempFile("json-sort-", ".run");
+		}else{
+			Files.createDirectories(tempDirectory);
+			file = Files.createTempFile(tempDirectory, "json-sort-", ".run");
+		}
+		created.add(file);
+		return file;
+	}
+	
+	/**
+	 * Merges the given sorted runs, writing their items in order to the given sink. Items with equal keys are
+	 * written in the order of their runs.
+	 *
+	 * @param runs The run files to merge
+	 * @param sink The {@link ItemSink} to write the items to
+	 * @throws IOException If anything goes wrong in reading or writing
+	 */
+	private void merge(List<Path> runs, ItemSink sink) throws IOException{
+		List<JSONBinaryReader> readers = new ArrayList<>();
+		try{
+			// The next item of each run, and the runs ordered by them (runs with equal items are in order)
+			KeyedItem[] heads = new KeyedItem[runs.size()];
+			PriorityQueue<Integer> queue = new PriorityQueue<>((run1, run2) -> {
+				int order = keyedItemOrder.compare(heads[run1], heads[run2]);
+				return order != 0?order:Integer.compare(run1, run2);
+			});
+			for(Path run: runs){
+				JSONBinaryReader reader = new JSONBinaryReader(Files.newInputStream(run));
+				readers.add(reader);
+				if(reader.hasNext()){
+					Object item = reader.read();
+					heads[readers.size() - 1] = new KeyedItem(keyPath.evaluateFirst(item), item);
+					queue.add(readers.size() - 1);
+				}
+			}
+			while(!queue.isEmpty()){
+				int run = queue.poll();
+				sink.write(heads[run].item);
+				JSONBinaryReader reader = readers.get(run);
+				if(reader.hasNext()){
+					Object item = reader.read();
+					heads[run] = new KeyedItem(keyPath.evaluateFirst(item), item);
+					queue.add(run);
+				}
+			}
+		}finally{
+			for(JSONBinaryReader reader: readers){
+				reader.close();
+			}
+		}
+	}
+	
+	/**
+	 * Writes a JSON array to the given file, with the items the given writer writes to its sink
+	 *
+	 * @param output The file to write the JSON array to
+	 * @param itemWriter Writes the items of the array to the sink it's given
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void writeArray(Path output, SinkWriter itemWriter) throws IOException{
+		if(output.toAbsolutePath().getParent() != null){
+			Files.createDirectories(output.toAbsolutePath().getParent());
+		}
+		try(JSONByteWriter writer = new JSONByteWriter(new BufferedOutputStream(Files.newOutputStream(output),
+				bufferSize))){
+			writer.writeByte(JSONConverter.arrayStartChar);
+			boolean[] first = {true};
+			itemWriter.writeTo(item -> {
+				if(!first[0]){
+					writer.writeByte(JSONConverter.nextValueChar);
+				}
+				first[0] = false;
+				writer.write(item);
+			});
+			writer.writeByte(JSONConverter.arrayEndChar);
+		}
+	}
+	
+	/**
+	 * Array Item Reader reads the items of a JSON array file one at a time, feeding the file to a
+	 * {@link JSONFeeder} a chunk at a time
+	 */
+	private static class ArrayItemReader implements Closeable{
+		/** The stream of the file */
+		private final InputStream in;
+		/** The {@link JSONFeeder} parsing the file */
+		private final JSONFeeder feeder;
+		/** The buffer chunks are read into */
+		private final byte[] buffer;
+		/** Whether the start of the array was found */
+		private boolean started;
+		/** Whether the end of the file was reached */
+		private boolean ended;
+		
+		/**
+		 * Constructs an Array Item Reader of the given file
+		 *
+		 * @param file The JSON array file
+		 * @throws IOException If anything goes wrong in opening the file
+		 */
+		private ArrayItemReader(Path file) throws IOException{
+			in = Files.newInputStream(file);
+			feeder = new JSONFeeder(null, true);
+			buffer = new byte[bufferSize];
+			started = false;
+			ended = false;
+		}
+		
+		/**
+		 * @return Whether there's another item
+		 * @throws IOException If anything goes wrong in reading
+		 */
+		private boolean hasNext() throws IOException{
+			while(!feeder.hasNext() && !ended){
+				read();
+			}
+			return feeder.hasNext();
+		}
+		
+		/**
+		 * @return The next item (may be null)
+		 */
+		private Object next(){
+			return feeder.next();
+		}
+		
+		/**
+		 * Reads the next chunk of the file and feeds it to the {@link JSONFeeder}
+		 *
+		 * @throws IOException If anything goes wrong in reading
+		 */
+		private void read() throws IOException{
+			int length = in.read(buffer);
+			if(length < 0){
+				if(!started){
+					throw new IllegalStateException("JSON input isn't an array");
+				}
+				feeder.endOfInput();
+				ended = true;
+				return;
+			}
+			if(!started){
+				// Make sure the input starts with an array
+				for(int i = 0; i < length && !started; i++){
+					if(!Character.isWhitespace(buffer[i])){
+						if(buffer[i] != JSONConverter.arrayStartChar){
+							throw new IllegalStateException("JSON input isn't an array");
+						}
+						started = true;
+					}
+				}
+			}
+			feeder.feed(ByteBuffer.wrap(buffer, 0, length));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void close() throws IOException{
+			in.close();
+		}
+	}
+	
+	/**
+	 * Sorted Item Reader reads the items of a JSON array file along with their keys, making sure they're sorted
+	 */
+	private static class SortedItemReader implements Closeable{
+		/** The JSON array file */
+		private final Path file;
+		/** The {@link JSONPath} to the key of each item */
+		private final JSONPath keyPath;
+		/** The reader of the items */
+		private final ArrayItemReader reader;
+		/** The last item read - null if none has been */
+		private KeyedItem last;
+		
+		/**
+		 * Constructs a Sorted Item Reader of the given file
+		 *
+		 * @param file The JSON array file
+		 * @param keyPath The {@link JSONPath} to the key of each item
+		 * @throws IOException If anything goes wrong in opening the file
+		 */
+		private SortedItemReader(Path file, JSONPath keyPath) throws IOException{
+			this.file = file;
+			this.keyPath = keyPath;
+			reader = new ArrayItemReader(file);
+			last = null;
+		}
+		
+		/**
+		 * @return The next item along with its key, or null if there are no more
+		 * @throws IOException If anything goes wrong in reading
+		 * @throws IllegalStateException If the item's key is before the last one's
+		 */
+		private KeyedItem next() throws IOException{
+			if(!reader.hasNext()){
+				return null;
+			}
+			Object item = reader.next();
+			KeyedItem keyed = new KeyedItem(keyPath.evaluateFirst(item), item);
+			if(last != null && compareKeys(last.key, keyed.key) > 0){
+				throw new IllegalStateException("JSON array file isn't sorted by its key: " + file);
+			}
+			last = keyed;
+			return keyed;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void close() throws IOException{
+			reader.close();
+		}
+	}
+}
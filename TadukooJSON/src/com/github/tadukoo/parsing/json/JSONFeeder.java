@@ -0,0 +1,574 @@
+package com.github.tadukoo.parsing.json;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * JSON Feeder is a push-style, resumable JSON parser. Input is fed to it in chunks of any size (as characters or as
+ * UTF-8 bytes), as they arrive from a channel or socket, and it keeps its place between chunks, so a chunk can end
+ * anywhere - even in the middle of a string, number, or UTF-8 character. It never blocks, and it never holds more
+ * of the input than the current chunk (plus the token it's in the middle of, and the values built so far).
+ * <br><br>
+ * Each complete top-level value is queued, to be taken with {@link #hasNext()} and {@link #next()}. Any number of
+ * top-level values can be fed, separated by whitespace (e.g. newline-delimited JSON). If splitting the top-level
+ * array is turned on, the items of a top-level array are queued one by one as each is completed, instead of
+ * waiting for (and holding) the whole array, and only whitespace may follow the array. Values are built the same
+ * way as in {@link JSONConverter#parseJSON(String)}: classes as
+ * {@link SimpleOrderedJSONClass SimpleOrderedJSONClasses}, arrays as {@link JSONArrayList JSONArrayLists}, and
+ * numbers as Doubles.
+ * <br><br>
+ * Call {@link #endOfInput()} when there's no more input, to finish a trailing top-level number and make sure
+ * nothing was left incomplete. Errors in the input are thrown as {@link IllegalStateException IllegalStateExceptions},
+ * after which the feeder can't be used anymore. A JSON Feeder is not thread-safe, but it can be handed between
+ * threads (e.g. event loop tasks) between calls.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONFeeder{
+	/** The size of the buffer used in decoding UTF-8 bytes */
+	private static final int charBufferSize = 8192;
+	/** The format of a valid JSON number */
+	static final Pattern numberFormat = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+	/** Queued in place of null values, since {@link ArrayDeque} doesn't allow null */
+	private static final Object nullValue = new Object();
+	
+	/**
+	 * The states the feeder can be in between characters
+	 */
+	private enum State{
+		/** Expecting a value */
+		VALUE,
+		/** Expecting the first item of an array, or the end of it */
+		FIRST_ITEM_OR_END,
+		/** Expecting the first key of a class, or the end of it */
+		FIRST_KEY_OR_END,
+		/** Expecting a key in a class */
+		KEY,
+		/** Expecting the colon after a key */
+		COLON,
+		/** Expecting a comma or the end of the class or array */
+		AFTER_VALUE,
+		/** In a string */
+		STRING,
+		/** After a backslash in a string */
+		ESCAPE,
+		/** In a unicode escape sequence in a string */
+		UNICODE,
+		/** In a number */
+		NUMBER,
+		/** In true, false, or null */
+		LITERAL,
+		/** An error was found, so nothing more can be parsed */
+		FAILED
+	}
+	
+	/**
+	 * A class or array that's still being parsed
+	 */
+	private static final class Container{
+		/** The class being parsed - null if it's an array */
+		private final JSONClass clazz;
+		/** The array being parsed - null if it's a class */
+		private final List<Object> array;
+		/** Whether the items of this array are queued instead of added to it */
+		private final boolean queuesItems;
+		/** The key of the value currently being parsed in the class */
+		private String key;
+		
+		/**
+		 * Constructs a new Container for a class or array
+		 *
+		 * @param clazz The class being parsed - null if it's an array
+		 * @param array The array being parsed - null if it's a class
+		 * @param queuesItems Whether the items of the array are queued instead of added to it
+		 */
+		private Container(JSONClass clazz, List<Object> array, boolean queuesItems){
+			this.clazz = clazz;
+			this.array = array;
+			this.queuesItems = queuesItems;
+			key = null;
+		}
+	}
+	
+	/** The {@link JSONSymbolTable} used to deduplicate keys and short String values - may be null */
+	private final JSONSymbolTable symbolTable;
+	/** Whether the items of a top-level array are queued one by one */
+	private final boolean splitTopLevelArray;
+	/** The decoder used for UTF-8 bytes */
+	private final CharsetDecoder decoder;
+	/** The buffer characters are decoded into */
+	private final CharBuffer charBuffer;
+	/** Bytes of an incomplete UTF-8 character at the end of the last chunk */
+	private final ByteBuffer partialBytes;
+	/** The classes and arrays still being parsed, innermost first */
+	private final Deque<Container> containers;
+	/** The complete values waiting to be taken */
+	private final Deque<Object> values;
+	/** The text of the current string or number */
+	private final StringBuilder token;
+	/** The current state */
+	private State state;
+	/** Whether the current string is a key */
+	private boolean inKey;
+	/** The value of the unicode escape sequence being parsed */
+	private int unicodeValue;
+	/** The number of hex digits seen in the unicode escape sequence being parsed */
+	private int unicodeDigits;
+	/** Whether a top-level array being split has been closed (so only whitespace may follow) */
+	private boolean splitArrayEnded;
+	/** The literal being parsed (true, false, or null) */
+	private String literal;
+	/** The number of characters of the literal seen so far */
+	private int literalMatched;
+	
+	/**
+	 * Constructs a JSON Feeder that doesn't deduplicate Strings or split the top-level array
+	 */
+	public JSONFeeder(){
+		this(null, false);
+	}
+	
+	/**
+	 * Constructs a JSON Feeder with the given settings
+	 *
+	 * @param symbolTable The {@link JSONSymbolTable} used to deduplicate keys and short String values - may be null
+	 * @param splitTopLevelArray Whether the items of a top-level array are queued one by one (instead of the array)
+	 */
+	public JSONFeeder(JSONSymbolTable symbolTable, boolean splitTopLevelArray){
+		this.symbolTable = symbolTable;
+		this.splitTopLevelArray = splitTopLevelArray;
+		decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		charBuffer = CharBuffer.allocate(charBufferSize);
+		partialBytes = ByteBuffer.allocate(4);
+		containers = new ArrayDeque<>();
+		values = new ArrayDeque<>();
+		token = new StringBuilder();
+		state = State.VALUE;
+		inKey = false;
+		unicodeValue = 0;
+		unicodeDigits = 0;
+		splitArrayEnded = false;
+		literal = null;
+		literalMatched = 0;
+	}
+	
+	/**
+	 * @return Whether a complete value is waiting to be taken
+	 */
+	public boolean hasNext(){
+		return !values.isEmpty();
+	}
+	
+	/**
+	 * Takes the next complete value
+	 *
+	 * @return The next complete value (may be null)
+	 * @throws IllegalStateException If no complete value is waiting
+	 */
+	public Object next(){
+		Object value = values.poll();
+		if(value == null){
+			throw new IllegalStateException("No complete JSON value is available");
+		}
+		return value == nullValue?null:value;
+	}
+	
+	/**
+	 * @return Whether the feeder is between top-level values (so the input so far was complete)
+	 */
+	public boolean isBetweenValues(){
+		return state == State.VALUE && containers.isEmpty();
+	}
+	
+	/**
+	 * Feeds the given characters to the parser
+	 *
+	 * @param chars The characters to parse
+	 */
+	public void feed(char[] chars){
+		feed(chars, 0, chars.length);
+	}
+	
+	/**
+	 * Feeds the given characters of the given array to the parser
+	 *
+	 * @param chars The array of characters
+	 * @param offset The index of the first character to parse
+	 * @param length The number of characters to parse
+	 */
+	public void feed(char[] chars, int offset, int length){
+		if(state == State.FAILED){
+			throw new IllegalStateException("JSON Feeder already failed on earlier input");
+		}
+		try{
+			parse(chars, offset, offset + length);
+		}catch(RuntimeException e){
+			state = State.FAILED;
+			throw e;
+		}
+	}
+	
+	/**
+	 * Feeds the remaining characters in the given {@link CharBuffer} to the parser
+	 *
+	 * @param chars The {@link CharBuffer} of characters to parse
+	 */
+	public void feed(CharBuffer chars){
+		if(chars.hasArray()){
+			feed(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+			chars.position(chars.limit());
+		}else{
+			char[] chunk = new char[Math.min(chars.remaining(), charBufferSize)];
+			while(chars.hasRemaining()){
+				int length = Math.min(chars.remaining(), chunk.length);
+				chars.get(chunk, 0, length);
+				feed(chunk, 0, length);
+			}
+		}
+	}
+	
+	/**
+	 * Feeds the remaining UTF-8 bytes in the given {@link ByteBuffer} to the parser. An incomplete UTF-8 character
+	 * at the end is kept until the next chunk.
+	 *
+	 * @param bytes The {@link ByteBuffer} of UTF-8 bytes to parse
+	 */
+	public void feed(ByteBuffer bytes){
+		// Finish the incomplete character from the last chunk one byte at a time
+		while(partialBytes.position() != 0 && bytes.hasRemaining()){
+			partialBytes.put(bytes.get());
+			partialBytes.flip();
+			decode(partialBytes);
+			partialBytes.compact();
+		}
+		
+		// Decode the rest of the chunk, keeping any incomplete character at the end
+		if(partialBytes.position() == 0){
+			decode(bytes);
+			if(bytes.remaining() >= partialBytes.capacity()){
+				state = State.FAILED;
+				throw new IllegalStateException("Malformed UTF-8 in JSON input");
+			}
+			partialBytes.put(bytes);
+		}
+	}
+	
+	/**
+	 * Decodes as much of the given UTF-8 bytes as possible and feeds the characters to the parser
+	 *
+	 * @param bytes The {@link ByteBuffer} of UTF-8 bytes to decode
+	 */
+	private void decode(ByteBuffer bytes){
+		CoderResult result;
+		do{
+			result = decoder.decode(bytes, charBuffer, false);
+			if(result.isError()){
+				state = State.FAILED;
+				throw new IllegalStateException("Malformed UTF-8 in JSON input");
+			}
+			charBuffer.flip();
+			feed(charBuffer.array(), charBuffer.position(), charBuffer.remaining());
+			charBuffer.clear();
+		}while(result.isOverflow());
+	}
+	
+	/**
+	 * Signals that there's no more input, finishing a top-level number if one was being parsed
+	 *
+	 * @throws IllegalStateException If the input ended in the middle of a value
+	 */
+	public void endOfInput(){
+		if(state == State.FAILED){
+			throw new IllegalStateException("JSON Feeder already failed on earlier input");
+		}
+		if(partialBytes.position() != 0){
+			state = State.FAILED;
+			throw new IllegalStateException("Malformed UTF-8 in JSON input");
+		}
+		if(state == State.NUMBER && containers.isEmpty()){
+			finishNumber();
+		}
+		if(!isBetweenValues()){
+			state = State.FAILED;
+			throw new IllegalStateException("JSON input ended prematurely");
+		}
+	}
+	
+	/**
+	 * Parses the given range of characters, continuing from the current state
+	 *
+	 * @param chars The array of characters
+	 * @param start The index of the first character to parse
+	 * @param end The index after the last character to parse
+	 */
+	private void parse(char[] chars, int start, int end){
+		int charIndex = start;
+		while(charIndex < end){
+			char c = chars[charIndex];
+			switch(state){
+				case VALUE -> {
+					if(!isWhitespace(c)){
+						if(splitArrayEnded){
+							throw new IllegalStateException("Unexpected content after the end of the JSON array");
+						}
+						startValue(c);
+					}
+				}
+				case FIRST_ITEM_OR_END -> {
+					if(c == JSONConverter.arrayEndChar){
+						endContainer();
+					}else if(!isWhitespace(c)){
+						startValue(c);
+					}
+				}
+				case FIRST_KEY_OR_END -> {
+					if(c == JSONConverter.classEndChar){
+						endContainer();
+					}else if(!isWhitespace(c)){
+						startKey(c);
+					}
+				}
+				case KEY -> {
+					if(!isWhitespace(c)){
+						startKey(c);
+					}
+				}
+				case COLON -> {
+					if(c == JSONConverter.keyEndChar){
+						state = State.VALUE;
+					}else if(!isWhitespace(c)){
+						throw new IllegalStateException("Didn't find a colon in a key-value pair in JSON class");
+					}
+				}
+				case AFTER_VALUE -> {
+					if(!isWhitespace(c)){
+						afterValue(c);
+					}
+				}
+				case STRING -> {
+					// Copy everything up to the next quote or backslash at once
+					int runStart = charIndex;
+					while(charIndex < end && chars[charIndex] != JSONStringDecoder.quoteChar &&
+							chars[charIndex] != JSONStringDecoder.escapeChar){
+						charIndex++;
+					}
+					token.append(chars, runStart, charIndex - runStart);
+					if(charIndex == end){
+						continue;
+					}
+					if(chars[charIndex] == JSONStringDecoder.escapeChar){
+						state = State.ESCAPE;
+					}else{
+						finishString();
+					}
+				}
+				case ESCAPE -> escape(c);
+				case UNICODE -> {
+					int digit = Character.digit(c, 16);
+					if(digit < 0){
+						throw new IllegalStateException("Invalid unicode escape sequence in JSON string");
+					}
+					unicodeValue = unicodeValue * 16 + digit;
+					if(++unicodeDigits == 4){
+						token.append((char) unicodeValue);
+						state = State.STRING;
+					}
+				}
+				case NUMBER -> {
+					if((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E'){
+						token.append(c);
+					}else{
+						// The number is over, and this character still needs to be parsed
+						finishNumber();
+						continue;
+					}
+				}
+				case LITERAL -> {
+					if(c != literal.charAt(literalMatched)){
+						throw new IllegalStateException("Invalid JSON literal, expected " + literal);
+					}
+					if(++literalMatched == literal.length()){
+						completeValue(switch(literal){
+							case "true" -> true;
+							case "false" -> false;
+							default -> null;
+						});
+					}
+				}
+				case FAILED -> throw new IllegalStateException("JSON Feeder already failed on earlier input");
+			}
+			charIndex++;
+		}
+	}
+	
+	/**
+	 * Starts parsing a value that starts with the given character
+	 *
+	 * @param c The first character of the value
+	 */
+	private void startValue(char c){
+		switch(c){
+			case JSONConverter.classStartChar -> {
+				containers.push(new Container(new SimpleOrderedJSONClass(), null, false));
+				state = State.FIRST_KEY_OR_END;
+			}
+			case JSONConverter.arrayStartChar -> {
+				boolean queuesItems = splitTopLevelArray && containers.isEmpty();
+				containers.push(new Container(null, new JSONArrayList<>(), queuesItems));
+				state = State.FIRST_ITEM_OR_END;
+			}
+			case JSONStringDecoder.quoteChar -> {
+				token.setLength(0);
+				inKey = false;
+				state = State.STRING;
+			}
+			case 't', 'f', 'n' -> {
+				literal = c == 't'?"true":(c == 'f'?"false":"null");
+				literalMatched = 1;
+				state = State.LITERAL;
+			}
+			case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> {
+				token.setLength(0);
+				token.append(c);
+				state = State.NUMBER;
+			}
+			default -> throw new IllegalStateException("Unknown character at start of JSON value: " + c);
+		}
+	}
+	
+	/**
+	 * Starts parsing a key that starts with the given character
+	 *
+	 * @param c The first character of the key
+	 */
+	private void startKey(char c){
+		if(c != JSONStringDecoder.quoteChar){
+			throw new IllegalStateException("JSON class key doesn't start with a quote");
+		}
+		token.setLength(0);
+		inKey = true;
+		state = State.STRING;
+	}
+	
+	/**
+	 * Handles the given character after a value in a class or array
+	 *
+	 * @param c The character after the value
+	 */
+	private void afterValue(char c){
+		Container container = containers.peek();
+		if(c == JSONConverter.nextValueChar){
+			state = container.clazz != null?State.KEY:State.VALUE;
+		}else if(container.clazz != null && c == JSONConverter.classEndChar){
+			endContainer();
+		}else if(container.array != null && c == JSONConverter.arrayEndChar){
+			endContainer();
+		}else{
+			throw new IllegalStateException(container.clazz != null?
+					"End of JSON class not marked with closing brace":
+					"End of JSON array not marked with closing bracket");
+		}
+	}
+	
+	/**
+	 * Handles the given character after a backslash in a string
+	 *
+	 * @param c The character after the backslash
+	 */
+	private void escape(char c){
+		state = State.STRING;
+		switch(c){
+			case '"', '\\', '/' -> token.append(c);
+			case 'b' -> token.append('\b');
+			case 'f' -> token.append('\f');
+			case 'n' -> token.append('\n');
+			case 'r' -> token.append('\r');
+			case 't' -> token.append('\t');
+			case 'u' -> {
+				unicodeValue = 0;
+				unicodeDigits = 0;
+				state = State.UNICODE;
+			}
+			default -> throw new IllegalStateException("Invalid escape sequence in JSON string: \\" + c);
+		}
+	}
+	
+	/**
+	 * Finishes the current string, as either a key or a value
+	 */
+	private void finishString(){
+		if(inKey){
+			containers.peek().key = symbolTable == null?token.toString():
+					symbolTable.getKey(token, 0, token.length());
+			state = State.COLON;
+		}else{
+			completeValue(symbolTable == null?token.toString():symbolTable.getValue(token, 0, token.length()));
+		}
+	}
+	
+	/**
+	 * Finishes the current number
+	 */
+	private void finishNumber(){
+		if(!numberFormat.matcher(token).matches()){
+			throw new IllegalStateException("Invalid JSON number: " + token);
+		}
+		completeValue(Double.parseDouble(token.toString()));
+	}
+	
+	/**
+	 * Finishes the innermost class or array
+	 */
+	private void endContainer(){
+		Container container = containers.pop();
+		if(container.queuesItems){
+			// The items were already queued
+			state = State.VALUE;
+			splitArrayEnded = true;
+		}else{
+			completeValue(container.clazz != null?container.clazz:container.array);
+		}
+	}
+	
+	/**
+	 * Adds the given complete value to the class or array it's in, or queues it if it's a top-level value
+	 *
+	 * @param value The complete value
+	 */
+	private void completeValue(Object value){
+		Container container = containers.peek();
+		if(container == null){
+			values.add(value == null?nullValue:value);
+			state = State.VALUE;
+			return;
+		}
+		if(container.clazz != null){
+			container.clazz.setItem(container.key, value);
+		}else if(container.queuesItems){
+			values.add(value == null?nullValue:value);
+		}else{
+			container.array.add(value);
+		}
+		state = State.AFTER_VALUE;
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character is JSON whitespace
+	 */
+	private static boolean isWhitespace(char c){
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+	}
+}
@@ -0,0 +1,43 @@
+package com.github.tadukoo.parsing.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JSON Field declares a field (key) of a fixed-schema {@link JSONClass} along with its type. It's placed on the
+ * class itself (once per field), and is read at compile time by the JSON Codec Processor (in TadukooJSONProcessor),
+ * which generates a {@link JSONCodec} for the class. {@link JSONConverter} uses the generated codec to write and
+ * parse the class without going through its generic conversion.
+ * <br><br>
+ * Supported types are primitives (and their wrappers), String, {@link JSONClass} subclasses, and lists (using
+ * {@link #itemType()} to declare the type of items). Anything else is converted in the usual way.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@Repeatable(JSONFields.class)
+public @interface JSONField{
+	
+	/**
+	 * @return The name of the field (the key in JSON)
+	 */
+	String name();
+	
+	/**
+	 * @return The type of the field - {@link Object} if it's not declared
+	 */
+	Class<?> type() default Object.class;
+	
+	/**
+	 * @return The type of the items if the field is a list - {@link Object} if it's not declared
+	 */
+	Class<?> itemType() default Object.class;
+}
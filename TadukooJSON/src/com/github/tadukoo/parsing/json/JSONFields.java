@@ -0,0 +1,25 @@
+package com.github.tadukoo.parsing.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JSON Fields is the container for repeated {@link JSONField} annotations on a {@link JSONClass}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface JSONFields{
+	
+	/**
+	 * @return The {@link JSONField JSONFields} declared on the class
+	 */
+	JSONField[] value();
+}
@@ -0,0 +1,389 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.Arrays;
+
+/**
+ * JSON Hash Trie is a persistent (immutable) map from String keys to values, implemented as a hash array mapped
+ * trie (HAMT). Each node branches 32 ways on 5 bits of the key's hash, and only stores the branches that are used.
+ * Putting or removing a key copies only the nodes on the path to it, so the new trie shares everything else with
+ * the old one. Values may be null.
+ * <br><br>
+ * JSON Hash Tries are used by {@link FrozenJSONClass}. All their fields are final, so they're safe to share between
+ * threads.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+final class JSONHashTrie{
+	/** Returned by {@link #get(String)} when the key isn't in the trie */
+	static final Object notFound = new Object();
+	/** The number of hash bits used at each level */
+	private static final int bitsPerLevel = 5;
+	/** Mask used to grab the hash bits for a level */
+	private static final int levelMask = (1 << bitsPerLevel) - 1;
+	/** An empty trie */
+	static final JSONHashTrie empty = new JSONHashTrie(new BitmapNode(0, new Object[0]), 0);
+	
+	/** The root node of the trie */
+	private final Node root;
+	/** The number of keys in the trie */
+	private final int size;
+	
+	/**
+	 * Constructs a JSON Hash Trie with the given root node and size
+	 *
+	 * @param root The root node of the trie
+	 * @param size The number of keys in the trie
+	 */
+	private JSONHashTrie(Node root, int size){
+		this.root = root;
+		this.size = size;
+	}
+	
+	/**
+	 * @return The number of keys in the trie
+	 */
+	int size(){
+		return size;
+	}
+	
+	/**
+	 * Grabs the value for the given key
+	 *
+	 * @param key The key to look up
+	 * @return The value for the key, or {@link #notFound} if it's not in the trie
+	 */
+	Object get(String key){
+		return root.find(0, hash(key), key);
+	}
+	
+	/**
+	 * @param key The key to look for
+	 * @return Whether the key is in the trie
+	 */
+	boolean containsKey(String key){
+		return get(key) != notFound;
+	}
+	
+	/**
+	 * Creates a trie with the given key set to the given value
+	 *
+	 * @param key The key to set
+	 * @param value The value to set it to
+	 * @return The new trie (or this one if the value was already set)
+	 */
+	JSONHashTrie put(String key, Object value){
+		boolean[] added = new boolean[1];
+		Node newRoot = root.put(0, hash(key), key, value, added);
+		if(newRoot == root){
+			return this;
+		}
+		return new JSONHashTrie(newRoot, added[0]?size + 1:size);
+	}
+	
+	/**
+	 * Creates a trie without the given key
+	 *
+	 * @param key The key to remove
+	 * @return The new trie (or this one if the key wasn't in it)
+	 */
+	JSONHashTrie remove(String key){
+		Node newRoot = root.remove(0, hash(key), key);
+		if(newRoot == root){
+			return this;
+		}
+		return newRoot == null?empty:new JSONHashTrie(newRoot, size - 1);
+	}
+	
+	/**
+	 * Calculates the hash used for the given key, spreading the higher bits of its hash code into the lower ones
+	 *
+	 * @param key The key to hash
+	 * @return The hash of the key
+	 */
+	private static int hash(String key){
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+	
+	/**
+	 * Grabs the bit in a bitmap for the given hash at the given level
+	 *
+	 * @param hash The hash
+	 * @param shift The number of hash bits used by the levels above
+	 * @return The bit for the hash
+	 */
+	private static int bitFor(int hash, int shift){
+		return 1 << ((hash >>> shift) & levelMask);
+	}
+	
+	/**
+	 * A node in a JSON Hash Trie
+	 */
+	private interface Node{
+		
+		/**
+		 * Finds the value for the given key
+		 *
+		 * @param shift The number of hash bits used by the levels above
+		 * @param hash The hash of the key
+		 * @param key The key to look up
+		 * @return The value, or {@link #notFound} if the key isn't in the node
+		 */
+		Object find(int shift, int hash, String key);
+		
+		/**
+		 * Creates a node with the given key set to the given value
+		 *
+		 * @param shift The number of hash bits used by the levels above
+		 * @param hash The hash of the key
+		 * @param key The key to set
+		 * @param value The value to set it to
+		 * @param added Set to true if the key wasn't in the node before
+		 * @return The new node (or this one if nothing changed)
+		 */
+		Node put(int shift, int hash, String key, Object value, boolean[] added);
+		
+		/**
+		 * Creates a node without the given key
+		 *
+		 * @param shift The number of hash bits used by the levels above
+		 * @param hash The hash of the key
+		 * @param key The key to remove
+		 * @return The new node, this one if the key wasn't in it, or null if the node is now empty
+		 */
+		Node remove(int shift, int hash, String key);
+	}
+	
+	/**
+	 * A node that stores only the branches that are used, marked in a bitmap. Each branch is a pair in the array of
+	 * either a key and its value, or null and a child node.
+	 */
+	private static final class BitmapNode implements Node{
+		/** The bitmap of which branches are used */
+		private final int bitmap;
+		/** The pairs for each used branch */
+		private final Object[] array;
+		
+		/**
+		 * Constructs a new Bitmap Node
+		 *
+		 * @param bitmap The bitmap of which branches are used
+		 * @param array The pairs for each used branch
+		 */
+		private BitmapNode(int bitmap, Object[] array){
+			this.bitmap = bitmap;
+			this.array = array;
+		}
+		
+		/**
+		 * Grabs the index of the pair for the given bit in the array
+		 *
+		 * @param bit The bit of the branch
+		 * @return The index of the key in the pair
+		 */
+		private int indexOf(int bit){
+			return 2 * Integer.bitCount(bitmap & (bit - 1));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Object find(int shift, int hash, String key){
+			int bit = bitFor(hash, shift);
+			if((bitmap & bit) == 0){
+				return notFound;
+			}
+			int index = indexOf(bit);
+			Object storedKey = array[index];
+			if(storedKey == null){
+				return ((Node) array[index + 1]).find(shift + bitsPerLevel, hash, key);
+			}
+			return key.equals(storedKey)?array[index + 1]:notFound;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Node put(int shift, int hash, String key, Object value, boolean[] added){
+			int bit = bitFor(hash, shift);
+			int index = indexOf(bit);
+			if((bitmap & bit) == 0){
+				// New branch
+				Object[] newArray = new Object[array.length + 2];
+				System.arraycopy(array, 0, newArray, 0, index);
+				newArray[index] = key;
+				newArray[index + 1] = value;
+				System.arraycopy(array, index, newArray, index + 2, array.length - index);
+				added[0] = true;
+				return new BitmapNode(bitmap | bit, newArray);
+			}
+			Object storedKey = array[index];
+			Object storedValue = array[index + 1];
+			if(storedKey == null){
+				// Put it in the child node
+				Node child = (Node) storedValue;
+				Node newChild = child.put(shift + bitsPerLevel, hash, key, value, added);
+				return newChild == child?this:withPair(index, null, newChild);
+			}else if(key.equals(storedKey)){
+				// Replace the value
+				return storedValue == value?this:withPair(index, storedKey, value);
+			}
+			
+			// Two keys in the same branch, so split it into a child node
+			added[0] = true;
+			return withPair(index, null, createNode(shift + bitsPerLevel, (String) storedKey, storedValue,
+					hash, key, value));
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Node remove(int shift, int hash, String key){
+			int bit = bitFor(hash, shift);
+			if((bitmap & bit) == 0){
+				return this;
+			}
+			int index = indexOf(bit);
+			Object storedKey = array[index];
+			if(storedKey == null){
+				Node child = (Node) array[index + 1];
+				Node newChild = child.remove(shift + bitsPerLevel, hash, key);
+				if(newChild == child){
+					return this;
+				}else if(newChild != null){
+					return withPair(index, null, newChild);
+				}
+			}else if(!key.equals(storedKey)){
+				return this;
+			}
+			
+			// Remove the branch
+			if(bitmap == bit){
+				return null;
+			}
+			Object[] newArray = new Object[array.length - 2];
+			System.arraycopy(array, 0, newArray, 0, index);
+			System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+			return new BitmapNode(bitmap & ~bit, newArray);
+		}
+		
+		/**
+		 * Creates a copy of this node with the pair at the given index replaced
+		 *
+		 * @param index The index of the pair
+		 * @param key The key (or null for a child node)
+		 * @param value The value (or child node)
+		 * @return The new node
+		 */
+		private BitmapNode withPair(int index, Object key, Object value){
+			Object[] newArray = array.clone();
+			newArray[index] = key;
+			newArray[index + 1] = value;
+			return new BitmapNode(bitmap, newArray);
+		}
+		
+		/**
+		 * Creates a node containing the two given keys
+		 *
+		 * @param shift The number of hash bits used by the levels above the new node
+		 * @param key1 The first key
+		 * @param value1 The value of the first key
+		 * @param hash2 The hash of the second key
+		 * @param key2 The second key
+		 * @param value2 The value of the second key
+		 * @return The new node
+		 */
+		private static Node createNode(int shift, String key1, Object value1, int hash2, String key2, Object value2){
+			int hash1 = hash(key1);
+			if(hash1 == hash2){
+				return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+			}
+			boolean[] added = new boolean[1];
+			return new BitmapNode(0, new Object[0])
+					.put(shift, hash1, key1, value1, added)
+					.put(shift, hash2, key2, value2, added);
+		}
+	}
+	
+	/**
+	 * A node for keys that all have the same hash, stored as key-value pairs
+	 */
+	private static final class CollisionNode implements Node{
+		/** The hash of all the keys */
+		private final int hash;
+		/** The key-value pairs */
+		private final Object[] array;
+		
+		/**
+		 * Constructs a new Collision Node
+		 *
+		 * @param hash The hash of all the keys
+		 * @param array The key-value pairs
+		 */
+		private CollisionNode(int hash, Object[] array){
+			this.hash = hash;
+			this.array = array;
+		}
+		
+		/**
+		 * Finds the index of the given key
+		 *
+		 * @param key The key to find
+		 * @return The index of the key, or -1 if it's not here
+		 */
+		private int indexOf(String key){
+			for(int i = 0; i < array.length; i += 2){
+				if(key.equals(array[i])){
+					return i;
+				}
+			}
+			return -1;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Object find(int shift, int hash, String key){
+			int index = hash == this.hash?indexOf(key):-1;
+			return index < 0?notFound:array[index + 1];
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Node put(int shift, int hash, String key, Object value, boolean[] added){
+			if(hash != this.hash){
+				// Put this node under a bitmap node, so the new key can branch off from it
+				return new BitmapNode(bitFor(this.hash, shift), new Object[]{null, this})
+						.put(shift, hash, key, value, added);
+			}
+			int index = indexOf(key);
+			if(index >= 0){
+				if(array[index + 1] == value){
+					return this;
+				}
+				Object[] newArray = array.clone();
+				newArray[index + 1] = value;
+				return new CollisionNode(hash, newArray);
+			}
+			Object[] newArray = Arrays.copyOf(array, array.length + 2);
+			newArray[array.length] = key;
+			newArray[array.length + 1] = value;
+			added[0] = true;
+			return new CollisionNode(hash, newArray);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Node remove(int shift, int hash, String key){
+			int index = hash == this.hash?indexOf(key):-1;
+			if(index < 0){
+				return this;
+			}
+			if(array.length == 2){
+				return null;
+			}
+			Object[] newArray = new Object[array.length - 2];
+			System.arraycopy(array, 0, newArray, 0, index);
+			System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+			return new CollisionNode(hash, newArray);
+		}
+	}
+}
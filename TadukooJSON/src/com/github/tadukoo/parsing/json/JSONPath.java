@@ -0,0 +1,797 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JSON Path is a compiled JSONPath query. The expression is parsed once by {@link #compile(String)} into a plan of
+ * steps, so evaluating the same query many times never re-parses it, and a compiled JSON Path is immutable and safe
+ * to share between threads.
+ * <br><br>
+ * A query can be evaluated over a tree that's already been parsed (using {@link #evaluate(Object)}), or directly
+ * over JSON text as it's tokenized (using {@link #evaluateStream(Reader)}). When streaming, parts of the JSON the
+ * query can't match are skipped over without being built, only matched values are built (along with the values
+ * being checked by a filter), and reading stops as soon as the query is satisfied: once the requested number of
+ * matches is found, or once the part of the JSON that could still match has been read.
+ * <br><br>
+ * The supported syntax is:
+ * <ul>
+ *     <li>{@code $} - the root value, which every expression starts with</li>
+ *     <li>{@code .key} or {@code ['key']} - the value of a key in a class</li>
+ *     <li>{@code [n]} - the item at an index in an array</li>
+ *     <li>{@code .*} or {@code [*]} - every value in a class or item in an array</li>
+ *     <li>{@code [?(filter)]} - every value in a class or item in an array that matches the filter, where the
+ *     filter is one or more comparisons joined by {@code &&} and {@code ||} ({@code &&} binds tighter). Each
+ *     comparison is a path relative to the value ({@code @}, followed by keys and indices as above), and
+ *     optionally an operator ({@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >}, or {@code >=}) and a
+ *     literal (a quoted String, a number, {@code true}, {@code false}, or {@code null}). A comparison without an
+ *     operator checks that the relative path exists.</li>
+ * </ul>
+ * For example, {@code $.store.books[?(@.price < 10 && @.author)].title} finds the titles of books under 10 that
+ * have an author. Classes are assumed not to repeat keys.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONPath{
+	/** Character at the start of every expression - the root value - $ */
+	public static final char rootChar = '$';
+	/** Character at the start of a relative path in a filter - the current value - @ */
+	public static final char currentChar = '@';
+	/** Character that means every value in a class or item in an array - asterisk - * */
+	public static final char wildcardChar = '*';
+	/** Character at the start of a filter - question mark - ? */
+	public static final char filterChar = '?';
+	
+	/**
+	 * The types of steps in a compiled JSON Path
+	 */
+	private enum StepType{
+		/** The value of a key in a class */
+		KEY,
+		/** The item at an index in an array */
+		INDEX,
+		/** Every value in a class or item in an array */
+		WILDCARD,
+		/** Every value in a class or item in an array that matches a filter */
+		FILTER
+	}
+	
+	/**
+	 * The comparison operators that can be used in a filter
+	 */
+	private enum Operator{
+		/** Equal to - == */
+		EQUAL,
+		/** Not equal to - != */
+		NOT_EQUAL,
+		/** Less than - &lt; */
+		LESS,
+		/** Less than or equal to - &lt;= */
+		LESS_OR_EQUAL,
+		/** Greater than - &gt; */
+		GREATER,
+		/** Greater than or equal to - &gt;= */
+		GREATER_OR_EQUAL
+	}
+	
+	/**
+	 * A step in a compiled JSON Path
+	 */
+	private static final class Step{
+		/** The type of step */
+		private final StepType type;
+		/** The key, for {@link StepType#KEY} steps */
+		private final String key;
+		/** The index, for {@link StepType#INDEX} steps */
+		private final int index;
+		/** The filter, for {@link StepType#FILTER} steps: comparisons joined by and, in alternatives joined by or */
+		private final Comparison[][] filter;
+		
+		/**
+		 * Constructs a Step with the given settings
+		 *
+		 * @param type The type of step
+		 * @param key The key, for {@link StepType#KEY} steps
+		 * @param index The index, for {@link StepType#INDEX} steps
+		 * @param filter The filter, for {@link StepType#FILTER} steps
+		 */
+		private Step(StepType type, String key, int index, Comparison[][] filter){
+			this.type = type;
+			this.key = key;
+			this.index = index;
+			this.filter = filter;
+		}
+	}
+	
+	/**
+	 * A comparison in a filter
+	 */
+	private static final class Comparison{
+		/** The path relative to the value being filtered (only key and index steps) */
+		private final Step[] path;
+		/** The comparison operator - null to check that the path exists */
+		private final Operator operator;
+		/** The literal to compare to */
+		private final Object literal;
+		
+		/**
+		 * Constructs a Comparison with the given settings
+		 *
+		 * @param path The path relative to the value being filtered
+		 * @param operator The comparison operator - null to check that the path exists
+		 * @param literal The literal to compare to
+		 */
+		private Comparison(Step[] path, Operator operator, Object literal){
+			this.path = path;
+			this.operator = operator;
+			this.literal = literal;
+		}
+	}
+	
+	/** The expression this JSON Path was compiled from */
+	private final String expression;
+	/** The steps of the query */
+	private final Step[] steps;
+	/** Whether the steps up to and including each step can only match one value */
+	private final boolean[] definite;
+	
+	/**
+	 * Constructs a JSON Path with the given steps
+	 *
+	 * @param expression The expression this JSON Path was compiled from
+	 * @param steps The steps of the query
+	 */
+	private JSONPath(String expression, Step[] steps){
+		this.expression = expression;
+		this.steps = steps;
+		definite = new boolean[steps.length];
+		for(int i = 0; i < steps.length; i++){
+			definite[i] = (i == 0 || definite[i - 1]) &&
+					(steps[i].type == StepType.KEY || steps[i].type == StepType.INDEX);
+		}
+	}
+	
+	/**
+	 * Compiles the given JSONPath expression
+	 *
+	 * @param expression The JSONPath expression
+	 * @return The compiled JSON Path
+	 */
+	public static JSONPath compile(String expression){
+		return new Compiler(expression).compile();
+	}
+	
+	/**
+	 * @return The expression this JSON Path was compiled from
+	 */
+	public String getExpression(){
+		return expression;
+	}
+	
+	/**
+	 * @return Whether this JSON Path can only match one value (it has no wildcards or filters)
+	 */
+	public boolean isDefinite(){
+		return steps.length == 0 || definite[steps.length - 1];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return expression;
+	}
+	
+	/*
+	 * Evaluation over trees
+	 */
+	
+	/**
+	 * Finds every value matched by this JSON Path in the given tree
+	 *
+	 * @param root The root value (e.g. a {@link JSONClass} or {@link JSONArray})
+	 * @return The matched values, in document order
+	 */
+	public List<Object> evaluate(Object root){
+		return evaluate(root, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Finds values matched by this JSON Path in the given tree, stopping once enough are found
+	 *
+	 * @param root The root value (e.g. a {@link JSONClass} or {@link JSONArray})
+	 * @param limit The maximum number of values to find
+	 * @return The matched values, in document order
+	 */
+	public List<Object> evaluate(Object root, int limit){
+		checkLimit(limit);
+		List<Object> results = new ArrayList<>();
+		evaluate(root, 0, results, limit);
+		return results;
+	}
+	
+	/**
+	 * Finds the first value matched by this JSON Path in the given tree
+	 *
+	 * @param root The root value (e.g. a {@link JSONClass} or {@link JSONArray})
+	 * @return The first matched value, or null if nothing matched
+	 */
+	public Object evaluateFirst(Object root){
+		List<Object> results = evaluate(root, 1);
+		return results.isEmpty()?null:results.get(0);
+	}
+	
+	/**
+	 * Evaluates the steps from the given step on the given value
+	 *
+	 * @param value The value to evaluate on
+	 * @param step The step to start at
+	 * @param results The matched values so far
+	 * @param limit The maximum number of values to find
+	 * @return Whether the limit was reached
+	 */
+	private boolean evaluate(Object value, int step, List<Object> results, int limit){
+		if(step == steps.length){
+			results.add(value);
+			return results.size() >= limit;
+		}
+		Step current = steps[step];
+		switch(current.type){
+			case KEY -> {
+				return value instanceof JSONClass clazz && clazz.hasKey(current.key) &&
+						evaluate(clazz.getItem(current.key), step + 1, results, limit);
+			}
+			case INDEX -> {
+				return value instanceof List<?> list && current.index < list.size() &&
+						evaluate(list.get(current.index), step + 1, results, limit);
+			}
+			default -> {
+				for(Object child: getChildren(value)){
+					if((current.type == StepType.WILDCARD || matches(current.filter, child)) &&
+							evaluate(child, step + 1, results, limit)){
+						return true;
+					}
+				}
+				return false;
+			}
+		}
+	}
+	
+	/**
+	 * @param value A value
+	 * @return The values of the class (in key order, if it's an {@link OrderedJSONClass}, to match the order
+	 * they're streamed in) or items of the array (or nothing if the value is neither)
+	 */
+	private static List<?> getChildren(Object value){
+		if(value instanceof JSONClass clazz){
+			Collection<String> keys = clazz instanceof OrderedJSONClass ordered?ordered.getKeyOrder():clazz.getKeys();
+			List<Object> children = new ArrayList<>();
+			for(String key: keys){
+				children.add(clazz.getItem(key));
+			}
+			return children;
+		}else if(value instanceof List<?> list){
+			return list;
+		}
+		return List.of();
+	}
+	
+	/**
+	 * Checks whether the given value matches the given filter
+	 *
+	 * @param filter The filter: comparisons joined by and, inside alternatives joined by or
+	 * @param value The value to check
+	 * @return Whether the value matches
+	 */
+	private static boolean matches(Comparison[][] filter, Object value){
+		for(Comparison[] alternative: filter){
+			boolean allMatch = true;
+			for(Comparison comparison: alternative){
+				if(!matches(comparison, value)){
+					allMatch = false;
+					break;
+				}
+			}
+			if(allMatch){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether the given value matches the given comparison
+	 *
+	 * @param comparison The comparison
+	 * @param value The value to check
+	 * @return Whether the value matches
+	 */
+	private static boolean matches(Comparison comparison, Object value){
+		// Follow the relative path
+		for(Step step: comparison.path){
+			if(step.type == StepType.KEY && value instanceof JSONClass clazz && clazz.hasKey(step.key)){
+				value = clazz.getItem(step.key);
+			}else if(step.type == StepType.INDEX && value instanceof List<?> list && step.index < list.size()){
+				value = list.get(step.index);
+			}else{
+				return false;
+			}
+		}
+		if(comparison.operator == null){
+			return true;
+		}
+		
+		Object literal = comparison.literal;
+		int order;
+		if(value instanceof Number number && literal instanceof Number literalNumber){
+			order = Double.compare(number.doubleValue(), literalNumber.doubleValue());
+		}else if(value instanceof String string && literal instanceof String literalString){
+			order = string.compareTo(literalString);
+		}else{
+			// Only equality can be checked between other values
+			return switch(comparison.operator){
+				case EQUAL -> Objects.equals(value, literal);
+				case NOT_EQUAL -> !Objects.equals(value, literal);
+				default -> false;
+			};
+		}
+		return switch(comparison.operator){
+			case EQUAL -> order == 0;
+			case NOT_EQUAL -> order != 0;
+			case LESS -> order < 0;
+			case LESS_OR_EQUAL -> order <= 0;
+			case GREATER -> order > 0;
+			case GREATER_OR_EQUAL -> order >= 0;
+		};
+	}
+	
+	/*
+	 * Evaluation over token streams
+	 */
+	
+	/**
+	 * Finds every value matched by this JSON Path in the JSON read from the given {@link Reader}, reading only as
+	 * much of it as could still match. Only the first top-level value is read, and the reader isn't closed.
+	 *
+	 * @param in The {@link Reader} to read JSON from
+	 * @return The matched values (parsed like {@link JSONFeeder} does), in document order
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public List<Object> evaluateStream(Reader in) throws IOException{
+		return evaluateStream(in, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Finds values matched by this JSON Path in the JSON read from the given {@link Reader}, stopping once enough
+	 * are found or nothing more could match. Only the first top-level value is read, and the reader isn't closed.
+	 *
+	 * @param in The {@link Reader} to read JSON from
+	 * @param limit The maximum number of values to find
+	 * @return The matched values (parsed like {@link JSONFeeder} does), in document order
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public List<Object> evaluateStream(Reader in, int limit) throws IOException{
+		checkLimit(limit);
+		List<Object> results = new ArrayList<>();
+		JSONTokenizer tokenizer = new JSONTokenizer(in);
+		JSONToken first = tokenizer.next();
+		if(first != null){
+			evaluateStream(tokenizer, first, 0, results, limit);
+		}
+		return results;
+	}
+	
+	/**
+	 * Finds the first value matched by this JSON Path in the JSON read from the given {@link Reader}, stopping as
+	 * soon as it's found. The reader isn't closed.
+	 *
+	 * @param in The {@link Reader} to read JSON from
+	 * @return The first matched value (parsed like {@link JSONFeeder} does), or null if nothing matched
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public Object evaluateStreamFirst(Reader in) throws IOException{
+		List<Object> results = evaluateStream(in, 1);
+		return results.isEmpty()?null:results.get(0);
+	}
+	
+	/**
+	 * Evaluates the steps from the given step on the value the tokenizer is at
+	 *
+	 * @param tokenizer The {@link JSONTokenizer} to read from
+	 * @param first The first token of the value
+	 * @param step The step to start at
+	 * @param results The matched values so far
+	 * @param limit The maximum number of values to find
+	 * @return Whether to stop reading: the limit was reached, or nothing more could match
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private boolean evaluateStream(JSONTokenizer tokenizer, JSONToken first, int step, List<Object> results,
+			int limit) throws IOException{
+		if(step == steps.length){
+			results.add(readValue(tokenizer, first));
+			return results.size() >= limit;
+		}
+		Step current = steps[step];
+		if((first != JSONToken.CLASS_START || current.type == StepType.INDEX) &&
+				(first != JSONToken.ARRAY_START || current.type == StepType.KEY)){
+			skipRest(tokenizer, first);
+			return false;
+		}
+		
+		int index = 0;
+		JSONToken token;
+		while((token = tokenizer.next()) != JSONToken.CLASS_END && token != JSONToken.ARRAY_END){
+			boolean matches;
+			if(token == JSONToken.KEY){
+				matches = current.type != StepType.KEY || current.key.equals(tokenizer.getText());
+				token = tokenizer.next();
+			}else{
+				matches = current.type != StepType.INDEX || current.index == index;
+				index++;
+			}
+			if(!matches){
+				skipRest(tokenizer, token);
+			}else if(current.type == StepType.FILTER){
+				// The value has to be built to check the filter
+				Object child = readValue(tokenizer, token);
+				if(matches(current.filter, child) && evaluate(child, step + 1, results, limit)){
+					return true;
+				}
+			}else if(evaluateStream(tokenizer, token, step + 1, results, limit) || definite[step]){
+				// With only keys and indices so far, nothing else in the JSON could match
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Reads the rest of a value from the tokenizer, building it
+	 *
+	 * @param tokenizer The {@link JSONTokenizer} to read from
+	 * @param first The first token of the value
+	 * @return The value
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private static Object readValue(JSONTokenizer tokenizer, JSONToken first) throws IOException{
+		JSONToken token;
+		switch(first){
+			case CLASS_START -> {
+				SimpleOrderedJSONClass clazz = new SimpleOrderedJSONClass();
+				while((token = tokenizer.next()) == JSONToken.KEY){
+					String key = tokenizer.getText();
+					clazz.setItem(key, readValue(tokenizer, tokenizer.next()));
+				}
+				return clazz;
+			}
+			case ARRAY_START -> {
+				JSONArrayList<Object> array = new JSONArrayList<>();
+				while((token = tokenizer.next()) != JSONToken.ARRAY_END){
+					array.add(readValue(tokenizer, token));
+				}
+				return array;
+			}
+			case STRING -> {
+				return tokenizer.getText();
+			}
+			case NUMBER -> {
+				return Double.parseDouble(tokenizer.getText());
+			}
+			case TRUE -> {
+				return true;
+			}
+			case FALSE -> {
+				return false;
+			}
+			case NULL -> {
+				return null;
+			}
+			default -> throw new IllegalStateException("JSON value expected, but found " + first);
+		}
+	}
+	
+	/**
+	 * Skips the rest of a value in the tokenizer
+	 *
+	 * @param tokenizer The {@link JSONTokenizer} to read from
+	 * @param first The first token of the value
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private static void skipRest(JSONTokenizer tokenizer, JSONToken first) throws IOException{
+		if(first == JSONToken.CLASS_START || first == JSONToken.ARRAY_START){
+			int targetDepth = tokenizer.getDepth() - 1;
+			while(tokenizer.getDepth() > targetDepth){
+				tokenizer.next();
+			}
+		}
+	}
+	
+	/**
+	 * Checks that the given limit is positive
+	 *
+	 * @param limit The maximum number of values to find
+	 */
+	private static void checkLimit(int limit){
+		if(limit <= 0){
+			throw new IllegalArgumentException("Limit must be positive: " + limit);
+		}
+	}
+	
+	/**
+	 * Compiler parses a JSONPath expression into a {@link JSONPath}
+	 */
+	private static class Compiler{
+		/** The expression being compiled */
+		private final String expression;
+		/** The index of the next character in the expression */
+		private int position;
+		
+		/**
+		 * Constructs a Compiler for the given expression
+		 *
+		 * @param expression The expression to compile
+		 */
+		private Compiler(String expression){
+			this.expression = expression;
+			position = 0;
+		}
+		
+		/**
+		 * @return The compiled {@link JSONPath}
+		 */
+		private JSONPath compile(){
+			skipWhitespace();
+			expect(rootChar);
+			List<Step> steps = new ArrayList<>();
+			skipWhitespace();
+			while(position < expression.length()){
+				steps.add(parseStep(true));
+				skipWhitespace();
+			}
+			return new JSONPath(expression, steps.toArray(new Step[0]));
+		}
+		
+		/**
+		 * Parses a step
+		 *
+		 * @param allowMultiple Whether wildcards and filters are allowed (they're not in a filter's path)
+		 * @return The step
+		 */
+		private Step parseStep(boolean allowMultiple){
+			char c = next();
+			if(c == '.'){
+				if(allowMultiple && peek() == wildcardChar){
+					position++;
+					return new Step(StepType.WILDCARD, null, 0, null);
+				}
+				int start = position;
+				while(position < expression.length() && isKeyChar(expression.charAt(position))){
+					position++;
+				}
+				if(position == start){
+					throw error("Expected a key");
+				}
+				return new Step(StepType.KEY, expression.substring(start, position), 0, null);
+			}else if(c == JSONConverter.arrayStartChar){
+				skipWhitespace();
+				Step step;
+				char first = peek();
+				if(allowMultiple && first == wildcardChar){
+					position++;
+					step = new Step(StepType.WILDCARD, null, 0, null);
+				}else if(allowMultiple && first == filterChar){
+					position++;
+					skipWhitespace();
+					expect('(');
+					step = new Step(StepType.FILTER, null, 0, parseFilter());
+					skipWhitespace();
+					expect(')');
+				}else if(first == '\'' || first == JSONStringDecoder.quoteChar){
+					step = new Step(StepType.KEY, parseString(), 0, null);
+				}else if(first >= '0' && first <= '9'){
+					int start = position;
+					while(position < expression.length() && Character.isDigit(expression.charAt(position))){
+						position++;
+					}
+					try{
+						step = new Step(StepType.INDEX, null, Integer.parseInt(expression.substring(start, position)),
+								null);
+					}catch(NumberFormatException e){
+						throw error("Index is too large");
+					}
+				}else{
+					throw error("Expected a key, index, wildcard, or filter");
+				}
+				skipWhitespace();
+				expect(JSONConverter.arrayEndChar);
+				return step;
+			}
+			position--;
+			throw error("Expected . or [");
+		}
+		
+		/**
+		 * Parses a filter: comparisons joined by {@code &&}, inside alternatives joined by {@code ||}
+		 *
+		 * @return The filter
+		 */
+		private Comparison[][] parseFilter(){
+			List<Comparison[]> alternatives = new ArrayList<>();
+			do{
+				List<Comparison> comparisons = new ArrayList<>();
+				do{
+					comparisons.add(parseComparison());
+				}while(consume("&&"));
+				alternatives.add(comparisons.toArray(new Comparison[0]));
+			}while(consume("||"));
+			return alternatives.toArray(new Comparison[0][]);
+		}
+		
+		/**
+		 * Parses a comparison in a filter
+		 *
+		 * @return The comparison
+		 */
+		private Comparison parseComparison(){
+			skipWhitespace();
+			expect(currentChar);
+			List<Step> path = new ArrayList<>();
+			while(position < expression.length() && (peek() == '.' || peek() == JSONConverter.arrayStartChar)){
+				path.add(parseStep(false));
+			}
+			Operator operator;
+			if(consume("==")){
+				operator = Operator.EQUAL;
+			}else if(consume("!=")){
+				operator = Operator.NOT_EQUAL;
+			}else if(consume("<=")){
+				operator = Operator.LESS_OR_EQUAL;
+			}else if(consume(">=")){
+				operator = Operator.GREATER_OR_EQUAL;
+			}else if(consume("<")){
+				operator = Operator.LESS;
+			}else if(consume(">")){
+				operator = Operator.GREATER;
+			}else{
+				return new Comparison(path.toArray(new Step[0]), null, null);
+			}
+			return new Comparison(path.toArray(new Step[0]), operator, parseLiteral());
+		}
+		
+		/**
+		 * Parses a literal in a comparison
+		 *
+		 * @return The literal (a String, Double, Boolean, or null)
+		 */
+		private Object parseLiteral(){
+			skipWhitespace();
+			char c = peek();
+			if(c == '\'' || c == JSONStringDecoder.quoteChar){
+				return parseString();
+			}
+			int start = position;
+			while(position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) ||
+					"+-.".indexOf(expression.charAt(position)) >= 0)){
+				position++;
+			}
+			String literal = expression.substring(start, position);
+			switch(literal){
+				case "true" -> {
+					return true;
+				}
+				case "false" -> {
+					return false;
+				}
+				case "null" -> {
+					return null;
+				}
+				default -> {
+					if(!JSONFeeder.numberFormat.matcher(literal).matches()){
+						position = start;
+						throw error("Expected a literal");
+					}
+					return Double.parseDouble(literal);
+				}
+			}
+		}
+		
+		/**
+		 * Parses a quoted String (with single or double quotes, where a backslash escapes the next character)
+		 *
+		 * @return The String
+		 */
+		private String parseString(){
+			char quote = next();
+			StringBuilder string = new StringBuilder();
+			while(true){
+				char c = next();
+				if(c == quote){
+					return string.toString();
+				}else if(c == JSONStringDecoder.escapeChar){
+					c = next();
+				}
+				string.append(c);
+			}
+		}
+		
+		/**
+		 * @param c A character
+		 * @return Whether the character can be in an unquoted key
+		 */
+		private static boolean isKeyChar(char c){
+			return c != '.' && c != JSONConverter.arrayStartChar && c != JSONConverter.arrayEndChar &&
+					c != '(' && c != ')' && c != '=' && c != '!' && c != '<' && c != '>' && c != '&' && c != '|' &&
+					!Character.isWhitespace(c);
+		}
+		
+		/**
+		 * Skips whitespace, and then the given text if it's next
+		 *
+		 * @param text The text to skip
+		 * @return Whether the text was next (and skipped)
+		 */
+		private boolean consume(String text){
+			skipWhitespace();
+			if(expression.startsWith(text, position)){
+				position += text.length();
+				return true;
+			}
+			return false;
+		}
+		
+		/**
+		 * Skips the given character, which must be next
+		 *
+		 * @param c The expected character
+		 */
+		private void expect(char c){
+			if(position >= expression.length() || expression.charAt(position) != c){
+				throw error("Expected " + c);
+			}
+			position++;
+		}
+		
+		/**
+		 * @return The next character (which is skipped)
+		 */
+		private char next(){
+			if(position >= expression.length()){
+				throw error("Expression ended prematurely");
+			}
+			return expression.charAt(position++);
+		}
+		
+		/**
+		 * @return The next character (which isn't skipped)
+		 */
+		private char peek(){
+			if(position >= expression.length()){
+				throw error("Expression ended prematurely");
+			}
+			return expression.charAt(position);
+		}
+		
+		/**
+		 * Skips any whitespace
+		 */
+		private void skipWhitespace(){
+			while(position < expression.length() && Character.isWhitespace(expression.charAt(position))){
+				position++;
+			}
+		}
+		
+		/**
+		 * @param message What went wrong
+		 * @return An exception for an invalid expression, with the given message and the current position
+		 */
+		private IllegalArgumentException error(String message){
+			return new IllegalArgumentException("Invalid JSONPath expression at index " + position + ": " + message +
+					" in " + expression);
+		}
+	}
+}
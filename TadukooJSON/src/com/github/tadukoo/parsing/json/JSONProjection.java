@@ -0,0 +1,144 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON Projection represents a set of key paths to be kept when parsing JSON with
+ * {@link JSONConverter#parseJSON(String, JSONProjection)}. Anything not covered by one of the paths is skipped
+ * over by the parser without being built.
+ * <br><br>
+ * Paths are made up of keys separated by periods (e.g. {@code user.id}), where {@code [*]} can be added to
+ * signify every item in an array (e.g. {@code items[*].price}). A path may also start with {@code [*]} if the
+ * top-level JSON object is an array (e.g. {@code [*].id}). When a path ends, the whole value at the end of it is
+ * kept, whether it be a simple value, a class, or an array.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONProjection{
+	/** The String used in a path to signify every item in an array - [*] */
+	public static final String allItemsToken = "[*]";
+	/** Character used to separate keys in a path - period - . */
+	public static final char keySeparatorChar = '.';
+	
+	/** The projections for keys in a class below this projection */
+	private final Map<String, JSONProjection> keyProjections;
+	/** The projection for items in an array below this projection - may be null */
+	private JSONProjection itemProjection;
+	/** Whether the entire value at this projection is kept */
+	private boolean keepAll;
+	
+	/**
+	 * Constructs a JSON Projection using the given key paths
+	 *
+	 * @param paths The key paths to keep when parsing
+	 */
+	public JSONProjection(Collection<String> paths){
+		this();
+		for(String path: paths){
+			addPath(path);
+		}
+	}
+	
+	/**
+	 * Constructs an empty JSON Projection, used internally for the nodes of the projection
+	 */
+	private JSONProjection(){
+		keyProjections = new HashMap<>();
+		itemProjection = null;
+		keepAll = false;
+	}
+	
+	/**
+	 * Creates a JSON Projection using the given key paths
+	 *
+	 * @param paths The key paths to keep when parsing
+	 * @return A JSONProjection for the given paths
+	 */
+	public static JSONProjection of(String ... paths){
+		return new JSONProjection(Arrays.asList(paths));
+	}
+	
+	/**
+	 * Adds the given path to this projection, creating projection nodes as needed
+	 *
+	 * @param path The key path to be added
+	 */
+	private void addPath(String path){
+		if(path == null || path.isEmpty()){
+			throw new IllegalArgumentException("JSON Projection path can't be empty");
+		}
+		JSONProjection current = this;
+		int charIndex = 0;
+		while(charIndex < path.length()){
+			if(path.startsWith(allItemsToken, charIndex)){
+				// Step into every item of an array
+				if(current.itemProjection == null){
+					current.itemProjection = new JSONProjection();
+				}
+				current = current.itemProjection;
+				charIndex += allItemsToken.length();
+			}else{
+				// Find the end of the key, which ends at a period, an array token, or the end of the path
+				int keyEnd = charIndex;
+				while(keyEnd < path.length() && path.charAt(keyEnd) != keySeparatorChar &&
+						path.charAt(keyEnd) != JSONConverter.arrayStartChar){
+					keyEnd++;
+				}
+				if(keyEnd == charIndex){
+					throw new IllegalArgumentException("Empty key in JSON Projection path: " + path);
+				}
+				current = current.keyProjections.computeIfAbsent(path.substring(charIndex, keyEnd),
+						key -> new JSONProjection());
+				charIndex = keyEnd;
+			}
+			
+			// Eat the period between keys (but not at the end of the path)
+			if(charIndex < path.length()){
+				char c = path.charAt(charIndex);
+				if(c == keySeparatorChar && charIndex + 1 < path.length()){
+					charIndex++;
+				}else if(c != JSONConverter.arrayStartChar){
+					throw new IllegalArgumentException("Invalid JSON Projection path: " + path);
+				}
+			}
+		}
+		current.keepAll = true;
+	}
+	
+	/**
+	 * @return Whether the entire value at this projection is kept (because a path ended here)
+	 */
+	public boolean keepsAll(){
+		return keepAll;
+	}
+	
+	/**
+	 * Grabs the projection for the given key in a class
+	 *
+	 * @param key The key in a JSON class
+	 * @return The projection to use for the value of the key, or null if it should be skipped
+	 */
+	public JSONProjection getKeyProjection(String key){
+		return keyProjections.get(key);
+	}
+	
+	/**
+	 * @return The keys in a class that are kept by this projection
+	 */
+	public Collection<String> getKeys(){
+		return Collections.unmodifiableSet(keyProjections.keySet());
+	}
+	
+	/**
+	 * @return The projection to use for items in an array, or null if they should be skipped
+	 */
+	public JSONProjection getItemProjection(){
+		return itemProjection;
+	}
+}
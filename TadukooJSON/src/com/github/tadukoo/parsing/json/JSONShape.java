@@ -0,0 +1,99 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Shape is the layout of a {@link ShapedJSONClass}: its keys, in order, and the slot each key's value is in.
+ * Shapes are learned by {@link JSONShapeParser} from the classes it parses, and shared by every class parsed with
+ * the same keys in the same order, so each of those classes only needs an array of its values. A shape also keeps
+ * each key as it appeared in the JSON text (still escaped, with its closing quote), so the parser can check for a
+ * key with a single region comparison instead of decoding it.
+ * <br><br>
+ * All of a JSON Shape's fields are final, so it's safe to share between threads.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+final class JSONShape{
+	/** The keys, in order */
+	private final List<String> keys;
+	/** The keys as they appeared in the JSON text (without the opening quote, but with the closing quote) */
+	private final String[] rawKeys;
+	/** The slot of each key */
+	private final Map<String, Integer> slots;
+	
+	/**
+	 * Constructs a JSON Shape with the given settings
+	 *
+	 * @param keys The keys, in order
+	 * @param rawKeys The keys as they appeared in the JSON text (without the opening quote, but with the closing
+	 * quote)
+	 * @param slots The slot of each key
+	 */
+	private JSONShape(List<String> keys, String[] rawKeys, Map<String, Integer> slots){
+		this.keys = keys;
+		this.rawKeys = rawKeys;
+		this.slots = slots;
+	}
+	
+	/**
+	 * Creates a JSON Shape with the given keys, if they're unique
+	 *
+	 * @param keys The keys, in order
+	 * @param rawKeys The keys as they appeared in the JSON text (without the opening quote, but with the closing
+	 * quote)
+	 * @return The JSON Shape, or null if a key is repeated
+	 */
+	static JSONShape of(List<String> keys, List<String> rawKeys){
+		Map<String, Integer> slots = new HashMap<>(keys.size() * 2);
+		for(int slot = 0; slot < keys.size(); slot++){
+			if(slots.put(keys.get(slot), slot) != null){
+				return null;
+			}
+		}
+		return new JSONShape(List.copyOf(keys), rawKeys.toArray(new String[0]), slots);
+	}
+	
+	/**
+	 * @return The number of keys
+	 */
+	int size(){
+		return rawKeys.length;
+	}
+	
+	/**
+	 * @return The keys, in order (unmodifiable)
+	 */
+	List<String> getKeys(){
+		return keys;
+	}
+	
+	/**
+	 * @param slot The slot of a key
+	 * @return The key in the slot
+	 */
+	String getKey(int slot){
+		return keys.get(slot);
+	}
+	
+	/**
+	 * @param slot The slot of a key
+	 * @return The key in the slot as it appeared in the JSON text (without the opening quote, but with the closing
+	 * quote)
+	 */
+	String getRawKey(int slot){
+		return rawKeys[slot];
+	}
+	
+	/**
+	 * @param key A key
+	 * @return The slot of the key, or -1 if it's not in this shape
+	 */
+	int getSlot(String key){
+		Integer slot = slots.get(key);
+		return slot == null?-1:slot;
+	}
+}
@@ -0,0 +1,435 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Shape Parser is a JSON parser for streams of documents that repeat the same layouts over and over, like
+ * messages from a queue. It learns the keys (in order) of the classes at each path in the documents, and when it
+ * next parses a class at that path, it speculates that the class has exactly those keys in that order: each key is
+ * checked with a single comparison against the key's text from before (without decoding it), and its value goes
+ * straight into the slot for it. The classes are built as {@link ShapedJSONClass ShapedJSONClasses}, which share
+ * their {@link JSONShape layout} (and key Strings) with every other class parsed with it, instead of each holding
+ * its own map.
+ * <br><br>
+ * As soon as a class doesn't match the layout learned for its path, the rest of it is parsed normally, and its
+ * layout is learned for next time. If a path keeps changing layouts (it misses more than it hits, after
+ * {@link #missLimit} misses), the parser stops speculating there and builds
+ * {@link SimpleOrderedJSONClass SimpleOrderedJSONClasses} for it, like {@link JSONConverter#parseJSON(String)}.
+ * Paths are made up of keys and array items, so every item of an array shares the same learned layout.
+ * <br><br>
+ * Values are built the same way as in {@link JSONConverter#parseJSON(String)}: arrays as
+ * {@link JSONArrayList JSONArrayLists}, and numbers as Doubles. What the parser has learned is kept between calls
+ * to {@link #parseJSON(String)}, so one parser should be used for a whole stream. A JSON Shape Parser is not
+ * thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONShapeParser{
+	/** The number of misses at a path before the parser may stop speculating there */
+	public static final int missLimit = 16;
+	
+	/**
+	 * What the parser has learned about the values at one path
+	 */
+	private static final class PathNode{
+		/** The layout learned for classes at this path - null if none has been learned */
+		private JSONShape shape;
+		/** The nodes for the values of each slot of the shape (filled in as they're needed) */
+		private PathNode[] slotNodes;
+		/** The nodes for the values of keys below this path */
+		private final Map<String, PathNode> keyNodes;
+		/** The node for items of arrays at this path - null until one is seen */
+		private PathNode itemNode;
+		/** The number of classes at this path that matched the learned layout */
+		private long hits;
+		/** The number of classes at this path that didn't match the learned layout */
+		private long misses;
+		/** Whether the parser stopped speculating at this path */
+		private boolean stopped;
+		
+		/**
+		 * Constructs an empty Path Node
+		 */
+		private PathNode(){
+			shape = null;
+			slotNodes = null;
+			keyNodes = new HashMap<>();
+			itemNode = null;
+			hits = 0;
+			misses = 0;
+			stopped = false;
+		}
+		
+		/**
+		 * @param key A key in a class at this path
+		 * @return The node for the value of the key
+		 */
+		private PathNode getKeyNode(String key){
+			return keyNodes.computeIfAbsent(key, k -> new PathNode());
+		}
+		
+		/**
+		 * @param slot A slot of the learned shape
+		 * @return The node for the value in the slot
+		 */
+		private PathNode getSlotNode(int slot){
+			PathNode node = slotNodes[slot];
+			if(node == null){
+				node = getKeyNode(shape.getKey(slot));
+				slotNodes[slot] = node;
+			}
+			return node;
+		}
+		
+		/**
+		 * @return The node for items of arrays at this path
+		 */
+		private PathNode getItemNode(){
+			if(itemNode == null){
+				itemNode = new PathNode();
+			}
+			return itemNode;
+		}
+		
+		/**
+		 * Learns the given layout for the classes at this path
+		 *
+		 * @param shape The layout to learn
+		 */
+		private void learn(JSONShape shape){
+			this.shape = shape;
+			slotNodes = new PathNode[shape.size()];
+		}
+	}
+	
+	/** The {@link JSONStringDecoder} used to decode quoted strings */
+	private final JSONStringDecoder stringDecoder;
+	/** What's been learned about the root of the documents */
+	private final PathNode root;
+	/** The number of classes that matched the learned layout for their path */
+	private long hitCount;
+	/** The number of classes that didn't match the learned layout for their path */
+	private long missCount;
+	/** The JSON being parsed */
+	private String json;
+	/** The index of the next character to parse */
+	private int index;
+	
+	/**
+	 * Constructs a JSON Shape Parser that hasn't learned anything yet
+	 */
+	public JSONShapeParser(){
+		stringDecoder = new JSONStringDecoder();
+		root = new PathNode();
+		hitCount = 0;
+		missCount = 0;
+	}
+	
+	/**
+	 * @return The number of classes that matched the layout learned for their path
+	 */
+	public long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * @return The number of classes that didn't match the layout learned for their path (not counting the first
+	 * class at each path)
+	 */
+	public long getMissCount(){
+		return missCount;
+	}
+	
+	/**
+	 * Parses the given JSON String into a JSON object (either an array or a class), and returns it
+	 *
+	 * @param JSONString The JSON string to be parsed
+	 * @return A JSONObject (either a JSONClass or JSONArray)
+	 */
+	public JSONObject parseJSON(String JSONString){
+		json = JSONString;
+		index = 0;
+		try{
+			skipWhitespace();
+			Object value = parseValue(root);
+			skipWhitespace();
+			if(index != json.length()){
+				throw new IllegalStateException("JSON has more after the end of the value");
+			}
+			if(!(value instanceof JSONObject obj)){
+				throw new IllegalArgumentException("String is not valid JSON");
+			}
+			return obj;
+		}finally{
+			json = null;
+		}
+	}
+	
+	/**
+	 * Parses the value starting at the current index
+	 *
+	 * @param node The {@link PathNode} for the value's path
+	 * @return The parsed value
+	 */
+	private Object parseValue(PathNode node){
+		if(index >= json.length()){
+			throw new IllegalStateException("JSON value ended prematurely");
+		}
+		char c = json.charAt(index);
+		switch(c){
+			case JSONConverter.classStartChar -> {
+				index++;
+				return parseClass(node);
+			}
+			case JSONConverter.arrayStartChar -> {
+				index++;
+				return parseArray(node);
+			}
+			case JSONStringDecoder.quoteChar -> {
+				index = stringDecoder.scan(json, index);
+				return stringDecoder.getString();
+			}
+			case 't' -> {
+				return parseLiteral("true", true);
+			}
+			case 'f' -> {
+				return parseLiteral("false", false);
+			}
+			case 'n' -> {
+				return parseLiteral("null", null);
+			}
+			default -> {
+				return parseNumber();
+			}
+		}
+	}
+	
+	/**
+	 * Parses a class, where the current index is just after its opening brace. If a layout was learned for the
+	 * path, the keys are checked against it, and the class falls back to being parsed normally at the first key
+	 * that doesn't match.
+	 *
+	 * @param node The {@link PathNode} for the class's path
+	 * @return The parsed class
+	 */
+	private JSONClass parseClass(PathNode node){
+		List<String> keys = new ArrayList<>();
+		List<String> rawKeys = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		JSONShape shape = node.stopped?null:node.shape;
+		if(shape == null){
+			return parseClassNormally(node, keys, rawKeys, values, false);
+		}
+		
+		int size = shape.size();
+		Object[] slots = new Object[size];
+		int slot = 0;
+		boolean afterValue = false;
+		skipWhitespace();
+		while(slot < size){
+			if(slot != 0){
+				// A comma should be next
+				skipWhitespace();
+				if(index >= json.length() || json.charAt(index) != JSONConverter.nextValueChar){
+					afterValue = true;
+					break;
+				}
+				index++;
+				skipWhitespace();
+			}
+			
+			// The key should be next, exactly as it was in the JSON the layout was learned from
+			String rawKey = shape.getRawKey(slot);
+			if(index >= json.length() || json.charAt(index) != JSONStringDecoder.quoteChar ||
+					!json.regionMatches(index + 1, rawKey, 0, rawKey.length())){
+				break;
+			}
+			index += rawKey.length() + 1;
+			skipColon();
+			slots[slot] = parseValue(node.getSlotNode(slot));
+			slot++;
+		}
+		if(slot == size){
+			skipWhitespace();
+			if(index < json.length() && json.charAt(index) == JSONConverter.classEndChar){
+				index++;
+				node.hits++;
+				hitCount++;
+				return new ShapedJSONClass(shape, slots);
+			}
+			// A value was only just parsed if the layout has any keys
+			afterValue = size != 0;
+		}
+		
+		// The class doesn't match the layout, so parse the rest of it normally
+		node.misses++;
+		missCount++;
+		if(node.misses >= missLimit && node.misses > node.hits){
+			node.stopped = true;
+		}
+		for(int i = 0; i < slot; i++){
+			keys.add(shape.getKey(i));
+			rawKeys.add(shape.getRawKey(i));
+			values.add(slots[i]);
+		}
+		return parseClassNormally(node, keys, rawKeys, values, afterValue);
+	}
+	
+	/**
+	 * Parses (the rest of) a class normally, learning its layout if the parser is still speculating at its path
+	 *
+	 * @param node The {@link PathNode} for the class's path
+	 * @param keys The keys parsed so far
+	 * @param rawKeys The keys parsed so far as they appeared in the JSON text
+	 * @param values The values parsed so far
+	 * @param afterValue Whether a value was just parsed (so a comma or closing brace is next)
+	 * @return The parsed class
+	 */
+	private JSONClass parseClassNormally(
+			PathNode node, List<String> keys, List<String> rawKeys, List<Object> values, boolean afterValue){
+		while(true){
+			skipWhitespace();
+			if(index >= json.length()){
+				throw new IllegalStateException("JSON Class ended prematurely");
+			}
+			char c = json.charAt(index);
+			if(afterValue){
+				if(c == JSONConverter.classEndChar){
+					index++;
+					break;
+				}else if(c != JSONConverter.nextValueChar){
+					throw new IllegalStateException("End of JSON class not marked with closing brace");
+				}
+				index++;
+				skipWhitespace();
+			}else if(c == JSONConverter.classEndChar && keys.isEmpty()){
+				index++;
+				break;
+			}
+			
+			// Parse a key and its value
+			int quoteIndex = index;
+			index = stringDecoder.scan(json, index);
+			String key = stringDecoder.getString();
+			keys.add(key);
+			rawKeys.add(json.substring(quoteIndex + 1, index));
+			skipColon();
+			values.add(parseValue(node.getKeyNode(key)));
+			afterValue = true;
+		}
+		
+		JSONShape shape = node.stopped?null:JSONShape.of(keys, rawKeys);
+		if(shape == null){
+			// Not speculating here, or a key was repeated
+			JSONClass clazz = new SimpleOrderedJSONClass();
+			for(int i = 0; i < keys.size(); i++){
+				clazz.setItem(keys.get(i), values.get(i));
+			}
+			return clazz;
+		}
+		node.learn(shape);
+		return new ShapedJSONClass(shape, values.toArray());
+	}
+	
+	/**
+	 * Parses an array, where the current index is just after its opening bracket
+	 *
+	 * @param node The {@link PathNode} for the array's path
+	 * @return The parsed array
+	 */
+	private JSONArray<Object> parseArray(PathNode node){
+		JSONArrayList<Object> items = new JSONArrayList<>();
+		skipWhitespace();
+		if(index < json.length() && json.charAt(index) == JSONConverter.arrayEndChar){
+			index++;
+			return items;
+		}
+		PathNode itemNode = node.getItemNode();
+		while(true){
+			skipWhitespace();
+			items.add(parseValue(itemNode));
+			skipWhitespace();
+			if(index >= json.length()){
+				throw new IllegalStateException("JSON Array ended prematurely");
+			}
+			char c = json.charAt(index++);
+			if(c == JSONConverter.arrayEndChar){
+				return items;
+			}else if(c != JSONConverter.nextValueChar){
+				throw new IllegalStateException("End of JSON array not marked with closing bracket");
+			}
+		}
+	}
+	
+	/**
+	 * Parses a literal (true, false, or null)
+	 *
+	 * @param literal The text of the literal
+	 * @param value The value of the literal
+	 * @return The value of the literal
+	 */
+	private Object parseLiteral(String literal, Object value){
+		if(!json.startsWith(literal, index)){
+			throw new IllegalArgumentException("Unknown character at start of JSON value: " + json.charAt(index));
+		}
+		index += literal.length();
+		return value;
+	}
+	
+	/**
+	 * Parses a number
+	 *
+	 * @return The number, as a Double
+	 */
+	private Double parseNumber(){
+		int start = index;
+		while(index < json.length() && isNumberChar(json.charAt(index))){
+			index++;
+		}
+		String number = json.substring(start, index);
+		if(number.isEmpty()){
+			throw new IllegalArgumentException("Unknown character at start of JSON value: " + json.charAt(start));
+		}else if(!JSONFeeder.numberFormat.matcher(number).matches()){
+			throw new IllegalStateException("Invalid JSON number: " + number);
+		}
+		return Double.parseDouble(number);
+	}
+	
+	/**
+	 * @param c A character
+	 * @return Whether the character can be part of a number
+	 */
+	private static boolean isNumberChar(char c){
+		return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+	}
+	
+	/**
+	 * Skips over the colon after a key, and any whitespace around it
+	 */
+	private void skipColon(){
+		skipWhitespace();
+		if(index >= json.length() || json.charAt(index) != JSONConverter.keyEndChar){
+			throw new IllegalStateException("Didn't find a colon in a key-value pair in JSON class");
+		}
+		index++;
+		skipWhitespace();
+	}
+	
+	/**
+	 * Skips over any whitespace at the current index
+	 */
+	private void skipWhitespace(){
+		while(index < json.length()){
+			char c = json.charAt(index);
+			if(c != ' ' && c != '\t' && c != '\n' && c != '\r' && c != '\f'){
+				return;
+			}
+			index++;
+		}
+	}
+}
@@ -0,0 +1,369 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JSON Stream Transformer transforms JSON as a stream of {@link JSONToken JSON Tokens}, reading them with a
+ * {@link JSONTokenizer} and writing them straight back out with a {@link JSONTokenWriter}, without ever building
+ * {@link JSONClass} or {@link JSONArray} objects. This means JSON of any size can be transformed using only a small,
+ * fixed amount of memory.
+ * <br><br>
+ * What happens to each key-value pair in a class is decided by a chain of {@link Operator Operators}, added with
+ * {@link #dropKey(String)}, {@link #renameKey(String, String)}, {@link #redactKey(String, Object)},
+ * {@link #keepOnly(JSONProjection)}, or {@link #addOperator(Operator)}. Operators run in the order they were added,
+ * and each one sees the key as renamed by the ones before it. Dropped and redacted values are skipped over in the
+ * input without being written.
+ * <br><br>
+ * A JSON Stream Transformer can be reused (and shared between threads once all of its operators are added).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONStreamTransformer{
+	
+	/**
+	 * An Operator decides what to do with a key-value pair in a class. Once an operator redacts a value, it stays
+	 * redacted: later operators that keep or rename the key only change the key.
+	 */
+	@FunctionalInterface
+	public interface Operator{
+		
+		/**
+		 * Decides what to do with the given key
+		 *
+		 * @param path The path to the class the key is in, from the top-level value: keys (as Strings, as they
+		 * appeared in the input) and array indices (as Integers)
+		 * @param key The key (as renamed by earlier operators)
+		 * @return The {@link Action} to take on the key-value pair
+		 */
+		Action apply(List<Object> path, String key);
+		
+		/**
+		 * Decides what to do with the given key, for operators that need the key as it appeared in the input (e.g.
+		 * to match it like the keys in the path). By default, this just calls {@link #apply(List, String)}.
+		 *
+		 * @param path The path to the class the key is in, from the top-level value: keys (as Strings, as they
+		 * appeared in the input) and array indices (as Integers)
+		 * @param inputKey The key as it appeared in the input
+		 * @param key The key (as renamed by earlier operators)
+		 * @return The {@link Action} to take on the key-value pair
+		 */
+		default Action apply(List<Object> path, String inputKey, String key){
+			return apply(path, key);
+		}
+	}
+	
+	/**
+	 * An Action is what an {@link Operator} decided to do with a key-value pair
+	 */
+	public static final class Action{
+		/** Whether to drop the key-value pair */
+		private final boolean drop;
+		/** The key to write (which may be renamed) */
+		private final String key;
+		/** Whether to replace the value with the replacement */
+		private final boolean redacted;
+		/** The value to write instead of the real value, if it's redacted */
+		private final Object replacement;
+		
+		/**
+		 * Constructs an Action with the given settings
+		 *
+		 * @param drop Whether to drop the key-value pair
+		 * @param key The key to write (which may be renamed)
+		 * @param redacted Whether to replace the value with the replacement
+		 * @param replacement The value to write instead of the real value, if it's redacted
+		 */
+		private Action(boolean drop, String key, boolean redacted, Object replacement){
+			this.drop = drop;
+			this.key = key;
+			this.redacted = redacted;
+			this.replacement = replacement;
+		}
+		
+		/**
+		 * @param key The key
+		 * @return An Action that keeps the key-value pair as is
+		 */
+		public static Action keep(String key){
+			return new Action(false, key, false, null);
+		}
+		
+		/**
+		 * @return An Action that drops the key-value pair
+		 */
+		public static Action drop(){
+			return new Action(true, null, false, null);
+		}
+		
+		/**
+		 * @param newKey The new key
+		 * @return An Action that renames the key
+		 */
+		public static Action rename(String newKey){
+			return new Action(false, newKey, false, null);
+		}
+		
+		/**
+		 * @param key The key
+		 * @param replacement The value to write instead of the real value - anything
+		 * {@link JSONConverter#convertToJSON(Object)} supports
+		 * @return An Action that replaces the value
+		 */
+		public static Action redact(String key, Object replacement){
+			return new Action(false, key, true, replacement);
+		}
+		
+		/**
+		 * @return Whether to drop the key-value pair
+		 */
+		public boolean isDrop(){
+			return drop;
+		}
+		
+		/**
+		 * @return The key to write (which may be renamed) - null if the key-value pair is dropped
+		 */
+		public String getKey(){
+			return key;
+		}
+		
+		/**
+		 * @return Whether to replace the value with the replacement
+		 */
+		public boolean isRedacted(){
+			return redacted;
+		}
+		
+		/**
+		 * @return The value to write instead of the real value, if it's redacted
+		 */
+		public Object getReplacement(){
+			return replacement;
+		}
+	}
+	
+	/** The operators, in the order they run */
+	private final List<Operator> operators;
+	/** The {@link JSONConverter} used to convert redaction replacements */
+	private final JSONConverter converter;
+	
+	/**
+	 * Constructs a JSON Stream Transformer with no operators (which just compacts the JSON)
+	 */
+	public JSONStreamTransformer(){
+		operators = new ArrayList<>();
+		converter = new JSONConverter();
+	}
+	
+	/**
+	 * Adds the given {@link Operator}
+	 *
+	 * @param operator The {@link Operator} to add
+	 * @return This transformer, to continue adding operators
+	 */
+	public JSONStreamTransformer addOperator(Operator operator){
+		operators.add(operator);
+		return this;
+	}
+	
+	/**
+	 * Adds an {@link Operator} that drops the given key (and its value) wherever it appears
+	 *
+	 * @param key The key to drop
+	 * @return This transformer, to continue adding operators
+	 */
+	public JSONStreamTransformer dropKey(String key){
+		return addOperator((path, currentKey) -> currentKey.equals(key)?Action.drop():Action.keep(currentKey));
+	}
+	
+	/**
+	 * Adds an {@link Operator} that renames the given key wherever it appears
+	 *
+	 * @param key The key to rename
+	 * @param newKey The new key
+	 * @return This transformer, to continue adding operators
+	 */
+	public JSONStreamTransformer renameKey(String key, String newKey){
+		return addOperator((path, currentKey) -> Action.rename(currentKey.equals(key)?newKey:currentKey));
+	}
+	
+	/**
+	 * Adds an {@link Operator} that replaces the value of the given key wherever it appears
+	 *
+	 * @param key The key of the values to redact
+	 * @param replacement The value to write instead - anything {@link JSONConverter#convertToJSON(Object)} supports
+	 * @return This transformer, to continue adding operators
+	 */
+	public JSONStreamTransformer redactKey(String key, Object replacement){
+		return addOperator((path, currentKey) ->
+				currentKey.equals(key)?Action.redact(currentKey, replacement):Action.keep(currentKey));
+	}
+	
+	/**
+	 * Adds an {@link Operator} that drops every key-value pair not covered by the given {@link JSONProjection}
+	 * (matched against the keys as they appeared in the input, even if they were renamed by earlier operators)
+	 *
+	 * @param projection The {@link JSONProjection} of key paths to be kept
+	 * @return This transformer, to continue adding operators
+	 */
+	public JSONStreamTransformer keepOnly(JSONProjection projection){
+		return addOperator(new Operator(){
+			/** {@inheritDoc} */
+			@Override
+			public Action apply(List<Object> path, String key){
+				return apply(path, key, key);
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public Action apply(List<Object> path, String inputKey, String key){
+				JSONProjection current = projection;
+				for(Object step: path){
+					if(current.keepsAll()){
+						return Action.keep(key);
+					}
+					current = step instanceof Integer?
+							current.getItemProjection():current.getKeyProjection((String) step);
+					if(current == null){
+						return Action.drop();
+					}
+				}
+				return current.keepsAll() || current.getKeyProjection(inputKey) != null?
+						Action.keep(key):Action.drop();
+			}
+		});
+	}
+	
+	/**
+	 * Adds an {@link Operator} that drops every key-value pair not covered by the given paths
+	 * (see {@link JSONProjection} for the path format)
+	 *
+	 * @param paths The key paths to be kept
+	 * @return This transformer, to continue adding operators
+	 */
+	public JSONStreamTransformer keepOnly(String ... paths){
+		return keepOnly(JSONProjection.of(paths));
+	}
+	
+	/**
+	 * Transforms the JSON from the given {@link Reader}, writing it as UTF-8 to the given {@link OutputStream}.
+	 * Neither is closed.
+	 *
+	 * @param in The {@link Reader} to read JSON from
+	 * @param out The {@link OutputStream} to write the transformed JSON to
+	 * @throws IOException If anything goes wrong in reading or writing
+	 */
+	public void transform(Reader in, OutputStream out) throws IOException{
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		transform(in, writer);
+		writer.flush();
+	}
+	
+	/**
+	 * Transforms the given JSON string
+	 *
+	 * @param JSONString The JSON to transform
+	 * @return The transformed JSON
+	 */
+	public String transform(String JSONString){
+		StringWriter writer = new StringWriter();
+		try{
+			transform(new StringReader(JSONString), writer);
+		}catch(IOException e){
+			// Can't happen with Strings
+			throw new IllegalStateException(e);
+		}
+		return writer.toString();
+	}
+	
+	/**
+	 * Transforms the JSON from the given {@link Reader}, writing it to the given {@link Writer}. Neither is closed
+	 * or flushed.
+	 *
+	 * @param in The {@link Reader} to read JSON from
+	 * @param out The {@link Writer} to write the transformed JSON to
+	 * @throws IOException If anything goes wrong in reading or writing
+	 */
+	public void transform(Reader in, Writer out) throws IOException{
+		JSONTokenizer tokenizer = new JSONTokenizer(in);
+		JSONTokenWriter writer = new JSONTokenWriter(out);
+		
+		// The path to the current value, and whether each class or array it's in is an array (with its next index)
+		List<Object> path = new ArrayList<>();
+		List<Object> pathView = Collections.unmodifiableList(path);
+		List<int[]> arrayIndices = new ArrayList<>();
+		
+		JSONToken token;
+		while((token = tokenizer.next()) != null){
+			if(token == JSONToken.KEY){
+				String inputKey = tokenizer.getText();
+				Action action = Action.keep(inputKey);
+				for(Operator operator: operators){
+					Action next = operator.apply(pathView, inputKey, action.getKey());
+					if(action.isRedacted() && !next.isDrop() && !next.isRedacted()){
+						// Redaction sticks - later operators can only rename the key (or drop the pair)
+						next = Action.redact(next.getKey(), action.getReplacement());
+					}
+					action = next;
+					if(action.isDrop()){
+						break;
+					}
+				}
+				if(action.isDrop()){
+					tokenizer.skipValue();
+				}else if(action.isRedacted()){
+					writer.write(JSONToken.KEY, action.getKey());
+					tokenizer.skipValue();
+					writer.writeValue(converter.convertToJSON(action.getReplacement()));
+				}else{
+					path.add(inputKey);
+					writer.write(JSONToken.KEY, action.getKey());
+				}
+				continue;
+			}
+			
+			// Track array indices in the path
+			if(token.startsValue() && !arrayIndices.isEmpty()){
+				int[] index = arrayIndices.get(arrayIndices.size() - 1);
+				if(index != null){
+					path.add(index[0]++);
+				}
+			}
+			writer.write(token, tokenizer.getText());
+			switch(token){
+				case CLASS_START -> arrayIndices.add(null);
+				case ARRAY_START -> arrayIndices.add(new int[]{0});
+				case CLASS_END, ARRAY_END -> {
+					arrayIndices.remove(arrayIndices.size() - 1);
+					endValue(path, arrayIndices);
+				}
+				default -> endValue(path, arrayIndices);
+			}
+		}
+	}
+	
+	/**
+	 * Removes the key or index of a finished value from the path (unless it's a top-level value)
+	 *
+	 * @param path The path to the current value
+	 * @param arrayIndices The next index of each array the value is in (null for classes)
+	 */
+	private static void endValue(List<Object> path, List<int[]> arrayIndices){
+		if(!arrayIndices.isEmpty()){
+			path.remove(path.size() - 1);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.github.tadukoo.parsing.json;
+
+import java.nio.CharBuffer;
+
+/**
+ * JSON String Decoder is used to decode quoted strings in JSON. It scans for the closing quote and for backslashes
+ * in a single pass. If the string has no escape sequences, nothing is copied, and the value is available as a
+ * lightweight slice of the source (or as a single substring). Escape sequences (including unicode escapes)
+ * are only decoded when a backslash actually appears, in which case the decoded value is built in a buffer that's
+ * reused between strings.
+ * <br><br>
+ * A JSON String Decoder is not thread-safe, and the value from {@link #getValue()} is only valid until the next
+ * call to {@link #scan(CharSequence, int)}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONStringDecoder{
+	/** Character at the start and end of a string - double quote - " */
+	public static final char quoteChar = '"';
+	/** Character at the start of an escape sequence - backslash - \ */
+	public static final char escapeChar = '\\';
+	
+	/** The buffer used to build the decoded value when there are escape sequences */
+	private final StringBuilder decoded;
+	/** The source of the last string scanned */
+	private CharSequence source;
+	/** The index of the first character inside the quotes of the last string scanned */
+	private int contentStart;
+	/** The index of the closing quote of the last string scanned */
+	private int contentEnd;
+	/** Whether the last string scanned had escape sequences */
+	private boolean escaped;
+	
+	/**
+	 * Constructs a new JSON String Decoder
+	 */
+	public JSONStringDecoder(){
+		decoded = new StringBuilder();
+		source = null;
+		contentStart = 0;
+		contentEnd = 0;
+		escaped = false;
+	}
+	
+	/**
+	 * Scans the quoted string starting at the given index, decoding any escape sequences in it.
+	 *
+	 * @param source The source text the string is in
+	 * @param quoteIndex The index of the opening quote of the string
+	 * @return The index of the first character after the closing quote
+	 */
+	public int scan(CharSequence source, int quoteIndex){
+		if(quoteIndex >= source.length() || source.charAt(quoteIndex) != quoteChar){
+			throw new IllegalStateException("JSON string doesn't start with a quote");
+		}
+		this.source = source;
+		contentStart = quoteIndex + 1;
+		escaped = false;
+		
+		// Fast path: look for the closing quote, stopping if we find a backslash
+		int length = source.length();
+		int charIndex = contentStart;
+		while(charIndex < length){
+			char c = source.charAt(charIndex);
+			if(c == quoteChar){
+				contentEnd = charIndex;
+				return charIndex + 1;
+			}else if(c == escapeChar){
+				break;
+			}
+			charIndex++;
+		}
+		if(charIndex >= length){
+			throw new IllegalStateException("JSON string ended prematurely");
+		}
+		
+		// Slow path: there's an escape sequence, so copy what we've seen and decode from here on
+		escaped = true;
+		decoded.setLength(0);
+		decoded.append(source, contentStart, charIndex);
+		while(charIndex < length){
+			char c = source.charAt(charIndex);
+			if(c == quoteChar){
+				contentEnd = charIndex;
+				return charIndex + 1;
+			}else if(c == escapeChar){
+				charIndex = decodeEscape(source, charIndex);
+			}else{
+				decoded.append(c);
+				charIndex++;
+			}
+		}
+		throw new IllegalStateException("JSON string ended prematurely");
+	}
+	
+	/**
+	 * Decodes the escape sequence starting at the given index and adds it to {@link #decoded}
+	 *
+	 * @param source The source text the string is in
+	 * @param escapeIndex The index of the backslash
+	 * @return The index of the first character after the escape sequence
+	 */
+	private int decodeEscape(CharSequence source, int escapeIndex){
+		if(escapeIndex + 1 >= source.length()){
+			throw new IllegalStateException("JSON string ended prematurely");
+		}
+		char c = source.charAt(escapeIndex + 1);
+		switch(c){
+			case '"', '\\', '/' -> decoded.append(c);
+			case 'b' -> decoded.append('\b');
+			case 'f' -> decoded.append('\f');
+			case 'n' -> decoded.append('\n');
+			case 'r' -> decoded.append('\r');
+			case 't' -> decoded.append('\t');
+			case 'u' -> {
+				if(escapeIndex + 6 > source.length()){
+					throw new IllegalStateException("JSON string ended prematurely");
+				}
+				int codeUnit = 0;
+				for(int i = escapeIndex + 2; i < escapeIndex + 6; i++){
+					int digit = Character.digit(source.charAt(i), 16);
+					if(digit < 0){
+						throw new IllegalStateException("Invalid unicode escape in JSON string");
+					}
+					codeUnit = (codeUnit << 4) | digit;
+				}
+				decoded.append((char) codeUnit);
+				return escapeIndex + 6;
+			}
+			default -> throw new IllegalStateException("Invalid escape sequence in JSON string: \\" + c);
+		}
+		return escapeIndex + 2;
+	}
+	
+	/**
+	 * @return Whether the last string scanned had escape sequences in it
+	 */
+	public boolean hasEscapes(){
+		return escaped;
+	}
+	
+	/**
+	 * @return The index of the first character inside the quotes of the last string scanned
+	 */
+	public int getContentStart(){
+		return contentStart;
+	}
+	
+	/**
+	 * @return The index of the closing quote of the last string scanned
+	 */
+	public int getContentEnd(){
+		return contentEnd;
+	}
+	
+	/**
+	 * Grabs the decoded value of the last string scanned without copying it. If it had no escape sequences, this
+	 * is a read-only slice of the source, otherwise it's the decoding buffer. Either way, it's only valid until the
+	 * next call to {@link #scan(CharSequence, int)}.
+	 *
+	 * @return The decoded value of the last string scanned
+	 */
+	public CharSequence getValue(){
+		return escaped?decoded:CharBuffer.wrap(source, contentStart, contentEnd);
+	}
+	
+	/**
+	 * @return The decoded value of the last string scanned as a String (only copied once)
+	 */
+	public String getString(){
+		if(escaped){
+			return decoded.toString();
+		}
+		return source.subSequence(contentStart, contentEnd).toString();
+	}
+}
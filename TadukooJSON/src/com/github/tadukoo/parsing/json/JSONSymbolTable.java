@@ -0,0 +1,191 @@
+package com.github.tadukoo.parsing.json;
+
+/**
+ * JSON Symbol Table is a bounded cache of canonical String instances used by {@link JSONConverter} to avoid
+ * allocating new Strings for keys (and short values) that repeat across many JSON classes. Symbols are looked up
+ * by hashing the characters directly from the JSON text being parsed, so no substring is created unless the symbol
+ * hasn't been seen recently.
+ * <br><br>
+ * The table is direct-mapped: each symbol hashes to exactly one slot, and a new symbol replaces whatever was in its
+ * slot before. This keeps the table bounded to its capacity, and means the most recently seen symbols win.
+ * <br><br>
+ * A JSON Symbol Table is not thread-safe. It's meant to be confined to a single thread, in the same way as the
+ * {@link JSONConverter} that uses it.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONSymbolTable{
+	/** The default number of slots in the table */
+	public static final int defaultCapacity = 2048;
+	/** The default maximum length of values to be deduplicated (keys are always deduplicated) */
+	public static final int defaultMaxValueLength = 16;
+	
+	/** The slots of the table, containing canonical Strings (or null if unused) */
+	private final String[] symbols;
+	/** The cached hashes of the Strings in {@link #symbols} */
+	private final int[] hashes;
+	/** Mask used to turn a hash into a slot index */
+	private final int mask;
+	/** The maximum length of values to be deduplicated */
+	private final int maxValueLength;
+	/** The number of lookups that returned an existing symbol */
+	private long hitCount;
+	/** The number of lookups that created a new symbol */
+	private long missCount;
+	
+	/**
+	 * Constructs a JSON Symbol Table with the {@link #defaultCapacity default capacity} and
+	 * {@link #defaultMaxValueLength default max value length}
+	 */
+	public JSONSymbolTable(){
+		this(defaultCapacity, defaultMaxValueLength);
+	}
+	
+	/**
+	 * Constructs a JSON Symbol Table with the given capacity and max value length
+	 *
+	 * @param capacity The number of slots in the table - rounded up to a power of 2
+	 * @param maxValueLength The maximum length of String values to be deduplicated (0 to only deduplicate keys)
+	 */
+	public JSONSymbolTable(int capacity, int maxValueLength){
+		if(capacity <= 0){
+			throw new IllegalArgumentException("JSON Symbol Table capacity must be positive");
+		}
+		int slots = Integer.highestOneBit(Math.min(capacity, 1 << 30));
+		if(slots < capacity){
+			slots <<= 1;
+		}
+		symbols = new String[slots];
+		hashes = new int[slots];
+		mask = slots - 1;
+		this.maxValueLength = maxValueLength;
+		hitCount = 0;
+		missCount = 0;
+	}
+	
+	/**
+	 * @return The number of slots in this table
+	 */
+	public int getCapacity(){
+		return symbols.length;
+	}
+	
+	/**
+	 * @return The maximum length of String values to be deduplicated
+	 */
+	public int getMaxValueLength(){
+		return maxValueLength;
+	}
+	
+	/**
+	 * @return The number of lookups that returned an existing symbol
+	 */
+	public long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * @return The number of lookups that had to create a new symbol
+	 */
+	public long getMissCount(){
+		return missCount;
+	}
+	
+	/**
+	 * Grabs the canonical String for a key, where the key is the characters from start (inclusive) to end (exclusive)
+	 * in the given source
+	 *
+	 * @param source The source text the key is in
+	 * @param start The index of the first character of the key
+	 * @param end The index after the last character of the key
+	 * @return The canonical String for the key
+	 */
+	public String getKey(CharSequence source, int start, int end){
+		return getSymbol(source, start, end);
+	}
+	
+	/**
+	 * Grabs a String for a value, where the value is the characters from start (inclusive) to end (exclusive) in
+	 * the given source. If the value is short enough, the canonical String is returned, otherwise a new String is made.
+	 *
+	 * @param source The source text the value is in
+	 * @param start The index of the first character of the value
+	 * @param end The index after the last character of the value
+	 * @return A String for the value (canonical if it's short enough)
+	 */
+	public String getValue(CharSequence source, int start, int end){
+		if(end - start > maxValueLength){
+			return source.subSequence(start, end).toString();
+		}
+		return getSymbol(source, start, end);
+	}
+	
+	/**
+	 * Removes all symbols from the table and resets the hit and miss counts
+	 */
+	public void clear(){
+		for(int i = 0; i < symbols.length; i++){
+			symbols[i] = null;
+			hashes[i] = 0;
+		}
+		hitCount = 0;
+		missCount = 0;
+	}
+	
+	/**
+	 * Looks up the symbol for the given characters, adding it to the table if it's not already there
+	 *
+	 * @param source The source text the symbol is in
+	 * @param start The index of the first character of the symbol
+	 * @param end The index after the last character of the symbol
+	 * @return The canonical String for the symbol
+	 */
+	private String getSymbol(CharSequence source, int start, int end){
+		// Use the same hash as String, so a String created later has a matching hash code
+		int hash = 0;
+		for(int i = start; i < end; i++){
+			hash = 31 * hash + source.charAt(i);
+		}
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		
+		String symbol = symbols[slot];
+		if(symbol != null && hashes[slot] == hash && matches(symbol, source, start, end)){
+			hitCount++;
+			return symbol;
+		}
+		
+		// Not found, so the new symbol takes over the slot
+		missCount++;
+		symbol = source.subSequence(start, end).toString();
+		symbols[slot] = symbol;
+		hashes[slot] = hash;
+		return symbol;
+	}
+	
+	/**
+	 * Checks if the given symbol matches the characters in the source
+	 *
+	 * @param symbol The symbol to check
+	 * @param source The source text
+	 * @param start The index of the first character to check
+	 * @param end The index after the last character to check
+	 * @return Whether the symbol has the same characters
+	 */
+	private static boolean matches(String symbol, CharSequence source, int start, int end){
+		int length = end - start;
+		if(symbol.length() != length){
+			return false;
+		}
+		if(source instanceof String sourceString){
+			return symbol.regionMatches(0, sourceString, start, length);
+		}
+		for(int i = 0; i < length; i++){
+			if(symbol.charAt(i) != source.charAt(start + i)){
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,39 @@
+package com.github.tadukoo.parsing.json;
+
+/**
+ * JSON Token represents the kinds of tokens read by a {@link JSONTokenizer} and written by a
+ * {@link JSONTokenWriter}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public enum JSONToken{
+	/** The start of a class - { */
+	CLASS_START,
+	/** The end of a class - } */
+	CLASS_END,
+	/** The start of an array - [ */
+	ARRAY_START,
+	/** The end of an array - ] */
+	ARRAY_END,
+	/** A key in a class (the text is the decoded key) */
+	KEY,
+	/** A String value (the text is the decoded String) */
+	STRING,
+	/** A number value (the text is the number as it appeared in the JSON) */
+	NUMBER,
+	/** The value true */
+	TRUE,
+	/** The value false */
+	FALSE,
+	/** The value null */
+	NULL;
+	
+	/**
+	 * @return Whether this token starts a value (a simple value, or the start of a class or array)
+	 */
+	public boolean startsValue(){
+		return this != CLASS_END && this != ARRAY_END && this != KEY;
+	}
+}
@@ -0,0 +1,129 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * JSON Token Writer writes {@link JSONToken JSON Tokens} to a {@link Writer} one at a time, adding the commas and
+ * colons between them, so JSON can be written (e.g. from a {@link JSONTokenizer}) without building any
+ * {@link JSONClass} or {@link JSONArray} objects. The output is compact, like
+ * {@link JSONConverter#convertToJSON(Object)}, with top-level values separated by newlines. The tokens must be written
+ * in a valid order - this isn't checked.
+ * <br><br>
+ * A JSON Token Writer is not thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONTokenWriter implements Closeable, Flushable{
+	/** The {@link Writer} to write to */
+	private final Writer out;
+	/** Whether anything has been written in each class or array being written, outermost first */
+	private boolean[] hasItems;
+	/** The number of classes and arrays being written */
+	private int depth;
+	/** Whether a key was just written (so its value doesn't need a comma) */
+	private boolean afterKey;
+	/** Whether a top-level value has been written */
+	private boolean hasValues;
+	
+	/**
+	 * Constructs a JSON Token Writer that writes to the given {@link Writer}
+	 *
+	 * @param out The {@link Writer} to write to
+	 */
+	public JSONTokenWriter(Writer out){
+		this.out = out;
+		hasItems = new boolean[16];
+		depth = 0;
+		afterKey = false;
+		hasValues = false;
+	}
+	
+	/**
+	 * Writes the given token
+	 *
+	 * @param token The token to write
+	 * @param text The text of the token - the key or String (not yet escaped), or the number - ignored for other
+	 * tokens
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void write(JSONToken token, String text) throws IOException{
+		switch(token){
+			case CLASS_START, ARRAY_START -> {
+				startValue();
+				out.write(token == JSONToken.CLASS_START?JSONConverter.classStartChar:JSONConverter.arrayStartChar);
+				if(depth == hasItems.length){
+					hasItems = Arrays.copyOf(hasItems, depth * 2);
+				}
+				hasItems[depth++] = false;
+			}
+			case CLASS_END -> {
+				depth--;
+				out.write(JSONConverter.classEndChar);
+			}
+			case ARRAY_END -> {
+				depth--;
+				out.write(JSONConverter.arrayEndChar);
+			}
+			case KEY -> {
+				startValue();
+				out.write(JSONConverter.quoteString(text));
+				out.write(JSONConverter.keyEndChar);
+				afterKey = true;
+			}
+			case STRING -> writeValue(JSONConverter.quoteString(text));
+			case NUMBER -> writeValue(text);
+			case TRUE -> writeValue("true");
+			case FALSE -> writeValue("false");
+			case NULL -> writeValue("null");
+		}
+	}
+	
+	/**
+	 * Writes a whole value that's already in JSON form
+	 *
+	 * @param json The JSON of the value
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeValue(String json) throws IOException{
+		startValue();
+		out.write(json);
+	}
+	
+	/**
+	 * Writes the comma (or newline at the top level) needed before a key or value
+	 *
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	private void startValue() throws IOException{
+		if(afterKey){
+			afterKey = false;
+		}else if(depth == 0){
+			if(hasValues){
+				out.write('\n');
+			}
+			hasValues = true;
+		}else if(hasItems[depth - 1]){
+			out.write(JSONConverter.nextValueChar);
+		}else{
+			hasItems[depth - 1] = true;
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void flush() throws IOException{
+		out.flush();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException{
+		out.close();
+	}
+}
@@ -0,0 +1,388 @@
+package com.github.tadukoo.parsing.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * JSON Tokenizer is a pull-style JSON parser that reads {@link JSONToken JSON Tokens} one at a time from a
+ * {@link Reader}, without building any {@link JSONClass} or {@link JSONArray} objects. Only the current token's text
+ * is held in memory, so input of any size can be read. The structure of the JSON (commas, colons, and matching
+ * braces and brackets) is checked as it's read, and errors are thrown as
+ * {@link IllegalStateException IllegalStateExceptions}. Any number of top-level values can be read, separated by
+ * whitespace.
+ * <br><br>
+ * A JSON Tokenizer is not thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONTokenizer implements Closeable{
+	/** The size of the buffer used in reading */
+	private static final int bufferSize = 8192;
+	/** Expecting a value */
+	private static final int expectValue = 0;
+	/** Expecting the first item of an array, or the end of it */
+	private static final int expectFirstItemOrEnd = 1;
+	/** Expecting the first key of a class, or the end of it */
+	private static final int expectFirstKeyOrEnd = 2;
+	/** Expecting a key in a class */
+	private static final int expectKey = 3;
+	/** Expecting a comma or the end of the class or array */
+	private static final int expectAfterValue = 4;
+	
+	/** The {@link Reader} to read from */
+	private final Reader in;
+	/** The buffer of characters read but not yet used */
+	private final char[] buffer;
+	/** The position of the next character to use in the buffer */
+	private int position;
+	/** The number of valid characters in the buffer */
+	private int limit;
+	/** The text of the current token */
+	private final StringBuilder text;
+	/** The current token - null before the first token and at the end of the input */
+	private JSONToken token;
+	/** What's expected next */
+	private int expected;
+	/** Whether each class or array being read is a class, outermost first */
+	private boolean[] inClass;
+	/** The number of classes and arrays being read */
+	private int depth;
+	
+	/**
+	 * Constructs a JSON Tokenizer that reads from the given {@link Reader}
+	 *
+	 * @param in The {@link Reader} to read from
+	 */
+	public JSONTokenizer(Reader in){
+		this.in = in;
+		buffer = new char[bufferSize];
+		position = 0;
+		limit = 0;
+		text = new StringBuilder();
+		token = null;
+		expected = expectValue;
+		inClass = new boolean[16];
+		depth = 0;
+	}
+	
+	/**
+	 * @return The current token - null before the first token and at the end of the input
+	 */
+	public JSONToken getToken(){
+		return token;
+	}
+	
+	/**
+	 * @return The text of the current token: the decoded key or String, the number as it appeared in the JSON,
+	 * or null for other tokens
+	 */
+	public String getText(){
+		if(token == null){
+			return null;
+		}
+		return switch(token){
+			case KEY, STRING, NUMBER -> text.toString();
+			default -> null;
+		};
+	}
+	
+	/**
+	 * @return The number of classes and arrays the tokenizer is in (after the current token)
+	 */
+	public int getDepth(){
+		return depth;
+	}
+	
+	/**
+	 * Reads the next token
+	 *
+	 * @return The next token, or null at the end of the input
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public JSONToken next() throws IOException{
+		while(true){
+			int c = nextNonWhitespace();
+			if(c < 0){
+				if(depth != 0){
+					throw new IllegalStateException("JSON input ended prematurely");
+				}
+				return token = null;
+			}
+			switch(expected){
+				case expectValue -> {
+					return token = startValue((char) c);
+				}
+				case expectFirstItemOrEnd -> {
+					return token = c == JSONConverter.arrayEndChar?endContainer():startValue((char) c);
+				}
+				case expectFirstKeyOrEnd -> {
+					return token = c == JSONConverter.classEndChar?endContainer():readKey((char) c);
+				}
+				case expectKey -> {
+					return token = readKey((char) c);
+				}
+				default -> {
+					boolean isClass = depth != 0 && inClass[depth - 1];
+					if(depth == 0){
+						// Another top-level value
+						return token = startValue((char) c);
+					}else if(c == JSONConverter.nextValueChar){
+						expected = isClass?expectKey:expectValue;
+					}else if(c == (isClass?JSONConverter.classEndChar:JSONConverter.arrayEndChar)){
+						return token = endContainer();
+					}else{
+						throw new IllegalStateException(isClass?"End of JSON class not marked with closing brace":
+								"End of JSON array not marked with closing bracket");
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Skips the next value (after a {@link JSONToken#KEY} token, or in an array), reading past all of it if it's a
+	 * class or array
+	 *
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	public void skipValue() throws IOException{
+		JSONToken first = next();
+		if(first == null || !first.startsValue()){
+			throw new IllegalStateException("No JSON value to skip");
+		}
+		if(first == JSONToken.CLASS_START || first == JSONToken.ARRAY_START){
+			int targetDepth = depth - 1;
+			while(depth > targetDepth){
+				next();
+			}
+		}
+	}
+	
+	/**
+	 * Starts reading a value that starts with the given character
+	 *
+	 * @param c The first character of the value
+	 * @return The token for the value
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private JSONToken startValue(char c) throws IOException{
+		expected = expectAfterValue;
+		switch(c){
+			case JSONConverter.classStartChar -> {
+				push(true);
+				expected = expectFirstKeyOrEnd;
+				return JSONToken.CLASS_START;
+			}
+			case JSONConverter.arrayStartChar -> {
+				push(false);
+				expected = expectFirstItemOrEnd;
+				return JSONToken.ARRAY_START;
+			}
+			case JSONStringDecoder.quoteChar -> {
+				readString();
+				return JSONToken.STRING;
+			}
+			case 't' -> {
+				readLiteral("true");
+				return JSONToken.TRUE;
+			}
+			case 'f' -> {
+				readLiteral("false");
+				return JSONToken.FALSE;
+			}
+			case 'n' -> {
+				readLiteral("null");
+				return JSONToken.NULL;
+			}
+			case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> {
+				readNumber(c);
+				return JSONToken.NUMBER;
+			}
+			default -> throw new IllegalStateException("Unknown character at start of JSON value: " + c);
+		}
+	}
+	
+	/**
+	 * Reads a key (and the colon after it) that starts with the given character
+	 *
+	 * @param c The first character of the key
+	 * @return The {@link JSONToken#KEY} token
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private JSONToken readKey(char c) throws IOException{
+		if(c != JSONStringDecoder.quoteChar){
+			throw new IllegalStateException("JSON class key doesn't start with a quote");
+		}
+		readString();
+		if(nextNonWhitespace() != JSONConverter.keyEndChar){
+			throw new IllegalStateException("Didn't find a colon in a key-value pair in JSON class");
+		}
+		expected = expectValue;
+		return JSONToken.KEY;
+	}
+	
+	/**
+	 * Finishes the innermost class or array
+	 *
+	 * @return The token for the end of it
+	 */
+	private JSONToken endContainer(){
+		depth--;
+		expected = expectAfterValue;
+		return inClass[depth]?JSONToken.CLASS_END:JSONToken.ARRAY_END;
+	}
+	
+	/**
+	 * Starts a class or array
+	 *
+	 * @param isClass Whether it's a class (if not, it's an array)
+	 */
+	private void push(boolean isClass){
+		if(depth == inClass.length){
+			inClass = Arrays.copyOf(inClass, depth * 2);
+		}
+		inClass[depth++] = isClass;
+	}
+	
+	/**
+	 * Reads the rest of a string (after the opening quote) into the text, decoding escape sequences
+	 *
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private void readString() throws IOException{
+		text.setLength(0);
+		while(true){
+			if(position == limit && !fill()){
+				throw new IllegalStateException("JSON string ended prematurely");
+			}
+			
+			// Copy everything up to the next quote or backslash at once
+			int runStart = position;
+			while(position < limit && buffer[position] != JSONStringDecoder.quoteChar &&
+					buffer[position] != JSONStringDecoder.escapeChar){
+				position++;
+			}
+			text.append(buffer, runStart, position - runStart);
+			if(position == limit){
+				continue;
+			}
+			if(buffer[position++] == JSONStringDecoder.quoteChar){
+				return;
+			}
+			int c = read();
+			switch(c){
+				case '"', '\\', '/' -> text.append((char) c);
+				case 'b' -> text.append('\b');
+				case 'f' -> text.append('\f');
+				case 'n' -> text.append('\n');
+				case 'r' -> text.append('\r');
+				case 't' -> text.append('\t');
+				case 'u' -> {
+					int value = 0;
+					for(int i = 0; i < 4; i++){
+						int digit = Character.digit(read(), 16);
+						if(digit < 0){
+							throw new IllegalStateException("Invalid unicode escape sequence in JSON string");
+						}
+						value = value * 16 + digit;
+					}
+					text.append((char) value);
+				}
+				case -1 -> throw new IllegalStateException("JSON string ended prematurely");
+				default -> throw new IllegalStateException("Invalid escape sequence in JSON string: \\" + (char) c);
+			}
+		}
+	}
+	
+	/**
+	 * Reads a number that starts with the given character into the text
+	 *
+	 * @param first The first character of the number
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private void readNumber(char first) throws IOException{
+		text.setLength(0);
+		text.append(first);
+		while(position < limit || fill()){
+			char c = buffer[position];
+			if((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E'){
+				text.append(c);
+				position++;
+			}else{
+				break;
+			}
+		}
+		if(!JSONFeeder.numberFormat.matcher(text).matches()){
+			throw new IllegalStateException("Invalid JSON number: " + text);
+		}
+	}
+	
+	/**
+	 * Reads the rest of the given literal (after its first character)
+	 *
+	 * @param literal The literal (true, false, or null)
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private void readLiteral(String literal) throws IOException{
+		for(int i = 1; i < literal.length(); i++){
+			if(read() != literal.charAt(i)){
+				throw new IllegalStateException("Invalid JSON literal, expected " + literal);
+			}
+		}
+	}
+	
+	/**
+	 * Reads the next character that isn't whitespace
+	 *
+	 * @return The character, or -1 at the end of the input
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private int nextNonWhitespace() throws IOException{
+		while(position < limit || fill()){
+			char c = buffer[position++];
+			if(c != ' ' && c != '\t' && c != '\n' && c != '\r' && c != '\f'){
+				return c;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Reads the next character
+	 *
+	 * @return The character, or -1 at the end of the input
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private int read() throws IOException{
+		if(position == limit && !fill()){
+			return -1;
+		}
+		return buffer[position++];
+	}
+	
+	/**
+	 * Refills the buffer from the {@link Reader}
+	 *
+	 * @return Whether any characters were read (false at the end of the input)
+	 * @throws IOException If anything goes wrong in reading
+	 */
+	private boolean fill() throws IOException{
+		int read = in.read(buffer, 0, buffer.length);
+		if(read <= 0){
+			return false;
+		}
+		position = 0;
+		limit = read;
+		return true;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException{
+		in.close();
+	}
+}
@@ -0,0 +1,212 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.Arrays;
+
+/**
+ * JSON Vector is a persistent (immutable) list, implemented as a trie of 32-item arrays with the last (up to) 32 items
+ * kept in a separate tail array. Getting an item takes at most a few array lookups, appending usually only copies
+ * the tail, and setting an item copies only the arrays on the path to it, so the new vector shares everything else
+ * with the old one.
+ * <br><br>
+ * JSON Vectors are used by {@link FrozenJSONArray} and {@link FrozenJSONClass}. All their fields are final, so
+ * they're safe to share between threads.
+ *
+ * @param <T> The type of items in the vector
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+final class JSONVector<T>{
+	/** The number of index bits used at each level */
+	private static final int bitsPerLevel = 5;
+	/** The number of items in each array */
+	private static final int width = 1 << bitsPerLevel;
+	/** Mask used to grab the index bits for a level */
+	private static final int levelMask = width - 1;
+	/** An empty vector */
+	private static final JSONVector<?> empty = new JSONVector<>(0, bitsPerLevel, new Object[width], new Object[0]);
+	
+	/** The number of items in the vector */
+	private final int size;
+	/** The number of index bits used by the levels below the root */
+	private final int shift;
+	/** The root of the trie */
+	private final Object[] root;
+	/** The last items in the vector (not yet in the trie) */
+	private final Object[] tail;
+	
+	/**
+	 * Constructs a JSON Vector with the given parameters
+	 *
+	 * @param size The number of items in the vector
+	 * @param shift The number of index bits used by the levels below the root
+	 * @param root The root of the trie
+	 * @param tail The last items in the vector
+	 */
+	private JSONVector(int size, int shift, Object[] root, Object[] tail){
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+	
+	/**
+	 * @param <T> The type of items in the vector
+	 * @return An empty vector
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> JSONVector<T> empty(){
+		return (JSONVector<T>) empty;
+	}
+	
+	/**
+	 * @return The number of items in the vector
+	 */
+	int size(){
+		return size;
+	}
+	
+	/**
+	 * @return The index of the first item in the tail
+	 */
+	private int tailOffset(){
+		return size < width?0:((size - 1) >>> bitsPerLevel) << bitsPerLevel;
+	}
+	
+	/**
+	 * Grabs the array holding the item at the given index
+	 *
+	 * @param index The index of the item
+	 * @return The array holding the item
+	 */
+	private Object[] arrayFor(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+		}
+		if(index >= tailOffset()){
+			return tail;
+		}
+		Object[] node = root;
+		for(int level = shift; level > 0; level -= bitsPerLevel){
+			node = (Object[]) node[(index >>> level) & levelMask];
+		}
+		return node;
+	}
+	
+	/**
+	 * Grabs the item at the given index
+	 *
+	 * @param index The index of the item
+	 * @return The item at the index
+	 */
+	@SuppressWarnings("unchecked")
+	T get(int index){
+		return (T) arrayFor(index)[index & levelMask];
+	}
+	
+	/**
+	 * Creates a vector with the item at the given index set to the given item
+	 *
+	 * @param index The index to set
+	 * @param item The item to set it to
+	 * @return The new vector (or this one if the item was already there)
+	 */
+	JSONVector<T> set(int index, T item){
+		if(arrayFor(index)[index & levelMask] == item){
+			return this;
+		}
+		if(index >= tailOffset()){
+			Object[] newTail = tail.clone();
+			newTail[index & levelMask] = item;
+			return new JSONVector<>(size, shift, root, newTail);
+		}
+		return new JSONVector<>(size, shift, setInNode(shift, root, index, item), tail);
+	}
+	
+	/**
+	 * Copies the path to the given index, setting the item at the end of it
+	 *
+	 * @param level The number of index bits used by the levels below this node
+	 * @param node The node to copy
+	 * @param index The index to set
+	 * @param item The item to set it to
+	 * @return The copy of the node
+	 */
+	private static Object[] setInNode(int level, Object[] node, int index, Object item){
+		Object[] copy = node.clone();
+		if(level == 0){
+			copy[index & levelMask] = item;
+		}else{
+			int subIndex = (index >>> level) & levelMask;
+			copy[subIndex] = setInNode(level - bitsPerLevel, (Object[]) node[subIndex], index, item);
+		}
+		return copy;
+	}
+	
+	/**
+	 * Creates a vector with the given item added at the end
+	 *
+	 * @param item The item to add
+	 * @return The new vector
+	 */
+	JSONVector<T> append(T item){
+		// Room in the tail
+		if(size - tailOffset() < width){
+			Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+			newTail[tail.length] = item;
+			return new JSONVector<>(size + 1, shift, root, newTail);
+		}
+		
+		// The tail is full, so push it into the trie
+		Object[] newRoot;
+		int newShift = shift;
+		if((size >>> bitsPerLevel) > (1 << shift)){
+			// The root is full, so add a level
+			newRoot = new Object[width];
+			newRoot[0] = root;
+			newRoot[1] = newPath(shift, tail);
+			newShift += bitsPerLevel;
+		}else{
+			newRoot = pushTail(shift, root, tail);
+		}
+		return new JSONVector<>(size + 1, newShift, newRoot, new Object[]{item});
+	}
+	
+	/**
+	 * Copies the path to the end of the trie, adding the given tail to it
+	 *
+	 * @param level The number of index bits used by the levels below this node
+	 * @param parent The node to copy
+	 * @param tailNode The tail being added to the trie
+	 * @return The copy of the node
+	 */
+	private Object[] pushTail(int level, Object[] parent, Object[] tailNode){
+		int subIndex = ((size - 1) >>> level) & levelMask;
+		Object[] copy = parent.clone();
+		if(level == bitsPerLevel){
+			copy[subIndex] = tailNode;
+		}else{
+			Object[] child = (Object[]) parent[subIndex];
+			copy[subIndex] = child != null?pushTail(level - bitsPerLevel, child, tailNode):
+					newPath(level - bitsPerLevel, tailNode);
+		}
+		return copy;
+	}
+	
+	/**
+	 * Creates a path of nodes down to the given node
+	 *
+	 * @param level The number of index bits used by the levels below the top of the path
+	 * @param node The node at the bottom of the path
+	 * @return The top of the path
+	 */
+	private static Object[] newPath(int level, Object[] node){
+		if(level == 0){
+			return node;
+		}
+		Object[] path = new Object[width];
+		path[0] = newPath(level - bitsPerLevel, node);
+		return path;
+	}
+}
@@ -0,0 +1,199 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shaped JSON Class is the {@link OrderedJSONClass} built by {@link JSONShapeParser}. Its keys and their order come
+ * from a {@link JSONShape} that's shared with every other class parsed with the same layout, so the class itself is
+ * only an array of values, one per slot of the shape.
+ * <br><br>
+ * Setting an item whose key is already in the class just replaces the value in its slot. Adding a new key or
+ * removing one changes the layout, so the class then copies its items into a {@link SimpleOrderedJSONClass} and
+ * uses that from there on. A Shaped JSON Class is not thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public final class ShapedJSONClass implements OrderedJSONClass{
+	/** The layout of the class - null once the layout has been changed */
+	private JSONShape shape;
+	/** The value in each slot of the shape - null once the layout has been changed */
+	private Object[] values;
+	/** The class used once the layout has been changed - null until then */
+	private SimpleOrderedJSONClass changed;
+	
+	/**
+	 * Constructs a Shaped JSON Class with the given shape and values
+	 *
+	 * @param shape The layout of the class
+	 * @param values The value in each slot of the shape
+	 */
+	ShapedJSONClass(JSONShape shape, Object[] values){
+		this.shape = shape;
+		this.values = values;
+		changed = null;
+	}
+	
+	/**
+	 * Copies the items into a {@link SimpleOrderedJSONClass} to be used from here on, since the layout is changing
+	 *
+	 * @return The {@link SimpleOrderedJSONClass} to use
+	 */
+	private SimpleOrderedJSONClass change(){
+		if(changed == null){
+			changed = new SimpleOrderedJSONClass();
+			for(int slot = 0; slot < values.length; slot++){
+				changed.setItem(shape.getKey(slot), values[slot]);
+			}
+			shape = null;
+			values = null;
+		}
+		return changed;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasKey(String key){
+		return changed != null?changed.hasKey(key):shape.getSlot(key) != -1;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Set<String> getKeys(){
+		if(changed != null){
+			return changed.getKeys();
+		}
+		return new AbstractSet<>(){
+			/** {@inheritDoc} */
+			@Override
+			public Iterator<String> iterator(){
+				return getKeyOrder().iterator();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public int size(){
+				return getKeyOrder().size();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean contains(Object key){
+				return key instanceof String str && hasKey(str);
+			}
+		};
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<String> getKeyOrder(){
+		return changed != null?changed.getKeyOrder():shape.getKeys();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean hasItem(String key){
+		return getItem(key) != null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Object getItem(String key){
+		if(changed != null){
+			return changed.getItem(key);
+		}
+		int slot = shape.getSlot(key);
+		return slot == -1?null:values[slot];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void setItem(String key, Object value){
+		if(changed == null){
+			int slot = shape.getSlot(key);
+			if(slot != -1){
+				values[slot] = value;
+				return;
+			}
+		}
+		change().setItem(key, value);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeItem(String key){
+		if(changed == null && shape.getSlot(key) == -1){
+			return;
+		}
+		change().removeItem(key);
+	}
+	
+	/**
+	 * @return A {@link Map} view of the items in this class, in key order (putting an item sets it in this class)
+	 */
+	@Override
+	public Map<String, Object> getMap(){
+		if(changed != null){
+			return changed.getMap();
+		}
+		return new AbstractMap<>(){
+			/** {@inheritDoc} */
+			@Override
+			public Set<Entry<String, Object>> entrySet(){
+				return new AbstractSet<>(){
+					/** {@inheritDoc} */
+					@Override
+					public Iterator<Entry<String, Object>> iterator(){
+						Iterator<String> keys = getKeyOrder().iterator();
+						return new Iterator<>(){
+							/** {@inheritDoc} */
+							@Override
+							public boolean hasNext(){
+								return keys.hasNext();
+							}
+							
+							/** {@inheritDoc} */
+							@Override
+							public Entry<String, Object> next(){
+								String key = keys.next();
+								return new SimpleImmutableEntry<>(key, getItem(key));
+							}
+						};
+					}
+					
+					/** {@inheritDoc} */
+					@Override
+					public int size(){
+						return getKeyOrder().size();
+					}
+				};
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean containsKey(Object key){
+				return key instanceof String str && hasKey(str);
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public Object get(Object key){
+				return key instanceof String str?getItem(str):null;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public Object put(String key, Object value){
+				Object old = getItem(key);
+				setItem(key, value);
+				return old;
+			}
+		};
+	}
+}
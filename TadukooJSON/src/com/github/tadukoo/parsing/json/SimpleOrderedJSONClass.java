@@ -0,0 +1,47 @@
+package com.github.tadukoo.parsing.json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simple Ordered JSON Class is a simple implementation of {@link OrderedJSONClass} that keeps its keys in the
+ * order they were first set. This is what {@link JSONConverter} and other readers build when parsing JSON.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class SimpleOrderedJSONClass extends AbstractOrderedJSONClass{
+	/** The keys in the order they were first set */
+	private final List<String> keyOrder;
+	
+	/**
+	 * Constructs an empty SimpleOrderedJSONClass
+	 */
+	public SimpleOrderedJSONClass(){
+		super();
+		keyOrder = new ArrayList<>();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public List<String> getKeyOrder(){
+		return keyOrder;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void setItem(String key, Object value){
+		if(!hasKey(key)){
+			keyOrder.add(key);
+		}
+		super.setItem(key, value);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void removeItem(String key){
+		keyOrder.remove(key);
+		super.removeItem(key);
+	}
+}
@@ -0,0 +1,192 @@
+package com.github.tadukoo.parsing.json.processor;
+
+import com.github.tadukoo.parsing.json.JSONByteWriter;
+import com.github.tadukoo.parsing.json.JSONClass;
+import com.github.tadukoo.parsing.json.JSONCodec;
+import com.github.tadukoo.parsing.json.JSONCodecs;
+import com.github.tadukoo.parsing.json.JSONConverter;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONCodecProcessorTest{
+	
+	private static final String messageSource = """
+			package test;
+			
+			import com.github.tadukoo.parsing.json.AbstractJSONClass;
+			import com.github.tadukoo.parsing.json.JSONField;
+			
+			@JSONField(name = "id", type = int.class)
+			@JSONField(name = "name", type = String.class)
+			@JSONField(name = "score", type = Double.class)
+			@JSONField(name = "active", type = boolean.class)
+			@JSONField(name = "child", type = Message.class)
+			@JSONField(name = "children", type = java.util.List.class, itemType = Message.class)
+			public class Message extends AbstractJSONClass{
+				
+				public static class Inner extends AbstractJSONClass{ }
+			}
+			""";
+	
+	private static class SourceFile extends SimpleJavaFileObject{
+		private final String source;
+		
+		private SourceFile(String className, String source){
+			super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.source = source;
+		}
+		
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors){
+			return source;
+		}
+	}
+	
+	private DiagnosticCollector<JavaFileObject> compile(
+			String testName, File outputDir, String className, String source) throws IOException{
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)){
+			assertTrue(outputDir.mkdirs() || outputDir.isDirectory(), testName);
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDir));
+			fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDir));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+					List.of("-classpath", System.getProperty("java.class.path")), null,
+					List.of(new SourceFile(className, source)));
+			task.setProcessors(List.of(new JSONCodecProcessor()));
+			task.call();
+		}
+		return diagnostics;
+	}
+	
+	private static String getErrors(DiagnosticCollector<JavaFileObject> diagnostics){
+		return diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(null))
+				.collect(Collectors.joining("\n"));
+	}
+	
+	@Test
+	public void testGeneratedCodec() throws Exception{
+		File outputDir = new File("target/JSONCodecProcessorTest/testGeneratedCodec");
+		assertEquals("", getErrors(compile("testGeneratedCodec", outputDir, "test.Message", messageSource)));
+		assertTrue(new File(outputDir, "test/Message_JSONCodec.java").isFile());
+		assertFalse(new File(outputDir, "test/Message_Inner_JSONCodec.java").exists());
+		
+		try(URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toURI().toURL()},
+				getClass().getClassLoader())){
+			@SuppressWarnings("unchecked")
+			Class<? extends JSONClass> messageClass = (Class<? extends JSONClass>) loader.loadClass("test.Message");
+			JSONCodec<JSONClass> codec = JSONCodecs.getCodec(messageClass);
+			assertNotNull(codec);
+			assertEquals(messageClass, codec.getType());
+			
+			JSONConverter converter = new JSONConverter();
+			JSONClass message = converter.parseJSONAs("{\"extra\": \"x\", \"id\": 5, \"name\": \"Derp\", " +
+					"\"score\": 2, \"active\": true, \"child\": {\"id\": 6}, \"children\": [{\"id\": 7}]}",
+					messageClass);
+			assertEquals(5, message.getItem("id"));
+			assertEquals(2.0, message.getItem("score"));
+			assertEquals(messageClass, message.getItem("child").getClass());
+			assertEquals(6, ((JSONClass) message.getItem("child")).getItem("id"));
+			Object child = ((List<?>) message.getItem("children")).get(0);
+			assertEquals(messageClass, child.getClass());
+			assertEquals(7, ((JSONClass) child).getItem("id"));
+			
+			// Declared fields are written first, in declared order
+			assertEquals("{\"id\":5,\"name\":\"Derp\",\"score\":2.0,\"active\":true,\"child\":{\"id\":6}," +
+					"\"children\":[{\"id\":7}],\"extra\":\"x\"}", converter.convertToJSON(message));
+			
+			// Writing bytes goes straight through the codec, with the same result
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try(JSONByteWriter writer = new JSONByteWriter(out, converter)){
+				codec.writeJSON(message, writer);
+			}
+			assertEquals(converter.convertToJSON(message), out.toString(StandardCharsets.UTF_8));
+			assertEquals(converter.convertToJSON(message),
+					new String(converter.convertToJSONBytes(message), StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	public void testGeneratedCodecWholeNumbers() throws Exception{
+		File outputDir = new File("target/JSONCodecProcessorTest/testGeneratedCodecWholeNumbers");
+		assertEquals("", getErrors(compile("testGeneratedCodecWholeNumbers", outputDir, "test.Message",
+				messageSource)));
+		
+		try(URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toURI().toURL()},
+				getClass().getClassLoader())){
+			@SuppressWarnings("unchecked")
+			Class<? extends JSONClass> messageClass = (Class<? extends JSONClass>) loader.loadClass("test.Message");
+			JSONConverter converter = new JSONConverter();
+			try{
+				converter.parseJSONAs("{\"id\": 1.5}", messageClass);
+				fail();
+			}catch(IllegalArgumentException e){
+				assertEquals("Value for id is not a valid int: 1.5", e.getMessage());
+			}
+			try{
+				converter.parseJSONAs("{\"id\": 100000000000000000000}", messageClass);
+				fail();
+			}catch(IllegalArgumentException e){
+				assertEquals("Value for id is not a valid int: 1.0E20", e.getMessage());
+			}
+			
+			// Items set without going through the parser are checked when written
+			JSONClass message = converter.parseJSONAs("{}", messageClass);
+			message.setItem("id", 2.5);
+			try{
+				converter.convertToJSON(message);
+				fail();
+			}catch(IllegalArgumentException e){
+				assertEquals("Value for id is not a valid int: 2.5", e.getMessage());
+			}
+		}
+	}
+	
+	@Test
+	public void testNotAJSONClass() throws IOException{
+		String source = """
+				package test;
+				
+				@com.github.tadukoo.parsing.json.JSONField(name = "id")
+				public class NotJSON{ }
+				""";
+		DiagnosticCollector<JavaFileObject> diagnostics = compile("testNotAJSONClass",
+				new File("target/JSONCodecProcessorTest/testNotAJSONClass"), "test.NotJSON", source);
+		assertEquals("JSON Fields can only be declared on a JSONClass", getErrors(diagnostics));
+	}
+	
+	@Test
+	public void testDuplicateField() throws IOException{
+		String source = """
+				package test;
+				
+				@com.github.tadukoo.parsing.json.JSONField(name = "id")
+				@com.github.tadukoo.parsing.json.JSONField(name = "id")
+				public class Duplicate extends com.github.tadukoo.parsing.json.AbstractJSONClass{ }
+				""";
+		DiagnosticCollector<JavaFileObject> diagnostics = compile("testDuplicateField",
+				new File("target/JSONCodecProcessorTest/testDuplicateField"), "test.Duplicate", source);
+		assertEquals("Duplicate JSON Field: id", getErrors(diagnostics));
+	}
+}
@@ -0,0 +1,551 @@
+package com.github.tadukoo.parsing.json.processor;
+
+import com.github.tadukoo.parsing.json.JSONClass;
+import com.github.tadukoo.parsing.json.JSONCodecs;
+import com.github.tadukoo.parsing.json.JSONConverter;
+import com.github.tadukoo.parsing.json.JSONField;
+import com.github.tadukoo.parsing.json.JSONFields;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON Codec Processor is an annotation processor that generates a {@link com.github.tadukoo.parsing.json.JSONCodec}
+ * for each {@link JSONClass} annotated with {@link JSONField JSONFields}. The generated codec is named as expected by
+ * {@link JSONCodecs}, and has:
+ * <ul>
+ *     <li>Pre-encoded keys (already quoted and escaped), so keys don't need to be escaped when writing</li>
+ *     <li>Writers specialized to each declared type, so primitives are written without going through
+ *     {@link JSONConverter#convertToJSON(Object)} and its type checks</li>
+ *     <li>Switch-on-key dispatch when parsing, to convert numbers to their declared types and to find the
+ *     declared types of sub-objects and array items</li>
+ * </ul>
+ * Keys that aren't declared are still written and parsed in the usual way.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.2
+ * @since Alpha v.0.3.2
+ */
+public class JSONCodecProcessor extends AbstractProcessor{
+	
+	/**
+	 * A field declared with {@link JSONField}
+	 */
+	private static class FieldInfo{
+		/** The name of the field */
+		private final String name;
+		/** The type of the field */
+		private final TypeMirror type;
+		/** The type of items if the field is a list */
+		private final TypeMirror itemType;
+		
+		/**
+		 * Constructs a new Field Info with the given parameters
+		 *
+		 * @param name The name of the field
+		 * @param type The type of the field
+		 * @param itemType The type of items if the field is a list
+		 */
+		private FieldInfo(String name, TypeMirror type, TypeMirror itemType){
+			this.name = name;
+			this.type = type;
+			this.itemType = itemType;
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Set<String> getSupportedAnnotationTypes(){
+		return Set.of(JSONField.class.getCanonicalName(), JSONFields.class.getCanonicalName());
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public SourceVersion getSupportedSourceVersion(){
+		return SourceVersion.latestSupported();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv){
+		if(annotations.isEmpty()){
+			return false;
+		}
+		Set<Element> annotated = new LinkedHashSet<>(
+				roundEnv.getElementsAnnotatedWithAny(annotations.toArray(new TypeElement[0])));
+		for(Element element: annotated){
+			if(element.getKind() != ElementKind.CLASS){
+				error("JSON Fields can only be declared on a class", element);
+				continue;
+			}
+			TypeElement type = (TypeElement) element;
+			List<FieldInfo> fields = getFields(type);
+			if(fields != null && verifyType(type)){
+				writeCodec(type, fields);
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Grabs the fields declared on the given type with {@link JSONField}
+	 *
+	 * @param type The type to grab the fields of
+	 * @return The declared fields, or null if any of them are invalid
+	 */
+	private List<FieldInfo> getFields(TypeElement type){
+		// Grab the JSON Field annotations, whether they're repeated or not
+		List<AnnotationMirror> fieldAnnotations = new ArrayList<>();
+		for(AnnotationMirror annotation: type.getAnnotationMirrors()){
+			String annotationName = getName(annotation);
+			if(annotationName.equals(JSONField.class.getCanonicalName())){
+				fieldAnnotations.add(annotation);
+			}else if(annotationName.equals(JSONFields.class.getCanonicalName())){
+				Object value = getValue(annotation, "value");
+				if(value instanceof List<?> values){
+					for(Object fieldAnnotation: values){
+						fieldAnnotations.add((AnnotationMirror) ((AnnotationValue) fieldAnnotation).getValue());
+					}
+				}
+			}
+		}
+		
+		// Turn the annotations into fields
+		List<FieldInfo> fields = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+		boolean valid = true;
+		for(AnnotationMirror annotation: fieldAnnotations){
+			String name = (String) getValue(annotation, "name");
+			if(name == null || name.isEmpty()){
+				error("JSON Field name can't be empty", type);
+				valid = false;
+			}else if(!names.add(name)){
+				error("Duplicate JSON Field: " + name, type);
+				valid = false;
+			}else{
+				fields.add(new FieldInfo(name, getTypeValue(annotation, "type"), getTypeValue(annotation, "itemType")));
+			}
+		}
+		return valid?fields:null;
+	}
+	
+	/**
+	 * Verifies that a codec can be generated for the given type
+	 *
+	 * @param type The type to verify
+	 * @return Whether a codec can be generated
+	 */
+	private boolean verifyType(TypeElement type){
+		if(!isJSONClass(type.asType())){
+			error("JSON Fields can only be declared on a JSONClass", type);
+			return false;
+		}
+		Element current = type;
+		while(current instanceof TypeElement currentType){
+			if(currentType.getModifiers().contains(Modifier.PRIVATE)){
+				error("JSON Fields can't be declared on a private class", type);
+				return false;
+			}
+			if(currentType.getNestingKind() == NestingKind.MEMBER &&
+					!currentType.getModifiers().contains(Modifier.STATIC) &&
+					currentType.getEnclosingElement().getKind() == ElementKind.CLASS){
+				error("JSON Fields can't be declared on an inner (non-static) class", type);
+				return false;
+			}
+			current = currentType.getEnclosingElement();
+		}
+		return true;
+	}
+	
+	/**
+	 * Writes the codec source file for the given type
+	 *
+	 * @param type The type to write the codec for
+	 * @param fields The fields declared on the type
+	 */
+	private void writeCodec(TypeElement type, List<FieldInfo> fields){
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String codecName = getCodecSimpleName(type);
+		String typeName = type.getQualifiedName().toString();
+		try(Writer writer = processingEnv.getFiler()
+				.createSourceFile(packageName.isEmpty()?codecName:packageName + "." + codecName, type)
+				.openWriter()){
+			writer.write(generateSource(packageName, codecName, typeName, fields));
+		}catch(IOException e){
+			error("Failed to write JSON Codec: " + e.getMessage(), type);
+		}
+	}
+	
+	/**
+	 * Generates the source of a codec
+	 *
+	 * @param packageName The package the codec goes in
+	 * @param codecName The simple name of the codec
+	 * @param typeName The canonical name of the type the codec handles
+	 * @param fields The fields declared on the type
+	 * @return The source of the codec
+	 */
+	private String generateSource(String packageName, String codecName, String typeName, List<FieldInfo> fields){
+		StringBuilder source = new StringBuilder();
+		if(!packageName.isEmpty()){
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import com.github.tadukoo.parsing.json.JSONByteWriter;\n")
+				.append("import com.github.tadukoo.parsing.json.JSONClass;\n")
+				.append("import com.github.tadukoo.parsing.json.JSONCodec;\n")
+				.append("import com.github.tadukoo.parsing.json.JSONConverter;\n\n")
+				.append("import java.io.IOException;\n")
+				.append("import java.nio.charset.StandardCharsets;\n\n")
+				.append("/**\n * JSON Codec for {@link ").append(typeName).append("}, generated by ")
+				.append(JSONCodecProcessor.class.getSimpleName()).append(".\n */\n")
+				.append("@javax.annotation.processing.Generated(\"")
+				.append(JSONCodecProcessor.class.getCanonicalName()).append("\")\n")
+				.append("public final class ").append(codecName).append(" implements JSONCodec<")
+				.append(typeName).append(">{\n");
+		
+		// Pre-encoded keys
+		for(int i = 0; i < fields.size(); i++){
+			source.append("\tprivate static final String key").append(i).append(" = ")
+					.append(javaString(JSONConverter.quoteString(fields.get(i).name) + JSONConverter.keyEndChar))
+					.append(";\n");
+		}
+		for(int i = 0; i < fields.size(); i++){
+			source.append("\tprivate static final byte[] keyBytes").append(i).append(" = key").append(i)
+					.append(".getBytes(StandardCharsets.UTF_8);\n");
+		}
+		source.append("\t\n");
+		
+		// Get Type
+		source.append("\t@Override\n\tpublic Class<").append(typeName).append("> getType(){\n")
+				.append("\t\treturn ").append(typeName).append(".class;\n\t}\n\t\n");
+		
+		// Write JSON
+		source.append("\t@Override\n\tpublic void writeJSON(").append(typeName)
+				.append(" value, StringBuilder out, JSONConverter converter){\n")
+				.append("\t\tout.append(JSONConverter.classStartChar);\n")
+				.append("\t\tboolean first = true;\n")
+				.append("\t\tObject item;\n");
+		for(int i = 0; i < fields.size(); i++){
+			FieldInfo field = fields.get(i);
+			String name = javaString(field.name);
+			source.append("\t\tif((item = value.getItem(").append(name).append(")) != null || value.hasKey(")
+					.append(name).append(")){\n")
+					.append("\t\t\tif(!first){\n\t\t\t\tout.append(JSONConverter.nextValueChar);\n\t\t\t}\n")
+					.append("\t\t\tfirst = false;\n")
+					.append("\t\t\tout.append(key").append(i).append(");\n")
+					.append("\t\t\tif(item == null){\n\t\t\t\tout.append(\"null\");\n\t\t\t}else{\n")
+					.append("\t\t\t\t").append(getWriteStatement(field.type, name)).append("\n\t\t\t}\n\t\t}\n");
+		}
+		source.append("\t\tfor(String key: value.getKeys()){\n");
+		if(!fields.isEmpty()){
+			source.append("\t\t\tswitch(key){\n\t\t\t\tcase ").append(getCaseLabels(fields))
+					.append(" -> {\n\t\t\t\t\tcontinue;\n\t\t\t\t}\n\t\t\t\tdefault -> { }\n\t\t\t}\n");
+		}
+		source.append("\t\t\tif(!first){\n\t\t\t\tout.append(JSONConverter.nextValueChar);\n\t\t\t}\n")
+				.append("\t\t\tfirst = false;\n")
+				.append("\t\t\tout.append(JSONConverter.quoteString(key)).append(JSONConverter.keyEndChar)")
+				.append(".append(converter.convertToJSON(value.getItem(key)));\n")
+				.append("\t\t}\n")
+				.append("\t\tout.append(JSONConverter.classEndChar);\n\t}\n\t\n");
+		
+		// Write JSON bytes
+		source.append("\t@Override\n\tpublic void writeJSON(").append(typeName)
+				.append(" value, JSONByteWriter out) throws IOException{\n")
+				.append("\t\tout.writeByte(JSONConverter.classStartChar);\n")
+				.append("\t\tboolean first = true;\n")
+				.append("\t\tObject item;\n");
+		for(int i = 0; i < fields.size(); i++){
+			FieldInfo field = fields.get(i);
+			String name = javaString(field.name);
+			source.append("\t\tif((item = value.getItem(").append(name).append(")) != null || value.hasKey(")
+					.append(name).append(")){\n")
+					.append("\t\t\tif(!first){\n\t\t\t\tout.writeByte(JSONConverter.nextValueChar);\n\t\t\t}\n")
+					.append("\t\t\tfirst = false;\n")
+					.append("\t\t\tout.writeBytes(keyBytes").append(i).append(");\n")
+					.append("\t\t\tif(item == null){\n\t\t\t\tout.write(null);\n\t\t\t}else{\n")
+					.append("\t\t\t\t").append(getByteWriteStatement(field.type, name)).append("\n\t\t\t}\n\t\t}\n");
+		}
+		source.append("\t\tfor(String key: value.getKeys()){\n");
+		if(!fields.isEmpty()){
+			source.append("\t\t\tswitch(key){\n\t\t\t\tcase ").append(getCaseLabels(fields))
+					.append(" -> {\n\t\t\t\t\tcontinue;\n\t\t\t\t}\n\t\t\t\tdefault -> { }\n\t\t\t}\n");
+		}
+		source.append("\t\t\tif(!first){\n\t\t\t\tout.writeByte(JSONConverter.nextValueChar);\n\t\t\t}\n")
+				.append("\t\t\tfirst = false;\n")
+				.append("\t\t\tout.writeKey(key);\n")
+				.append("\t\t\tout.write(value.getItem(key));\n")
+				.append("\t\t}\n")
+				.append("\t\tout.writeByte(JSONConverter.classEndChar);\n\t}\n\t\n");
+		
+		// Set Item
+		source.append("\t@Override\n\tpublic void setItem(").append(typeName)
+				.append(" target, String key, Object value){\n")
+				.append("\t\tswitch(key){\n");
+		for(FieldInfo field: fields){
+			String conversion = getNumberConversion(field.type, "number", "key");
+			if(conversion != null){
+				source.append("\t\t\tcase ").append(javaString(field.name))
+						.append(" -> target.setItem(key, value instanceof Number number?(Object) ")
+						.append(conversion).append(":value);\n");
+			}
+		}
+		source.append("\t\t\tdefault -> target.setItem(key, value);\n\t\t}\n\t}\n");
+		
+		// Sub-class and array item types
+		appendTypeLookup(source, typeName, "getSubClassType", fields, false);
+		appendTypeLookup(source, typeName, "getArrayItemType", fields, true);
+		
+		source.append("}\n");
+		return source.toString();
+	}
+	
+	/**
+	 * Appends a method for looking up the declared {@link JSONClass} types of fields
+	 *
+	 * @param source The source being generated
+	 * @param typeName The canonical name of the type the codec handles
+	 * @param methodName The name of the method to generate
+	 * @param fields The fields declared on the type
+	 * @param items Whether to use the item types (true) or the field types (false)
+	 */
+	private void appendTypeLookup(
+			StringBuilder source, String typeName, String methodName, List<FieldInfo> fields, boolean items){
+		StringBuilder cases = new StringBuilder();
+		for(FieldInfo field: fields){
+			TypeMirror type = items?field.itemType:field.type;
+			if(isJSONClass(type)){
+				cases.append("\t\t\tcase ").append(javaString(field.name)).append(" -> ")
+						.append(processingEnv.getTypeUtils().erasure(type)).append(".class;\n");
+			}
+		}
+		if(cases.isEmpty()){
+			return;
+		}
+		source.append("\t\n\t@Override\n\tpublic Class<? extends JSONClass> ").append(methodName).append("(")
+				.append(typeName).append(" target, String key){\n")
+				.append("\t\treturn switch(key){\n").append(cases)
+				.append("\t\t\tdefault -> target.").append(methodName).append("(key);\n\t\t};\n\t}\n");
+	}
+	
+	/**
+	 * Grabs the statement used to write a (non-null) item of the given type
+	 *
+	 * @param type The declared type of the item
+	 * @param name The key of the item, as a Java string literal
+	 * @return The statement to write the item to {@code out}
+	 */
+	private String getWriteStatement(TypeMirror type, String name){
+		TypeMirror unboxed = unbox(type);
+		if(unboxed.getKind() == TypeKind.BOOLEAN){
+			return "out.append(((Boolean) item).booleanValue());";
+		}
+		String conversion = getNumberConversion(type, "((Number) item)", name);
+		if(conversion != null){
+			return "out.append(" + conversion + ");";
+		}
+		if(type.toString().equals(String.class.getCanonicalName())){
+			return "out.append(JSONConverter.quoteString((String) item));";
+		}
+		return "out.append(converter.convertToJSON(item));";
+	}
+	
+	/**
+	 * Grabs the statement used to write a (non-null) item of the given type to a
+	 * {@link com.github.tadukoo.parsing.json.JSONByteWriter JSONByteWriter}
+	 *
+	 * @param type The declared type of the item
+	 * @param name The key of the item, as a Java string literal
+	 * @return The statement to write the item to {@code out}
+	 */
+	private String getByteWriteStatement(TypeMirror type, String name){
+		TypeMirror unboxed = unbox(type);
+		if(unboxed.getKind() == TypeKind.BOOLEAN){
+			return "out.write((Boolean) item);";
+		}
+		String conversion = getNumberConversion(type, "((Number) item)", name);
+		if(conversion != null){
+			return "out.write(" + conversion + ");";
+		}
+		if(type.toString().equals(String.class.getCanonicalName())){
+			return "out.write((String) item);";
+		}
+		return "out.write(item);";
+	}
+	
+	/**
+	 * Grabs the expression used to convert a number to the given type. Whole number types are converted using
+	 * {@link com.github.tadukoo.parsing.json.JSONCodec JSONCodec}'s checked conversions, so numbers that don't fit
+	 * are reported instead of being narrowed.
+	 *
+	 * @param type The declared type
+	 * @param number The expression for the {@link Number} to convert
+	 * @param key The expression for the key of the field
+	 * @return The conversion expression, or null if the type isn't a number
+	 */
+	private String getNumberConversion(TypeMirror type, String number, String key){
+		return switch(unbox(type).getKind()){
+			case INT -> "JSONCodec.toInt(" + number + ", " + key + ")";
+			case LONG -> "JSONCodec.toLong(" + number + ", " + key + ")";
+			case SHORT -> "JSONCodec.toShort(" + number + ", " + key + ")";
+			case FLOAT -> number + ".floatValue()";
+			case DOUBLE -> number + ".doubleValue()";
+			default -> null;
+		};
+	}
+	
+	/**
+	 * Unboxes the given type if it's a primitive wrapper
+	 *
+	 * @param type The type to unbox
+	 * @return The primitive type, or the given type if it's not a wrapper
+	 */
+	private TypeMirror unbox(TypeMirror type){
+		try{
+			return processingEnv.getTypeUtils().unboxedType(type);
+		}catch(IllegalArgumentException e){
+			return type;
+		}
+	}
+	
+	/**
+	 * Checks if the given type is a {@link JSONClass}
+	 *
+	 * @param type The type to check
+	 * @return Whether the type is a {@link JSONClass}
+	 */
+	private boolean isJSONClass(TypeMirror type){
+		TypeElement jsonClass = processingEnv.getElementUtils().getTypeElement(JSONClass.class.getCanonicalName());
+		return type.getKind() == TypeKind.DECLARED && jsonClass != null &&
+				processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+						processingEnv.getTypeUtils().erasure(jsonClass.asType()));
+	}
+	
+	/**
+	 * Grabs the simple name of the codec for the given type - matching {@link JSONCodecs#getCodecName(Class)}
+	 *
+	 * @param type The type to grab the codec name for
+	 * @return The simple name of the codec
+	 */
+	private static String getCodecSimpleName(TypeElement type){
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		Element enclosing = type.getEnclosingElement();
+		while(enclosing instanceof TypeElement enclosingType){
+			name.insert(0, enclosingType.getSimpleName() + "_");
+			enclosing = enclosingType.getEnclosingElement();
+		}
+		return name.append(JSONCodecs.codecSuffix).toString();
+	}
+	
+	/**
+	 * Grabs the case labels for all the given fields
+	 *
+	 * @param fields The fields to grab case labels for
+	 * @return The case labels, separated by commas
+	 */
+	private static String getCaseLabels(List<FieldInfo> fields){
+		List<String> labels = new ArrayList<>();
+		for(FieldInfo field: fields){
+			labels.add(javaString(field.name));
+		}
+		return String.join(", ", labels);
+	}
+	
+	/**
+	 * Converts the given String to a Java String literal
+	 *
+	 * @param text The String to convert
+	 * @return The Java String literal for the text (including quotes)
+	 */
+	private static String javaString(String text){
+		StringBuilder literal = new StringBuilder("\"");
+		for(char c: text.toCharArray()){
+			switch(c){
+				case '"' -> literal.append("\\\"");
+				case '\\' -> literal.append("\\\\");
+				case '\n' -> literal.append("\\n");
+				case '\r' -> literal.append("\\r");
+				case '\t' -> literal.append("\\t");
+				default -> {
+					if(c < ' ' || c > '~'){
+						literal.append(String.format("\\u%04x", (int) c));
+					}else{
+						literal.append(c);
+					}
+				}
+			}
+		}
+		return literal.append('"').toString();
+	}
+	
+	/**
+	 * Grabs the qualified name of the given annotation
+	 *
+	 * @param annotation The annotation to grab the name of
+	 * @return The qualified name of the annotation type
+	 */
+	private static String getName(AnnotationMirror annotation){
+		return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+	
+	/**
+	 * Grabs the value of the given annotation element (if it's explicitly set)
+	 *
+	 * @param annotation The annotation to grab the value from
+	 * @param elementName The name of the annotation element
+	 * @return The value, or null if it isn't explicitly set
+	 */
+	private static Object getValue(AnnotationMirror annotation, String elementName){
+		for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry:
+				annotation.getElementValues().entrySet()){
+			if(entry.getKey().getSimpleName().contentEquals(elementName)){
+				return entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Grabs the value of the given annotation element as a type
+	 *
+	 * @param annotation The annotation to grab the value from
+	 * @param elementName The name of the annotation element
+	 * @return The type, or the type of {@link Object} if it isn't explicitly set
+	 */
+	private TypeMirror getTypeValue(AnnotationMirror annotation, String elementName){
+		Object value = getValue(annotation, elementName);
+		if(value instanceof TypeMirror type){
+			return type;
+		}
+		return processingEnv.getElementUtils().getTypeElement(Object.class.getCanonicalName()).asType();
+	}
+	
+	/**
+	 * Reports an error on the given element
+	 *
+	 * @param message The error message
+	 * @param element The element the error is on
+	 */
+	private void error(String message, Element element){
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * Provides an annotation processor that generates {@link com.github.tadukoo.parsing.json.JSONCodec JSONCodecs}
+ * for {@link com.github.tadukoo.parsing.json.JSONClass JSONClasses} annotated with
+ * {@link com.github.tadukoo.parsing.json.JSONField JSONFields}.
+ */
+package com.github.tadukoo.parsing.json.processor;